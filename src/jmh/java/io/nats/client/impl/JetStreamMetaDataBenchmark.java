@@ -0,0 +1,52 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// THIS CLASS IS PACKAGED HERE BECAUSE it needs to be package scoped to make incoming messages
+
+/**
+ * Parsing the JetStream metadata from the ack reply subject, as is done for every JetStream message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JetStreamMetaDataBenchmark {
+
+    private NatsMessage message;
+
+    @Setup
+    public void setup() {
+        message = new IncomingMessageFactory("1", "bench.subject",
+            "$JS.ACK.v2Domain.v2Hash.bench-stream.bench-consumer.1.123456.123450.1605139610113260000.42", 0, false)
+            .getMessage();
+    }
+
+    @Benchmark
+    public long streamSequence() {
+        return new NatsJetStreamMetaData(message).streamSequence();
+    }
+
+    @Benchmark
+    public int everything() {
+        NatsJetStreamMetaData meta = new NatsJetStreamMetaData(message);
+        return meta.getStream().length() + meta.getConsumer().length() + meta.timestamp().getNano();
+    }
+}
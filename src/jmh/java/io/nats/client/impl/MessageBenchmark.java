@@ -0,0 +1,156 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import io.nats.client.support.NatsUri;
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+// THIS CLASS IS PACKAGED HERE BECAUSE it needs to be package scoped to have access to the writer
+
+/**
+ * Building outgoing messages, calculating their protocol line and copying them into the send buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageBenchmark {
+    static final int BATCH = 100;
+
+    @Param({"false", "true"})
+    public boolean headers;
+
+    static class NullDataPort implements DataPort {
+        private final boolean gathering;
+        long written;
+
+        NullDataPort(boolean gathering) {
+            this.gathering = gathering;
+        }
+
+        @Override
+        public void connect(@NonNull String serverURI, @NonNull NatsConnection conn, long timeoutNanos) {}
+
+        @Override
+        public void connect(@NonNull NatsConnection conn, @NonNull NatsUri uri, long timeoutNanos) {}
+
+        @Override
+        public void upgradeToSecure() {}
+
+        @Override
+        public int read(byte[] dst, int off, int len) {
+            return -1;
+        }
+
+        @Override
+        public void write(byte[] src, int toWrite) {
+            written += toWrite;
+        }
+
+        @Override
+        public boolean isGatheringWriteSupported() {
+            return gathering;
+        }
+
+        @Override
+        public void write(ByteBuffer[] srcs, int count) {
+            for (int x = 0; x < count; x++) {
+                written += srcs[x].remaining();
+                srcs[x].position(srcs[x].limit());
+            }
+        }
+
+        @Override
+        public void shutdownInput() {}
+
+        @Override
+        public void close() {}
+
+        @Override
+        public void flush() {}
+    }
+
+    private final byte[] data = new byte[128];
+    private Headers hdrs;
+    private NatsMessage natsMessage;
+    private MessagePool pool;
+    private NatsMessage chain;
+    private NatsConnectionWriter writer;
+    private NatsStatistics stats;
+    private NullDataPort dataPort;
+    private NullDataPort gatheringDataPort;
+
+    @Setup
+    public void setup() {
+        hdrs = headers ? new Headers().put("key", "value").put("Nats-Msg-Id", "1234567890") : null;
+        natsMessage = NatsMessage.builder().subject("bench.subject").replyTo("_INBOX.reply").headers(hdrs).data(data).build();
+        pool = new MessagePool();
+
+        NatsMessage last = null;
+        for (int x = 0; x < BATCH; x++) {
+            NatsMessage m = new NatsPublishableMessage("bench.subject." + x, null, hdrs, data, false);
+            if (last == null) {
+                chain = m;
+            }
+            else {
+                last.next = m;
+            }
+            last = m;
+        }
+
+        writer = new NatsConnectionWriter(new NatsConnection(Options.builder().build()) {});
+        stats = new NatsStatistics();
+        dataPort = new NullDataPort(false);
+        gatheringDataPort = new NullDataPort(true);
+    }
+
+    @Benchmark
+    public NatsMessage publishableMessage() {
+        return new NatsPublishableMessage("bench.subject", "_INBOX.reply", hdrs, data, false);
+    }
+
+    @Benchmark
+    public long calculate() {
+        return natsMessage.getSizeInBytes(); // calculated on every call
+    }
+
+    @Benchmark
+    public long pooledMessage() {
+        PooledMessage pm = pool.acquire().subject("bench.subject").replyTo("_INBOX.reply").headers(hdrs).data(data);
+        long size = pm.getSizeInBytes();
+        pm.recycle();
+        return size;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long sendMessageBatch() throws Exception {
+        writer.sendMessageBatch(chain, dataPort, stats);
+        return dataPort.written;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long sendMessageBatchGathering() throws Exception {
+        writer.sendMessageBatchGathering(chain, gatheringDataPort, stats);
+        return gatheringDataPort.written;
+    }
+}
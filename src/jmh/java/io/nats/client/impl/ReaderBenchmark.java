@@ -0,0 +1,163 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import io.nats.client.support.NatsUri;
+import org.jspecify.annotations.NonNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// THIS CLASS IS PACKAGED HERE BECAUSE it needs to be package scoped to have access to the reader
+
+/**
+ * Protocol parsing in the reader, fed from memory. Each operation is one MSG or HMSG
+ * parsed into a message and handed to the connection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReaderBenchmark {
+    static final int MESSAGES = 1000;
+
+    @Param({"16", "1024"})
+    public int payloadSize;
+
+    @Param({"false", "true"})
+    public boolean headers;
+
+    @Param({"false", "true"})
+    public boolean zeroCopy;
+
+    static class MemoryDataPort implements DataPort {
+        private final byte[] block;
+        private NatsConnectionReader reader;
+        private int position;
+        private CountDownLatch done;
+
+        MemoryDataPort(byte[] block) {
+            this.block = block;
+        }
+
+        @Override
+        public void connect(@NonNull String serverURI, @NonNull NatsConnection conn, long timeoutNanos) {}
+
+        @Override
+        public void connect(@NonNull NatsConnection conn, @NonNull NatsUri uri, long timeoutNanos) {}
+
+        @Override
+        public void upgradeToSecure() {}
+
+        @Override
+        public int read(byte[] dst, int off, int len) {
+            if (position == block.length) {
+                reader.stop(false);
+                done.countDown();
+                return 0;
+            }
+            int n = Math.min(len, block.length - position);
+            System.arraycopy(block, position, dst, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void write(byte[] src, int toWrite) {}
+
+        @Override
+        public void shutdownInput() {}
+
+        @Override
+        public void close() {}
+
+        @Override
+        public void flush() {}
+    }
+
+    static class CountingConnection extends NatsConnection {
+        long delivered;
+
+        CountingConnection(Options options) {
+            super(options);
+        }
+
+        @Override
+        protected void deliverMessage(NatsMessage msg) {
+            delivered++;
+            msg.release();
+        }
+    }
+
+    private CountingConnection nc;
+    private NatsConnectionReader reader;
+    private MemoryDataPort dataPort;
+    private CompletableFuture<DataPort> dataPortFuture;
+
+    @Setup
+    public void setup() {
+        Options.Builder builder = Options.builder();
+        if (zeroCopy) {
+            builder.zeroCopyIncoming();
+        }
+        nc = new CountingConnection(builder.build());
+        reader = nc.getReader();
+
+        byte[] payload = new byte[payloadSize];
+        for (int x = 0; x < payloadSize; x++) {
+            payload[x] = (byte) ('a' + x % 26);
+        }
+        String hdr = "NATS/1.0\r\nkey:value\r\nother:a longer header value\r\n\r\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int x = 0; x < MESSAGES; x++) {
+            String line = headers
+                ? "HMSG bench.subject." + (x % 10) + " 1 _INBOX.reply " + hdr.length() + " " + (hdr.length() + payloadSize) + "\r\n" + hdr
+                : "MSG bench.subject." + (x % 10) + " 1 _INBOX.reply " + payloadSize + "\r\n";
+            byte[] lineBytes = line.getBytes(StandardCharsets.US_ASCII);
+            out.write(lineBytes, 0, lineBytes.length);
+            out.write(payload, 0, payloadSize);
+            out.write('\r');
+            out.write('\n');
+        }
+        dataPort = new MemoryDataPort(out.toByteArray());
+        dataPort.reader = reader;
+        dataPortFuture = CompletableFuture.completedFuture(dataPort);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (nc.delivered == 0) {
+            throw new IllegalStateException("Nothing was parsed.");
+        }
+        nc.getExecutor().shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long parse() throws Exception {
+        dataPort.position = 0;
+        dataPort.done = new CountDownLatch(1);
+        reader.start(dataPortFuture);
+        dataPort.done.await();
+        reader.stop(false).get();
+        return nc.delivered;
+    }
+}
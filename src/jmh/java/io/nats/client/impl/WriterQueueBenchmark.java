@@ -0,0 +1,123 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// THIS CLASS IS PACKAGED HERE BECAUSE it needs to be package scoped to have access to the queue
+
+/**
+ * The outgoing queue between publishing threads and the writer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriterQueueBenchmark {
+    static final int BATCH = 100;
+    static final int CAPACITY = 1024;
+    static final Duration TIMEOUT = Duration.ofMillis(1);
+
+    private static NatsMessage[] messages(int count) {
+        NatsMessage[] msgs = new NatsMessage[count];
+        byte[] data = new byte[64];
+        for (int x = 0; x < count; x++) {
+            msgs[x] = new NatsPublishableMessage("bench.subject", null, null, data, false);
+        }
+        return msgs;
+    }
+
+    // one thread pushes a batch, then accumulates it like the writer would
+    @State(Scope.Thread)
+    public static class Uncontended {
+        WriterMessageQueue queue;
+        NatsMessage[] msgs;
+
+        @Setup
+        public void setup() {
+            queue = new WriterMessageQueue(CAPACITY, false, Duration.ofSeconds(1));
+            msgs = messages(BATCH);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long pushAndAccumulate(Uncontended state) throws InterruptedException {
+        WriterMessageQueue queue = state.queue;
+        for (NatsMessage m : state.msgs) {
+            m.next = null; // the writer gets new messages, these are reused
+            queue.push(m);
+        }
+        long count = 0;
+        while (count < BATCH) {
+            NatsMessage m = queue.accumulate(Options.DEFAULT_BUFFER_SIZE, Options.MAX_MESSAGES_IN_NETWORK_BUFFER, TIMEOUT);
+            while (m != null) {
+                count++;
+                m = m.next;
+            }
+        }
+        return count;
+    }
+
+    // several publishing threads and the writer, at the same time
+    @State(Scope.Group)
+    public static class Contended {
+        WriterMessageQueue queue;
+
+        @Setup
+        public void setup() {
+            queue = new WriterMessageQueue(CAPACITY, true, Duration.ofSeconds(1));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        // more than the queue can hold, so a message is never in the queue twice
+        NatsMessage[] msgs;
+        int next;
+
+        @Setup
+        public void setup() {
+            msgs = messages(CAPACITY * 4);
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(4)
+    public boolean push(Contended state, Producer producer) {
+        NatsMessage m = producer.msgs[producer.next];
+        producer.next = (producer.next + 1) % producer.msgs.length;
+        m.next = null;
+        return state.queue.push(m); // false when full, the queue discards
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public long accumulate(Contended state) throws InterruptedException {
+        long count = 0;
+        NatsMessage m = state.queue.accumulate(Options.DEFAULT_BUFFER_SIZE, Options.MAX_MESSAGES_IN_NETWORK_BUFFER, TIMEOUT);
+        while (m != null) {
+            count++;
+            m = m.next;
+        }
+        return count;
+    }
+}
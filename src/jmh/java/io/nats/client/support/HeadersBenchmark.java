@@ -0,0 +1,83 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import io.nats.client.impl.Headers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing outgoing headers and parsing incoming ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeadersBenchmark {
+    private Headers headers;
+    private byte[] buffer;
+    private byte[] serialized;
+    private byte[] serializedStatus;
+
+    @Setup
+    public void setup() {
+        headers = buildHeaders();
+        buffer = new byte[headers.serializedLength()];
+        serialized = new byte[headers.serializedLength()];
+        headers.serializeToArray(0, serialized);
+        serializedStatus = "NATS/1.0 408 Request Timeout\r\nNats-Pending-Messages:5\r\nNats-Pending-Bytes:1024\r\n\r\n".getBytes();
+    }
+
+    private static Headers buildHeaders() {
+        return new Headers()
+            .put("Nats-Msg-Id", "8d5c4b0e-6d8a-4b3c-9c1f-0d6f6e1c2b3a")
+            .put("Nats-Expected-Stream", "orders")
+            .put("content-type", "application/json")
+            .add("trace", "a", "b", "c");
+    }
+
+    @Benchmark
+    public int serialize() {
+        return headers.serializeToArray(0, buffer);
+    }
+
+    @Benchmark
+    public int buildAndSerialize() {
+        Headers h = buildHeaders();
+        return h.serializeToArray(0, new byte[h.serializedLength()]);
+    }
+
+    @Benchmark
+    public Headers parse() {
+        return new IncomingHeadersProcessor(serialized).getHeaders();
+    }
+
+    @Benchmark
+    public String parseAndGetFirst() {
+        return new IncomingHeadersProcessor(serialized).getHeaders().getFirst("Nats-Msg-Id");
+    }
+
+    @Benchmark
+    public int parseAndDecodeAll() {
+        return new IncomingHeadersProcessor(serialized).getHeaders().size();
+    }
+
+    @Benchmark
+    public IncomingHeadersProcessor parseStatus() {
+        return new IncomingHeadersProcessor(serializedStatus);
+    }
+}
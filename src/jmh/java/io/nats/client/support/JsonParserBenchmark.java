@@ -0,0 +1,91 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import io.nats.client.JetStreamApiException;
+import io.nats.client.Message;
+import io.nats.client.api.PublishAck;
+import io.nats.client.api.StorageType;
+import io.nats.client.api.StreamConfiguration;
+import io.nats.client.impl.NatsMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing the JSON of JetStream API responses, a small one that comes back for every
+ * publish and a larger one like a stream info. The char variants decode to characters first,
+ * the way parsing bytes used to work, and bindPublishAck reads the ack's fields without building a tree.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonParserBenchmark {
+    private byte[] publishAck;
+    private byte[] streamInfo;
+    private Message publishAckMessage;
+
+    @Setup
+    public void setup() {
+        publishAck = "{\"stream\":\"orders\",\"seq\":1234567,\"domain\":\"hub\",\"duplicate\":false}".getBytes(StandardCharsets.UTF_8);
+
+        publishAckMessage = new NatsMessage("reply", null, publishAck);
+
+        StreamConfiguration sc = StreamConfiguration.builder()
+            .name("orders")
+            .subjects("orders.new.*", "orders.shipped.*", "orders.cancelled.*")
+            .storageType(StorageType.File)
+            .maxBytes(1024 * 1024 * 1024)
+            .maxMessagesPerSubject(10)
+            .replicas(3)
+            .description("all the orders")
+            .build();
+        streamInfo = ("{\"type\":\"io.nats.jetstream.api.v1.stream_info_response\",\"config\":" + sc.toJson()
+            + ",\"created\":\"2025-01-01T12:34:56.789012345Z\""
+            + ",\"state\":{\"messages\":1234567,\"bytes\":987654321,\"first_seq\":1,\"first_ts\":\"2025-01-01T12:34:56.789012345Z\""
+            + ",\"last_seq\":1234567,\"last_ts\":\"2025-02-01T12:34:56.789012345Z\",\"num_subjects\":42,\"consumer_count\":3}"
+            + ",\"cluster\":{\"name\":\"east\",\"leader\":\"n1\",\"replicas\":[{\"name\":\"n2\",\"current\":true,\"active\":1234},{\"name\":\"n3\",\"current\":true,\"active\":5678}]}"
+            + ",\"ts\":\"2025-02-01T12:34:56.789012345Z\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JsonValue parsePublishAck() throws JsonParseException {
+        return JsonParser.parse(publishAck);
+    }
+
+    @Benchmark
+    public JsonValue parseStreamInfo() throws JsonParseException {
+        return JsonParser.parse(streamInfo);
+    }
+
+    @Benchmark
+    public JsonValue parsePublishAckChars() throws JsonParseException {
+        return JsonParser.parse(new String(publishAck, StandardCharsets.UTF_8).toCharArray());
+    }
+
+    @Benchmark
+    public JsonValue parseStreamInfoChars() throws JsonParseException {
+        return JsonParser.parse(new String(streamInfo, StandardCharsets.UTF_8).toCharArray());
+    }
+
+    @Benchmark
+    public PublishAck bindPublishAck() throws IOException, JetStreamApiException {
+        return new PublishAck(publishAckMessage);
+    }
+}
@@ -0,0 +1,147 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.api.PublishAck;
+import io.nats.client.impl.Headers;
+import io.nats.client.support.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A JetStream publisher that limits how many publish acks can be outstanding at one time.
+ * Publishing with {@link JetStream#publishAsync(Message) JetStream.publishAsync} has no limit,
+ * so a fast publisher can have so many acks outstanding that they all time out together.
+ * When the limits in the {@link AsyncPublisherOptions AsyncPublisherOptions} are reached,
+ * a publish blocks, fails fast or is deferred, depending on the {@link AsyncPublisherOptions.Backpressure Backpressure}.
+ * <p>The publisher also keeps a histogram of the time from publish to ack for each stream.</p>
+ *
+ * <pre>
+ * JetStream js = nc.jetStream();
+ * AsyncPublisher publisher = js.asyncPublisher(AsyncPublisherOptions.builder().maxOutstandingAcks(1000).build());
+ * for (byte[] data : lotsOfData) {
+ *     publisher.publishAsync("subject", data);
+ * }
+ * publisher.waitForOutstandingAcks(Duration.ofSeconds(10));
+ * </pre>
+ *
+ * Futures are completed the same way as the futures from {@link JetStream#publishAsync(Message) JetStream.publishAsync}.
+ * If the JetStream options are set to publish without acks, the publish methods return null and nothing is ever outstanding.
+ */
+public interface AsyncPublisher {
+
+    /**
+     * Send a message to the specified subject, subject to the outstanding ack limits.
+     * @param subject the subject to send the message to
+     * @param body the message body
+     * @return The future
+     * @throws IllegalStateException if there is no room and the backpressure is FailFast, or Block and the timeout expired
+     */
+    CompletableFuture<PublishAck> publishAsync(String subject, byte[] body);
+
+    /**
+     * Send a message to the specified subject, subject to the outstanding ack limits.
+     * @param subject the subject to send the message to
+     * @param headers Optional headers to publish with the message.
+     * @param body the message body
+     * @return The future
+     * @throws IllegalStateException if there is no room and the backpressure is FailFast, or Block and the timeout expired
+     */
+    CompletableFuture<PublishAck> publishAsync(String subject, Headers headers, byte[] body);
+
+    /**
+     * Send a message to the specified subject, subject to the outstanding ack limits.
+     * @param subject the subject to send the message to
+     * @param body the message body
+     * @param options publisher options
+     * @return The future
+     * @throws IllegalStateException if there is no room and the backpressure is FailFast, or Block and the timeout expired
+     */
+    CompletableFuture<PublishAck> publishAsync(String subject, byte[] body, PublishOptions options);
+
+    /**
+     * Send a message to the specified subject, subject to the outstanding ack limits.
+     * @param subject the subject to send the message to
+     * @param headers Optional headers to publish with the message.
+     * @param body the message body
+     * @param options publisher options
+     * @return The future
+     * @throws IllegalStateException if there is no room and the backpressure is FailFast, or Block and the timeout expired
+     */
+    CompletableFuture<PublishAck> publishAsync(String subject, Headers headers, byte[] body, PublishOptions options);
+
+    /**
+     * Send a message, subject to the outstanding ack limits.
+     * @param message the message to send
+     * @return The future
+     * @throws IllegalStateException if there is no room and the backpressure is FailFast, or Block and the timeout expired
+     */
+    CompletableFuture<PublishAck> publishAsync(Message message);
+
+    /**
+     * Send a message, subject to the outstanding ack limits.
+     * @param message the message to send
+     * @param options publisher options
+     * @return The future
+     * @throws IllegalStateException if there is no room and the backpressure is FailFast, or Block and the timeout expired
+     */
+    CompletableFuture<PublishAck> publishAsync(Message message, PublishOptions options);
+
+    /**
+     * Get the options this publisher was created with
+     * @return the options
+     */
+    AsyncPublisherOptions getOptions();
+
+    /**
+     * Get the number of messages that were sent and are waiting for their ack
+     * @return the count
+     */
+    long getOutstandingAcks();
+
+    /**
+     * Get the number of message bytes, data plus headers, that were sent and are waiting for their ack
+     * @return the count
+     */
+    long getOutstandingBytes();
+
+    /**
+     * Get the number of deferred messages, not sent yet because there was no room
+     * @return the count
+     */
+    int getDeferredCount();
+
+    /**
+     * Wait until there are no outstanding acks and no deferred messages.
+     * @param timeout how long to wait
+     * @return true if everything was acked, or failed, before the timeout
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    boolean waitForOutstandingAcks(Duration timeout) throws InterruptedException;
+
+    /**
+     * Get the publish to ack latency histogram for a stream
+     * @param streamName the name of the stream
+     * @return the histogram or null if no ack has been received from the stream
+     */
+    LatencyHistogram getAckLatency(String streamName);
+
+    /**
+     * Get the publish to ack latency histograms, keyed by stream name
+     * @return an unmodifiable view of the histograms
+     */
+    Map<String, LatencyHistogram> getAckLatencies();
+}
@@ -0,0 +1,185 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import java.time.Duration;
+
+/**
+ * The AsyncPublisherOptions class specifies how many publish acks an {@link AsyncPublisher AsyncPublisher}
+ * can be waiting for and what happens when that limit is reached.
+ * Options are created using a {@link AsyncPublisherOptions.Builder Builder}.
+ */
+public class AsyncPublisherOptions {
+
+    /**
+     * The default maximum number of outstanding acks, 4000
+     */
+    public static final int DEFAULT_MAX_OUTSTANDING_ACKS = 4000;
+
+    /**
+     * A default instance of AsyncPublisherOptions
+     */
+    public static final AsyncPublisherOptions DEFAULT_INSTANCE = AsyncPublisherOptions.builder().build();
+
+    /**
+     * What a publish does when the outstanding ack limits have been reached
+     */
+    public enum Backpressure {
+        /**
+         * Block the publishing thread until there is room or the block timeout expires.
+         * If the timeout expires an IllegalStateException is thrown.
+         */
+        Block,
+
+        /**
+         * Throw an IllegalStateException right away.
+         */
+        FailFast,
+
+        /**
+         * Return a future right away. The message is held by the publisher and sent,
+         * in publish order, once there is room.
+         */
+        Defer
+    }
+
+    private final int maxOutstandingAcks;
+    private final long maxOutstandingBytes;
+    private final Backpressure backpressure;
+    private final Duration blockTimeout;
+
+    private AsyncPublisherOptions(Builder b) {
+        this.maxOutstandingAcks = b.maxOutstandingAcks;
+        this.maxOutstandingBytes = b.maxOutstandingBytes;
+        this.backpressure = b.backpressure;
+        this.blockTimeout = b.blockTimeout;
+    }
+
+    /**
+     * Get the maximum number of acks that can be outstanding
+     * @return the maximum, or -1 if there is no limit
+     */
+    public int getMaxOutstandingAcks() {
+        return maxOutstandingAcks;
+    }
+
+    /**
+     * Get the maximum number of message bytes, data plus headers, that can be waiting for an ack
+     * @return the maximum, or -1 if there is no limit
+     */
+    public long getMaxOutstandingBytes() {
+        return maxOutstandingBytes;
+    }
+
+    /**
+     * Get the backpressure behavior
+     * @return the backpressure
+     */
+    public Backpressure getBackpressure() {
+        return backpressure;
+    }
+
+    /**
+     * Get how long a publish blocks waiting for room when the backpressure is {@link Backpressure#Block Block}
+     * @return the duration, or null if the JetStream request timeout is used
+     */
+    public Duration getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    /**
+     * Creates a builder for the options.
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * AsyncPublisherOptions are created using a Builder.
+     */
+    public static class Builder {
+        int maxOutstandingAcks = DEFAULT_MAX_OUTSTANDING_ACKS;
+        long maxOutstandingBytes = -1;
+        Backpressure backpressure = Backpressure.Block;
+        Duration blockTimeout;
+
+        /**
+         * Constructs a new Builder with the default values.
+         */
+        public Builder() {}
+
+        /**
+         * Set the maximum number of acks that can be outstanding. Less than 1 means no limit.
+         * Defaults to {@value #DEFAULT_MAX_OUTSTANDING_ACKS}
+         * @param maxOutstandingAcks the maximum
+         * @return the builder
+         */
+        public Builder maxOutstandingAcks(int maxOutstandingAcks) {
+            this.maxOutstandingAcks = maxOutstandingAcks < 1 ? -1 : maxOutstandingAcks;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of message bytes, data plus headers, that can be waiting for an ack.
+         * Less than 1 means no limit, which is the default.
+         * A single message larger than the maximum can still be published when nothing else is outstanding.
+         * @param maxOutstandingBytes the maximum
+         * @return the builder
+         */
+        public Builder maxOutstandingBytes(long maxOutstandingBytes) {
+            this.maxOutstandingBytes = maxOutstandingBytes < 1 ? -1 : maxOutstandingBytes;
+            return this;
+        }
+
+        /**
+         * Set the backpressure behavior. Defaults to {@link Backpressure#Block Block}
+         * @param backpressure the backpressure
+         * @return the builder
+         */
+        public Builder backpressure(Backpressure backpressure) {
+            this.backpressure = backpressure == null ? Backpressure.Block : backpressure;
+            return this;
+        }
+
+        /**
+         * Set how long a publish blocks waiting for room when the backpressure is {@link Backpressure#Block Block}.
+         * If not set, or less than 1 millisecond, the JetStream request timeout is used.
+         * @param blockTimeout the timeout
+         * @return the builder
+         */
+        public Builder blockTimeout(Duration blockTimeout) {
+            this.blockTimeout = blockTimeout == null || blockTimeout.toMillis() < 1 ? null : blockTimeout;
+            return this;
+        }
+
+        /**
+         * Set how long a publish blocks waiting for room when the backpressure is {@link Backpressure#Block Block}.
+         * If less than 1 millisecond, the JetStream request timeout is used.
+         * @param blockTimeoutMillis the timeout in milliseconds
+         * @return the builder
+         */
+        public Builder blockTimeout(long blockTimeoutMillis) {
+            return blockTimeout(Duration.ofMillis(blockTimeoutMillis));
+        }
+
+        /**
+         * Builds the AsyncPublisherOptions.
+         * @return AsyncPublisherOptions
+         */
+        public AsyncPublisherOptions build() {
+            return new AsyncPublisherOptions(this);
+        }
+    }
+}
@@ -56,6 +56,7 @@ public class BaseConsumeOptions implements JsonSerializable {
     protected final long minPending;
     protected final long minAckPending;
     protected final boolean raiseStatusWarnings;
+    protected final long ackCoalesceWindow;
 
     protected BaseConsumeOptions(Builder<?, ?> b) {
         // Message / bytes is part of base and is calculated
@@ -79,6 +80,7 @@ public class BaseConsumeOptions implements JsonSerializable {
         this.minPending = b.minPending;
         this.minAckPending = b.minAckPending;
         raiseStatusWarnings = b.raiseStatusWarnings;
+        ackCoalesceWindow = b.ackCoalesceWindow;
     }
 
     @Override
@@ -95,6 +97,7 @@ public class BaseConsumeOptions implements JsonSerializable {
         addField(sb, MIN_PENDING, minPending);
         addField(sb, MIN_ACK_PENDING, minAckPending);
         addFldWhenTrue(sb, RAISE_STATUS_WARNINGS, raiseStatusWarnings);
+        addFieldWhenGtZero(sb, ACK_COALESCE_WINDOW, ackCoalesceWindow);
         subclassSpecificToJson(sb);
         return endJson(sb).toString();
     }
@@ -165,6 +168,14 @@ public class BaseConsumeOptions implements JsonSerializable {
         return minAckPending;
     }
 
+    /**
+     * Get the window acks are held for so they can be sent together
+     * @return the window in milliseconds, 0 if acks are not coalesced
+     */
+    public long getAckCoalesceWindow() {
+        return ackCoalesceWindow;
+    }
+
     protected static abstract class Builder<B, CO> {
         protected int messages = -1;
         protected long bytes = 0;
@@ -175,6 +186,7 @@ public class BaseConsumeOptions implements JsonSerializable {
         protected int priority;
         protected long minPending = -1;
         protected long minAckPending = -1;
+        protected long ackCoalesceWindow;
 
         protected abstract B getThis();
 
@@ -203,6 +215,7 @@ public class BaseConsumeOptions implements JsonSerializable {
             priority(readInteger(jsonValue, PRIORITY, 0));
             minPending(readLong(jsonValue, MIN_PENDING, -1));
             minAckPending(readLong(jsonValue, MIN_ACK_PENDING, -1));
+            coalesceAcks(readLong(jsonValue, ACK_COALESCE_WINDOW, 0));
             return getThis();
         }
 
@@ -317,6 +330,21 @@ public class BaseConsumeOptions implements JsonSerializable {
             return getThis();
         }
 
+        /**
+         * Coalesce acks. Calls to ack() are held and sent together once per window,
+         * or sooner if many are waiting. When the consumer's ack policy is All,
+         * only one cumulative ack, for the highest stream sequence, is sent per flush.
+         * Naks, terms, in progress and ackSync are always sent right away.
+         * Held acks are sent when the consumer is closed.
+         * Zero or less, the default, means acks are not coalesced.
+         * @param windowMillis the window in milliseconds
+         * @return the builder
+         */
+        public B coalesceAcks(long windowMillis) {
+            this.ackCoalesceWindow = windowMillis < 1 ? 0 : windowMillis;
+            return getThis();
+        }
+
         /**
          * Build the options.
          * @return the built options
@@ -0,0 +1,82 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.support.LatencyHistogram;
+
+/**
+ * A KeyValue that answers {@code get(key)} from a local copy of the bucket.
+ * The copy is kept up to date by watching the bucket, so it sees every put, delete and purge,
+ * in revision order, shortly after the server does.
+ * <p>Reads are only answered locally once the watcher has caught up to the bucket (end of data).
+ * Until then, and for keys that are not in the cache, reads go to the server and the result is cached.
+ * A write made through this object is always visible to a following read through this object.</p>
+ * <p>Entries that can expire, because the bucket has a max age or the entry was written with a TTL,
+ * are only answered locally if the bucket has limit markers, since otherwise the server removes them
+ * without the watcher seeing it. Without limit markers, reads of those entries go to the server.</p>
+ * <p>Reads of a specific revision, history, keys and watches always go to the server.</p>
+ * <p>Close the cached key value to stop the watcher when it is no longer needed.</p>
+ */
+public interface CachedKeyValue extends KeyValue, AutoCloseable {
+
+    /**
+     * Get the options used to create this cached key value
+     * @return the options
+     */
+    CachedKeyValueOptions getCacheOptions();
+
+    /**
+     * Whether the watcher has caught up to the bucket, and reads can be answered locally
+     * @return true if ready
+     */
+    boolean isCacheReady();
+
+    /**
+     * The number of entries in the cache, including deleted keys
+     * @return the size
+     */
+    int getCacheSize();
+
+    /**
+     * The number of reads answered from the cache
+     * @return the count
+     */
+    long getCacheHits();
+
+    /**
+     * The number of reads that went to the server
+     * @return the count
+     */
+    long getCacheMisses();
+
+    /**
+     * The number of entries removed to stay under the maximum size
+     * @return the count
+     */
+    long getCacheEvictions();
+
+    /**
+     * How stale the cache is: for each update applied by the watcher once it has caught up,
+     * the time from the entry being created on the server to the update being applied locally.
+     * This depends on the client and server clocks being in sync.
+     * @return the histogram
+     */
+    LatencyHistogram getCacheUpdateLag();
+
+    /**
+     * Stops the watcher and empties the cache. Afterwards, all reads go to the server.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,141 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+/**
+ * The CachedKeyValueOptions class specifies how a {@link CachedKeyValue CachedKeyValue} keeps its local copy of a bucket.
+ * Options are created using a {@link CachedKeyValueOptions.Builder Builder}.
+ */
+public class CachedKeyValueOptions {
+
+    /**
+     * The default maximum number of entries kept in the cache, 10000
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /**
+     * A default instance of CachedKeyValueOptions
+     */
+    public static final CachedKeyValueOptions DEFAULT_INSTANCE = CachedKeyValueOptions.builder().build();
+
+    /**
+     * Which entries are removed when the cache is over its maximum size
+     */
+    public enum Eviction {
+        /**
+         * Remove the entries that were read least recently
+         */
+        Lru,
+
+        /**
+         * Remove the entries that were read least often
+         */
+        Lfu
+    }
+
+    private final int maxEntries;
+    private final Eviction eviction;
+    private final KeyValueOptions keyValueOptions;
+
+    private CachedKeyValueOptions(Builder b) {
+        this.maxEntries = b.maxEntries;
+        this.eviction = b.eviction;
+        this.keyValueOptions = b.keyValueOptions;
+    }
+
+    /**
+     * Get the maximum number of entries kept in the cache. Deleted keys count as entries.
+     * @return the maximum, or -1 if there is no limit
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Get the eviction policy
+     * @return the eviction
+     */
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    /**
+     * Get the options used for the underlying key value
+     * @return the options or null if default options are used
+     */
+    public KeyValueOptions getKeyValueOptions() {
+        return keyValueOptions;
+    }
+
+    /**
+     * Creates a builder for the options.
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * CachedKeyValueOptions are created using a Builder.
+     */
+    public static class Builder {
+        int maxEntries = DEFAULT_MAX_ENTRIES;
+        Eviction eviction = Eviction.Lru;
+        KeyValueOptions keyValueOptions;
+
+        /**
+         * Constructs a new Builder with the default values.
+         */
+        public Builder() {}
+
+        /**
+         * Set the maximum number of entries kept in the cache. Less than 1 means no limit.
+         * Defaults to {@value #DEFAULT_MAX_ENTRIES}
+         * @param maxEntries the maximum
+         * @return the builder
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries < 1 ? -1 : maxEntries;
+            return this;
+        }
+
+        /**
+         * Set the eviction policy. Defaults to {@link Eviction#Lru Lru}
+         * @param eviction the eviction
+         * @return the builder
+         */
+        public Builder eviction(Eviction eviction) {
+            this.eviction = eviction == null ? Eviction.Lru : eviction;
+            return this;
+        }
+
+        /**
+         * Set the options used for the underlying key value
+         * @param keyValueOptions the options
+         * @return the builder
+         */
+        public Builder keyValueOptions(KeyValueOptions keyValueOptions) {
+            this.keyValueOptions = keyValueOptions;
+            return this;
+        }
+
+        /**
+         * Builds the CachedKeyValueOptions.
+         * @return CachedKeyValueOptions
+         */
+        public CachedKeyValueOptions build() {
+            return new CachedKeyValueOptions(this);
+        }
+    }
+}
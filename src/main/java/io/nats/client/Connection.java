@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
@@ -224,6 +225,24 @@ public interface Connection extends AutoCloseable {
      */
     void publish(@NonNull Message message);
 
+    /**
+     * Send a batch of messages, in order. The message bodies <strong>will
+     * not</strong> be copied. This is the same as calling {@link #publish(Message) publish()}
+     * for each message, but the batch is checked once and handed to the outgoing queue in a
+     * single operation, which saves the per message overhead when there are many messages to send.
+     * <p>All the messages are validated before any of them are queued, so if one is not valid,
+     * none of them are sent. If the outgoing queue discards messages when full, the ones that
+     * don't fit are discarded and reported to the error listener like any other discarded message.</p>
+     *
+     * @param messages the messages
+     * @throws IllegalStateException if the reconnect buffer is exceeded, in which case none of the messages are sent,
+     * or if the outgoing queue stays full longer than the write queue push timeout. In that case the messages before
+     * the first one that did not fit were already queued and will be sent, the exception message gives how many.
+     * Pooled messages that were not queued can be published again.
+     * @throws IllegalArgumentException if any of the messages is not valid
+     */
+    void publishBatch(@NonNull List<Message> messages);
+
     /**
      * Send a request. The returned future will be completed when the
      * response comes back.
@@ -411,6 +430,28 @@ public interface Connection extends AutoCloseable {
     @NonNull
     Dispatcher createDispatcher();
 
+    /**
+     * Create a {@code Dispatcher} that calls the handlers directly on the thread that reads from the
+     * socket, instead of queueing each message for a dispatcher thread. This saves the hand-off between threads,
+     * which can cost more than a short handler does.
+     *
+     * <p>Only use this for handlers that are quick and never block. Nothing else is read from the connection
+     * while a handler runs, including replies, so a handler must never make a request or flush on this connection.
+     * Handlers that run longer than {@link Options#getInlineDispatchThreshold()} are reported to
+     * {@link ErrorListener#inlineDispatchSlow ErrorListener.inlineDispatchSlow}. There is no queue, so
+     * pending limits and slow consumer detection do not apply.
+     *
+     * <p>The default implementation creates a regular dispatcher.
+     *
+     * @param handler The target for the messages. If the handler is null, subscribing without
+     *                using its API that accepts a handler will discard messages.
+     * @return a new Dispatcher
+     */
+    @NonNull
+    default Dispatcher createInlineDispatcher(@Nullable MessageHandler handler) {
+        return createDispatcher(handler);
+    }
+
     /**
      * Close a dispatcher. This will unsubscribe any subscriptions and stop the delivery thread.
      * 
@@ -742,6 +783,29 @@ public interface Connection extends AutoCloseable {
     @NonNull
     KeyValue keyValue(@NonNull String bucketName, @Nullable KeyValueOptions options) throws IOException;
 
+    /**
+     * Gets a context for working with a Key Value bucket that answers reads from a local cache,
+     * kept up to date by watching the bucket. See {@link CachedKeyValue}
+     * @param bucketName the bucket name
+     * @return a CachedKeyValue instance.
+     * @throws IOException various IO exception such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    @NonNull
+    CachedKeyValue cachedKeyValue(@NonNull String bucketName) throws IOException, JetStreamApiException;
+
+    /**
+     * Gets a context for working with a Key Value bucket that answers reads from a local cache,
+     * kept up to date by watching the bucket. See {@link CachedKeyValue}
+     * @param bucketName the bucket name
+     * @param options CachedKeyValue options. If null, default options are used.
+     * @return a CachedKeyValue instance.
+     * @throws IOException various IO exception such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    @NonNull
+    CachedKeyValue cachedKeyValue(@NonNull String bucketName, @Nullable CachedKeyValueOptions options) throws IOException, JetStreamApiException;
+
     /**
      * Gets a context for managing Key Value buckets
      * @return a KeyValueManagement instance.
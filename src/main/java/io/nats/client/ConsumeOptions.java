@@ -13,6 +13,13 @@
 
 package io.nats.client;
 
+import io.nats.client.support.JsonValue;
+
+import static io.nats.client.support.ApiConstants.*;
+import static io.nats.client.support.JsonUtils.addFieldWhenGtZero;
+import static io.nats.client.support.JsonValueUtils.readInteger;
+import static io.nats.client.support.JsonValueUtils.readLong;
+
 /**
  * Consume Options are provided to customize the consume operation.
  */
@@ -22,8 +29,32 @@ public class ConsumeOptions extends BaseConsumeOptions {
      */
     public static final ConsumeOptions DEFAULT_CONSUME_OPTIONS = ConsumeOptions.builder().build();
 
+    /**
+     * The default number of pulls to keep outstanding, {@value}
+     */
+    public static final int DEFAULT_PREFETCH = 1;
+
+    private final int adaptiveMinBatchSize;
+    private final int adaptiveMaxBatchSize;
+    private final int prefetch;
+    private final long prefetchBytes;
+
     private ConsumeOptions(Builder b) {
         super(b);
+        this.adaptiveMinBatchSize = b.adaptiveMinBatchSize;
+        this.adaptiveMaxBatchSize = b.adaptiveMaxBatchSize;
+        this.prefetch = b.prefetch;
+        this.prefetchBytes = b.prefetchBytes;
+    }
+
+    @Override
+    protected void subclassSpecificToJson(StringBuilder sb) {
+        addFieldWhenGtZero(sb, ADAPTIVE_MIN_BATCH, adaptiveMinBatchSize);
+        addFieldWhenGtZero(sb, ADAPTIVE_MAX_BATCH, adaptiveMaxBatchSize);
+        if (prefetch > DEFAULT_PREFETCH) {
+            addFieldWhenGtZero(sb, PREFETCH, prefetch);
+        }
+        addFieldWhenGtZero(sb, PREFETCH_BYTES, prefetchBytes);
     }
 
     /**
@@ -42,6 +73,49 @@ public class ConsumeOptions extends BaseConsumeOptions {
         return bytes;
     }
 
+    /**
+     * Whether the batch size of each pull is adapted to how fast messages are handled.
+     * @return the flag
+     * @see Builder#adaptive(int, int)
+     */
+    public boolean isAdaptive() {
+        return adaptiveMaxBatchSize > 0;
+    }
+
+    /**
+     * The smallest batch size in messages an adaptive consumer will pull.
+     * @return the minimum or -1 if not adaptive
+     */
+    public int getAdaptiveMinBatchSize() {
+        return adaptiveMinBatchSize;
+    }
+
+    /**
+     * The largest batch size in messages an adaptive consumer will pull.
+     * @return the maximum or -1 if not adaptive
+     */
+    public int getAdaptiveMaxBatchSize() {
+        return adaptiveMaxBatchSize;
+    }
+
+    /**
+     * The number of pulls, each of the batch size, kept outstanding.
+     * @return the number of pulls
+     * @see Builder#prefetch(int)
+     */
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * The most bytes requested by all outstanding pulls together.
+     * @return the bytes or -1 if not set
+     * @see Builder#prefetchBytes(long)
+     */
+    public long getPrefetchBytes() {
+        return prefetchBytes;
+    }
+
     /**
      * Get an instance of the Builder
      * @return a builder
@@ -59,8 +133,21 @@ public class ConsumeOptions extends BaseConsumeOptions {
          */
         public Builder() {}
 
+        protected int adaptiveMinBatchSize = -1;
+        protected int adaptiveMaxBatchSize = -1;
+        protected int prefetch = DEFAULT_PREFETCH;
+        protected long prefetchBytes = -1;
+
         protected Builder getThis() { return this; }
 
+        @Override
+        public Builder jsonValue(JsonValue jsonValue) {
+            super.jsonValue(jsonValue);
+            prefetch(readInteger(jsonValue, PREFETCH, DEFAULT_PREFETCH));
+            prefetchBytes(readLong(jsonValue, PREFETCH_BYTES, -1));
+            return adaptive(readInteger(jsonValue, ADAPTIVE_MIN_BATCH, -1), readInteger(jsonValue, ADAPTIVE_MAX_BATCH, -1));
+        }
+
         /**
          * Set the initial batch size in messages and remove any previously set {@link #batchBytes(long)} constraint.
          * <p>Less than 1 means default of {@value BaseConsumeOptions#DEFAULT_MESSAGE_COUNT} when bytes are not specified.
@@ -88,6 +175,63 @@ public class ConsumeOptions extends BaseConsumeOptions {
             return bytes(batchBytes);
         }
 
+        /**
+         * Adapt the batch size of each pull to how fast the messages are handled and how long
+         * a pull takes to start delivering, so the next batch arrives about when the last one is used up.
+         * The initial batch size is where the consumer starts, kept within the minimum and maximum.
+         * <p>When a batch byte size is set, it stays the limit for each pull, since pulling fewer bytes than
+         * the largest message would stall the consumer.</p>
+         * <p>A maximum less than 1 turns adapting off. A minimum less than 1 means 1.</p>
+         * @param minBatchSize the smallest batch size in messages
+         * @param maxBatchSize the largest batch size in messages
+         * @return the builder
+         */
+        public Builder adaptive(int minBatchSize, int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                adaptiveMinBatchSize = -1;
+                adaptiveMaxBatchSize = -1;
+                return this;
+            }
+            int min = Math.max(1, minBatchSize);
+            if (maxBatchSize < min) {
+                throw new IllegalArgumentException("Adaptive maximum batch size must be greater than or equal to the minimum.");
+            }
+            adaptiveMinBatchSize = min;
+            adaptiveMaxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Keep this many pulls, each of the batch size, outstanding at once, so the next messages
+         * are already on their way when the current ones are handled. This hides the round trip to
+         * the server when it is long compared to handling a batch.
+         * <p>The pulls are topped up together when the threshold percent of all of them
+         * has been handled. The expirations of the pulls are staggered, up to half again the
+         * expires in time, so they do not all end at once.</p>
+         * <p>Less than 1 means the default of {@value ConsumeOptions#DEFAULT_PREFETCH}.</p>
+         * @param pulls the number of pulls
+         * @return the builder
+         */
+        public Builder prefetch(int pulls) {
+            prefetch = pulls < 1 ? DEFAULT_PREFETCH : pulls;
+            return this;
+        }
+
+        /**
+         * Limit the bytes requested by all outstanding pulls together.
+         * When a batch byte size is also set, it is still the limit for each pull,
+         * otherwise each pull asks for an equal share of these bytes.
+         * <p>As with the batch bytes, each pull's share must be greater than your largest message
+         * or the consume process will stall.</p>
+         * <p>Less than 1 removes the limit.</p>
+         * @param maxBytes the byte budget
+         * @return the builder
+         */
+        public Builder prefetchBytes(long maxBytes) {
+            prefetchBytes = maxBytes < 1 ? -1 : maxBytes;
+            return this;
+        }
+
         /**
          * Build the ConsumeOptions.
          * @return a ConsumeOptions instance
@@ -13,6 +13,8 @@
 
 package io.nats.client;
 
+import io.nats.client.support.LatencyHistogram;
+
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 
@@ -122,4 +124,12 @@ public interface Consumer {
      * @throws InterruptedException if the thread is interrupted
      */
     CompletableFuture<Boolean> drain(Duration timeout) throws InterruptedException;
+
+    /**
+     * the times from messages being read off the socket to being given to this consumer's handler,
+     * or for a subscription without a dispatcher, being returned by nextMessage.
+     * Only recorded when the connection has advanced stats enabled.
+     * @return the histogram, or null if nothing has been recorded
+     */
+    default LatencyHistogram getDeliveryLatency() { return null; }
 }
\ No newline at end of file
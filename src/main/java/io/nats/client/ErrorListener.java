@@ -15,6 +15,8 @@ package io.nats.client;
 
 import io.nats.client.support.Status;
 
+import java.time.Duration;
+
 /**
  * This library groups problems into four categories:
  * <dl>
@@ -150,6 +152,18 @@ public interface ErrorListener {
      */
     default void socketWriteTimeout(Connection conn) {}
 
+    /**
+     * Called when a handler on an inline dispatcher, see {@link Connection#createInlineDispatcher(MessageHandler)},
+     * has run longer than the {@link Options#getInlineDispatchThreshold() threshold}. Nothing is read from the
+     * connection while the handler runs. This can be called while the handler is still running,
+     * and is called once per message.
+     *
+     * @param conn The connection that had the issue
+     * @param sub the subscription the message was for
+     * @param elapsed how long the handler had run when it was noticed
+     */
+    default void inlineDispatchSlow(Connection conn, Subscription sub, Duration elapsed) {}
+
     /**
      * General message producing function which understands the possible parameters to listener calls.
      * @param label the label for the message
@@ -595,4 +595,13 @@ public interface JetStream {
      * @throws JetStreamApiException the request had an error related to the data.
      */
 	ConsumerContext getConsumerContext(String streamName, String consumerName) throws IOException, JetStreamApiException;
+
+    /**
+     * Create a publisher that limits how many publish acks can be outstanding at one time,
+     * and what happens to a publish when the limit is reached.
+     * See {@link AsyncPublisher AsyncPublisher}
+     * @param options the options, or null to use the default options
+     * @return the publisher
+     */
+    AsyncPublisher asyncPublisher(AsyncPublisherOptions options);
 }
@@ -333,6 +333,33 @@ public interface JetStreamManagement {
      */
     MessageInfo getNextMessage(String streamName, long seq, String subject) throws IOException, JetStreamApiException;
 
+    /**
+     * Get many messages with one request, using a direct batch get.
+     * Requires server version 2.11 or later and a stream that allows direct get.
+     * @param streamName the name of the stream.
+     * @param messageBatchGetRequest the request details
+     * @return the list of MessageInfo, empty if there were no matching messages
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    List<MessageInfo> fetchMessageBatch(String streamName, MessageBatchGetRequest messageBatchGetRequest) throws IOException, JetStreamApiException;
+
+    /**
+     * Get many messages with one request, using a direct batch get, giving each to the handler as it arrives.
+     * The last MessageInfo given to the handler is a status, either the end of batch status, see {@link MessageInfo#isEobStatus()},
+     * or an error status, for instance when there were no matching messages.
+     * Requires server version 2.11 or later and a stream that allows direct get.
+     * @param streamName the name of the stream.
+     * @param messageBatchGetRequest the request details
+     * @param handler the handler
+     * @return true if the batch was complete, false if it ended with an error status
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    boolean requestMessageBatch(String streamName, MessageBatchGetRequest messageBatchGetRequest, MessageInfoHandler handler) throws IOException, JetStreamApiException;
+
     /**
      * Deletes a message, overwriting the message data with garbage
      * This can be considered an expensive (time-consuming) operation, but is more secure.
@@ -207,6 +207,25 @@ public interface JetStreamSubscription extends Subscription {
      */
     JetStreamReader reader(int batchSize, int repullAt);
 
+    /**
+     * Prepares a reader that keeps more than one batch requested at a time, so that
+     * when the round trip to the server is long compared to handling a batch,
+     * nextMessage rarely has to wait for the server.
+     * It starts by pulling prefetch batches, then pulls one more batch when
+     * each batch reaches the repull point.
+     * ! Pull subscriptions only. Push subscription will throw IllegalStateException
+     *
+     * @param batchSize the size of the batch
+     * @param repullAt the point in the current batch to tell the server to start the next batch
+     * @param prefetch the number of batches to keep requested, less than 1 means 1
+     *
+     * @return the message iterator
+     * @throws IllegalStateException if not a pull subscription.
+     */
+    default JetStreamReader reader(int batchSize, int repullAt, int prefetch) {
+        return reader(batchSize, repullAt);
+    }
+
     /**
      * Gets information about the consumer behind this subscription.
      * @return consumer information
@@ -215,4 +234,19 @@ public interface JetStreamSubscription extends Subscription {
      * @throws JetStreamApiException the request had an error related to the data
      */
     ConsumerInfo getConsumerInfo() throws IOException, JetStreamApiException;
+
+    /**
+     * When acks are coalesced, the number of acks being held to be sent with the next flush.
+     * See {@link SubscribeOptions.Builder#coalesceAcks(long)}
+     * @return the count, always 0 when acks are not coalesced
+     */
+    default long getPendingAckCount() { return 0; }
+
+    /**
+     * When acks are coalesced and the consumer's ack policy is All, the number of acks
+     * that were not sent because a cumulative ack for a higher sequence covered them.
+     * See {@link SubscribeOptions.Builder#coalesceAcks(long)}
+     * @return the count, always 0 when acks are not coalesced
+     */
+    default long getCoalescedAckCount() { return 0; }
 }
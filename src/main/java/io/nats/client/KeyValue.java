@@ -16,8 +16,11 @@ import io.nats.client.api.*;
 import io.nats.client.impl.NatsKeyValueWatchSubscription;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
 
 /**
  * Key Value Store Management context for creation and access to key value buckets.
@@ -55,6 +58,33 @@ public interface KeyValue {
      */
     KeyValueEntry get(String key, long revision) throws IOException, JetStreamApiException;
 
+    /**
+     * Get the entries for many keys with one request, for the keys that exist and are live (not deleted and not purged).
+     * Uses a direct batch get when the server is version 2.11 or later and the bucket allows direct get,
+     * otherwise gets the keys one at a time.
+     * @param keys the keys, wildcards are not allowed
+     * @return a map of key to KvEntry, without entries for keys that were not found
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     * @throws IllegalArgumentException the server is not JetStream enabled
+     */
+    Map<String, KeyValueEntry> get(Collection<String> keys) throws IOException, JetStreamApiException;
+
+    /**
+     * Get the entries for many keys with one request, giving each entry to the handler as it arrives,
+     * for the keys that exist and are live (not deleted and not purged).
+     * Uses a direct batch get when the server is version 2.11 or later and the bucket allows direct get,
+     * otherwise gets the keys one at a time. Returns once all the entries have been given to the handler.
+     * @param keys the keys, wildcards are not allowed
+     * @param handler the handler
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     * @throws IllegalArgumentException the server is not JetStream enabled
+     */
+    void get(Collection<String> keys, Consumer<KeyValueEntry> handler) throws IOException, JetStreamApiException;
+
     /**
      * Put a byte[] as the value for a key
      * @param key the key
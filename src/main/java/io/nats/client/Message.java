@@ -18,6 +18,7 @@ import io.nats.client.impl.Headers;
 import io.nats.client.impl.NatsJetStreamMetaData;
 import io.nats.client.support.Status;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.concurrent.TimeoutException;
 
@@ -79,6 +80,25 @@ public interface Message {
 	 */
 	byte[] getData();
 
+	/**
+	 * A read-only view of the data from the message. When the connection was built with
+	 * {@link Options.Builder#zeroCopyIncoming() zeroCopyIncoming()} this is a view directly
+	 * over the connection's read buffer and is only valid until {@link #release()} is called.
+	 * @return the data buffer, positioned at the start of the data
+	 */
+	default ByteBuffer getDataBuffer() {
+		byte[] data = getData();
+		return ByteBuffer.wrap(data == null ? new byte[0] : data).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Tell the library the application is done with the message data, so any read buffer it is
+	 * held in can be reused. Only does anything when the connection was built with
+	 * {@link Options.Builder#zeroCopyIncoming() zeroCopyIncoming()}.
+	 * The data cannot be read after the message is released, unless {@link #getData()} was already called.
+	 */
+	default void release() {}
+
 	/**
 	 * @deprecated because the mode doesn't matter
 	 * if is utf8Mode
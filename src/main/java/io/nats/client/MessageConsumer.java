@@ -70,4 +70,26 @@ public interface MessageConsumer extends AutoCloseable {
      * @return the finished flag
      */
     boolean isFinished();
+
+    /**
+     * When acks are coalesced, the number of acks being held to be sent with the next flush.
+     * See {@link BaseConsumeOptions.Builder#coalesceAcks(long)}
+     * @return the count, always 0 when acks are not coalesced
+     */
+    default long getPendingAckCount() { return 0; }
+
+    /**
+     * When acks are coalesced and the consumer's ack policy is All, the number of acks
+     * that were not sent because a cumulative ack for a higher sequence covered them.
+     * See {@link BaseConsumeOptions.Builder#coalesceAcks(long)}
+     * @return the count, always 0 when acks are not coalesced
+     */
+    default long getCoalescedAckCount() { return 0; }
+
+    /**
+     * The number of messages the consumer currently asks for in a pull. For an adaptive consumer
+     * this changes as the consumer runs, see {@link ConsumeOptions.Builder#adaptive(int, int)}
+     * @return the batch size, always 0 for a fetch
+     */
+    default int getCurrentBatchSize() { return 0; }
 }
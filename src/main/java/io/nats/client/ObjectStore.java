@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
 
@@ -89,6 +90,19 @@ public interface ObjectStore {
      */
     ObjectInfo get(String objectName, OutputStream outputStream) throws IOException, JetStreamApiException, InterruptedException, NoSuchAlgorithmException;
 
+    /**
+     * Get an object by name from the store, writing it to the channel, for instance a {@link java.nio.channels.FileChannel FileChannel},
+     * if the object exists. The channel is not closed.
+     * @param objectName The name of the object
+     * @param channel the destination channel.
+     * @return the ObjectInfo for the object name or throw an exception if it does not exist or is deleted.
+     * @throws IOException covers various communication issues with the NATS server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     * @throws InterruptedException if the thread is interrupted
+     * @throws NoSuchAlgorithmException if the Digest Algorithm is not known. Currently, the only supported algorithm is SHA-256
+     */
+    ObjectInfo get(String objectName, WritableByteChannel channel) throws IOException, JetStreamApiException, InterruptedException, NoSuchAlgorithmException;
+
     /**
      * Get the info for an object if the object exists / is not deleted.
      * @param objectName The name of the object
@@ -19,8 +19,19 @@ package io.nats.client;
  */
 public class ObjectStoreOptions extends FeatureOptions {
 
+    private final int maxChunksInFlight;
+
     private ObjectStoreOptions(Builder b) {
         super(b);
+        maxChunksInFlight = b.maxChunksInFlight;
+    }
+
+    /**
+     * Gets the maximum number of chunks in flight during a put or get
+     * @return the maximum, 1 means chunks are handled one at a time
+     */
+    public int getMaxChunksInFlight() {
+        return maxChunksInFlight;
     }
 
     /**
@@ -55,6 +66,8 @@ public class ObjectStoreOptions extends FeatureOptions {
      */
     public static class Builder extends FeatureOptions.Builder<Builder, ObjectStoreOptions> {
 
+        private int maxChunksInFlight = 1;
+
         @Override
         protected Builder getThis() {
             return this;
@@ -73,6 +86,23 @@ public class ObjectStoreOptions extends FeatureOptions {
          */
         public Builder(ObjectStoreOptions oso) {
             super(oso);
+            if (oso != null) {
+                maxChunksInFlight = oso.maxChunksInFlight;
+            }
+        }
+
+        /**
+         * Sets the maximum number of chunks in flight during a put or get. The default is 1,
+         * each chunk is published and acked before the next is read, and a get reads chunks with a push subscription.
+         * When greater than 1, a put keeps up to this many chunk publishes waiting for their ack,
+         * and a get prefetches up to this many chunks with a pull consumer.
+         * Less than 1 means 1.
+         * @param maxChunksInFlight the maximum
+         * @return the builder
+         */
+        public Builder maxChunksInFlight(int maxChunksInFlight) {
+            this.maxChunksInFlight = Math.max(1, maxChunksInFlight);
+            return this;
         }
 
         /**
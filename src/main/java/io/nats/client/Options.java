@@ -154,6 +154,13 @@ public class Options {
      */
     public static final Duration DEFAULT_REQUEST_CLEANUP_INTERVAL = Duration.ofSeconds(5);
 
+    /**
+     * Default time a handler on an inline dispatcher can run before it is reported as slow,
+     * {@link #getInlineDispatchThreshold() getInlineDispatchThreshold()}.
+     * <p>This property is defined as 100 milliseconds.</p>
+     */
+    public static final Duration DEFAULT_INLINE_DISPATCH_THRESHOLD = Duration.ofMillis(100);
+
     /**
      * Default amount of time to try to add something to the outgoing queue.
      * This covers the entire time it takes to obtain the lock and
@@ -568,10 +575,23 @@ public class Options {
      * {@link Builder#useDispatcherWithExecutor()}.
      */
     public static final String PROP_USE_DISPATCHER_WITH_EXECUTOR = PFX + "use.dispatcher.with.executor";
+    /**
+     * Property used to configure a builder from a Properties object. {@value}, see
+     * {@link Builder#inlineDispatchThreshold(Duration) inlineDispatchThreshold}.
+     */
+    public static final String PROP_INLINE_DISPATCH_THRESHOLD = PFX + "inline.dispatch.threshold";
     /**
      * Property used to configure a builder from a Properties object. {@value}, see {@link Builder#forceFlushOnRequest() forceFlushOnRequest}.
      */
     public static final String PROP_FORCE_FLUSH_ON_REQUEST = PFX + "force.flush.on.request";
+    /**
+     * Property used to configure a builder from a Properties object. {@value}, see {@link Builder#zeroCopyIncoming() zeroCopyIncoming}.
+     */
+    public static final String PROP_ZERO_COPY_INCOMING = PFX + "zero.copy.incoming";
+    /**
+     * Property used to configure a builder from a Properties object. {@value}, see {@link Builder#useVirtualThreads() useVirtualThreads}.
+     */
+    public static final String PROP_USE_VIRTUAL_THREADS = PFX + "use.virtual.threads";
     /**
      * Property used to set class name for the Executor Service (executor) class
      * {@link Builder#executor(ExecutorService) executor}.
@@ -750,7 +770,10 @@ public class Options {
     private final boolean tlsFirst;
     private final boolean useTimeoutException;
     private final boolean useDispatcherWithExecutor;
+    private final Duration inlineDispatchThreshold;
     private final boolean forceFlushOnRequest;
+    private final boolean zeroCopyIncoming;
+    private final boolean useVirtualThreads;
 
     private final AuthHandler authHandler;
     private final ReconnectDelayHandler reconnectDelayHandler;
@@ -914,7 +937,10 @@ public class Options {
         private boolean tlsFirst = false;
         private boolean useTimeoutException = false;
         private boolean useDispatcherWithExecutor = false;
+        private Duration inlineDispatchThreshold = DEFAULT_INLINE_DISPATCH_THRESHOLD;
         private boolean forceFlushOnRequest = true; // true since it's the original b/w compatible way
+        private boolean zeroCopyIncoming = false;
+        private boolean useVirtualThreads = false;
         private ServerPool serverPool = null;
         private DispatcherFactory dispatcherFactory = null;
 
@@ -1065,7 +1091,10 @@ public class Options {
             booleanProperty(props, PROP_TLS_FIRST, b -> this.tlsFirst = b);
             booleanProperty(props, PROP_USE_TIMEOUT_EXCEPTION, b -> this.useTimeoutException = b);
             booleanProperty(props, PROP_USE_DISPATCHER_WITH_EXECUTOR, b -> this.useDispatcherWithExecutor = b);
+            durationProperty(props, PROP_INLINE_DISPATCH_THRESHOLD, d -> this.inlineDispatchThreshold = d);
             booleanProperty(props, PROP_FORCE_FLUSH_ON_REQUEST, b -> this.forceFlushOnRequest = b);
+            booleanProperty(props, PROP_ZERO_COPY_INCOMING, b -> this.zeroCopyIncoming = b);
+            booleanProperty(props, PROP_USE_VIRTUAL_THREADS, b -> this.useVirtualThreads = b);
             booleanProperty(props, PROP_FAST_FALLBACK, b -> this.enableFastFallback = b);
 
             classnameProperty(props, PROP_SERVERS_POOL_IMPLEMENTATION_CLASS, o -> this.serverPool = (ServerPool) o);
@@ -2007,6 +2036,19 @@ public class Options {
             return this;
         }
 
+        /**
+         * Set how long a handler on an inline dispatcher, see {@link Connection#createInlineDispatcher(MessageHandler)},
+         * can run before it is reported to the {@link ErrorListener#inlineDispatchSlow ErrorListener} as slow.
+         * The handler runs on the thread that reads from the socket, so nothing else is read while it runs.
+         * A null or non-positive value turns off the check.
+         * @param threshold the threshold
+         * @return the Builder for chaining
+         */
+        public Builder inlineDispatchThreshold(Duration threshold) {
+            this.inlineDispatchThreshold = threshold;
+            return this;
+        }
+
         /**
          * Instruct requests to turn off flush on requests.
          * @return the Builder for chaining
@@ -2016,6 +2058,33 @@ public class Options {
             return this;
         }
 
+        /**
+         * Instruct the connection to leave incoming message payloads in pooled read buffers instead of
+         * copying each one to its own byte array. The payload is available without a copy from
+         * {@link Message#getDataBuffer()}, {@link Message#getData()} makes the copy the first time it is called.
+         * Call {@link Message#release()} when done with the message so its read buffer can be reused.
+         * A message that is never released is simply garbage collected along with its buffer.
+         * @return the Builder for chaining
+         */
+        public Builder zeroCopyIncoming() {
+            this.zeroCopyIncoming = true;
+            return this;
+        }
+
+        /**
+         * Run the connection's threads on virtual threads when the JVM supports them, Java 21 or later.
+         * The internal executor, which runs the reader, the writer, dispatchers and the handlers of
+         * dispatchers with executors, starts a virtual thread per task. The internal callback and
+         * connect executors are still single threaded, but their thread is virtual.
+         * User supplied executors and thread factories are used as is.
+         * On a JVM without virtual threads, this option is ignored and platform threads are used.
+         * @return the Builder for chaining
+         */
+        public Builder useVirtualThreads() {
+            this.useVirtualThreads = true;
+            return this;
+        }
+
         /**
          * Set the ServerPool implementation for connections to use instead of the default implementation
          * @param serverPool the implementation
@@ -2275,7 +2344,10 @@ public class Options {
             this.tlsFirst = o.tlsFirst;
             this.useTimeoutException = o.useTimeoutException;
             this.useDispatcherWithExecutor = o.useDispatcherWithExecutor;
+            this.inlineDispatchThreshold = o.inlineDispatchThreshold;
             this.forceFlushOnRequest = o.forceFlushOnRequest;
+            this.zeroCopyIncoming = o.zeroCopyIncoming;
+            this.useVirtualThreads = o.useVirtualThreads;
 
             this.serverPool = o.serverPool;
             this.dispatcherFactory = o.dispatcherFactory;
@@ -2354,7 +2426,10 @@ public class Options {
         this.tlsFirst = b.tlsFirst;
         this.useTimeoutException = b.useTimeoutException;
         this.useDispatcherWithExecutor = b.useDispatcherWithExecutor;
+        this.inlineDispatchThreshold = b.inlineDispatchThreshold;
         this.forceFlushOnRequest = b.forceFlushOnRequest;
+        this.zeroCopyIncoming = b.zeroCopyIncoming;
+        this.useVirtualThreads = b.useVirtualThreads;
 
         this.serverPool = b.serverPool;
         this.dispatcherFactory = b.dispatcherFactory;
@@ -2383,6 +2458,12 @@ public class Options {
 
     private ExecutorService _getInternalExecutor() {
         String threadPrefix = nullOrEmpty(this.connectionName) ? DEFAULT_THREAD_NAME_PREFIX : this.connectionName;
+        if (useVirtualThreads) {
+            ExecutorService es = VirtualThreads.newThreadPerTaskExecutor(threadPrefix);
+            if (es != null) {
+                return es;
+            }
+        }
         return new ThreadPoolExecutor(0, Integer.MAX_VALUE,
             500L, TimeUnit.MILLISECONDS,
             new SynchronousQueue<>(),
@@ -2433,7 +2514,7 @@ public class Options {
                     resolvedCallbackExecutor = Executors.newSingleThreadExecutor(userCallbackThreadFactory);
                 }
                 else {
-                    resolvedCallbackExecutor = DEFAULT_SINGLE_THREAD_EXECUTOR.get();
+                    resolvedCallbackExecutor = _getInternalSingleThreadExecutor("callback");
                 }
             }
             return resolvedCallbackExecutor;
@@ -2459,7 +2540,7 @@ public class Options {
                     resolvedConnectExecutor = Executors.newSingleThreadExecutor(userConnectThreadFactory);
                 }
                 else {
-                    resolvedConnectExecutor = DEFAULT_SINGLE_THREAD_EXECUTOR.get();
+                    resolvedConnectExecutor = _getInternalSingleThreadExecutor("connect");
                 }
             }
             return resolvedConnectExecutor;
@@ -2469,6 +2550,17 @@ public class Options {
         }
     }
 
+    private ExecutorService _getInternalSingleThreadExecutor(String purpose) {
+        if (useVirtualThreads) {
+            String threadPrefix = nullOrEmpty(this.connectionName) ? DEFAULT_THREAD_NAME_PREFIX : this.connectionName;
+            ThreadFactory factory = VirtualThreads.factory(threadPrefix + "-" + purpose);
+            if (factory != null) {
+                return Executors.newSingleThreadExecutor(factory);
+            }
+        }
+        return DEFAULT_SINGLE_THREAD_EXECUTOR.get();
+    }
+
     /**
      * whether the general executor is the internal one versus a user supplied one
      * @return true if the executor is internal
@@ -3081,6 +3173,15 @@ public class Options {
      */
     public boolean useDispatcherWithExecutor() { return useDispatcherWithExecutor; }
 
+    /**
+     * Get the time a handler on an inline dispatcher can run before it is reported as slow,
+     * see {@link Builder#inlineDispatchThreshold(Duration) inlineDispatchThreshold()} in the builder doc
+     * @return the threshold, null or non-positive if not checked
+     */
+    public Duration getInlineDispatchThreshold() {
+        return inlineDispatchThreshold;
+    }
+
     /**
      * Whether to flush on any user request
      * @return the flag
@@ -3089,6 +3190,23 @@ public class Options {
         return forceFlushOnRequest;
     }
 
+    /**
+     * Whether incoming message payloads are left in pooled read buffers, see {@link Builder#zeroCopyIncoming() zeroCopyIncoming()}
+     * @return the flag
+     */
+    public boolean isZeroCopyIncoming() {
+        return zeroCopyIncoming;
+    }
+
+    /**
+     * Whether virtual threads were requested, see {@link Builder#useVirtualThreads() useVirtualThreads()}.
+     * They are only used if {@link VirtualThreads#isAvailable()}
+     * @return the flag
+     */
+    public boolean isUseVirtualThreads() {
+        return useVirtualThreads;
+    }
+
     /**
      * Get the ServerPool implementation. If null, a default implementation is used.
      * @return the ServerPool implementation
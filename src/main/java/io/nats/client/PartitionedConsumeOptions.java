@@ -0,0 +1,225 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import io.nats.client.api.OrderedConsumerConfiguration;
+import org.jspecify.annotations.NonNull;
+
+import static io.nats.client.support.Validator.required;
+import static io.nats.client.support.Validator.validateSubject;
+
+/**
+ * Options for consuming a stream with one ordered consumer per partition,
+ * see {@link StreamContext#consumePartitioned(PartitionedConsumeOptions, MessageHandler)}.
+ * <p>The stream's subjects must carry a partition number in one of their tokens, for instance
+ * by a subject transform like {@code orders.*} to {@code orders.{{partition(4,1)}}.{{wildcard(1)}}}.
+ * The filter subject is a subject with a {@code *} at the partition token, for instance
+ * {@code orders.*.*} with partition token 1. Partition n consumes the filter subject with that
+ * token replaced by n, so all the messages for one key arrive in order, on one thread.</p>
+ */
+public class PartitionedConsumeOptions {
+    private final int partitions;
+    private final int partitionToken;
+    private final String filterSubject;
+    private final OrderedConsumerConfiguration orderedConsumerConfiguration;
+    private final ConsumeOptions consumeOptions;
+    private final String[] filterTokens;
+
+    private PartitionedConsumeOptions(Builder b) {
+        partitions = b.partitions;
+        partitionToken = b.partitionToken;
+        filterSubject = b.filterSubject;
+        orderedConsumerConfiguration = b.orderedConsumerConfiguration;
+        consumeOptions = b.consumeOptions;
+        filterTokens = filterSubject.split("\\.");
+    }
+
+    /**
+     * The number of partitions, which is the number of ordered consumers
+     * @return the number of partitions
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * The index, starting at 0, of the token in the subject that holds the partition number
+     * @return the token index
+     */
+    public int getPartitionToken() {
+        return partitionToken;
+    }
+
+    /**
+     * The filter subject that has a {@code *} at the partition token
+     * @return the filter subject
+     */
+    @NonNull
+    public String getFilterSubject() {
+        return filterSubject;
+    }
+
+    /**
+     * The configuration each partition's ordered consumer is based on. Its filter subjects are replaced.
+     * @return the configuration
+     */
+    @NonNull
+    public OrderedConsumerConfiguration getOrderedConsumerConfiguration() {
+        return orderedConsumerConfiguration;
+    }
+
+    /**
+     * The options each partition consumes with
+     * @return the consume options
+     */
+    @NonNull
+    public ConsumeOptions getConsumeOptions() {
+        return consumeOptions;
+    }
+
+    /**
+     * The filter subject of one partition
+     * @param partition the partition, 0 to partitions - 1
+     * @return the filter subject
+     */
+    @NonNull
+    public String getPartitionFilterSubject(int partition) {
+        if (partition < 0 || partition >= partitions) {
+            throw new IllegalArgumentException("Partition must be between 0 and " + (partitions - 1) + ".");
+        }
+        StringBuilder sb = new StringBuilder(filterSubject.length() + 8);
+        for (int x = 0; x < filterTokens.length; x++) {
+            if (x > 0) {
+                sb.append('.');
+            }
+            if (x == partitionToken) {
+                sb.append(partition);
+            }
+            else {
+                sb.append(filterTokens[x]);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The ordered consumer configuration of one partition, the base configuration with
+     * the partition's filter subject. A consumer name prefix gets the partition appended.
+     * @param partition the partition, 0 to partitions - 1
+     * @return a new configuration
+     */
+    @NonNull
+    public OrderedConsumerConfiguration getPartitionConfiguration(int partition) {
+        OrderedConsumerConfiguration base = orderedConsumerConfiguration;
+        String prefix = base.getConsumerNamePrefix();
+        return new OrderedConsumerConfiguration()
+            .filterSubject(getPartitionFilterSubject(partition))
+            .deliverPolicy(base.getDeliverPolicy())
+            .startSequence(base.getStartSequence() == null ? -1 : base.getStartSequence())
+            .startTime(base.getStartTime())
+            .replayPolicy(base.getReplayPolicy())
+            .headersOnly(base.getHeadersOnly())
+            .consumerNamePrefix(prefix == null ? null : prefix + "-" + partition);
+    }
+
+    /**
+     * Get an instance of the builder
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The PartitionedConsumeOptions Builder
+     */
+    public static class Builder {
+        private int partitions;
+        private int partitionToken = -1;
+        private String filterSubject;
+        private OrderedConsumerConfiguration orderedConsumerConfiguration;
+        private ConsumeOptions consumeOptions;
+
+        /**
+         * Construct a builder
+         */
+        public Builder() {}
+
+        /**
+         * The number of partitions. Required, must be greater than 0.
+         * @param partitions the number of partitions
+         * @return the builder
+         */
+        public Builder partitions(int partitions) {
+            this.partitions = partitions;
+            return this;
+        }
+
+        /**
+         * The filter subject and which of its tokens holds the partition number. Required.
+         * @param filterSubject the filter subject, which must have a {@code *} at the partition token
+         * @param partitionToken the index of the token, starting at 0
+         * @return the builder
+         */
+        public Builder filterSubject(String filterSubject, int partitionToken) {
+            this.filterSubject = filterSubject;
+            this.partitionToken = partitionToken;
+            return this;
+        }
+
+        /**
+         * The configuration each partition's ordered consumer is based on, for instance for the deliver policy.
+         * Its filter subjects are not used. Defaults to a default OrderedConsumerConfiguration.
+         * @param orderedConsumerConfiguration the configuration
+         * @return the builder
+         */
+        public Builder orderedConsumerConfiguration(OrderedConsumerConfiguration orderedConsumerConfiguration) {
+            this.orderedConsumerConfiguration = orderedConsumerConfiguration;
+            return this;
+        }
+
+        /**
+         * The options each partition consumes with. Defaults to {@link ConsumeOptions#DEFAULT_CONSUME_OPTIONS}.
+         * @param consumeOptions the consume options
+         * @return the builder
+         */
+        public Builder consumeOptions(ConsumeOptions consumeOptions) {
+            this.consumeOptions = consumeOptions;
+            return this;
+        }
+
+        /**
+         * Build the PartitionedConsumeOptions
+         * @return the options
+         * @throws IllegalArgumentException if the partitions or filter subject are missing or invalid
+         */
+        public PartitionedConsumeOptions build() {
+            if (partitions < 1) {
+                throw new IllegalArgumentException("Partitions must be greater than zero.");
+            }
+            validateSubject(required(filterSubject, "Filter Subject"), true);
+            String[] tokens = filterSubject.split("\\.");
+            if (partitionToken < 0 || partitionToken >= tokens.length || !tokens[partitionToken].equals("*")) {
+                throw new IllegalArgumentException("Filter subject must have a * at the partition token.");
+            }
+            if (orderedConsumerConfiguration == null) {
+                orderedConsumerConfiguration = new OrderedConsumerConfiguration();
+            }
+            if (consumeOptions == null) {
+                consumeOptions = ConsumeOptions.DEFAULT_CONSUME_OPTIONS;
+            }
+            return new PartitionedConsumeOptions(this);
+        }
+    }
+}
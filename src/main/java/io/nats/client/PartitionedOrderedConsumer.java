@@ -0,0 +1,169 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Consumes a stream with one ordered consumer per partition, each on its own dispatcher,
+ * see {@link StreamContext#consumePartitioned(PartitionedConsumeOptions, MessageHandler)}.
+ * Messages of one partition are handled in order, one at a time. Partitions are handled in parallel.
+ */
+public interface PartitionedOrderedConsumer extends AutoCloseable {
+
+    /**
+     * The progress of one partition, as of the last message it handled
+     */
+    class PartitionProgress {
+        private final int partition;
+        private final String filterSubject;
+        private final String consumerName;
+        private final long delivered;
+        private final long lastStreamSequence;
+        private final long pending;
+
+        /**
+         * Construct the progress of a partition
+         * @param partition the partition number
+         * @param filterSubject the partition's filter subject
+         * @param consumerName the partition's current consumer name
+         * @param delivered the number of messages handled
+         * @param lastStreamSequence the stream sequence of the last message handled
+         * @param pending the number of messages left
+         */
+        public PartitionProgress(int partition, String filterSubject, String consumerName, long delivered, long lastStreamSequence, long pending) {
+            this.partition = partition;
+            this.filterSubject = filterSubject;
+            this.consumerName = consumerName;
+            this.delivered = delivered;
+            this.lastStreamSequence = lastStreamSequence;
+            this.pending = pending;
+        }
+
+        /**
+         * The partition number
+         * @return the partition
+         */
+        public int getPartition() {
+            return partition;
+        }
+
+        /**
+         * The filter subject of the partition
+         * @return the filter subject
+         */
+        @NonNull
+        public String getFilterSubject() {
+            return filterSubject;
+        }
+
+        /**
+         * The name of the partition's current ordered consumer, which changes when the consumer is reset
+         * @return the consumer name or null if the consumer has not been created yet
+         */
+        @Nullable
+        public String getConsumerName() {
+            return consumerName;
+        }
+
+        /**
+         * The number of messages the partition has handled
+         * @return the count
+         */
+        public long getDelivered() {
+            return delivered;
+        }
+
+        /**
+         * The stream sequence of the last message the partition handled
+         * @return the sequence or 0 if none have been handled
+         */
+        public long getLastStreamSequence() {
+            return lastStreamSequence;
+        }
+
+        /**
+         * The number of messages the server had left for the partition when it sent the last message,
+         * which is the partition's lag
+         * @return the count or -1 if no messages have been handled
+         */
+        public long getPending() {
+            return pending;
+        }
+
+        @Override
+        public String toString() {
+            return "PartitionProgress{" +
+                "partition=" + partition +
+                ", filterSubject='" + filterSubject + '\'' +
+                ", consumerName='" + consumerName + '\'' +
+                ", delivered=" + delivered +
+                ", lastStreamSequence=" + lastStreamSequence +
+                ", pending=" + pending +
+                '}';
+        }
+    }
+
+    /**
+     * The number of partitions
+     * @return the count
+     */
+    int getPartitionCount();
+
+    /**
+     * The progress of each partition, in partition order
+     * @return the list of progress
+     */
+    @NonNull
+    List<PartitionProgress> getProgress();
+
+    /**
+     * The number of messages handled by all the partitions
+     * @return the count
+     */
+    long getDelivered();
+
+    /**
+     * The number of messages all the partitions have left, the combined lag.
+     * Partitions that have not handled a message yet are not counted.
+     * @return the count
+     */
+    long getPending();
+
+    /**
+     * Stop all the partitions' consumers, see {@link MessageConsumer#stop()}
+     */
+    void stop();
+
+    /**
+     * Whether all the partitions have been stopped
+     * @return the stopped flag
+     */
+    boolean isStopped();
+
+    /**
+     * Whether all the partitions are finished
+     * @return the finished flag
+     */
+    boolean isFinished();
+
+    /**
+     * Close all the partitions' consumers and their dispatchers
+     */
+    @Override
+    void close() throws Exception;
+}
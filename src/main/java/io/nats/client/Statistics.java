@@ -13,6 +13,8 @@
 
 package io.nats.client;
 
+import io.nats.client.support.LatencyHistogram;
+
 /**
  * Connections can provide an instance of Statistics, {@link Connection#getStatistics() getStatistics()}. The statistics
  * object provides information about key metrics related to the connection over its entire lifecycle.
@@ -120,4 +122,39 @@ public interface Statistics {
      * @return the count of outstanding of requests from this connection.
      */
     long getOutstandingRequests();
+
+    /**
+     * the round trip times of requests made by this connection, from the request being published to the reply arriving.
+     * Use {@link LatencyHistogram#snapshot()} for a copy that won't change while it is being exported.
+     * @return the histogram, or null if these statistics do not record latencies
+     *
+     * NOTE: This is only recorded if advanced stats are enabled.
+     */
+    default LatencyHistogram getRequestLatency() { return null; }
+
+    /**
+     * the times flush calls by this connection took, from the flush ping being queued to the pong arriving.
+     * @return the histogram, or null if these statistics do not record latencies
+     *
+     * NOTE: This is only recorded if advanced stats are enabled.
+     */
+    default LatencyHistogram getFlushLatency() { return null; }
+
+    /**
+     * the times from messages being read off the socket to being given to a handler or returned by nextMessage,
+     * across all the subscriptions of this connection. See {@link Consumer#getDeliveryLatency()}
+     * for the times of a single subscription or dispatcher.
+     * @return the histogram, or null if these statistics do not record latencies
+     *
+     * NOTE: This is only recorded if advanced stats are enabled.
+     */
+    default LatencyHistogram getDeliveryLatency() { return null; }
+
+    /**
+     * the times from JetStream messages being published by this connection to their publish ack arriving.
+     * @return the histogram, or null if these statistics do not record latencies
+     *
+     * NOTE: This is only recorded if advanced stats are enabled.
+     */
+    default LatencyHistogram getPublishAckLatency() { return null; }
 }
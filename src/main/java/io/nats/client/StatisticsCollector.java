@@ -159,4 +159,32 @@ public interface StatisticsCollector extends Statistics {
      * @param bytes the number of bytes being written
      */
     void registerWrite(long bytes);
+
+    /**
+     * Registers the round trip time of a request, see {@link Statistics#getRequestLatency()}.
+     * <p>NOTE: The connection only calls this if advanced stats are enabled.</p>
+     * @param nanos the latency in nanoseconds
+     */
+    default void registerRequestLatency(long nanos) {}
+
+    /**
+     * Registers the time a flush took, see {@link Statistics#getFlushLatency()}.
+     * <p>NOTE: The connection only calls this if advanced stats are enabled.</p>
+     * @param nanos the latency in nanoseconds
+     */
+    default void registerFlushLatency(long nanos) {}
+
+    /**
+     * Registers the time from a message being read to being delivered, see {@link Statistics#getDeliveryLatency()}.
+     * <p>NOTE: The connection only calls this if advanced stats are enabled.</p>
+     * @param nanos the latency in nanoseconds
+     */
+    default void registerDeliveryLatency(long nanos) {}
+
+    /**
+     * Registers the time from a JetStream publish to its ack, see {@link Statistics#getPublishAckLatency()}.
+     * <p>NOTE: The connection only calls this if advanced stats are enabled.</p>
+     * @param nanos the latency in nanoseconds
+     */
+    default void registerPublishAckLatency(long nanos) {}
 }
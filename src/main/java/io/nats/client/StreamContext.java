@@ -115,6 +115,20 @@ public interface StreamContext {
     @NonNull
     OrderedConsumerContext createOrderedConsumer(@NonNull OrderedConsumerConfiguration config) throws IOException, JetStreamApiException;
 
+    /**
+     * Consume the context's stream with one ordered consumer per partition, each on its own dispatcher.
+     * The stream's subjects must carry the partition number in a token, see {@link PartitionedConsumeOptions}.
+     * Messages of one partition are handled in order, partitions are handled in parallel.
+     * @param options the partitioned consume options
+     * @param handler the MessageHandler used for receiving messages of all partitions
+     * @return the PartitionedOrderedConsumer, which gives the progress of each partition
+     * @throws IOException covers various communication issues with the NATS
+     *         server such as timeout or interruption
+     * @throws JetStreamApiException the request had an error related to the data
+     */
+    @NonNull
+    PartitionedOrderedConsumer consumePartitioned(@NonNull PartitionedConsumeOptions options, @NonNull MessageHandler handler) throws IOException, JetStreamApiException;
+
     /**
      * Management function to deletes a consumer.
      * @param consumerName the name of the consumer.
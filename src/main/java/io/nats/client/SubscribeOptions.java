@@ -40,6 +40,7 @@ public abstract class SubscribeOptions {
     protected final long pendingMessageLimit; // Only applicable for non-dispatched (sync) push consumers.
     protected final long pendingByteLimit; // Only applicable for non-dispatched (sync) push consumers.
     protected final String name;
+    protected final long ackCoalesceWindow;
 
     protected SubscribeOptions(Builder<?, ?> builder, boolean isPull,
                                String deliverSubject, String deliverGroup,
@@ -50,6 +51,7 @@ public abstract class SubscribeOptions {
         bind = fastBind || builder.bind;
         ordered = builder.ordered;
         messageAlarmTime = builder.messageAlarmTime;
+        ackCoalesceWindow = builder.ackCoalesceWindow;
 
         if (ordered && bind) {
             throw JsSoOrderedNotAllowedWithBind.instance();
@@ -228,6 +230,14 @@ public abstract class SubscribeOptions {
         return pendingByteLimit;
     }
 
+    /**
+     * Gets the window acks are held for so they can be sent together.
+     * @return the window in milliseconds, 0 if acks are not coalesced
+     */
+    public long getAckCoalesceWindow() {
+        return ackCoalesceWindow;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" +
@@ -257,6 +267,7 @@ public abstract class SubscribeOptions {
         protected ConsumerConfiguration cc;
         protected long messageAlarmTime = -1;
         protected boolean ordered;
+        protected long ackCoalesceWindow;
 
         protected abstract B getThis();
 
@@ -330,6 +341,21 @@ public abstract class SubscribeOptions {
             return getThis();
         }
 
+        /**
+         * Coalesce acks. Calls to ack() are held and sent together once per window,
+         * or sooner if many are waiting. When the consumer's ack policy is All,
+         * only one cumulative ack, for the highest stream sequence, is sent per flush.
+         * Naks, terms, in progress and ackSync are always sent right away.
+         * Held acks are sent when the subscription is unsubscribed.
+         * Zero or less, the default, means acks are not coalesced.
+         * @param windowMillis the window in milliseconds
+         * @return the builder
+         */
+        public B coalesceAcks(long windowMillis) {
+            this.ackCoalesceWindow = windowMillis < 1 ? 0 : windowMillis;
+            return getThis();
+        }
+
         /**
          * Builds the subscribe options.
          * @return subscribe options
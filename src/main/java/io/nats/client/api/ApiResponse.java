@@ -48,6 +48,10 @@ public abstract class ApiResponse<T> {
     private final String type;
     private Error error;
 
+    // the payload of a response read by a binder, parsed only if getJv is called
+    private final byte[] unparsed;
+    private volatile JsonValue parsedJv;
+
     /**
      * construct an ApiResponse from a message
      * @param msg the message
@@ -62,11 +66,12 @@ public abstract class ApiResponse<T> {
      * @return the JsonValue of the parsed JSON
      */
     protected static JsonValue parseMessage(Message msg) {
-        if (msg == null) {
-            return null;
-        }
+        return msg == null ? null : parseBytes(msg.getData());
+    }
+
+    private static JsonValue parseBytes(byte[] data) {
         try {
-            return JsonParser.parse(msg.getData());
+            return JsonParser.parse(data);
         }
         catch (JsonParseException e) {
             return JsonValueUtils.mapBuilder()
@@ -134,6 +139,7 @@ public abstract class ApiResponse<T> {
      */
     public ApiResponse(JsonValue jsonValue) {
         jv = jsonValue;
+        unparsed = null;
         if (jv == null) {
             error = null;
             type = null;
@@ -151,11 +157,24 @@ public abstract class ApiResponse<T> {
         }
     }
 
+    /**
+     * Construct an ApiResponse from a binder that already read the response, see {@link Binder}.
+     * The JsonValue is only built if {@link #getJv()} is called.
+     * @param binder the binder
+     */
+    protected ApiResponse(Binder binder) {
+        jv = null;
+        unparsed = binder.data;
+        error = binder.error;
+        type = binder.type;
+    }
+
     /**
      * Construct an empty ApiResponse
      */
     public ApiResponse() {
         jv = null;
+        unparsed = null;
         error = null;
         type = NO_TYPE;
     }
@@ -166,6 +185,7 @@ public abstract class ApiResponse<T> {
      */
     public ApiResponse(Error error) {
         jv = null;
+        unparsed = null;
         this.error = error;
         type = NO_TYPE;
     }
@@ -184,12 +204,24 @@ public abstract class ApiResponse<T> {
     }
 
     /**
-     * Get the JsonValue used to make this object
+     * Get the JsonValue used to make this object. When the response was read straight
+     * from the message bytes, the JsonValue is parsed the first time this is called.
      * @return the value
      */
     @Nullable
     public JsonValue getJv() {
-        return jv;
+        if (jv != null || unparsed == null) {
+            return jv;
+        }
+        JsonValue parsed = parsedJv;
+        if (parsed == null) {
+            parsed = parseBytes(unparsed);
+            if (parsed.map != null) {
+                parsed.map.remove(TYPE); // the same as when constructed from a JsonValue
+            }
+            parsedJv = parsed;
+        }
+        return parsed;
     }
 
     /**
@@ -252,6 +284,72 @@ public abstract class ApiResponse<T> {
         return error;
     }
 
+    /**
+     * Reads a response straight from the message bytes with a {@link JsonByteReader}, without building a JsonValue
+     * unless {@link #getJv()} is called later.
+     * It takes care of the error and type, and gives every other top level field to {@link #bind(JsonByteReader)}.
+     * Subclasses call {@link #read(Message)} at the end of their constructor, after their own fields are initialized.
+     */
+    protected static abstract class Binder {
+        private Error error;
+        private String type;
+        private byte[] data;
+
+        /**
+         * Construct a binder
+         */
+        protected Binder() {}
+
+        /**
+         * Read the message. A parse error becomes the response error, the same as when building a JsonValue.
+         * @param msg the message, may be null
+         */
+        protected final void read(Message msg) {
+            if (msg == null) {
+                return;
+            }
+            type = NO_TYPE;
+            data = msg.getData();
+            try {
+                JsonByteReader r = new JsonByteReader(data);
+                if (r.beginObject()) {
+                    while (r.nextField()) {
+                        if (r.fieldIs(ERROR)) {
+                            error = Error.optionalInstance(r.readValue());
+                        }
+                        else if (r.fieldIs(TYPE)) {
+                            String temp = r.readString();
+                            type = temp == null ? NO_TYPE : temp;
+                        }
+                        else if (!bind(r)) {
+                            r.skipValue();
+                        }
+                    }
+                }
+            }
+            catch (JsonParseException e) {
+                error = new Error(500, "Error parsing: " + e.getMessage());
+                type = PARSE_ERROR_TYPE;
+            }
+        }
+
+        /**
+         * Whether the response had an error
+         * @return true if it did
+         */
+        protected boolean hasError() {
+            return error != null;
+        }
+
+        /**
+         * Read the value of the current field if it is one of this response's.
+         * @param r the reader, positioned at the field's value
+         * @return true if the value was read, false to have it skipped
+         * @throws JsonParseException if there is a problem parsing the json
+         */
+        protected abstract boolean bind(JsonByteReader r) throws JsonParseException;
+    }
+
     @Override
     public String toString() {
         return jv == null
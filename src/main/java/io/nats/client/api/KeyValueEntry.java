@@ -21,6 +21,7 @@ import org.jspecify.annotations.Nullable;
 import java.time.ZonedDateTime;
 
 import static io.nats.client.support.NatsJetStreamConstants.MSG_SIZE_HDR;
+import static io.nats.client.support.NatsJetStreamConstants.MSG_TTL_HDR;
 import static io.nats.client.support.NatsKeyValueUtil.BucketAndKey;
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -37,6 +38,7 @@ public class KeyValueEntry {
     private final long revision;
     private final long delta;
     private final KeyValueOperation op;
+    private final String messageTtl;
 
     /**
      * Construct KeyValueEntry from message info
@@ -54,6 +56,7 @@ public class KeyValueEntry {
         revision = mi.getSeq();
         delta = 0;
         op = NatsKeyValueUtil.getOperation(h);
+        messageTtl = h == null ? null : h.getFirst(MSG_TTL_HDR);
     }
 
     /**
@@ -69,6 +72,7 @@ public class KeyValueEntry {
         revision = m.metaData().streamSequence();
         delta = m.metaData().pendingCount();
         op = NatsKeyValueUtil.getOperation(h);
+        messageTtl = h == null ? null : h.getFirst(MSG_TTL_HDR);
     }
 
     /**
@@ -158,6 +162,15 @@ public class KeyValueEntry {
         return op;
     }
 
+    /**
+     * The per message TTL the entry was written with, see {@link io.nats.client.MessageTtl}
+     * @return the TTL as it was sent to the server, or null if the entry has none
+     */
+    @Nullable
+    public String getMessageTtl() {
+        return messageTtl;
+    }
+
     @Override
     public String toString() {
         return "KvEntry{" +
@@ -0,0 +1,154 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.api;
+
+import io.nats.client.support.JsonSerializable;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static io.nats.client.support.ApiConstants.*;
+import static io.nats.client.support.JsonUtils.*;
+import static io.nats.client.support.Validator.*;
+
+/**
+ * Object used to make a direct batch get request, which gets many messages with one request.
+ * Requires server version 2.11 or later and a stream that allows direct get.
+ */
+public class MessageBatchGetRequest implements JsonSerializable {
+    private final int batch;
+    private final long minSequence;
+    private final String nextBySubject;
+    private final List<String> multiLastFor;
+    private final long upToSequence;
+
+    /**
+     * Request up to batch messages on the subject, starting with the first message.
+     * @param subject the subject, wildcards allowed
+     * @param batch the maximum number of messages
+     * @return the request
+     */
+    @NonNull
+    public static MessageBatchGetRequest batch(String subject, int batch) {
+        return batch(subject, batch, -1);
+    }
+
+    /**
+     * Request up to batch messages on the subject, starting with the first message at or after the sequence.
+     * @param subject the subject, wildcards allowed
+     * @param batch the maximum number of messages
+     * @param minSequence the sequence to start at
+     * @return the request
+     */
+    @NonNull
+    public static MessageBatchGetRequest batch(String subject, int batch, long minSequence) {
+        required(subject, "Subject");
+        if (batch < 1) {
+            throw new IllegalArgumentException("Batch must be greater than zero.");
+        }
+        return new MessageBatchGetRequest(batch, minSequence, subject, null, -1);
+    }
+
+    /**
+     * Request the last message on each of the subjects.
+     * @param subjects the subjects, wildcards allowed
+     * @return the request
+     */
+    @NonNull
+    public static MessageBatchGetRequest multiLastForSubjects(Collection<String> subjects) {
+        return multiLastForSubjects(subjects, -1);
+    }
+
+    /**
+     * Request the last message on each of the subjects, as of the sequence, so the results are consistent
+     * even if messages are being added to the stream.
+     * @param subjects the subjects, wildcards allowed
+     * @param upToSequence the last sequence to consider
+     * @return the request
+     */
+    @NonNull
+    public static MessageBatchGetRequest multiLastForSubjects(Collection<String> subjects, long upToSequence) {
+        validateNotNull(subjects, "Subjects");
+        if (subjects.isEmpty()) {
+            throw new IllegalArgumentException("Subjects cannot be empty.");
+        }
+        return new MessageBatchGetRequest(-1, -1, null, new ArrayList<>(subjects), upToSequence);
+    }
+
+    private MessageBatchGetRequest(int batch, long minSequence, String nextBySubject, List<String> multiLastFor, long upToSequence) {
+        this.batch = batch;
+        this.minSequence = minSequence;
+        this.nextBySubject = nextBySubject;
+        this.multiLastFor = multiLastFor;
+        this.upToSequence = upToSequence;
+    }
+
+    /**
+     * The maximum number of messages
+     * @return the batch or -1 if not a batch request
+     */
+    public int getBatch() {
+        return batch;
+    }
+
+    /**
+     * The sequence a batch starts at
+     * @return the sequence or -1 if not set
+     */
+    public long getMinSequence() {
+        return minSequence;
+    }
+
+    /**
+     * The subject of a batch
+     * @return the subject or null if not a batch request
+     */
+    @Nullable
+    public String getNextBySubject() {
+        return nextBySubject;
+    }
+
+    /**
+     * The subjects of a multi last request
+     * @return the subjects or an empty list if not a multi last request
+     */
+    @NonNull
+    public List<String> getMultiLastFor() {
+        return multiLastFor == null ? Collections.emptyList() : Collections.unmodifiableList(multiLastFor);
+    }
+
+    /**
+     * The last sequence a multi last request considers
+     * @return the sequence or -1 if not set
+     */
+    public long getUpToSequence() {
+        return upToSequence;
+    }
+
+    @Override
+    @NonNull
+    public String toJson() {
+        StringBuilder sb = beginJson();
+        addFieldWhenGtZero(sb, BATCH, batch);
+        addFieldWhenGtZero(sb, SEQ, minSequence);
+        addField(sb, NEXT_BY_SUBJECT, nextBySubject);
+        addStrings(sb, MULTI_LAST, multiLastFor);
+        addFieldWhenGtZero(sb, UP_TO_SEQ, upToSequence);
+        return endJson(sb).toString();
+    }
+}
@@ -21,6 +21,7 @@ import org.jspecify.annotations.Nullable;
 import java.time.ZonedDateTime;
 
 import static io.nats.client.support.ApiConstants.*;
+import static io.nats.client.support.Encoding.base64BasicDecode;
 import static io.nats.client.support.JsonUtils.addRawJson;
 import static io.nats.client.support.JsonValueUtils.*;
 import static io.nats.client.support.NatsJetStreamConstants.*;
@@ -70,7 +71,11 @@ public class MessageInfo extends ApiResponse<MessageInfo> {
     }
 
     private MessageInfo(Message msg, Status status, String streamName, boolean parseDirect) {
-        super(parseDirect ? null : msg);
+        this(msg, status, streamName, parseDirect, new MessageInfoBinder(status != null || parseDirect ? null : msg));
+    }
+
+    private MessageInfo(Message msg, Status status, String streamName, boolean parseDirect, MessageInfoBinder b) {
+        super(b);
 
         // working vars because the object vars are final
         String _subject = null;
@@ -117,13 +122,11 @@ public class MessageInfo extends ApiResponse<MessageInfo> {
             }
         }
         else if (!hasError()){
-            JsonValue mjv = readValue(jv, MESSAGE);
-            _subject = readString(mjv, SUBJECT);
-            _data = readBase64(mjv, DATA);
-            _seq = readLong(mjv, SEQ, 0);
-            _time = readDate(mjv, TIME);
-            byte[] hdrBytes = readBase64(mjv, HDRS);
-            _headers = hdrBytes == null ? null : new IncomingHeadersProcessor(hdrBytes).getHeaders();
+            _subject = b.subject;
+            _data = b.data == null ? null : base64BasicDecode(b.data);
+            _seq = b.seq;
+            _time = b.time == null ? null : DateTimeUtils.parseDateTimeThrowParseError(b.time);
+            _headers = b.hdrs == null ? null : new IncomingHeadersProcessor(base64BasicDecode(b.hdrs)).getHeaders();
         }
 
         this.subject = _subject;
@@ -238,6 +241,49 @@ public class MessageInfo extends ApiResponse<MessageInfo> {
         return status != null && status.isEob();
     }
 
+    // the fields of the message object of a get message response, read straight from the bytes
+    private static class MessageInfoBinder extends Binder {
+        private String subject;
+        private long seq = 0;
+        private String data;
+        private String time;
+        private String hdrs;
+
+        MessageInfoBinder(Message msg) {
+            read(msg);
+        }
+
+        @Override
+        protected boolean bind(JsonByteReader r) throws JsonParseException {
+            if (!r.fieldIs(MESSAGE)) {
+                return false;
+            }
+            if (r.beginObject()) {
+                while (r.nextField()) {
+                    if (r.fieldIs(SUBJECT)) {
+                        subject = r.readString();
+                    }
+                    else if (r.fieldIs(SEQ)) {
+                        seq = r.readLong(0);
+                    }
+                    else if (r.fieldIs(DATA)) {
+                        data = r.readString();
+                    }
+                    else if (r.fieldIs(TIME)) {
+                        time = r.readString();
+                    }
+                    else if (r.fieldIs(HDRS)) {
+                        hdrs = r.readString();
+                    }
+                    else {
+                        r.skipValue();
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
     /**
      * Whether this MessageInfo is a status message and is an error status
      * @return true if this MessageInfo is a status message and is an error status
@@ -14,13 +14,15 @@ package io.nats.client.api;
 
 import io.nats.client.JetStreamApiException;
 import io.nats.client.Message;
-import io.nats.client.support.JsonValueUtils;
+import io.nats.client.support.JsonByteReader;
+import io.nats.client.support.JsonParseException;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.io.IOException;
 
 import static io.nats.client.support.ApiConstants.*;
+import static io.nats.client.support.JsonUtils.*;
 
 /**
  * PublishAck objects represent a JetStream enabled server acknowledgment from a publish call.
@@ -43,21 +45,66 @@ public class PublishAck extends ApiResponse<PublishAck> {
      * @throws JetStreamApiException the request had an error related to the request
      */
     public PublishAck(Message msg) throws IOException, JetStreamApiException {
-        super(msg);
+        this(new PublishAckBinder(msg));
+    }
+
+    private PublishAck(PublishAckBinder b) throws IOException, JetStreamApiException {
+        super(b);
         throwOnHasError();
-        stream = JsonValueUtils.readString(jv, STREAM);
-        if (stream == null) {
+        if (b.stream == null || b.seq < 0) {
             throw new IOException("Invalid JetStream ack.");
         }
-        seq = JsonValueUtils.readLong(jv, SEQ, -1);
-        if (seq < 0) {
-            throw new IOException("Invalid JetStream ack.");
+        stream = b.stream;
+        seq = b.seq;
+        domain = b.domain;
+        duplicate = b.duplicate;
+        val = b.val;
+        batchId = b.batchId;
+        batchSize = b.batchSize;
+    }
+
+    // every synchronous publish makes one of these, so the fields are read straight from the bytes
+    private static class PublishAckBinder extends Binder {
+        private String stream;
+        private long seq = -1;
+        private String domain;
+        private boolean duplicate;
+        private String val;
+        private String batchId;
+        private int batchSize = -1;
+
+        PublishAckBinder(Message msg) {
+            read(msg);
+        }
+
+        @Override
+        protected boolean bind(JsonByteReader r) throws JsonParseException {
+            if (r.fieldIs(STREAM)) {
+                stream = r.readString();
+            }
+            else if (r.fieldIs(SEQ)) {
+                seq = r.readLong(-1);
+            }
+            else if (r.fieldIs(DOMAIN)) {
+                domain = r.readString();
+            }
+            else if (r.fieldIs(DUPLICATE)) {
+                duplicate = r.readBoolean();
+            }
+            else if (r.fieldIs(VAL)) {
+                val = r.readString();
+            }
+            else if (r.fieldIs(BATCH)) {
+                batchId = r.readString();
+            }
+            else if (r.fieldIs(COUNT)) {
+                batchSize = r.readInt(-1);
+            }
+            else {
+                return false;
+            }
+            return true;
         }
-        domain = JsonValueUtils.readString(jv, DOMAIN);
-        duplicate = JsonValueUtils.readBoolean(jv, DUPLICATE);
-        val = JsonValueUtils.readString(jv, VAL);
-        batchId = JsonValueUtils.readString(jv, BATCH);
-        batchSize = JsonValueUtils.readInteger(jv, COUNT, -1);
     }
 
     /**
@@ -119,4 +166,17 @@ public class PublishAck extends ApiResponse<PublishAck> {
     public int getBatchSize() {
         return batchSize;
     }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = beginJsonPrefixed("\"PublishAck\":");
+        addField(sb, STREAM, stream);
+        addField(sb, SEQ, seq);
+        addField(sb, DOMAIN, domain);
+        addFldWhenTrue(sb, DUPLICATE, duplicate);
+        addField(sb, VAL, val);
+        addField(sb, BATCH, batchId);
+        addFieldWhenGtZero(sb, COUNT, batchSize);
+        return endJson(sb).toString();
+    }
 }
@@ -0,0 +1,164 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.nats.client.impl.AckType.AckAck;
+
+/**
+ * Holds the acks for a subscription and sends them together once per flush window,
+ * or sooner if {@value #MAX_PENDING_ACKS} are waiting.
+ * When the consumer's ack policy is All, only the ack for the highest stream sequence is sent,
+ * since the server treats it as an ack for everything before it.
+ * Naks, terms and in progress are never held, they are sent right away.
+ * If the acks can't be sent, the messages they covered are marked as not acked
+ * and the exception is passed on to whoever triggered the send.
+ */
+class AckCoalescer {
+    static final int MAX_PENDING_ACKS = 1000;
+
+    private final NatsConnection conn;
+    private final boolean cumulative;
+    private final long windowMillis;
+    private final ReentrantLock lock;
+
+    private List<NatsJetStreamMessage> covered;
+    private String highestReply;    // when cumulative
+    private long highestSeq;
+    private boolean flushScheduled;
+
+    private volatile int pendingCount;
+    private volatile long coalescedCount;
+
+    AckCoalescer(NatsConnection conn, boolean cumulative, long windowMillis) {
+        this.conn = conn;
+        this.cumulative = cumulative;
+        this.windowMillis = windowMillis;
+        lock = new ReentrantLock();
+        covered = new ArrayList<>();
+    }
+
+    boolean isCumulative() {
+        return cumulative;
+    }
+
+    int getPendingAcks() {
+        return pendingCount;
+    }
+
+    long getCoalescedAcks() {
+        return coalescedCount;
+    }
+
+    void ack(NatsJetStreamMessage msg) {
+        Batch toSend = null;
+        lock.lock();
+        try {
+            if (cumulative) {
+                long seq = msg.metaData().streamSequence();
+                if (highestReply == null || seq > highestSeq) {
+                    highestSeq = seq;
+                    highestReply = msg.getReplyTo();
+                }
+            }
+            covered.add(msg);
+            pendingCount++;
+
+            if (pendingCount >= MAX_PENDING_ACKS) {
+                toSend = take();
+            }
+            else if (!flushScheduled) {
+                try {
+                    conn.getScheduledExecutor().schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+                    flushScheduled = true;
+                }
+                catch (RejectedExecutionException e) {
+                    // the connection is closing, don't hold anything
+                    toSend = take();
+                }
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        send(toSend);
+    }
+
+    void flush() {
+        Batch toSend;
+        lock.lock();
+        try {
+            flushScheduled = false;
+            toSend = take();
+        }
+        finally {
+            lock.unlock();
+        }
+        send(toSend);
+    }
+
+    // must be called with the lock held
+    private Batch take() {
+        if (pendingCount == 0) {
+            return null;
+        }
+        Batch batch = new Batch(covered);
+        if (cumulative) {
+            batch.acks = Collections.singletonList(new NatsMessage(highestReply, null, AckAck.bytes));
+            coalescedCount += pendingCount - 1;
+            highestReply = null;
+        }
+        else {
+            batch.acks = new ArrayList<>(covered.size());
+            for (NatsJetStreamMessage msg : covered) {
+                batch.acks.add(new NatsMessage(msg.getReplyTo(), null, AckAck.bytes));
+            }
+        }
+        covered = new ArrayList<>();
+        pendingCount = 0;
+        return batch;
+    }
+
+    private void send(Batch batch) {
+        if (batch != null) {
+            try {
+                conn.publishBatch(batch.acks);
+            }
+            catch (RuntimeException e) {
+                // nothing went out, so none of these messages are acked
+                for (NatsJetStreamMessage msg : batch.covered) {
+                    msg.ackNotSent();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static class Batch {
+        final List<NatsJetStreamMessage> covered;
+        List<Message> acks;
+
+        Batch(List<NatsJetStreamMessage> covered) {
+            this.covered = covered;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+/**
+ * Picks the batch size for each pull of an adaptive consumer.
+ * <p>The goal is to have the next batch arrive just as the handler runs out of buffered messages.
+ * That takes about one round trip worth of messages at the rate the handler processes them,
+ * so the window is two round trips divided by the handler's time per message,
+ * kept between the floor and the ceiling.</p>
+ * <ul>
+ * <li>The round trip is the time from a pull being sent to its first message arriving.
+ * Since the first message can be late when the stream has nothing to deliver, a sample
+ * lower than the estimate is taken right away and a higher one only nudges it up.</li>
+ * <li>The handler's time per message is only sampled when it went straight from one buffered message
+ * to the next, so time spent waiting for messages doesn't look like a slow handler.</li>
+ * <li>If the buffer was empty when it was time to pull again, even though the last pull delivered,
+ * the handler was starved and the window grows by half, even if the estimates don't say so yet.</li>
+ * </ul>
+ */
+class AdaptivePullSizer {
+    static final double SERVICE_WEIGHT = 0.2; // weight of the newest service time sample
+    static final double RTT_GROWTH_WEIGHT = 0.05; // how much a higher round trip sample moves the estimate
+
+    private final int floor;
+    private final int ceiling;
+    private int window;
+
+    private double rttNanos = -1;
+    private double serviceNanos = -1;
+    private long pullSentAt = -1;
+    private long lastProcessedAt = -1;
+    private boolean lastProcessedHadMore;
+    private boolean receivedSinceLastPull;
+
+    AdaptivePullSizer(int floor, int ceiling, int initial) {
+        this.floor = floor;
+        this.ceiling = ceiling;
+        window = clamp(initial);
+    }
+
+    synchronized int getWindow() {
+        return window;
+    }
+
+    synchronized double getRttNanos() {
+        return rttNanos;
+    }
+
+    synchronized double getServiceNanos() {
+        return serviceNanos;
+    }
+
+    synchronized void pullSent(long nowNanos) {
+        if (pullSentAt == -1) {
+            pullSentAt = nowNanos;
+        }
+        receivedSinceLastPull = false;
+    }
+
+    synchronized void messageReceived(long nowNanos) {
+        receivedSinceLastPull = true;
+        if (pullSentAt != -1) {
+            long sample = nowNanos - pullSentAt;
+            pullSentAt = -1;
+            if (rttNanos < 0 || sample < rttNanos) {
+                rttNanos = sample;
+            }
+            else {
+                rttNanos += (sample - rttNanos) * RTT_GROWTH_WEIGHT;
+            }
+        }
+    }
+
+    synchronized void messageProcessed(long nowNanos, boolean moreBuffered) {
+        if (lastProcessedAt != -1 && lastProcessedHadMore) {
+            long sample = nowNanos - lastProcessedAt;
+            serviceNanos = serviceNanos < 0 ? sample : serviceNanos + (sample - serviceNanos) * SERVICE_WEIGHT;
+        }
+        lastProcessedAt = nowNanos;
+        lastProcessedHadMore = moreBuffered;
+    }
+
+    synchronized int nextWindow(int buffered) {
+        int target = window;
+        if (rttNanos > 0 && serviceNanos > 0) {
+            target = clamp((long) Math.ceil(2 * rttNanos / serviceNanos));
+        }
+        if (buffered == 0 && receivedSinceLastPull && target <= window) {
+            target = clamp(window + window / 2 + 1L);
+        }
+        window = target;
+        return window;
+    }
+
+    private int clamp(long value) {
+        return (int) Math.max(floor, Math.min(ceiling, value));
+    }
+}
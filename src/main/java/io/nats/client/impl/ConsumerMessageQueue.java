@@ -14,11 +14,27 @@
 package io.nats.client.impl;
 
 import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static io.nats.client.impl.MarkerMessage.POISON_PILL;
 
 class ConsumerMessageQueue extends MessageQueueBase {
+    protected final LinkedBlockingQueue<NatsMessage> queue;
 
     ConsumerMessageQueue() {
         super();
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    void offerPoisonPill() {
+        queue.offer(POISON_PILL);
+    }
+
+    @Override
+    long queueSize() {
+        return queue.size();
     }
 
     void push(NatsMessage msg) {
@@ -43,4 +59,33 @@ class ConsumerMessageQueue extends MessageQueueBase {
         sizeInBytes.addAndGet(-msg.getSizeInBytes());
         return msg;
     }
+
+    // this is just a helper method to poll a message from
+    // the queue handling various forms of timeouts
+    // if the polled message was a POISON_PILL, return null
+    NatsMessage _poll(Duration timeout) throws InterruptedException {
+        NatsMessage msg = null;
+
+        if (timeout == null || this.isDraining()) { // try immediately
+            msg = queue.poll(); // may get null
+        }
+        else {
+            long nanos = timeout.toNanos();
+            if (nanos < 1) {
+                // A value < 1 means poll forever until a message
+                // Calling pause will put a POISON_PILL so will break this loop
+                while (isRunning()) {
+                    msg = queue.poll(3650, TimeUnit.DAYS);
+                    if (msg != null) {
+                        break;
+                    }
+                }
+            }
+            else {
+                msg = queue.poll(nanos, TimeUnit.NANOSECONDS); // may get null
+            }
+        }
+
+        return msg == null || msg == POISON_PILL ? null : msg;
+    }
 }
@@ -18,6 +18,7 @@ import io.nats.client.support.NatsUri;
 import org.jspecify.annotations.NonNull;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * A data port represents the connection to the network. This could have been called
@@ -61,6 +62,37 @@ public interface DataPort {
      */
     void write(byte[] src, int toWrite) throws IOException;
 
+    /**
+     * Whether this data port accepts gathering writes, see {@link #write(ByteBuffer[], int)}.
+     * The writer checks this once each time it starts, which is after any upgrade to secure.
+     * @return true if gathering writes are supported
+     */
+    default boolean isGatheringWriteSupported() {
+        return false;
+    }
+
+    /**
+     * Write all the remaining bytes of the first {@code count} buffers, in order.
+     * Only called if {@link #isGatheringWriteSupported()} returns true.
+     * The default copies each buffer and writes it with {@link #write(byte[], int)}.
+     *
+     * @param srcs the buffers to write
+     * @param count the number of buffers in srcs to write
+     * @throws IOException any IO error on the underlaying connection
+     */
+    default void write(ByteBuffer[] srcs, int count) throws IOException {
+        for (int x = 0; x < count; x++) {
+            ByteBuffer src = srcs[x];
+            int len = src.remaining();
+            if (len > 0) {
+                // always a copy, the buffer may wrap a payload and a websocket write can modify what it is given
+                byte[] bytes = new byte[len];
+                src.get(bytes);
+                write(bytes, len);
+            }
+        }
+    }
+
     void shutdownInput() throws IOException;
 
     void close() throws IOException;
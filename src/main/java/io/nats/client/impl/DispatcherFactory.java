@@ -28,4 +28,8 @@ public class DispatcherFactory {
         }
         return new NatsDispatcher(conn, handler);
     }
+
+    NatsDispatcher createInlineDispatcher(NatsConnection conn, MessageHandler handler) {
+        return new NatsInlineDispatcher(conn, handler, conn.getOptions().getInlineDispatchThreshold());
+    }
 }
@@ -16,6 +16,8 @@ package io.nats.client.impl;
 import io.nats.client.*;
 import io.nats.client.support.Status;
 
+import java.time.Duration;
+
 public class ErrorListenerConsoleImpl implements ErrorListener {
 
     /**
@@ -98,4 +100,12 @@ public class ErrorListenerConsoleImpl implements ErrorListener {
     public void socketWriteTimeout(Connection conn) {
         System.out.println(supplyMessage("[SEVERE] socketWriteTimeout", conn, null, null));
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inlineDispatchSlow(Connection conn, Subscription sub, Duration elapsed) {
+        System.out.println(supplyMessage("[WARN] inlineDispatchSlow", conn, null, sub, "Elapsed: ", elapsed));
+    }
 }
@@ -16,6 +16,7 @@ package io.nats.client.impl;
 import io.nats.client.*;
 import io.nats.client.support.Status;
 
+import java.time.Duration;
 import java.util.logging.Logger;
 
 public class ErrorListenerLoggerImpl implements ErrorListener {
@@ -102,4 +103,12 @@ public class ErrorListenerLoggerImpl implements ErrorListener {
     public void socketWriteTimeout(Connection conn) {
         LOGGER.severe(() -> supplyMessage("socketWriteTimeout", conn, null, null));
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inlineDispatchSlow(Connection conn, Subscription sub, Duration elapsed) {
+        LOGGER.warning(() -> supplyMessage("inlineDispatchSlow", conn, null, sub, "Elapsed: ", elapsed));
+    }
 }
@@ -17,6 +17,7 @@ import io.nats.client.support.ByteArrayBuilder;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.BiConsumer;
@@ -28,6 +29,12 @@ import static io.nats.client.support.Validator.nullOrEmpty;
  * An object that represents a map of keys to a list of values. It does not accept
  * null or invalid keys. It ignores null values, accepts empty string as a value
  * and rejects invalid values.
+ * <p>Headers made from an incoming message keep the bytes they arrived in and decode lazily.
+ * Looking up a key only decodes the values for that key, everything is decoded the first time something
+ * needs all the entries or the headers are changed. Reading incoming headers from several threads
+ * is safe, even though a read may be what decodes them.</p>
+ * <p>A Headers object can be kept and published with many messages. As long as it is not changed
+ * between publishes it is copied and serialized only once, and it can be published from several threads at once.</p>
  * !!!
  * THIS CLASS IS NOT THREAD SAFE
  */
@@ -42,6 +49,14 @@ public class Headers {
 	private final boolean readOnly;
 	private byte[] serialized;
 	private int dataLength;
+	private volatile Headers readOnlyCopy;
+
+	// incoming headers, 4 ints per line: key start, key end, value start, value end
+	// the maps stay empty until the lines are decoded, incoming is cleared only once they are complete,
+	// so nothing looks at the maps while incoming is set
+	private volatile byte[] incoming;
+	private int[] incomingLines;
+	private int incomingLineCount;
 
 	/**
 	 * Create a new Headers object
@@ -77,7 +92,10 @@ public class Headers {
 		Map<String, List<String>> tempValuesMap = new HashMap<>();
 		Map<String, Integer> tempLengthMap = new HashMap<>();
 		if (headers != null) {
-			tempValuesMap.putAll(headers.valuesMap);
+			// the lists are copied since adding to a key adds to its list
+			for (Map.Entry<String, List<String>> entry : headers.map().entrySet()) {
+				tempValuesMap.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+			}
 			tempLengthMap.putAll(headers.lengthMap);
 			dataLength = headers.dataLength;
 			if (keysNotToCopy != null) {
@@ -101,6 +119,101 @@ public class Headers {
 		}
 	}
 
+	/**
+	 * Create a Headers object over the serialized headers of an incoming message.
+	 * This is used by the client when it reads messages. The key and value positions
+	 * are trimmed and validated the same way as {@link #add(String, String...)} does.
+	 * @param serialized the serialized headers, which are kept, not copied
+	 * @param lines 4 ints per line, the start and end (exclusive) of the key then the start and end of the value
+	 * @param lineCount the number of lines
+	 * @throws IllegalArgumentException if a key or value is invalid
+	 */
+	public Headers(byte @NonNull [] serialized, int @NonNull [] lines, int lineCount) {
+		readOnly = false;
+		valuesMap = new HashMap<>();
+		lengthMap = new HashMap<>();
+		for (int x = 0; x < lineCount * 4; x += 4) {
+			// trimmed like the decoded string would be
+			int start = lines[x];
+			int end = lines[x + 1];
+			while (start < end && (serialized[start] & 0xFF) <= ' ') { start++; }
+			while (end > start && (serialized[end - 1] & 0xFF) <= ' ') { end--; }
+			if (start == end) {
+				throw new IllegalArgumentException(KEY_CANNOT_BE_EMPTY_OR_NULL);
+			}
+			for (int i = start; i < end; i++) {
+				int c = serialized[i] & 0xFF;
+				if (c < 33 || c > 126 || c == ':') {
+					throw new IllegalArgumentException(KEY_INVALID_CHARACTER + Integer.toHexString(c));
+				}
+			}
+			lines[x] = start;
+			lines[x + 1] = end;
+
+			start = lines[x + 2];
+			end = lines[x + 3];
+			while (start < end && (serialized[start] & 0xFF) <= ' ') { start++; }
+			while (end > start && (serialized[end - 1] & 0xFF) <= ' ') { end--; }
+			for (int i = start; i < end; i++) {
+				int c = serialized[i] & 0xFF;
+				if (c > 127 || c == 10 || c == 13) {
+					throw new IllegalArgumentException(VALUE_INVALID_CHARACTERS + Integer.toHexString(c));
+				}
+			}
+			lines[x + 2] = start;
+			lines[x + 3] = end;
+		}
+		incoming = serialized;
+		incomingLines = lines;
+		incomingLineCount = lineCount;
+	}
+
+	// the maps, decoding incoming headers first if they have not been decoded
+	private Map<String, List<String>> map() {
+		if (incoming != null) {
+			synchronized (this) {
+				byte[] b = incoming;
+				if (b != null) {
+					int length = 0;
+					for (int x = 0; x < incomingLineCount * 4; x += 4) {
+						String key = ascii(b, incomingLines[x], incomingLines[x + 1]);
+						String value = ascii(b, incomingLines[x + 2], incomingLines[x + 3]);
+						int len = key.length() + value.length() + 3; // 3 is for the colon, cr and lf
+						valuesMap.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+						lengthMap.merge(key, len, Integer::sum);
+						length += len;
+					}
+					dataLength = length;
+					incoming = null; // publishes the maps
+				}
+			}
+		}
+		return valuesMap;
+	}
+
+	private static String ascii(byte[] b, int start, int end) {
+		return start == end ? "" : new String(b, start, end - start, StandardCharsets.ISO_8859_1);
+	}
+
+	// whether the incoming line has the key, without decoding it
+	private boolean incomingKeyEquals(byte[] b, int line, String key) {
+		int start = incomingLines[line];
+		int len = incomingLines[line + 1] - start;
+		if (key == null || key.length() != len) {
+			return false;
+		}
+		for (int i = 0; i < len; i++) {
+			if (b[start + i] != key.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String incomingValue(byte[] b, int line) {
+		return ascii(b, incomingLines[line + 2], incomingLines[line + 3]);
+	}
+
 	/**
 	 * If the key is present add the values to the list of values for the key.
 	 * If the key is not present, sets the specified values for the key.
@@ -145,6 +258,7 @@ public class Headers {
 	private Headers _add(String key, @NonNull Collection<String> values) {
 		ValuesAndLength collected = validateKeyAndCollect(key, values);
 		if (collected != null) {
+			map();
 			// get values by key or compute empty if absent
 			// update the data length with the additional len
 			// update the lengthMap for the key to the old length plus the new length
@@ -153,7 +267,7 @@ public class Headers {
 			dataLength += collected.length;
 			int oldLen = lengthMap.getOrDefault(key, 0);
 			lengthMap.put(key, oldLen + collected.length);
-			serialized = null; // since the data changed, clear this so it's rebuilt
+			changed();
 		}
 		return this;
 	}
@@ -226,12 +340,13 @@ public class Headers {
 	private Headers _put(String key, Collection<String> values) {
 		ValuesAndLength collected = validateKeyAndCollect(key, values);
 		if (collected != null) {
+			map();
 			// update the data length removing the old length adding the new length
 			// put for the key
 			dataLength = dataLength - lengthMap.getOrDefault(key, 0) + collected.length;
 			valuesMap.put(key, collected.values);
 			lengthMap.put(key, collected.length);
-			serialized = null; // since the data changed, clear this so it's rebuilt
+			changed();
 		}
 		return this;
 	}
@@ -308,20 +423,27 @@ public class Headers {
 	}
 
 	private void _remove(Collection<String> keys) {
+		Map<String, List<String>> map = map();
 		for (String key : keys) {
-			if (!nullOrEmpty(key) && valuesMap.remove(key) != null) {
+			if (!nullOrEmpty(key) && map.remove(key) != null) {
 				dataLength -= lengthMap.remove(key);
-				serialized = null; // since the data changed, clear this so it's rebuilt
+				changed();
 			}
 		}
 	}
 
+	// since the data changed, clear these so they are rebuilt
+	private void changed() {
+		serialized = null;
+		readOnlyCopy = null;
+	}
+
 	/**
 	 * Returns the number of keys (case-sensitive) in the header.
 	 * @return the number of header entries
 	 */
 	public int size() {
-		return valuesMap.size();
+		return map().size();
 	}
 
 	/**
@@ -329,7 +451,7 @@ public class Headers {
 	 * @return true if there are no headers
 	 */
 	public boolean isEmpty() {
-		return valuesMap.isEmpty();
+		return incoming == null ? valuesMap.isEmpty() : incomingLineCount == 0;
 	}
 
 	/**
@@ -339,10 +461,10 @@ public class Headers {
 		if (readOnly) {
 			throw new UnsupportedOperationException();
 		}
-		valuesMap.clear();
+		map().clear();
 		lengthMap.clear();
 		dataLength = 0;
-		serialized = null;
+		changed();
 	}
 
 	/**
@@ -351,6 +473,15 @@ public class Headers {
 	 * @return true if the key (case-sensitive) is present (has values)
 	 */
 	public boolean containsKey(String key) {
+		byte[] b = incoming;
+		if (b != null) {
+			for (int x = 0; x < incomingLineCount * 4; x += 4) {
+				if (incomingKeyEquals(b, x, key)) {
+					return true;
+				}
+			}
+			return false;
+		}
 		return valuesMap.containsKey(key);
 	}
 
@@ -360,7 +491,7 @@ public class Headers {
 	 * @return true if the key (case-insensitive) is present (has values)
 	 */
 	public boolean containsKeyIgnoreCase(String key) {
-		for (String k : valuesMap.keySet()) {
+		for (String k : map().keySet()) {
 			if (k.equalsIgnoreCase(key)) {
 				return true;
 			}
@@ -373,7 +504,7 @@ public class Headers {
 	 * @return a read-only set the keys contained in this map
 	 */
 	public Set<String> keySet() {
-		return Collections.unmodifiableSet(valuesMap.keySet());
+		return Collections.unmodifiableSet(map().keySet());
 	}
 
 	/**
@@ -382,7 +513,7 @@ public class Headers {
 	 */
 	public Set<String> keySetIgnoreCase() {
 		HashSet<String> set = new HashSet<>();
-		for (String k : valuesMap.keySet()) {
+		for (String k : map().keySet()) {
 			set.add(k.toLowerCase());
 		}
 		return Collections.unmodifiableSet(set);
@@ -396,6 +527,19 @@ public class Headers {
 	 */
 	@Nullable
 	public List<String> get(String key) {
+		byte[] b = incoming;
+		if (b != null) {
+			List<String> values = null;
+			for (int x = 0; x < incomingLineCount * 4; x += 4) {
+				if (incomingKeyEquals(b, x, key)) {
+					if (values == null) {
+						values = new ArrayList<>(1);
+					}
+					values.add(incomingValue(b, x));
+				}
+			}
+			return values == null ? null : Collections.unmodifiableList(values);
+		}
 		List<String> values = valuesMap.get(key);
 		return values == null ? null : Collections.unmodifiableList(values);
 	}
@@ -408,6 +552,15 @@ public class Headers {
 	 */
 	@Nullable
 	public String getFirst(String key) {
+		byte[] b = incoming;
+		if (b != null) {
+			for (int x = 0; x < incomingLineCount * 4; x += 4) {
+				if (incomingKeyEquals(b, x, key)) {
+					return incomingValue(b, x);
+				}
+			}
+			return null;
+		}
 		List<String> values = valuesMap.get(key);
 		return values == null ? null : values.get(0);
 	}
@@ -420,6 +573,15 @@ public class Headers {
 	 */
 	@Nullable
 	public String getLast(String key) {
+		byte[] b = incoming;
+		if (b != null) {
+			for (int x = (incomingLineCount - 1) * 4; x >= 0; x -= 4) {
+				if (incomingKeyEquals(b, x, key)) {
+					return incomingValue(b, x);
+				}
+			}
+			return null;
+		}
 		List<String> values = valuesMap.get(key);
 		return values == null ? null : values.get(values.size() - 1);
 	}
@@ -433,7 +595,7 @@ public class Headers {
 	@Nullable
 	public List<String> getIgnoreCase(String key) {
 		List<String> values = new ArrayList<>();
-		for (Map.Entry<String, List<String>> entry : valuesMap.entrySet()) {
+		for (Map.Entry<String, List<String>> entry : map().entrySet()) {
 			if (entry.getKey().equalsIgnoreCase(key)) {
 				values.addAll(entry.getValue());
 			}
@@ -451,7 +613,7 @@ public class Headers {
 	 * removed during iteration
 	 */
 	public void forEach(BiConsumer<String, List<String>> action) {
-		for (Map.Entry<String, List<String>> entry : valuesMap.entrySet()) {
+		for (Map.Entry<String, List<String>> entry : map().entrySet()) {
 			action.accept(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
 		}
 	}
@@ -463,7 +625,8 @@ public class Headers {
 	 */
 	@NonNull
 	public Set<Map.Entry<String, List<String>>> entrySet() {
-		return valuesMap.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(valuesMap.entrySet());
+		Map<String, List<String>> map = map();
+		return map.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(map.entrySet());
 	}
 
 	/**
@@ -480,6 +643,7 @@ public class Headers {
 	 * @return the number of bytes
 	 */
 	public int serializedLength() {
+		map();
 		return dataLength + NON_DATA_BYTES;
 	}
 
@@ -492,12 +656,35 @@ public class Headers {
 	 */
 	public byte @NonNull [] getSerialized() {
 		if (serialized == null) {
-			serialized = new byte[serializedLength()];
-			serializeToArray(0, serialized);
+			byte[] temp = new byte[serializedLength()];
+			_serializeToArray(0, temp);
+			serialized = temp;
 		}
 		return serialized;
 	}
 
+	/**
+	 * A read only copy of these headers to publish with a message. The copy is kept and
+	 * reused until these headers change, so publishing the same unchanged headers
+	 * again does not copy or serialize them again.
+	 * @return the copy, or this object if it is already read only
+	 */
+	Headers readOnlyCopy() {
+		if (readOnly) {
+			return this;
+		}
+		Headers copy = readOnlyCopy;
+		if (copy == null) {
+			// completely built before it is published, this object's own fields are only read
+			copy = new Headers(this, true, null);
+			byte[] temp = new byte[copy.serializedLength()];
+			copy._serializeToArray(0, temp);
+			copy.serialized = temp;
+			readOnlyCopy = copy;
+		}
+		return copy;
+	}
+
 	/**
 	 * @deprecated
 	 * Used for unit testing.
@@ -508,7 +695,7 @@ public class Headers {
 	@Deprecated
 	public ByteArrayBuilder appendSerialized(ByteArrayBuilder bab) {
 		bab.append(HEADER_VERSION_BYTES_PLUS_CRLF);
-		for (Map.Entry<String, List<String>> entry : valuesMap.entrySet()) {
+		for (Map.Entry<String, List<String>> entry : map().entrySet()) {
 			for (String value : entry.getValue()) {
 				bab.append(entry.getKey());
 				bab.append(COLON_BYTES);
@@ -530,10 +717,18 @@ public class Headers {
 	 * @return the length of the header
 	 */
 	public int serializeToArray(int destPosition, byte[] dest) {
+		if (serialized != null) {
+			System.arraycopy(serialized, 0, dest, destPosition, serialized.length);
+			return serialized.length;
+		}
+		return _serializeToArray(destPosition, dest);
+	}
+
+	private int _serializeToArray(int destPosition, byte[] dest) {
 		System.arraycopy(HEADER_VERSION_BYTES_PLUS_CRLF, 0, dest, destPosition, HVCRLF_BYTES);
 		destPosition += HVCRLF_BYTES;
 
-		for (Map.Entry<String, List<String>> entry : valuesMap.entrySet()) {
+		for (Map.Entry<String, List<String>> entry : map().entrySet()) {
 			String key = entry.getKey();
 			for (String value : entry.getValue()) {
                 //noinspection deprecation
@@ -556,6 +751,41 @@ public class Headers {
 		return serializedLength();
 	}
 
+	/**
+	 * Write the header to the buffer. Assumes that the caller has
+	 * already validated that the buffer has enough room by using {@link #serializedLength()}.
+	 * @param dest the buffer to write to, starting at its position
+	 * @return the length of the header
+	 */
+	int serializeToBuffer(ByteBuffer dest) {
+		if (serialized != null) {
+			dest.put(serialized);
+			return serialized.length;
+		}
+		dest.put(HEADER_VERSION_BYTES_PLUS_CRLF, 0, HVCRLF_BYTES);
+
+		for (Map.Entry<String, List<String>> entry : map().entrySet()) {
+			String key = entry.getKey();
+			int keyLen = key.length();
+			for (String value : entry.getValue()) {
+				for (int i = 0; i < keyLen; i++) {
+					dest.put((byte) key.charAt(i)); // key has only US_ASCII
+				}
+				dest.put(COLON);
+				int valueLen = value.length();
+				for (int i = 0; i < valueLen; i++) {
+					dest.put((byte) value.charAt(i));
+				}
+				dest.put(CR);
+				dest.put(LF);
+			}
+		}
+		dest.put(CR);
+		dest.put(LF);
+
+		return serializedLength();
+	}
+
 	/**
 	 * Whether the entire Headers is read only
 	 * @return the read only state
@@ -569,17 +799,17 @@ public class Headers {
 		if (this == o) return true;
 		if (!(o instanceof Headers)) return false;
 		Headers headers = (Headers) o;
-		return Objects.equals(valuesMap, headers.valuesMap);
+		return Objects.equals(map(), headers.map());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hashCode(valuesMap);
+		return Objects.hashCode(map());
 	}
 
 	@Override
 	public String toString() {
-		byte[] b = getSerialized();
+		byte[] b = getSerialized().clone(); // the serialized bytes can be shared, so don't change them
 		int len = b.length;
 		if (len <= HVCRLF_BYTES + 2){
 			return "";// empty map
@@ -23,12 +23,16 @@ import static io.nats.client.support.NatsJetStreamConstants.JS_ACK_SUBJECT_PREFI
 // ----------------------------------------------------------------------------------------------------
 class IncomingMessageFactory {
     private final String sid;
+    private final long sidValue;
     private final String subject;
     private final String replyTo;
     private final int protocolLineLength;
     private final boolean utf8mode;
 
     private byte[] data;
+    private ReadBufferPool.Chunk dataChunk;
+    private int dataOffset;
+    private int dataLength;
     private Headers headers;
     private Status status;
     private int headerLen;
@@ -36,7 +40,17 @@ class IncomingMessageFactory {
     // Create an incoming message for a subscriber
     // Doesn't check control line size, since the server sent us the message
     IncomingMessageFactory(String sid, String subject, String replyTo, int protocolLength, boolean utf8mode) {
+        this(sid, -1, subject, replyTo, protocolLength, utf8mode);
+    }
+
+    // The reader passes a numeric sid as the value only, the sid string is made if the message is asked for it
+    IncomingMessageFactory(long sidValue, String subject, String replyTo, int protocolLength, boolean utf8mode) {
+        this(null, sidValue, subject, replyTo, protocolLength, utf8mode);
+    }
+
+    private IncomingMessageFactory(String sid, long sidValue, String subject, String replyTo, int protocolLength, boolean utf8mode) {
         this.sid = sid;
+        this.sidValue = sidValue;
         this.subject = subject;
         this.replyTo = replyTo;
         this.protocolLineLength = protocolLength;
@@ -53,7 +67,22 @@ class IncomingMessageFactory {
         this.data = data;
     }
 
+    // zero copy, the reference to the chunk is handed to the message
+    void setData(ReadBufferPool.Chunk chunk, int offset, int length) {
+        this.dataChunk = chunk;
+        this.dataOffset = offset;
+        this.dataLength = length;
+    }
+
     NatsMessage getMessage() {
+        if (dataChunk != null && status != null) {
+            // status messages are handled internally and never released, so don't hold the chunk
+            data = new byte[dataLength];
+            System.arraycopy(dataChunk.bytes, dataOffset, data, 0, dataLength);
+            dataChunk.release();
+            dataChunk = null;
+        }
+
         NatsMessage message;
         if (status != null) {
             message = new StatusMessage(status);
@@ -65,8 +94,12 @@ class IncomingMessageFactory {
             message = new IncomingMessage(data);
         }
         message.sid = sid;
+        message.sidValue = sidValue;
         message.subject = subject;
         message.replyTo = replyTo;
+        if (dataChunk != null) {
+            message.setDataChunk(dataChunk, dataOffset, dataLength);
+        }
         message.headers = headers;
         message.headerLen = headerLen;
         message.sizeInBytes = protocolLineLength + headerLen + message.dataLen + 4; // Two CRLFs
@@ -0,0 +1,83 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A pool of {@link PooledMessage} for applications that publish at high rates and
+ * want publishing to stop allocating once it is warmed up.
+ * <pre>
+ * MessagePool pool = new MessagePool();
+ * ...
+ * nc.publish(pool.acquire().subject("telemetry").data(bytes, 0, len));
+ * </pre>
+ * A pool is thread safe and can be shared by any number of publishing threads and connections.
+ */
+public class MessagePool {
+    /**
+     * The default maximum number of idle messages kept by the pool
+     */
+    public static final int DEFAULT_MAX_POOLED = 1024;
+
+    /**
+     * The default data buffer size of a new message. It grows as needed.
+     */
+    public static final int DEFAULT_INITIAL_DATA_SIZE = 256;
+
+    private final int initialDataSize;
+    private final ArrayBlockingQueue<PooledMessage> pooled;
+
+    /**
+     * Construct a pool with the default settings
+     */
+    public MessagePool() {
+        this(DEFAULT_MAX_POOLED, DEFAULT_INITIAL_DATA_SIZE);
+    }
+
+    /**
+     * Construct a pool
+     * @param maxPooled the maximum number of idle messages to keep. Messages recycled when the pool is full are dropped.
+     * @param initialDataSize the data buffer size of a new message
+     */
+    public MessagePool(int maxPooled, int initialDataSize) {
+        if (maxPooled < 1) {
+            throw new IllegalArgumentException("Max pooled must be at least 1.");
+        }
+        this.initialDataSize = Math.max(0, initialDataSize);
+        pooled = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    /**
+     * Get a message from the pool, or a new one if the pool is empty.
+     * The message has no subject, reply to, headers or data.
+     * @return the message
+     */
+    public PooledMessage acquire() {
+        PooledMessage pm = pooled.poll();
+        return pm == null ? new PooledMessage(this, initialDataSize) : pm;
+    }
+
+    /**
+     * The number of idle messages in the pool
+     * @return the count
+     */
+    public int pooledCount() {
+        return pooled.size();
+    }
+
+    void recycle(PooledMessage pm) {
+        pooled.offer(pm); // if the pool is full, the message is just dropped
+    }
+}
@@ -13,21 +13,15 @@
 
 package io.nats.client.impl;
 
-import java.time.Duration;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
-import static io.nats.client.impl.MarkerMessage.POISON_PILL;
-
 abstract class MessageQueueBase {
     protected static final int PAUSED = 0;
     protected static final int RUNNING = 1;
     protected static final int DRAINING = 2;
 
     protected final int queueCapacity;
-    protected final LinkedBlockingQueue<NatsMessage> queue;
     protected final AtomicLong length;
     protected final AtomicLong sizeInBytes;
     protected final AtomicInteger running;
@@ -38,7 +32,6 @@ abstract class MessageQueueBase {
 
     MessageQueueBase(int queueCapacity) {
         this.queueCapacity = queueCapacity > 0 ? queueCapacity : Integer.MAX_VALUE;
-        queue = new LinkedBlockingQueue<>(this.queueCapacity);
         length = new AtomicLong(0);
         sizeInBytes = new AtomicLong(0);
         running = new AtomicInteger(RUNNING);
@@ -62,13 +55,13 @@ abstract class MessageQueueBase {
 
     void pause() {
         if (running.compareAndSet(RUNNING, PAUSED)) {
-            queue.offer(POISON_PILL);
+            offerPoisonPill();
         }
     }
 
     void drain() {
         if (running.compareAndSet(RUNNING, DRAINING)) {
-            queue.offer(POISON_PILL);
+            offerPoisonPill();
         }
     }
 
@@ -76,9 +69,11 @@ abstract class MessageQueueBase {
         running.set(RUNNING);
     }
 
-    long queueSize() {
-        return queue.size();
-    }
+    // the poison pill wakes up anyone waiting on the queue
+    abstract void offerPoisonPill();
+
+    // the number of entries in the queue, including markers that are not counted in length
+    abstract long queueSize();
 
     long length() {
         return length.get();
@@ -87,33 +82,4 @@ abstract class MessageQueueBase {
     long sizeInBytes() {
         return sizeInBytes.get();
     }
-
-    // this is just a helper method to poll a message from
-    // the queue handling various forms of timeouts
-    // if the polled message was a POISON_PILL, return null
-    NatsMessage _poll(Duration timeout) throws InterruptedException {
-        NatsMessage msg = null;
-
-        if (timeout == null || this.isDraining()) { // try immediately
-            msg = queue.poll(); // may get null
-        }
-        else {
-            long nanos = timeout.toNanos();
-            if (nanos < 1) {
-                // A value < 1 means poll forever until a message
-                // Calling pause will put a POISON_PILL so will break this loop
-                while (isRunning()) {
-                    msg = queue.poll(3650, TimeUnit.DAYS);
-                    if (msg != null) {
-                        break;
-                    }
-                }
-            }
-            else {
-                msg = queue.poll(nanos, TimeUnit.NANOSECONDS); // may get null
-            }
-        }
-
-        return msg == null || msg == POISON_PILL ? null : msg;
-    }
 }
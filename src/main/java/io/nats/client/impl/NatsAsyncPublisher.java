@@ -0,0 +1,350 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.AsyncPublisher;
+import io.nats.client.AsyncPublisherOptions;
+import io.nats.client.Message;
+import io.nats.client.NatsSystemClock;
+import io.nats.client.PublishOptions;
+import io.nats.client.api.PublishAck;
+import io.nats.client.support.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.nats.client.support.Validator.validateNotNull;
+
+class NatsAsyncPublisher implements AsyncPublisher {
+
+    interface Sender {
+        CompletableFuture<PublishAck> send(String subject, Headers headers, byte[] data, PublishOptions options);
+    }
+
+    private static class Deferred {
+        final String subject;
+        final Headers headers;
+        final byte[] data;
+        final PublishOptions options;
+        final long size;
+        final CompletableFuture<PublishAck> future;
+
+        Deferred(String subject, Headers headers, byte[] data, PublishOptions options, long size) {
+            this.subject = subject;
+            this.headers = headers;
+            this.data = data;
+            this.options = options;
+            this.size = size;
+            this.future = new CompletableFuture<>();
+        }
+    }
+
+    private final AsyncPublisherOptions options;
+    private final Sender sender;
+    private final Executor executor;
+    private final long maxAcks;
+    private final long maxBytes;
+    private final long blockTimeoutNanos;
+    private final ConcurrentHashMap<String, LatencyHistogram> latencies;
+
+    private final ReentrantLock lock;
+    private final Condition changed;
+    private final ArrayDeque<Deferred> deferred; // guarded by lock
+    private long outstandingAcks;                // guarded by lock
+    private long outstandingBytes;               // guarded by lock
+    private boolean sendingDeferred;             // guarded by lock
+
+    NatsAsyncPublisher(AsyncPublisherOptions options, Sender sender, Executor executor, Duration defaultBlockTimeout) {
+        this.options = options == null ? AsyncPublisherOptions.DEFAULT_INSTANCE : options;
+        this.sender = sender;
+        this.executor = executor;
+        maxAcks = this.options.getMaxOutstandingAcks() < 1 ? Long.MAX_VALUE : this.options.getMaxOutstandingAcks();
+        maxBytes = this.options.getMaxOutstandingBytes() < 1 ? Long.MAX_VALUE : this.options.getMaxOutstandingBytes();
+        Duration bt = this.options.getBlockTimeout() == null ? defaultBlockTimeout : this.options.getBlockTimeout();
+        blockTimeoutNanos = bt.toNanos();
+        latencies = new ConcurrentHashMap<>();
+        lock = new ReentrantLock();
+        changed = lock.newCondition();
+        deferred = new ArrayDeque<>();
+    }
+
+    @Override
+    public CompletableFuture<PublishAck> publishAsync(String subject, byte[] body) {
+        return publishInternal(subject, null, body, null);
+    }
+
+    @Override
+    public CompletableFuture<PublishAck> publishAsync(String subject, Headers headers, byte[] body) {
+        return publishInternal(subject, headers, body, null);
+    }
+
+    @Override
+    public CompletableFuture<PublishAck> publishAsync(String subject, byte[] body, PublishOptions options) {
+        return publishInternal(subject, null, body, options);
+    }
+
+    @Override
+    public CompletableFuture<PublishAck> publishAsync(String subject, Headers headers, byte[] body, PublishOptions options) {
+        return publishInternal(subject, headers, body, options);
+    }
+
+    @Override
+    public CompletableFuture<PublishAck> publishAsync(Message message) {
+        validateNotNull(message, "Message");
+        return publishInternal(message.getSubject(), message.getHeaders(), message.getData(), null);
+    }
+
+    @Override
+    public CompletableFuture<PublishAck> publishAsync(Message message, PublishOptions options) {
+        validateNotNull(message, "Message");
+        return publishInternal(message.getSubject(), message.getHeaders(), message.getData(), options);
+    }
+
+    private CompletableFuture<PublishAck> publishInternal(String subject, Headers headers, byte[] data, PublishOptions po) {
+        long size = (data == null ? 0 : data.length) + (headers == null || headers.isEmpty() ? 0 : headers.serializedLength());
+
+        lock.lock();
+        try {
+            // once anything is deferred, everything after it is deferred too, so order is kept
+            if (deferred.isEmpty() && !sendingDeferred && hasRoom(size)) {
+                reserve(size);
+            }
+            else {
+                switch (options.getBackpressure()) {
+                    case FailFast:
+                        throw new IllegalStateException("Maximum outstanding publish acks reached.");
+                    case Defer:
+                        Deferred d = new Deferred(subject, headers, data, po, size);
+                        deferred.add(d);
+                        return d.future;
+                    default:
+                        waitForRoom(size);
+                        reserve(size);
+                }
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+
+        return send(subject, headers, data, po, size);
+    }
+
+    private void waitForRoom(long size) {
+        long nanos = blockTimeoutNanos;
+        try {
+            while (!hasRoom(size)) {
+                if (nanos <= 0) {
+                    throw new IllegalStateException("Timed out waiting for outstanding publish acks.");
+                }
+                nanos = changed.awaitNanos(nanos);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for outstanding publish acks.", e);
+        }
+    }
+
+    // a message bigger than the byte limit can still go when nothing is outstanding
+    private boolean hasRoom(long size) {
+        return outstandingAcks == 0 || (outstandingAcks < maxAcks && outstandingBytes + size <= maxBytes);
+    }
+
+    private void reserve(long size) {
+        outstandingAcks++;
+        outstandingBytes += size;
+    }
+
+    private CompletableFuture<PublishAck> send(String subject, Headers headers, byte[] data, PublishOptions po, long size) {
+        long start = NatsSystemClock.nanoTime();
+        CompletableFuture<PublishAck> future;
+        try {
+            future = sender.send(subject, headers, data, po);
+        }
+        catch (RuntimeException e) {
+            release(size);
+            throw e;
+        }
+
+        if (future == null) {
+            release(size); // publish no ack, there is nothing to wait for
+            return null;
+        }
+
+        return future.whenComplete((ack, t) -> {
+            release(size);
+            if (ack != null) {
+                latencies.computeIfAbsent(ack.getStream(), s -> new LatencyHistogram())
+                    .record(NatsSystemClock.nanoTime() - start);
+            }
+        });
+    }
+
+    private void release(long size) {
+        boolean startSending = false;
+        lock.lock();
+        try {
+            outstandingAcks--;
+            outstandingBytes -= size;
+            if (!sendingDeferred && !deferred.isEmpty() && hasRoom(deferred.peek().size)) {
+                sendingDeferred = true;
+                startSending = true;
+            }
+            changed.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+
+        // releases happen on the thread completing the ack, so deferred messages are sent elsewhere
+        if (startSending) {
+            try {
+                executor.execute(this::sendDeferred);
+            }
+            catch (RejectedExecutionException e) {
+                failDeferred(e);
+            }
+        }
+    }
+
+    private void sendDeferred() {
+        while (true) {
+            Deferred d;
+            lock.lock();
+            try {
+                d = deferred.peek();
+                if (d == null || !hasRoom(d.size)) {
+                    sendingDeferred = false;
+                    changed.signalAll();
+                    return;
+                }
+                deferred.poll();
+                if (d.future.isDone()) {
+                    continue; // cancelled by the user before it was sent
+                }
+                reserve(d.size);
+            }
+            finally {
+                lock.unlock();
+            }
+
+            try {
+                CompletableFuture<PublishAck> f = send(d.subject, d.headers, d.data, d.options, d.size);
+                if (f == null) {
+                    d.future.complete(null);
+                }
+                else {
+                    f.whenComplete((ack, t) -> {
+                        if (t == null) {
+                            d.future.complete(ack);
+                        }
+                        else {
+                            d.future.completeExceptionally(t);
+                        }
+                    });
+                }
+            }
+            catch (RuntimeException e) {
+                d.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void failDeferred(Exception e) {
+        lock.lock();
+        try {
+            Deferred d;
+            while ((d = deferred.poll()) != null) {
+                d.future.completeExceptionally(e);
+            }
+            sendingDeferred = false;
+            changed.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public AsyncPublisherOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    public long getOutstandingAcks() {
+        lock.lock();
+        try {
+            return outstandingAcks;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getOutstandingBytes() {
+        lock.lock();
+        try {
+            return outstandingBytes;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getDeferredCount() {
+        lock.lock();
+        try {
+            return deferred.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean waitForOutstandingAcks(Duration timeout) throws InterruptedException {
+        long nanos = timeout.toNanos();
+        lock.lock();
+        try {
+            while (outstandingAcks > 0 || sendingDeferred || !deferred.isEmpty()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = changed.awaitNanos(nanos);
+            }
+            return true;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public LatencyHistogram getAckLatency(String streamName) {
+        return latencies.get(streamName);
+    }
+
+    @Override
+    public Map<String, LatencyHistogram> getAckLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+}
@@ -0,0 +1,329 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.CachedKeyValue;
+import io.nats.client.CachedKeyValueOptions;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.NatsSystemClock;
+import io.nats.client.PublishOptions;
+import io.nats.client.api.KeyValueEntry;
+import io.nats.client.api.KeyValueWatcher;
+import io.nats.client.api.PublishAck;
+import io.nats.client.support.LatencyHistogram;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static io.nats.client.support.NatsConstants.GREATER_THAN;
+import static io.nats.client.support.Validator.validateNonWildcardKvKeyRequired;
+import static io.nats.client.support.Validator.validateNotNull;
+
+public class NatsCachedKeyValue extends NatsKeyValue implements CachedKeyValue {
+
+    // returned by readLocal for a key known not to exist
+    private static final CacheEntry ABSENT = new CacheEntry(null, 0, null, false);
+
+    private final CachedKeyValueOptions cacheOptions;
+    private final boolean bucketExpires;
+    private final ConcurrentHashMap<String, CacheEntry> cache;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LatencyHistogram updateLag;
+    private final Object evictLock;
+    private final NatsKeyValueWatchSubscription watchSub;
+
+    private volatile boolean ready;
+    private volatile boolean evicted; // once anything is evicted, a key not in the cache might still exist
+    private volatile boolean closed;
+
+    NatsCachedKeyValue(String bucketName, NatsConnection connection, CachedKeyValueOptions cacheOptions) throws IOException, JetStreamApiException {
+        super(bucketName, connection, cacheOptions.getKeyValueOptions(), null);
+        this.cacheOptions = cacheOptions;
+        bucketExpires = maxAge != null && maxAge.toMillis() > 0;
+        cache = new ConcurrentHashMap<>();
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+        updateLag = new LatencyHistogram();
+        evictLock = new Object();
+
+        watchSub = new NatsKeyValueWatchSubscription(this, Collections.singletonList(GREATER_THAN), new KeyValueWatcher() {
+            @Override
+            public void watch(KeyValueEntry kve) {
+                CacheEntry ce = store(kve);
+                if (ce != null && ready) { // the initial replay is history, not lag
+                    updateLag.record((System.currentTimeMillis() - ce.createdMillis) * 1_000_000);
+                }
+            }
+
+            @Override
+            public void endOfData() {
+                ready = !closed;
+            }
+        }, -1);
+    }
+
+    static final class CacheEntry {
+        final KeyValueEntry kve; // null while waiting for the entry of a revision written through this object
+        final long revision;
+        final long createdMillis;
+        final boolean unwatchedExpiry; // the server can remove it without the watcher seeing it
+        volatile long lastRead;
+        volatile int reads;
+
+        CacheEntry(KeyValueEntry kve, long revision, CacheEntry previous, boolean unwatchedExpiry) {
+            this.kve = kve;
+            this.revision = revision;
+            this.unwatchedExpiry = unwatchedExpiry;
+            createdMillis = kve == null ? 0 : kve.getCreated().toInstant().toEpochMilli();
+            if (previous == null) {
+                lastRead = NatsSystemClock.nanoTime();
+            }
+            else {
+                lastRead = previous.lastRead;
+                reads = previous.reads;
+            }
+        }
+
+        void touch() {
+            lastRead = NatsSystemClock.nanoTime();
+            reads++; // not atomic, the count only needs to be close for lfu
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeyValueEntry get(String key) throws IOException, JetStreamApiException {
+        CacheEntry ce = readLocal(validateNonWildcardKvKeyRequired(key));
+        if (ce != null) {
+            hits.increment();
+            return existingOnly(ce.kve);
+        }
+        misses.increment();
+        KeyValueEntry kve = _get(key);
+        if (kve != null) {
+            store(kve);
+        }
+        return existingOnly(kve);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void get(Collection<String> keys, Consumer<KeyValueEntry> handler) throws IOException, JetStreamApiException {
+        validateNotNull(keys, "Keys");
+        validateNotNull(handler, "Handler");
+        List<String> remaining = new ArrayList<>();
+        for (String key : keys) {
+            CacheEntry ce = readLocal(validateNonWildcardKvKeyRequired(key));
+            if (ce == null) {
+                remaining.add(key);
+            }
+            else {
+                hits.increment();
+                KeyValueEntry kve = existingOnly(ce.kve);
+                if (kve != null) {
+                    handler.accept(kve);
+                }
+            }
+        }
+        if (!remaining.isEmpty()) {
+            misses.add(remaining.size());
+            super.get(remaining, kve -> {
+                store(kve);
+                handler.accept(kve);
+            });
+        }
+    }
+
+    @Override
+    PublishAck _write(String key, byte[] data, Headers h, PublishOptions popts) throws IOException, JetStreamApiException {
+        PublishAck pa = super._write(key, data, h, popts);
+        if (!closed) {
+            // until the watcher delivers this revision, reads of the key go to the server
+            long revision = pa.getSeqno();
+            cache.compute(key, (k, ce) -> ce == null || revision > ce.revision ? new CacheEntry(null, revision, ce, false) : ce);
+            evictIfNeeded();
+        }
+        return pa;
+    }
+
+    // null means the read must go to the server
+    private CacheEntry readLocal(String key) {
+        if (ready) {
+            CacheEntry ce = cache.get(key);
+            if (ce == null) {
+                if (!evicted) {
+                    return ABSENT;
+                }
+            }
+            else if (ce.kve != null && !ce.unwatchedExpiry) {
+                ce.touch();
+                return ce;
+            }
+        }
+        return null;
+    }
+
+    private CacheEntry store(KeyValueEntry kve) {
+        if (closed) {
+            return null;
+        }
+        long revision = kve.getRevision();
+        boolean unwatchedExpiry = canExpireUnwatched(kve);
+        CacheEntry stored = cache.compute(kve.getKey(), (k, ce) -> ce == null || revision >= ce.revision ? new CacheEntry(kve, revision, ce, unwatchedExpiry) : ce);
+        evictIfNeeded();
+        return stored;
+    }
+
+    // An entry can expire by the bucket's max age or its own TTL. Without limit markers the server
+    // removes it without telling the watcher, so it is not served locally, it is read from the server.
+    private boolean canExpireUnwatched(KeyValueEntry kve) {
+        if (limitMarkers) {
+            return false;
+        }
+        String ttl = kve.getMessageTtl();
+        return bucketExpires || (ttl != null && !"never".equalsIgnoreCase(ttl));
+    }
+
+    private void evictIfNeeded() {
+        int max = cacheOptions.getMaxEntries();
+        if (max < 1 || cache.size() <= max) {
+            return;
+        }
+        synchronized (evictLock) {
+            int size = cache.size();
+            if (size <= max) {
+                return;
+            }
+            evicted = true;
+
+            // evict down to 90% of the max, so the sort is not done for every insert.
+            // the read stats are copied first since they keep changing while sorting
+            List<EvictionCandidate> candidates = new ArrayList<>(size);
+            for (Map.Entry<String, CacheEntry> e : cache.entrySet()) {
+                candidates.add(new EvictionCandidate(e.getKey(), e.getValue()));
+            }
+            if (cacheOptions.getEviction() == CachedKeyValueOptions.Eviction.Lfu) {
+                candidates.sort(Comparator.comparingInt((EvictionCandidate c) -> c.reads).thenComparingLong(c -> c.lastRead));
+            }
+            else {
+                candidates.sort(Comparator.comparingLong(c -> c.lastRead));
+            }
+
+            int toRemove = size - (max - max / 10);
+            for (int x = 0; x < candidates.size() && toRemove > 0; x++) {
+                EvictionCandidate c = candidates.get(x);
+                if (cache.remove(c.key, c.entry)) {
+                    evictions.increment();
+                    toRemove--;
+                }
+            }
+        }
+    }
+
+    static final class EvictionCandidate {
+        final String key;
+        final CacheEntry entry;
+        final long lastRead;
+        final int reads;
+
+        EvictionCandidate(String key, CacheEntry entry) {
+            this.key = key;
+            this.entry = entry;
+            lastRead = entry.lastRead;
+            reads = entry.reads;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CachedKeyValueOptions getCacheOptions() {
+        return cacheOptions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheReady() {
+        return ready;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCacheHits() {
+        return hits.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCacheMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCacheEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LatencyHistogram getCacheUpdateLag() {
+        return updateLag;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        closed = true;
+        ready = false;
+        try {
+            watchSub.unsubscribe();
+        }
+        catch (IllegalStateException e) {
+            // the connection is already closed, which closed the dispatcher
+        }
+        cache.clear();
+    }
+}
@@ -71,11 +71,10 @@ class NatsConnection implements Connection {
 
     protected final AtomicReference<ServerInfo> serverInfo;
 
-    protected final Map<String, NatsSubscription> subscribers;
+    protected final SubscriptionsBySid subscribers;
     protected final Map<String, NatsDispatcher> dispatchers; // use a concurrent map so we get more consistent iteration behavior
     protected final Collection<ConnectionListener> connectionListeners;
-    protected final Map<String, NatsRequestCompletableFuture> responsesAwaiting;
-    protected final Map<String, NatsRequestCompletableFuture> responsesRespondedTo;
+    protected final PendingRequests pendingRequests;
     protected final ConcurrentLinkedDeque<CompletableFuture<Boolean>> pongQueue;
 
     protected final String mainInbox;
@@ -152,9 +151,8 @@ class NatsConnection implements Connection {
         }
 
         this.dispatchers = new ConcurrentHashMap<>();
-        this.subscribers = new ConcurrentHashMap<>();
-        this.responsesAwaiting = new ConcurrentHashMap<>();
-        this.responsesRespondedTo = new ConcurrentHashMap<>();
+        this.subscribers = new SubscriptionsBySid();
+        this.pendingRequests = new PendingRequests(options.getRequestCleanupInterval(), advancedTracking, NatsSystemClock.nanoTime());
         this.serverAuthErrors = new ConcurrentHashMap<>();
 
         this.nextSid = new AtomicLong(1);
@@ -424,7 +422,7 @@ class NatsConnection implements Connection {
             return;
         }
 
-        this.subscribers.forEach((sid, sub) -> {
+        this.subscribers.values().forEach(sub -> {
             if (sub.getDispatcher() == null && !sub.isDraining()) {
                 sendSubscriptionMessage(sub.getSID(), sub.getSubject(), sub.getQueueName(), true);
             }
@@ -875,7 +873,7 @@ class NatsConnection implements Connection {
 
         this.dispatchers.forEach((nuid, d) -> d.stop(false));
 
-        this.subscribers.forEach((sid, sub) -> sub.invalidate());
+        this.subscribers.values().forEach(NatsSubscription::invalidate);
 
         this.dispatchers.clear();
         this.subscribers.clear();
@@ -1033,14 +1031,119 @@ class NatsConnection implements Connection {
     @Override
     public void publish(@NonNull Message message) {
         Validator.validateNotNull(message, "Message");
-        publishInternal(message.getSubject(), message.getReplyTo(), message.getHeaders(), message.getData(), false);
+        if (message instanceof PooledMessage) {
+            publishPooled((PooledMessage) message);
+        }
+        else {
+            publishInternal(message.getSubject(), message.getReplyTo(), message.getHeaders(), message.getData(), false);
+        }
+    }
+
+    // a pooled message is queued as is instead of being copied, the writer recycles it
+    private void publishPooled(PooledMessage pm) {
+        subjectValidate(pm.getSubject(), true);
+        replyValidate(pm.getReplyTo(), false);
+        pm.markPublished();
+        try {
+            checkPublishAllowed(pm.getSizeInBytes(), pm.headerLen > 0);
+            queueOutgoing(pm);
+        }
+        catch (RuntimeException e) {
+            pm.unmarkPublished();
+            throw e;
+        }
     }
 
     protected void publishInternal(@NonNull String subject, @Nullable String replyTo, @Nullable Headers headers, byte @Nullable [] data, boolean flushImmediatelyAfterPublish) {
         subject = subjectValidate(subject, true);
         replyTo = replyValidate(replyTo, false);
         NatsPublishableMessage npm = new NatsPublishableMessage(subject, replyTo, headers, data, flushImmediatelyAfterPublish);
-        if (npm.hasHeaders && !serverInfo.get().isHeadersSupported()) {
+        checkPublishAllowed(npm.getSizeInBytes(), npm.hasHeaders);
+        queueOutgoing(npm);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBatch(@NonNull List<Message> messages) {
+        Validator.validateNotNull(messages, "Messages");
+        int count = messages.size();
+        if (count == 0) {
+            return;
+        }
+
+        // build the whole chain first, nothing is queued if any message is not valid
+        NatsMessage head = null;
+        NatsMessage tail = null;
+        long sizeInBytes = 0;
+        boolean hasHeaders = false;
+        try {
+            for (Message message : messages) {
+                Validator.validateNotNull(message, "Message");
+                NatsMessage msg;
+                if (message instanceof PooledMessage) {
+                    PooledMessage pm = (PooledMessage) message;
+                    subjectValidate(pm.getSubject(), true);
+                    replyValidate(pm.getReplyTo(), false);
+                    pm.markPublished();
+                    hasHeaders |= pm.headerLen > 0;
+                    msg = pm;
+                }
+                else {
+                    String subject = subjectValidate(message.getSubject(), true);
+                    String replyTo = replyValidate(message.getReplyTo(), false);
+                    NatsPublishableMessage npm = new NatsPublishableMessage(subject, replyTo, message.getHeaders(), message.getData(), false);
+                    hasHeaders |= npm.hasHeaders;
+                    msg = npm;
+                }
+                if (head == null) {
+                    head = msg;
+                }
+                else {
+                    tail.next = msg;
+                }
+                tail = msg;
+                validatePayloadAndControlLineSizes(msg);
+                sizeInBytes += msg.getSizeInBytes();
+            }
+            checkPublishAllowed(sizeInBytes, hasHeaders);
+        }
+        catch (RuntimeException e) {
+            releaseUnqueued(head);
+            throw e;
+        }
+
+        NatsMessage discarded;
+        try {
+            discarded = writer.queueBatch(head, count);
+        }
+        catch (WriterMessageQueue.BatchQueueFullException e) {
+            releaseUnqueued(e.unqueued);
+            throw new IllegalStateException(e.getMessage() + ", " + e.queued + " of " + count + " batch messages were queued", e);
+        }
+        while (discarded != null) {
+            NatsMessage msg = discarded;
+            makeCallback(() -> options.getErrorListener().messageDiscarded(this, msg));
+            discarded = discarded.next;
+        }
+    }
+
+    // pooled messages that did not make it to the queue go back to the caller as they were
+    private void releaseUnqueued(NatsMessage head) {
+        NatsMessage msg = head;
+        while (msg != null) {
+            NatsMessage following = msg.next;
+            if (msg instanceof PooledMessage) {
+                msg.next = null;
+                ((PooledMessage) msg).unmarkPublished();
+            }
+            msg = following;
+        }
+    }
+
+    private void checkPublishAllowed(long sizeInBytes, boolean hasHeaders) {
+        if (hasHeaders && !serverInfo.get().isHeadersSupported()) {
             throw new IllegalArgumentException("Headers are not supported by the server, version: " + serverInfo.get().getVersion());
         }
 
@@ -1052,12 +1155,10 @@ class NatsConnection implements Connection {
         }
 
         if ((status == Status.RECONNECTING || status == Status.DISCONNECTED)
-            && !this.writer.canQueueDuringReconnect(npm)) {
+            && !this.writer.canQueueDuringReconnect(sizeInBytes)) {
             throw new IllegalStateException(
                 "Unable to queue any more messages during reconnect, max buffer is " + options.getReconnectBufferSize());
         }
-
-        queueOutgoing(npm);
     }
 
     /**
@@ -1087,8 +1188,7 @@ class NatsConnection implements Connection {
     }
 
     protected void remove(NatsSubscription sub) {
-        CharSequence sid = sub.getSID();
-        subscribers.remove(sid);
+        subscribers.remove(sub.getSID());
 
         if (sub.getNatsDispatcher() != null) {
             sub.getNatsDispatcher().remove(sub);
@@ -1203,78 +1303,31 @@ class NatsConnection implements Connection {
         return options.getInboxPrefix().length() + 22 + 1; // 22 for nuid, 1 for .
     }
 
-    protected String createResponseInbox(String inbox) {
+    protected String createResponseInbox(String inbox, long token) {
         // Substring gets rid of the * [trailing]
-        return inbox.substring(0, getRespInboxLength()) + nuid.next();
+        return inbox.substring(0, getRespInboxLength()) + token;
     }
 
-    // If the inbox is long enough, pull out the end part, otherwise, just use the
-    // full thing
-    protected String getResponseToken(String responseInbox) {
-        int len = getRespInboxLength();
-        if (responseInbox.length() <= len) {
-            return responseInbox;
-        }
-        return responseInbox.substring(len);
+    // The numeric token at the end of the response inbox, -1 if there isn't one
+    protected long getResponseToken(String responseInbox) {
+        return PendingRequests.parseToken(responseInbox, getRespInboxLength());
     }
 
     protected void cleanResponses(boolean closing) {
-        ArrayList<String> toRemove = new ArrayList<>();
-        boolean wasInterrupted = false;
-
-        for (Map.Entry<String, NatsRequestCompletableFuture> entry : responsesAwaiting.entrySet()) {
-            boolean remove = false;
-            NatsRequestCompletableFuture future = entry.getValue();
-            if (future.hasExceededTimeout()) {
-                remove = true;
-                future.cancelTimedOut();
-            }
-            else if (closing) {
-                remove = true;
+        // the wheel only hands back what is due, closing takes everything
+        List<NatsRequestCompletableFuture> removed = closing
+            ? pendingRequests.removeAll()
+            : pendingRequests.expire(NatsSystemClock.nanoTime());
+
+        for (NatsRequestCompletableFuture future : removed) {
+            // completing a future that is already done, for instance cancelled by the application, does nothing
+            if (closing && !future.hasExceededTimeout()) {
                 future.cancelClosing();
             }
-            else if (future.isDone()) {
-                // done should have already been removed, not sure if
-                // this even needs checking, but it won't hurt
-                remove = true;
-                try {
-                    future.get();
-                }
-                catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    // We might have collected some entries already, but were interrupted.
-                    // Break out so we finish as quick as possible,
-                    // cleanResponses will be called again anyway
-                    wasInterrupted = true;
-                    break;
-                }
-                catch (Throwable ignore) {
-                }
-            }
-
-            if (remove) {
-                toRemove.add(entry.getKey());
-                statistics.decrementOutstandingRequests();
-            }
-        }
-
-        for (String key : toRemove) {
-            responsesAwaiting.remove(key);
-        }
-
-        if (advancedTracking && !wasInterrupted) {
-            toRemove.clear(); // we can reuse this but it needs to be cleared
-            for (Map.Entry<String, NatsRequestCompletableFuture> entry : responsesRespondedTo.entrySet()) {
-                NatsRequestCompletableFuture future = entry.getValue();
-                if (future.hasExceededTimeout()) {
-                    toRemove.add(entry.getKey());
-                    future.cancelTimedOut();
-                }
-            }
-
-            for (String token : toRemove) {
-                responsesRespondedTo.remove(token);
+            else {
+                future.cancelTimedOut();
             }
+            statistics.decrementOutstandingRequests();
         }
     }
 
@@ -1416,14 +1469,14 @@ class NatsConnection implements Connection {
         }
 
         boolean oldStyle = options.isOldRequestStyle();
-        String responseInbox = oldStyle ? createInbox() : createResponseInbox(this.mainInbox);
-        String responseToken = getResponseToken(responseInbox);
+        long responseToken = oldStyle ? 0 : pendingRequests.nextToken();
+        String responseInbox = oldStyle ? createInbox() : createResponseInbox(this.mainInbox, responseToken);
         NatsRequestCompletableFuture future =
             new NatsRequestCompletableFuture(cancelAction,
                 futureTimeout == null ? options.getRequestCleanupInterval() : futureTimeout, options.useTimeoutException());
 
         if (!oldStyle) {
-            responsesAwaiting.put(responseToken, future);
+            pendingRequests.put(responseToken, future);
         }
         statistics.incrementOutstandingRequests();
 
@@ -1437,7 +1490,7 @@ class NatsConnection implements Connection {
                     dispatcher.unsubscribe(responseInbox);
                 }
             });
-            responsesAwaiting.put(sub.getSID(), future);
+            pendingRequests.put(SubscriptionsBySid.parseSid(sub.getSID()), future);
         }
 
         publishInternal(subject, responseInbox, headers, body, flushImmediatelyAfterPublish);
@@ -1449,14 +1502,13 @@ class NatsConnection implements Connection {
     protected void deliverReply(Message msg) {
         boolean oldStyle = options.isOldRequestStyle();
         String subject = msg.getSubject();
-        String token = getResponseToken(subject);
-        String key = oldStyle ? msg.getSID() : token;
-        NatsRequestCompletableFuture f = responsesAwaiting.remove(key);
+        long key = oldStyle ? SubscriptionsBySid.parseSid(msg.getSID()) : getResponseToken(subject);
+        NatsRequestCompletableFuture f = pendingRequests.remove(key);
         if (f != null) {
+            statistics.decrementOutstandingRequests();
             if (advancedTracking) {
-                responsesRespondedTo.put(key, f);
+                statistics.registerRequestLatency(NatsSystemClock.nanoTime() - f.getStartNanoTime());
             }
-            statistics.decrementOutstandingRequests();
             if (msg.isStatusMessage() && msg.getStatus().getCode() == 503) {
                 switch (f.getCancelAction()) {
                     case COMPLETE:
@@ -1477,7 +1529,7 @@ class NatsConnection implements Connection {
         }
         else if (!oldStyle && !subject.startsWith(mainInbox)) {
             if (advancedTracking) {
-                if (responsesRespondedTo.get(key) != null) {
+                if (pendingRequests.wasRespondedTo(key)) {
                     statistics.incrementDuplicateRepliesReceived();
                 }
                 else {
@@ -1500,14 +1552,30 @@ class NatsConnection implements Connection {
      */
     @NonNull
     public Dispatcher createDispatcher(@Nullable MessageHandler handler) {
+        checkBeforeCreateDispatcher();
+        return startDispatcher(dispatcherFactory.createDispatcher(this, handler));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public Dispatcher createInlineDispatcher(@Nullable MessageHandler handler) {
+        checkBeforeCreateDispatcher();
+        return startDispatcher(dispatcherFactory.createInlineDispatcher(this, handler));
+    }
+
+    private void checkBeforeCreateDispatcher() {
         if (isClosed()) {
             throw new IllegalStateException("Connection is Closed");
         }
         else if (isDraining()) {
             throw new IllegalStateException("Connection is Draining");
         }
+    }
 
-        NatsDispatcher dispatcher = dispatcherFactory.createDispatcher(this, handler);
+    private Dispatcher startDispatcher(NatsDispatcher dispatcher) {
         String id = this.nuid.next();
         this.dispatchers.put(id, dispatcher);
         dispatcher.start(id);
@@ -1584,6 +1652,7 @@ class NatsConnection implements Connection {
         }
 
         try {
+            long pingNanoTime = NatsSystemClock.nanoTime();
             Future<Boolean> waitForIt = sendPing();
 
             if (waitForIt == null) { // error in the send ping code
@@ -1607,6 +1676,9 @@ class NatsConnection implements Connection {
             }
 
             this.statistics.incrementFlushCounter();
+            if (advancedTracking) {
+                this.statistics.registerFlushLatency(NatsSystemClock.nanoTime() - pingNanoTime);
+            }
         }
         catch (ExecutionException | CancellationException e) {
             throw new TimeoutException(e.toString());
@@ -1833,10 +1905,14 @@ class NatsConnection implements Connection {
         this.needPing.set(false);
         this.statistics.incrementIn(msg.getSizeInBytes());
 
-        NatsSubscription sub = subscribers.get(msg.getSID());
+        // the reader parses numeric sids, so routing does not need the sid string
+        NatsSubscription sub = msg.sidValue < 0 ? subscribers.get(msg.getSID()) : subscribers.get(msg.sidValue);
 
         if (sub != null) {
             msg.setSubscription(sub);
+            if (advancedTracking) {
+                msg.receivedNanoTime = NatsSystemClock.nanoTime();
+            }
 
             NatsDispatcher d = sub.getNatsDispatcher();
             NatsConsumer c = (d == null) ? sub : d;
@@ -1846,6 +1922,7 @@ class NatsConnection implements Connection {
                 // Drop the message and count it
                 this.statistics.incrementDroppedCount();
                 c.incrementDroppedCount();
+                releaseDropped(msg);
 
                 // Notify the first time
                 if (!c.isMarkedSlow()) {
@@ -1858,15 +1935,29 @@ class NatsConnection implements Connection {
 
                 // beforeQueueProcessor returns true if the message is allowed to be queued
                 if (sub.getBeforeQueueProcessor().apply(msg)) {
-                    q.push(msg);
+                    if (d instanceof NatsInlineDispatcher) {
+                        ((NatsInlineDispatcher) d).deliverInline(msg);
+                    }
+                    else {
+                        q.push(msg);
+                    }
                 }
             }
 
         }
-//        else {
-//            // Drop messages we don't have a subscriber for (could be extras on an
-//            // auto-unsub for example)
-//        }
+        else {
+            // Drop messages we don't have a subscriber for (could be extras on an
+            // auto-unsub for example)
+            releaseDropped(msg);
+        }
+    }
+
+    // with zero copy incoming, this lets the read buffer be reused.
+    // a read listener still gets the message after it is delivered, so leave it alone then
+    private void releaseDropped(NatsMessage msg) {
+        if (options.getReadListener() == null) {
+            msg.release();
+        }
     }
 
     protected void processOK() {
@@ -2511,6 +2602,26 @@ class NatsConnection implements Connection {
         return new NatsKeyValue(bucketName, this, options, null);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public CachedKeyValue cachedKeyValue(@NonNull String bucketName) throws IOException, JetStreamApiException {
+        return cachedKeyValue(bucketName, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public CachedKeyValue cachedKeyValue(@NonNull String bucketName, @Nullable CachedKeyValueOptions options) throws IOException, JetStreamApiException {
+        Validator.validateBucketName(bucketName, true);
+        ensureNotClosing();
+        return new NatsCachedKeyValue(bucketName, this, options == null ? CachedKeyValueOptions.DEFAULT_INSTANCE : options);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -58,12 +58,21 @@ class NatsConnectionReader implements Runnable {
     private IncomingMessageFactory incoming;
     private byte[] msgHeaders;
     private byte[] msgData;
+    private int msgDataLength;
     private int msgHeadersPosition;
     private int msgDataPosition;
 
-    private final byte[] buffer;
+    private byte[] buffer;
     private int bufferPosition;
 
+    // zero copy incoming : the reader reads into pooled chunks and payloads that
+    // arrive in a single read stay in the chunk instead of being copied
+    private final ReadBufferPool readBufferPool;
+    private ReadBufferPool.Chunk readChunk;
+    private int readChunkEnd;
+    private ReadBufferPool.Chunk msgDataChunk;
+    private int msgDataOffset;
+
     private Future<Boolean> stopped;
     private Future<DataPort> dataPortFuture;
     private DataPort dataPort;
@@ -84,6 +93,8 @@ class NatsConnectionReader implements Runnable {
         this.opArray = new char[MAX_PROTOCOL_RECEIVE_OP_LENGTH];
         this.buffer = new byte[connection.getOptions().getBufferSize()];
         this.bufferPosition = 0;
+        this.readBufferPool = connection.getOptions().isZeroCopyIncoming()
+            ? new ReadBufferPool(connection.getOptions().getBufferSize()) : null;
 
         this.utf8Mode = connection.getOptions().supportUTF8Subjects();
 
@@ -150,31 +161,33 @@ class NatsConnectionReader implements Runnable {
             this.opPos = 0;
 
             while (running.get() && !Thread.interrupted()) {
-                this.bufferPosition = 0;
-                int bytesRead = dataPort.read(this.buffer, 0, this.buffer.length);
+                int readStart = prepareReadBuffer();
+                this.bufferPosition = readStart;
+                int bytesRead = dataPort.read(this.buffer, readStart, this.buffer.length - readStart);
 
                 if (bytesRead > 0) {
                     connection.getStatisticsCollector().registerRead(bytesRead);
 
-                    while (this.bufferPosition < bytesRead) {
+                    int maxPos = readStart + bytesRead;
+                    while (this.bufferPosition < maxPos) {
                         if (this.mode == Mode.GATHER_OP) {
-                            this.gatherOp(bytesRead);
+                            this.gatherOp(maxPos);
                         }
                         else if (this.mode == Mode.GATHER_MSG_HMSG_PROTO) {
                             if (this.utf8Mode) {
-                                this.gatherProtocol(bytesRead);
+                                this.gatherProtocol(maxPos);
                             } else {
-                                this.gatherMessageProtocol(bytesRead);
+                                this.gatherMessageProtocol(maxPos);
                             }
                         }
                         else if (this.mode == Mode.GATHER_PROTO) {
-                            this.gatherProtocol(bytesRead);
+                            this.gatherProtocol(maxPos);
                         }
                         else if (this.mode == Mode.GATHER_HEADERS) {
-                            this.gatherHeaders(bytesRead);
+                            this.gatherHeaders(maxPos);
                         }
                         else {  // Mode.GATHER_DATA
-                            this.gatherMessageData(bytesRead);
+                            this.gatherMessageData(maxPos);
                         }
 
                         if (this.mode == Mode.PARSE_PROTO) { // Could be the end of the read
@@ -182,6 +195,7 @@ class NatsConnectionReader implements Runnable {
                             this.protocolBuffer.clear();
                         }
                     }
+                    this.readChunkEnd = maxPos;
                 } else if (bytesRead < 0) {
                     throw new IOException("Read channel closed.");
                 } else {
@@ -203,7 +217,38 @@ class NatsConnectionReader implements Runnable {
             // Clear the buffers, since they are only used inside this try/catch
             // We will reuse later
             this.protocolBuffer.clear();
+            if (this.readChunk != null) {
+                this.readChunk.release();
+                this.readChunk = null;
+            }
+            if (this.msgDataChunk != null) {
+                this.msgDataChunk.release(); // the message never completed
+                this.msgDataChunk = null;
+            }
+        }
+    }
+
+    // Returns where the next read goes in the buffer, which is always the start unless zero copy.
+    // In zero copy mode, reads fill the current chunk and move on to a new one when it is mostly
+    // used. A chunk with no messages still holding it can just be filled again from the start.
+    private int prepareReadBuffer() {
+        if (readBufferPool == null) {
+            return 0;
         }
+        if (readChunk != null) {
+            if (readChunk.references() == 1) {
+                readChunkEnd = 0;
+                return 0;
+            }
+            if (readBufferPool.getChunkSize() - readChunkEnd >= readBufferPool.getChunkSize() / 4) {
+                return readChunkEnd;
+            }
+            readChunk.release();
+        }
+        readChunk = readBufferPool.acquire();
+        buffer = readChunk.bytes;
+        readChunkEnd = 0;
+        return 0;
     }
 
     // Gather the op, either up to the first space or the first carriage return.
@@ -350,7 +395,22 @@ class NatsConnectionReader implements Runnable {
         try {
             while(this.bufferPosition < maxPos) {
                 int possible = maxPos - this.bufferPosition;
-                int want = msgData.length - msgDataPosition;
+
+                // zero copy: when the whole payload is in what was just read, leave it where it is
+                if (msgData == null && msgDataChunk == null && readChunk != null) {
+                    if (msgDataLength > 0 && msgDataLength <= possible) {
+                        // hold the chunk now, the CRLF may only come in the next read, which could be into a new chunk
+                        msgDataChunk = readChunk;
+                        msgDataChunk.retain();
+                        msgDataOffset = this.bufferPosition;
+                        msgDataPosition = msgDataLength;
+                        this.bufferPosition += msgDataLength;
+                        continue;
+                    }
+                    msgData = new byte[msgDataLength];
+                }
+
+                int want = msgDataLength - msgDataPosition;
 
                 // Grab all we can, until we get to the CR/LF
                 if (want > 0 && want <= possible) {
@@ -370,7 +430,13 @@ class NatsConnectionReader implements Runnable {
 
                 if (gotCR) {
                     if (b == LF) {
-                        incoming.setData(msgData);
+                        if (msgDataChunk != null) {
+                            incoming.setData(msgDataChunk, msgDataOffset, msgDataLength); // the message takes the reference
+                            msgDataChunk = null;
+                        }
+                        else {
+                            incoming.setData(msgData);
+                        }
                         NatsMessage m = incoming.getMessage();
                         this.connection.deliverMessage(m);
                         readListener.message(op, m);
@@ -396,6 +462,30 @@ class NatsConnectionReader implements Runnable {
         }
     }
 
+    // Parses the next element as a numeric sid without making a String.
+    // Returns -1 and does not move past the element if it is not a number.
+    long grabNextMessageLineSid(int max) {
+        int start = this.msgLinePosition;
+        int pos = start;
+        long sid = 0;
+        while (pos < max) {
+            char c = this.msgLineChars[pos];
+            if (c == SP || c == TAB) {
+                break;
+            }
+            if (c < '0' || c > '9' || pos - start == 18) {
+                return -1;
+            }
+            sid = sid * 10 + (c - '0');
+            pos++;
+        }
+        if (pos == start) {
+            return -1;
+        }
+        this.msgLinePosition = pos < max ? pos + 1 : pos; // don't grab the space
+        return sid;
+    }
+
     public String grabNextMessageLineElement(int max) {
         if (this.msgLinePosition >= max) {
             return null;
@@ -503,7 +593,8 @@ class NatsConnectionReader implements Runnable {
 
                     this.msgLinePosition = 0;
                     String subject = grabNextMessageLineElement(protocolLength);
-                    String sid = grabNextMessageLineElement(protocolLength);
+                    long sidValue = grabNextMessageLineSid(protocolLength);
+                    String sid = sidValue < 0 ? grabNextMessageLineElement(protocolLength) : null;
                     String replyTo = grabNextMessageLineElement(protocolLength);
                     String lengthChars;
 
@@ -514,15 +605,18 @@ class NatsConnectionReader implements Runnable {
                         replyTo = null;
                     }
 
-                    if (subject == null || subject.isEmpty() || sid == null || sid.isEmpty() || lengthChars == null) {
+                    if (subject == null || subject.isEmpty() || (sidValue < 0 && (sid == null || sid.isEmpty())) || lengthChars == null) {
                         throw new IllegalStateException("Bad MSG control line, missing required fields");
                     }
 
                     int incomingLength = parseLength(lengthChars);
 
-                    this.incoming = new IncomingMessageFactory(sid, subject, replyTo, protocolLineLength, utf8Mode);
+                    this.incoming = sidValue < 0
+                        ? new IncomingMessageFactory(sid, subject, replyTo, protocolLineLength, utf8Mode)
+                        : new IncomingMessageFactory(sidValue, subject, replyTo, protocolLineLength, utf8Mode);
                     this.mode = Mode.GATHER_DATA;
-                    this.msgData = new byte[incomingLength];
+                    this.msgDataLength = incomingLength;
+                    this.msgData = readBufferPool == null ? new byte[incomingLength] : null;
                     this.msgDataPosition = 0;
                     this.msgLinePosition = 0;
                     break;
@@ -540,7 +634,8 @@ class NatsConnectionReader implements Runnable {
 
                     this.msgLinePosition = 0;
                     String hSubject = grabNextMessageLineElement(hProtocolLength);
-                    String hSid = grabNextMessageLineElement(hProtocolLength);
+                    long hSidValue = grabNextMessageLineSid(hProtocolLength);
+                    String hSid = hSidValue < 0 ? grabNextMessageLineElement(hProtocolLength) : null;
                     String replyToOrHdrLen = grabNextMessageLineElement(hProtocolLength);
                     String hdrLenOrTotLen = grabNextMessageLineElement(hProtocolLength);
 
@@ -559,13 +654,16 @@ class NatsConnectionReader implements Runnable {
                         totLen = parseLength(hdrLenOrTotLen);
                     }
 
-                    if(hSubject==null || hSubject.isEmpty() || hSid==null || hSid.isEmpty()) {
+                    if(hSubject==null || hSubject.isEmpty() || (hSidValue < 0 && (hSid == null || hSid.isEmpty()))) {
                         throw new IllegalStateException("Bad HMSG control line, missing required fields");
                     }
 
-                    this.incoming = new IncomingMessageFactory(hSid, hSubject, hReplyTo, hProtocolLineLength, utf8Mode);
+                    this.incoming = hSidValue < 0
+                        ? new IncomingMessageFactory(hSid, hSubject, hReplyTo, hProtocolLineLength, utf8Mode)
+                        : new IncomingMessageFactory(hSidValue, hSubject, hReplyTo, hProtocolLineLength, utf8Mode);
                     this.msgHeaders = new byte[hdrLen];
-                    this.msgData = new byte[totLen - hdrLen];
+                    this.msgDataLength = totLen - hdrLen;
+                    this.msgData = readBufferPool == null ? new byte[msgDataLength] : null;
                     this.mode = Mode.GATHER_HEADERS;
                     this.msgHeadersPosition = 0;
                     this.msgDataPosition = 0;
@@ -20,7 +20,9 @@ import io.nats.client.support.ByteArrayBuilder;
 
 import java.io.IOException;
 import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -32,8 +34,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import static io.nats.client.impl.MarkerMessage.END_RECONNECT;
 import static io.nats.client.support.BuilderBase.bufferAllocSize;
-import static io.nats.client.support.NatsConstants.CR;
-import static io.nats.client.support.NatsConstants.LF;
+import static io.nats.client.support.NatsConstants.*;
 
 class NatsConnectionWriter implements Runnable {
     enum Mode {
@@ -41,6 +42,10 @@ class NatsConnectionWriter implements Runnable {
     }
     private static final int BUFFER_BLOCK_SIZE = 256;
 
+    // When gathering, payloads at least this big are handed to the data port as is,
+    // smaller ones are cheaper to copy than to give their own buffer.
+    static final int GATHER_PAYLOAD_THRESHOLD = 1024;
+
     private final NatsConnection connection;
 
     private final ReentrantLock writerLock;
@@ -54,6 +59,13 @@ class NatsConnectionWriter implements Runnable {
     private byte[] sendBuffer;
     private final AtomicInteger sendBufferLength;
 
+    // only used when the data port supports gathering writes
+    private ByteBuffer gatherBuffer;
+    private ByteBuffer[] gatherSegments;
+
+    // pooled messages in the batch being sent, they go back to their pool once it is written
+    private final ArrayList<PooledMessage> pooledInBatch;
+
     private final WriterMessageQueue normalOutgoing;
     private final WriterMessageQueue reconnectOutgoing;
     private final long reconnectBufferSize;
@@ -73,6 +85,7 @@ class NatsConnectionWriter implements Runnable {
         sendBufferLength = new AtomicInteger(sbl);
         sendBuffer = new byte[sbl];
         reconnectBufferSize = options.getReconnectBufferSize();
+        pooledInBatch = new ArrayList<>();
 
         normalOutgoing = new WriterMessageQueue(
             options.getMaxMessagesInOutgoingQueue(),
@@ -161,10 +174,10 @@ class NatsConnectionWriter implements Runnable {
                 if (!msg.isProtocol()) { // because a protocol message does not have headers or data
                     sendPosition += msg.copyNotEmptyHeaders(sendPosition, sendBuffer);
 
-                    byte[] bytes = msg.getData(); // guaranteed to not be null
-                    if (bytes.length > 0) {
-                        System.arraycopy(bytes, 0, sendBuffer, sendPosition, bytes.length);
-                        sendPosition += bytes.length;
+                    int dataLen = msg.dataLen; // the data array may be bigger than the data, i.e. PooledMessage
+                    if (dataLen > 0) {
+                        System.arraycopy(msg.data, 0, sendBuffer, sendPosition, dataLen);
+                        sendPosition += dataLen;
                     }
 
                     sendBuffer[sendPosition++] = CR;
@@ -176,6 +189,9 @@ class NatsConnectionWriter implements Runnable {
                 if (msg.flushImmediatelyAfterPublish) {
                     dataPort.flush();
                 }
+                if (msg instanceof PooledMessage) {
+                    pooledInBatch.add((PooledMessage) msg);
+                }
                 msg = msg.next;
             }
 
@@ -186,10 +202,155 @@ class NatsConnectionWriter implements Runnable {
             }
         }
         finally {
+            recyclePooledInBatch();
+            writerLock.unlock();
+        }
+    }
+
+    // Like sendMessageBatch, but protocol, headers and small payloads are copied into a direct buffer
+    // and large payloads are referenced, so all of it goes to the data port in a single gathering write.
+    void sendMessageBatchGathering(NatsMessage msg, DataPort dataPort, StatisticsCollector stats) throws IOException {
+        writerLock.lock();
+        try {
+            int sbl = sendBufferLength.get();
+            if (gatherBuffer == null || gatherBuffer.capacity() < sbl) {
+                gatherBuffer = ByteBuffer.allocateDirect(sbl);
+                gatherSegments = new ByteBuffer[16];
+            }
+            ByteBuffer buffer = gatherBuffer;
+            buffer.clear();
+            int segmentStart = 0;
+            int segmentCount = 0;
+            long batchSize = 0;
+
+            while (msg != null) {
+                if (msg == END_RECONNECT) {
+                    mode.set(Mode.Normal);
+                    break;
+                }
+                long size = msg.getSizeInBytes();
+                byte[] data = msg.isProtocol() ? null : msg.data;
+                int dataLen = msg.dataLen;
+                boolean reference = data != null && dataLen >= GATHER_PAYLOAD_THRESHOLD;
+                long copySize = reference ? size - dataLen : size;
+
+                if (buffer.position() + copySize > buffer.capacity()) {
+                    segmentCount = addSegment(buffer, segmentStart, segmentCount);
+                    if (segmentCount > 0) {
+                        dataPort.write(gatherSegments, segmentCount);
+                        stats.registerWrite(batchSize);
+                        clearSegments(segmentCount);
+                        segmentCount = 0;
+                        batchSize = 0;
+                    }
+                    if (copySize > buffer.capacity()) { // have to resize b/c can't fit 1 message
+                        sbl = bufferAllocSize((int) copySize, BUFFER_BLOCK_SIZE);
+                        sendBufferLength.set(sbl);
+                        sendBuffer = new byte[sbl];
+                        gatherBuffer = ByteBuffer.allocateDirect(sbl);
+                        buffer = gatherBuffer;
+                    }
+                    buffer.clear();
+                    segmentStart = 0;
+                }
+
+                ByteArrayBuilder bab = msg.getProtocolBab();
+                buffer.put(bab.internalArray(), 0, bab.length());
+                buffer.put(CR);
+                buffer.put(LF);
+
+                if (data != null) { // because a protocol message does not have headers or data
+                    msg.copyNotEmptyHeaders(buffer);
+                    if (reference) {
+                        segmentCount = addSegment(buffer, segmentStart, segmentCount);
+                        segmentCount = addSegment(ByteBuffer.wrap(data, 0, dataLen), segmentCount);
+                        segmentStart = buffer.position();
+                    }
+                    else if (dataLen > 0) {
+                        buffer.put(data, 0, dataLen);
+                    }
+                    buffer.put(CR);
+                    buffer.put(LF);
+                }
+
+                batchSize += size;
+                stats.incrementOut(size);
+
+                if (msg.flushImmediatelyAfterPublish) {
+                    // the message is only gathered so far, it has to be written for the flush to send it
+                    segmentCount = addSegment(buffer, segmentStart, segmentCount);
+                    if (segmentCount > 0) {
+                        dataPort.write(gatherSegments, segmentCount);
+                        stats.registerWrite(batchSize);
+                        clearSegments(segmentCount);
+                        segmentCount = 0;
+                        batchSize = 0;
+                    }
+                    buffer.clear();
+                    segmentStart = 0;
+                    dataPort.flush();
+                }
+                if (msg instanceof PooledMessage) {
+                    pooledInBatch.add((PooledMessage) msg); // its data may be referenced until the write
+                }
+                msg = msg.next;
+            }
+
+            segmentCount = addSegment(buffer, segmentStart, segmentCount);
+
+            // no need to write if there are no bytes
+            if (segmentCount > 0) {
+                dataPort.write(gatherSegments, segmentCount);
+                stats.registerWrite(batchSize);
+                clearSegments(segmentCount);
+            }
+        }
+        finally {
+            recyclePooledInBatch();
             writerLock.unlock();
         }
     }
 
+    // written or not, the batch's messages are done with once the batch is over
+    private void recyclePooledInBatch() {
+        int count = pooledInBatch.size();
+        if (count > 0) {
+            for (int i = 0; i < count; i++) {
+                pooledInBatch.get(i).recycle();
+            }
+            pooledInBatch.clear();
+        }
+    }
+
+    // adds the part of the gather buffer from segmentStart to its position, if there is one
+    private int addSegment(ByteBuffer buffer, int segmentStart, int segmentCount) {
+        int end = buffer.position();
+        if (end == segmentStart) {
+            return segmentCount;
+        }
+        ByteBuffer segment = buffer.duplicate();
+        segment.position(segmentStart);
+        segment.limit(end);
+        return addSegment(segment, segmentCount);
+    }
+
+    private int addSegment(ByteBuffer segment, int segmentCount) {
+        if (segmentCount == gatherSegments.length) {
+            ByteBuffer[] temp = new ByteBuffer[segmentCount * 2];
+            System.arraycopy(gatherSegments, 0, temp, 0, segmentCount);
+            gatherSegments = temp;
+        }
+        gatherSegments[segmentCount] = segment;
+        return segmentCount + 1;
+    }
+
+    // don't hold on to the user's payloads after they are written
+    private void clearSegments(int segmentCount) {
+        for (int x = 0; x < segmentCount; x++) {
+            gatherSegments[x] = null;
+        }
+    }
+
     @Override
     public void run() {
         Duration outgoingTimeout = Duration.ofMinutes(2); // This can be long since no one is sending
@@ -198,6 +359,7 @@ class NatsConnectionWriter implements Runnable {
         try {
             dataPort = this.dataPortFuture.get(); // Will wait for the future to complete
             StatisticsCollector stats = this.connection.getStatisticsCollector();
+            boolean gathering = dataPort.isGatheringWriteSupported();
 
             while (running.get() && !Thread.interrupted()) {
                 NatsMessage msg;
@@ -208,7 +370,12 @@ class NatsConnectionWriter implements Runnable {
                     msg = this.reconnectOutgoing.accumulate(sendBufferLength.get(), Options.MAX_MESSAGES_IN_NETWORK_BUFFER, reconnectTimeout);
                 }
                 if (msg != null) {
-                    sendMessageBatch(msg, dataPort, stats);
+                    if (gathering) {
+                        sendMessageBatchGathering(msg, dataPort, stats);
+                    }
+                    else {
+                        sendMessageBatch(msg, dataPort, stats);
+                    }
                 }
             }
         } catch (IOException | BufferOverflowException io) {
@@ -237,14 +404,22 @@ class NatsConnectionWriter implements Runnable {
     }
 
     boolean canQueueDuringReconnect(NatsMessage msg) {
+        return canQueueDuringReconnect(msg.getSizeInBytes());
+    }
+
+    boolean canQueueDuringReconnect(long sizeInBytes) {
         // don't over fill the "send" buffer while waiting to reconnect
-        return (reconnectBufferSize < 0 || (normalOutgoing.sizeInBytes() + msg.getSizeInBytes()) < reconnectBufferSize);
+        return (reconnectBufferSize < 0 || (normalOutgoing.sizeInBytes() + sizeInBytes) < reconnectBufferSize);
     }
 
     boolean queue(NatsMessage msg) {
         return this.normalOutgoing.push(msg);
     }
 
+    NatsMessage queueBatch(NatsMessage head, int count) {
+        return this.normalOutgoing.pushBatch(head, count);
+    }
+
     void queueInternalMessage(NatsMessage msg) {
         if (mode.get() == Mode.Reconnect) {
             reconnectOutgoing.push(msg);
@@ -15,6 +15,7 @@ package io.nats.client.impl;
 
 import io.nats.client.Consumer;
 import io.nats.client.NatsSystemClock;
+import io.nats.client.support.LatencyHistogram;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
@@ -32,6 +33,7 @@ abstract class NatsConsumer implements Consumer {
     private final AtomicLong messagesDelivered;
     private final AtomicBoolean slow;
     private final AtomicReference<CompletableFuture<Boolean>> drainingFuture;
+    private final AtomicReference<LatencyHistogram> deliveryLatency;
 
     NatsConsumer(NatsConnection conn) {
         this.connection = conn;
@@ -41,6 +43,7 @@ abstract class NatsConsumer implements Consumer {
         this.messagesDelivered = new AtomicLong(0);
         this.slow = new AtomicBoolean(false);
         this.drainingFuture = new AtomicReference<>();
+        this.deliveryLatency = new AtomicReference<>();
     }
 
     /**
@@ -106,6 +109,21 @@ abstract class NatsConsumer implements Consumer {
         this.messagesDelivered.incrementAndGet();
     }
 
+    // made on first use, since most consumers never record
+    void recordDeliveryLatency(long nanos) {
+        LatencyHistogram h = deliveryLatency.get();
+        if (h == null) {
+            deliveryLatency.compareAndSet(null, new LatencyHistogram());
+            h = deliveryLatency.get();
+        }
+        h.record(nanos);
+    }
+
+    @Override
+    public LatencyHistogram getDeliveryLatency() {
+        return deliveryLatency.get();
+    }
+
     void incrementDroppedCount() {
         this.droppedMessages.incrementAndGet();
     }
@@ -15,6 +15,7 @@ package io.nats.client.impl;
 
 import io.nats.client.Dispatcher;
 import io.nats.client.MessageHandler;
+import io.nats.client.NatsSystemClock;
 import io.nats.client.Subscription;
 
 import java.time.Duration;
@@ -70,7 +71,6 @@ class NatsDispatcher extends NatsConsumer implements Dispatcher, Runnable {
         internalStart(id, true);
     }
 
-    @SuppressWarnings("SameParameterValue")
     protected void internalStart(String id, boolean threaded) {
         if (!started.get()) {
             this.id = id;
@@ -91,32 +91,7 @@ class NatsDispatcher extends NatsConsumer implements Dispatcher, Runnable {
             while (running.get() && !Thread.interrupted()) {
                 NatsMessage msg = this.incoming.pop(this.waitForMessage);
                 if (msg != null) {
-                    NatsSubscription sub = msg.getNatsSubscription();
-                    if (sub != null && sub.isActive()) {
-                        MessageHandler handler = nonDefaultHandlerBySid.get(sub.getSID());
-                        if (handler == null) {
-                            handler = defaultHandler;
-                        }
-                        // A dispatcher can have a null defaultHandler. You can't subscribe without a handler,
-                        // but messages might come in while the dispatcher is being closed or after unsubscribe
-                        // and the [non-default] handler has already been removed from subscriptionHandlers
-                        if (handler != null) {
-                            sub.incrementDeliveredCount();
-                            this.incrementDeliveredCount();
-
-                            try {
-                                handler.onMessage(msg);
-                            } catch (Exception exp) {
-                                connection.processException(exp);
-                            } catch (Error err) {
-                                connection.processException(new Exception(err));
-                            }
-
-                            if (sub.reachedUnsubLimit()) {
-                                connection.invalidate(sub);
-                            }
-                        }
-                    }
+                    dispatch(msg);
                 }
 
                 if (breakRunLoop()) {
@@ -136,6 +111,42 @@ class NatsDispatcher extends NatsConsumer implements Dispatcher, Runnable {
         }
     }
 
+    // hand the message to its subscription's handler on the calling thread
+    void dispatch(NatsMessage msg) {
+        NatsSubscription sub = msg.getNatsSubscription();
+        if (sub != null && sub.isActive()) {
+            MessageHandler handler = nonDefaultHandlerBySid.get(sub.getSID());
+            if (handler == null) {
+                handler = defaultHandler;
+            }
+            // A dispatcher can have a null defaultHandler. You can't subscribe without a handler,
+            // but messages might come in while the dispatcher is being closed or after unsubscribe
+            // and the [non-default] handler has already been removed from subscriptionHandlers
+            if (handler != null) {
+                sub.incrementDeliveredCount();
+                this.incrementDeliveredCount();
+                if (msg.receivedNanoTime != 0) {
+                    long latency = NatsSystemClock.nanoTime() - msg.receivedNanoTime;
+                    sub.recordDeliveryLatency(latency);
+                    this.recordDeliveryLatency(latency);
+                    connection.getStatisticsCollector().registerDeliveryLatency(latency);
+                }
+
+                try {
+                    handler.onMessage(msg);
+                } catch (Exception exp) {
+                    connection.processException(exp);
+                } catch (Error err) {
+                    connection.processException(new Exception(err));
+                }
+
+                if (sub.reachedUnsubLimit()) {
+                    connection.invalidate(sub);
+                }
+            }
+        }
+    }
+
     void stop(boolean unsubscribeAll) {
         this.running.set(false);
         this.incoming.pause();
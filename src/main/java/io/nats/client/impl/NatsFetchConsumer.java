@@ -69,6 +69,7 @@ class NatsFetchConsumer extends NatsMessageConsumerBase implements FetchConsumer
                 .minPending(fetchConsumeOptions.getMinPending())
                 .minAckPending(fetchConsumeOptions.getMinAckPending()));
         initSub(subscriptionMaker.subscribe(null, null, null, inactiveThreshold), false);
+        sub.coalesceAcks(fetchConsumeOptions.getAckCoalesceWindow());
         pullSubject = sub._pull(pro, fetchConsumeOptions.raiseStatusWarnings(), this);
         startNanos = -1;
     }
@@ -0,0 +1,127 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.MessageHandler;
+import io.nats.client.NatsSystemClock;
+import io.nats.client.support.ScheduledTask;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A dispatcher without a thread or queue. The connection hands it each message on the reader thread
+ * and the handler runs right there. A watchdog task checks on the handler that is running,
+ * so one that is stuck is reported while it is still stuck, not only once it returns.
+ */
+class NatsInlineDispatcher extends NatsDispatcher {
+    private static final long MIN_WATCHDOG_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long thresholdNanos;
+    private final AtomicLong lastReportedStart;
+    private final AtomicLong slowCount;
+    private volatile NatsSubscription runningSub;
+    private volatile long runningStart; // 0 when no handler is running
+    private ScheduledTask watchdog;
+
+    NatsInlineDispatcher(NatsConnection conn, MessageHandler handler, Duration threshold) {
+        super(conn, handler);
+        thresholdNanos = threshold == null ? 0 : threshold.toNanos();
+        lastReportedStart = new AtomicLong();
+        slowCount = new AtomicLong();
+    }
+
+    @Override
+    public void start(String id) {
+        internalStart(id, false);
+        if (thresholdNanos > 0 && watchdog == null) {
+            long period = Math.max(MIN_WATCHDOG_PERIOD_NANOS, thresholdNanos / 2);
+            watchdog = new ScheduledTask("inline-watchdog-" + id, connection.getScheduledExecutor(),
+                period, TimeUnit.NANOSECONDS, this::checkRunning);
+        }
+    }
+
+    /**
+     * Called by the connection on the reader thread instead of queueing the message.
+     * @param msg the message, already matched to its subscription
+     */
+    void deliverInline(NatsMessage msg) {
+        if (!running.get()) {
+            return;
+        }
+        if (thresholdNanos <= 0) {
+            dispatch(msg);
+            return;
+        }
+
+        long start = NatsSystemClock.nanoTime();
+        runningSub = msg.getNatsSubscription();
+        runningStart = start;
+        try {
+            dispatch(msg);
+        }
+        finally {
+            runningStart = 0;
+            long elapsed = NatsSystemClock.nanoTime() - start;
+            if (elapsed > thresholdNanos) {
+                reportSlow(start, msg.getNatsSubscription(), elapsed);
+            }
+        }
+    }
+
+    // run by the watchdog, report a handler that has been running too long
+    private void checkRunning() {
+        long start = runningStart;
+        if (start != 0) {
+            NatsSubscription sub = runningSub;
+            long elapsed = NatsSystemClock.nanoTime() - start;
+            if (elapsed > thresholdNanos && runningStart == start) {
+                reportSlow(start, sub, elapsed);
+            }
+        }
+    }
+
+    // the watchdog and the reader thread can both notice the same handler, only report it once
+    private void reportSlow(long start, NatsSubscription sub, long elapsedNanos) {
+        if (lastReportedStart.getAndSet(start) != start) {
+            slowCount.incrementAndGet();
+            Duration elapsed = Duration.ofNanos(elapsedNanos);
+            connection.notifyErrorListener((conn, el) -> el.inlineDispatchSlow(conn, sub, elapsed));
+        }
+    }
+
+    /**
+     * The number of handler runs that were reported as slow
+     * @return the count
+     */
+    long getSlowCount() {
+        return slowCount.get();
+    }
+
+    @Override
+    void stop(boolean unsubscribeAll) {
+        if (watchdog != null) {
+            watchdog.shutdown();
+            watchdog = null;
+        }
+        super.stop(unsubscribeAll);
+    }
+
+    @Override
+    public boolean isDrained() {
+        // nothing is ever queued, it's drained once the handler that might be running returns
+        return isDraining() && runningStart == 0;
+    }
+}
@@ -154,7 +154,9 @@ public class NatsJetStream extends NatsJetStreamImpl implements JetStream {
             return null;
         }
 
+        long start = NatsSystemClock.nanoTime();
         Message resp = makeInternalRequestResponseRequired(subject, merged, data, getTimeout(), CancelAction.COMPLETE, conn.forceFlushOnRequest);
+        recordPublishAckLatency(start);
         return processPublishResponse(resp, options);
     }
 
@@ -166,9 +168,11 @@ public class NatsJetStream extends NatsJetStreamImpl implements JetStream {
             return null;
         }
 
+        long start = NatsSystemClock.nanoTime();
         CompletableFuture<Message> future = conn.requestFutureInternal(subject, merged, data, null, CancelAction.COMPLETE, conn.forceFlushOnRequest);
 
         return future.thenCompose(resp -> {
+            recordPublishAckLatency(start);
             try {
                 responseRequired(resp);
                 return CompletableFuture.completedFuture(processPublishResponse(resp, options));
@@ -178,6 +182,12 @@ public class NatsJetStream extends NatsJetStreamImpl implements JetStream {
         });
     }
 
+    private void recordPublishAckLatency(long start) {
+        if (conn.advancedTracking) {
+            conn.getStatisticsCollector().registerPublishAckLatency(NatsSystemClock.nanoTime() - start);
+        }
+    }
+
     private PublishAck processPublishResponse(Message resp, PublishOptions options) throws IOException, JetStreamApiException {
         if (resp.isStatusMessage()) {
             throw new IOException("Error Publishing: " + resp.getStatus().getMessageWithCode());
@@ -501,6 +511,9 @@ public class NatsJetStream extends NatsJetStreamImpl implements JetStream {
             sub = (NatsJetStreamSubscription) dispatcher.subscribeImplJetStream(settledInboxDeliver, settledDeliverGroup, handler, subFactory);
         }
 
+        sub.ackPolicyAll = settledCC != null && settledCC.getAckPolicy() == AckPolicy.All;
+        sub.coalesceAcks(so.getAckCoalesceWindow());
+
         // 8. The consumer might need to be created, do it here
         if (settledConsumerName == null || so.isOrdered()) {
             // the _create method sets the consumer name for us
@@ -693,6 +706,16 @@ public class NatsJetStream extends NatsJetStreamImpl implements JetStream {
         return getNatsStreamContext(streamName).getConsumerContext(consumerName);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AsyncPublisher asyncPublisher(AsyncPublisherOptions options) {
+        return new NatsAsyncPublisher(options,
+            (subject, headers, data, po) -> publishAsyncInternal(subject, headers, data, po, true),
+            conn.getExecutor(), getTimeout());
+    }
+
     private NatsStreamContext getNatsStreamContext(String streamName) throws IOException, JetStreamApiException {
         return new NatsStreamContext(streamName, this, conn, jso);
     }
@@ -16,13 +16,16 @@ package io.nats.client.impl;
 import io.nats.client.*;
 import io.nats.client.api.*;
 import io.nats.client.api.Error;
+import io.nats.client.support.Status;
 import io.nats.client.support.Validator;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import static io.nats.client.support.Status.NOT_FOUND_CODE;
 import static io.nats.client.support.Validator.validateNotNull;
 import static io.nats.client.support.Validator.validateStreamName;
 
@@ -343,6 +346,76 @@ public class NatsJetStreamManagement extends NatsJetStreamImpl implements JetStr
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MessageInfo> fetchMessageBatch(String streamName, MessageBatchGetRequest messageBatchGetRequest) throws IOException, JetStreamApiException {
+        List<MessageInfo> list = new ArrayList<>();
+        Status[] last = new Status[1];
+        requestMessageBatch(streamName, messageBatchGetRequest, mi -> {
+            if (mi.isStatus()) {
+                last[0] = mi.getStatus();
+            }
+            else {
+                list.add(mi);
+            }
+        });
+        throwOnBatchError(last[0]);
+        return list;
+    }
+
+    // no results, a not found status, is not an error, it's just an empty batch
+    static void throwOnBatchError(Status status) throws JetStreamApiException {
+        if (status != null && !status.isEob() && status.getCode() != NOT_FOUND_CODE) {
+            throw new JetStreamApiException(Error.convert(status));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean requestMessageBatch(String streamName, MessageBatchGetRequest messageBatchGetRequest, MessageInfoHandler handler) throws IOException, JetStreamApiException {
+        validateNotNull(messageBatchGetRequest, "Message Batch Get Request");
+        validateNotNull(handler, "Handler");
+        if (!directBatchGet211Available) {
+            throw new IllegalStateException("Batch direct get requires server version 2.11 or later.");
+        }
+        if (!getCachedStreamInfo(streamName).allowDirect) {
+            throw new IllegalStateException("Batch direct get requires a stream that allows direct get.");
+        }
+
+        // the response is many messages, so it is read from a subscription instead of a request
+        String inbox = conn.createInbox();
+        Subscription sub = conn.subscribe(inbox);
+        try {
+            conn.publish(prependPrefix(String.format(JSAPI_DIRECT_GET, streamName)), inbox, messageBatchGetRequest.serialize());
+            while (true) {
+                Message msg = sub.nextMessage(getTimeout());
+                if (msg == null) {
+                    throw new IOException("Timeout waiting for batch direct get response.");
+                }
+                if (msg.isStatusMessage()) {
+                    Status status = msg.getStatus();
+                    handler.onMessageInfo(new MessageInfo(status, streamName));
+                    return status.isEob();
+                }
+                handler.onMessageInfo(new MessageInfo(msg, streamName, true));
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        finally {
+            try {
+                sub.unsubscribe();
+            }
+            catch (RuntimeException ignore) {}
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -115,8 +115,23 @@ class NatsJetStreamMessage extends IncomingMessage {
     private void ackReply(AckType ackType, long delayNanos) {
         if (ackHasntBeenTermed()) {
             Connection nc = getJetStreamValidatedConnection();
-            nc.publish(replyTo, ackType.bodyBytes(delayNanos));
-            lastAck = ackType;
+            AckCoalescer ac = ackType == AckAck && subscription instanceof NatsJetStreamSubscription
+                ? ((NatsJetStreamSubscription) subscription).ackCoalescer : null;
+            if (ac == null) {
+                nc.publish(replyTo, ackType.bodyBytes(delayNanos));
+                lastAck = ackType;
+            }
+            else {
+                // set first, the coalescer clears it if the ack never goes out
+                lastAck = ackType;
+                ac.ack(this);
+            }
+        }
+    }
+
+    void ackNotSent() {
+        if (lastAck == AckAck) {
+            lastAck = null;
         }
     }
 
@@ -22,27 +22,39 @@ import java.time.ZonedDateTime;
  */
 public class NatsJetStreamMetaData {
 
-    private final String prefix;
-    private final String domain;
-    private final String accountHash;
-    private final String stream;
-    private final String consumer;
+    // the reply is only scanned for token boundaries and numbers up front,
+    // strings and the timestamp are only made if asked for
+    private final String reply;
+    private final int prefixEnd;
+    private final int domainStart;
+    private final int hashStart;
+    private final int streamStart;
+    private final int consumerStart;
+    private final int consumerEnd;
     private final long delivered;
     private final long streamSeq;
     private final long consumerSeq;
-    private final ZonedDateTime timestamp;
+    private final long timestampNanos;
     private final long pending;
+
+    private String prefix;
+    private String domain;
+    private String accountHash;
+    private String stream;
+    private String consumer;
+    private ZonedDateTime timestamp;
+
     @Override
     public String toString() {
         return "NatsJetStreamMetaData{" +
-            "prefix='" + prefix + '\'' +
-            ", domain='" + domain + '\'' +
-            ", stream='" + stream + '\'' +
-            ", consumer='" + consumer + '\'' +
+            "prefix='" + getPrefix() + '\'' +
+            ", domain='" + getDomain() + '\'' +
+            ", stream='" + getStream() + '\'' +
+            ", consumer='" + getConsumer() + '\'' +
             ", delivered=" + delivered +
             ", streamSeq=" + streamSeq +
             ", consumerSeq=" + consumerSeq +
-            ", timestamp=" + timestamp +
+            ", timestamp=" + timestamp() +
             ", pending=" + pending +
             '}';
     }
@@ -59,49 +71,77 @@ public class NatsJetStreamMetaData {
             throw new IllegalArgumentException(notAJetStreamMessage(natsMessage.getReplyTo()));
         }
 
-        String[] parts = natsMessage.getReplyTo().split("\\.");
-        if (parts.length < 8 || !"ACK".equals(parts[1])) {
-            throw new IllegalArgumentException(notAJetStreamMessage(natsMessage.getReplyTo()));
+        reply = natsMessage.getReplyTo();
+        int tokens = 1;
+        for (int x = 0; x < reply.length(); x++) {
+            if (reply.charAt(x) == '.') {
+                tokens++;
+            }
         }
 
-        int streamIndex;
-        boolean hasPending;
-        boolean hasDomainAndHash;
-        if (parts.length == 8) {
-            streamIndex = 2;
-            hasPending = false;
-            hasDomainAndHash = false;
-        }
-        else if (parts.length == 9) {
-            streamIndex = 2;
-            hasPending = true;
-            hasDomainAndHash = false;
+        prefixEnd = reply.indexOf('.');
+        if (tokens < 8 || tokens == 10 || !reply.startsWith("ACK.", prefixEnd + 1)) {
+            throw new IllegalArgumentException(notAJetStreamMessage(reply));
         }
-        else if (parts.length >= 11) {
-            streamIndex = 4;
-            hasPending = true;
-            hasDomainAndHash = true;
+
+        boolean hasPending = tokens > 8;
+        int cursor = prefixEnd + 5;
+        if (tokens >= 11) {
+            domainStart = cursor;
+            hashStart = nextToken(domainStart);
+            cursor = nextToken(hashStart);
         }
         else {
-            throw new IllegalArgumentException(notAJetStreamMessage(natsMessage.getReplyTo()));
+            domainStart = -1;
+            hashStart = -1;
         }
+        streamStart = cursor;
+        consumerStart = nextToken(streamStart);
+        consumerEnd = reply.indexOf('.', consumerStart);
+
+        cursor = consumerEnd + 1;
+        delivered = parseToken(cursor);
+        cursor = nextToken(cursor);
+        streamSeq = parseToken(cursor);
+        cursor = nextToken(cursor);
+        consumerSeq = parseToken(cursor);
+        cursor = nextToken(cursor);
+        timestampNanos = parseToken(cursor);
+        pending = hasPending ? parseToken(nextToken(cursor)) : -1L;
+    }
 
-        try {
-            prefix = parts[0];
-            // "ack" = parts[1]
-            domain = hasDomainAndHash ? parts[2] : null;
-            accountHash = hasDomainAndHash ? parts[3] : null;
-            stream = parts[streamIndex];
-            consumer = parts[streamIndex + 1];
-            delivered = Long.parseLong(parts[streamIndex + 2]);
-            streamSeq = Long.parseLong(parts[streamIndex + 3]);
-            consumerSeq = Long.parseLong(parts[streamIndex + 4]);
-            timestamp = DateTimeUtils.parseDateTimeNanos(parts[streamIndex + 5]);
-            pending = hasPending ? Long.parseLong(parts[streamIndex + 6]) : -1L;
+    private int nextToken(int start) {
+        return reply.indexOf('.', start) + 1;
+    }
+
+    private long parseToken(int start) {
+        int end = reply.indexOf('.', start);
+        if (end == -1) {
+            end = reply.length();
         }
-        catch (Exception e) {
-            throw new IllegalArgumentException(notAJetStreamMessage(natsMessage.getReplyTo()));
+        if (end == start || end - start > 19) {
+            throw new IllegalArgumentException(notAJetStreamMessage(reply));
         }
+        long value = 0;
+        for (int x = start; x < end; x++) {
+            int digit = reply.charAt(x) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException(notAJetStreamMessage(reply));
+            }
+            value = value * 10 + digit;
+        }
+        // 19 digits that don't fit in a long always overflow to negative
+        if (value < 0) {
+            throw new IllegalArgumentException(notAJetStreamMessage(reply));
+        }
+        return value;
+    }
+
+    private String getPrefix() {
+        if (prefix == null) {
+            prefix = reply.substring(0, prefixEnd);
+        }
+        return prefix;
     }
 
     /**
@@ -109,6 +149,9 @@ public class NatsJetStreamMetaData {
      * @return the domain
      */
     public String getDomain() {
+        if (domain == null && domainStart != -1) {
+            domain = reply.substring(domainStart, hashStart - 1);
+        }
         return domain;
     }
 
@@ -118,6 +161,9 @@ public class NatsJetStreamMetaData {
      * @return the stream.
      */
     public String getStream() {
+        if (stream == null) {
+            stream = reply.substring(streamStart, consumerStart - 1);
+        }
         return stream;
     }
 
@@ -127,6 +173,9 @@ public class NatsJetStreamMetaData {
      * @return the consumer.
      */
     public String getConsumer() {
+        if (consumer == null) {
+            consumer = reply.substring(consumerStart, consumerEnd);
+        }
         return consumer;
     }
 
@@ -172,10 +221,25 @@ public class NatsJetStreamMetaData {
      * @return the timestamp
      */
     public ZonedDateTime timestamp() {
+        if (timestamp == null) {
+            timestamp = DateTimeUtils.fromEpochNanos(timestampNanos);
+        }
         return timestamp;
     }
 
+    /**
+     * Gets the timestamp of the message as nanoseconds since the epoch, without making a ZonedDateTime.
+     *
+     * @return the timestamp in epoch nanos
+     */
+    public long timestampNanos() {
+        return timestampNanos;
+    }
+
     String getAccountHash() {
+        if (accountHash == null && hashStart != -1) {
+            accountHash = reply.substring(hashStart, streamStart - 1);
+        }
         return accountHash;
     }
 
@@ -318,11 +318,19 @@ public class NatsJetStreamPullSubscription extends NatsJetStreamSubscription {
         private boolean keepGoing = true;
 
         public JetStreamReaderImpl(final NatsJetStreamPullSubscription sub, final int batchSize, final int repullAt) {
+            this(sub, batchSize, repullAt, 1);
+        }
+
+        public JetStreamReaderImpl(final NatsJetStreamPullSubscription sub, final int batchSize, final int repullAt, final int prefetch) {
             this.sub = sub;
             this.batchSize = batchSize;
             this.repullAt = Math.max(1, Math.min(batchSize, repullAt));
             currentBatchRed = 0;
-            sub.pull(batchSize);
+            // each batch that reaches the repull point asks for one more,
+            // so this many batches stay requested ahead of the reader
+            for (int x = Math.max(1, prefetch); x > 0; x--) {
+                sub.pull(batchSize);
+            }
         }
 
         @Override
@@ -362,4 +370,12 @@ public class NatsJetStreamPullSubscription extends NatsJetStreamSubscription {
     public JetStreamReader reader(final int batchSize, final int repullAt) {
         return new JetStreamReaderImpl(this, batchSize, repullAt);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JetStreamReader reader(final int batchSize, final int repullAt, final int prefetch) {
+        return new JetStreamReaderImpl(this, batchSize, repullAt, prefetch);
+    }
 }
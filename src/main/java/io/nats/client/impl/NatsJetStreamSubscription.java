@@ -40,6 +40,10 @@ public class NatsJetStreamSubscription extends NatsSubscription implements JetSt
 
     protected MessageManager manager;
 
+    // set when the consumer's ack policy is known to be All, so acks can be cumulative
+    boolean ackPolicyAll;
+    volatile AckCoalescer ackCoalescer;
+
     NatsJetStreamSubscription(String sid, String subject, String queueName,
                               NatsConnection connection, NatsDispatcher dispatcher,
                               NatsJetStream js,
@@ -76,8 +80,39 @@ public class NatsJetStreamSubscription extends NatsSubscription implements JetSt
 
     MessageManager getManager() { return manager; } // internal, for testing
 
+    void coalesceAcks(long windowMillis) {
+        if (windowMillis > 0 && ackCoalescer == null) {
+            ackCoalescer = new AckCoalescer(connection, ackPolicyAll, windowMillis);
+        }
+    }
+
+    void flushAcks() {
+        AckCoalescer ac = ackCoalescer;
+        if (ac != null) {
+            ac.flush();
+        }
+    }
+
+    @Override
+    public long getPendingAckCount() {
+        AckCoalescer ac = ackCoalescer;
+        return ac == null ? 0 : ac.getPendingAcks();
+    }
+
+    @Override
+    public long getCoalescedAckCount() {
+        AckCoalescer ac = ackCoalescer;
+        return ac == null ? 0 : ac.getCoalescedAcks();
+    }
+
     @Override
     void invalidate() {
+        try {
+            flushAcks();
+        }
+        catch (IllegalStateException e) {
+            // the connection is closed, the server will redeliver anything that was not acked
+        }
         manager.shutdown();
         super.invalidate();
     }
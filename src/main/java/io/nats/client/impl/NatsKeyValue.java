@@ -16,15 +16,16 @@ package io.nats.client.impl;
 import io.nats.client.*;
 import io.nats.client.api.*;
 import io.nats.client.support.DateTimeUtils;
+import io.nats.client.support.Status;
 import io.nats.client.support.Validator;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
 
 import static io.nats.client.support.NatsConstants.DOT;
 import static io.nats.client.support.NatsConstants.GREATER_THAN;
@@ -35,10 +36,15 @@ import static io.nats.client.support.Validator.*;
 
 public class NatsKeyValue extends NatsFeatureBase implements KeyValue {
 
+    // the most subjects the server answers for in one multi last get
+    static final int MAX_MULTI_LAST_SUBJECTS = 1024;
+
     private final String bucketName;
     private final String streamSubject;
     private final String readPrefix;
     private final String writePrefix;
+    final Duration maxAge;
+    final boolean limitMarkers; // the server places a marker when a key's last message is removed by a limit
 
     NatsKeyValue(String bucketName, NatsConnection connection, KeyValueOptions kvo, NatsJetStreamManagement jsm) throws IOException {
         super(connection, kvo, jsm);
@@ -77,6 +83,8 @@ public class NatsKeyValue extends NatsFeatureBase implements KeyValue {
 
         readPrefix = readTemp;
         writePrefix = writeTemp;
+        maxAge = si.getConfiguration().getMaxAge();
+        limitMarkers = si.getConfiguration().getSubjectDeleteMarkerTtl() != null;
     }
 
     String readSubject(String key) {
@@ -111,6 +119,59 @@ public class NatsKeyValue extends NatsFeatureBase implements KeyValue {
         return existingOnly(_get(validateNonWildcardKvKeyRequired(key), revision));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, KeyValueEntry> get(Collection<String> keys) throws IOException, JetStreamApiException {
+        Map<String, KeyValueEntry> map = new HashMap<>();
+        get(keys, kve -> map.put(kve.getKey(), kve));
+        return map;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void get(Collection<String> keys, Consumer<KeyValueEntry> handler) throws IOException, JetStreamApiException {
+        validateNotNull(keys, "Keys");
+        validateNotNull(handler, "Handler");
+        List<String> readSubjects = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            readSubjects.add(readSubject(validateNonWildcardKvKeyRequired(key)));
+        }
+        if (readSubjects.isEmpty()) {
+            return;
+        }
+
+        if (!js.directBatchGet211Available || !jsm.getCachedStreamInfo(streamName).allowDirect) {
+            for (String key : keys) {
+                KeyValueEntry kve = existingOnly(_get(key));
+                if (kve != null) {
+                    handler.accept(kve);
+                }
+            }
+            return;
+        }
+
+        for (int from = 0; from < readSubjects.size(); from += MAX_MULTI_LAST_SUBJECTS) {
+            List<String> batch = readSubjects.subList(from, Math.min(readSubjects.size(), from + MAX_MULTI_LAST_SUBJECTS));
+            Status[] end = new Status[1];
+            jsm.requestMessageBatch(streamName, MessageBatchGetRequest.multiLastForSubjects(batch), mi -> {
+                if (mi.isStatus()) {
+                    end[0] = mi.getStatus();
+                }
+                else {
+                    KeyValueEntry kve = existingOnly(new KeyValueEntry(mi));
+                    if (kve != null) {
+                        handler.accept(kve);
+                    }
+                }
+            });
+            NatsJetStreamManagement.throwOnBatchError(end[0]);
+        }
+    }
+
     KeyValueEntry existingOnly(KeyValueEntry kve) {
         return kve == null || kve.getOperation() != KeyValueOperation.PUT ? null : kve;
     }
@@ -256,7 +317,7 @@ public class NatsKeyValue extends NatsFeatureBase implements KeyValue {
         _write(key, null, getPurgeHeaders(), getPublishOptions(expectedRevision, messageTtl));
     }
 
-    private PublishAck _write(String key, byte[] data, Headers h, PublishOptions popts) throws IOException, JetStreamApiException {
+    PublishAck _write(String key, byte[] data, Headers h, PublishOptions popts) throws IOException, JetStreamApiException {
         validateNonWildcardKvKeyRequired(key);
         return js.publish(NatsMessage.builder().subject(writeSubject(key)).data(data).headers(h).build(), popts);
     }
@@ -19,10 +19,12 @@ import io.nats.client.Subscription;
 import io.nats.client.support.ByteArrayBuilder;
 import io.nats.client.support.Status;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static io.nats.client.support.NatsConstants.*;
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
@@ -32,15 +34,24 @@ public class NatsMessage implements Message {
 
     protected static final String NOT_A_JET_STREAM_MESSAGE = "Message is not a JetStream message";
 
+    private static final AtomicReferenceFieldUpdater<NatsMessage, ReadBufferPool.Chunk> DATA_CHUNK =
+        AtomicReferenceFieldUpdater.newUpdater(NatsMessage.class, ReadBufferPool.Chunk.class, "dataChunk");
+
     protected String subject;
     protected String replyTo;
     protected byte[] data;
     protected Headers headers;
 
     // incoming specific : subject, replyTo, data and these fields
-    protected String sid;
+    protected String sid; // made from sidValue when the reader parsed a numeric sid
+    protected long sidValue = -1;
     protected int controlLineLength;
 
+    // zero copy incoming : the data stays in a read buffer chunk until asked for as a byte[]
+    // volatile so release can take it exactly once, the user and the connection may both release
+    protected volatile ReadBufferPool.Chunk dataChunk;
+    protected int dataOffset;
+
     // protocol specific : just this field
     ByteArrayBuilder protocolBab;
 
@@ -51,12 +62,15 @@ public class NatsMessage implements Message {
 
     protected NatsSubscription subscription;
 
+    // when the connection handed the message to its subscription, only set with advanced stats
+    protected long receivedNanoTime;
+
     // for accumulate
     protected NatsMessage next;
     protected boolean flushImmediatelyAfterPublish;
 
     // ack tracking
-    protected AckType lastAck;
+    protected volatile AckType lastAck;
 
     // ----------------------------------------------------------------------------------------------------
     // Constructors - Prefer to use Builder
@@ -123,7 +137,7 @@ public class NatsMessage implements Message {
             headerLen = 0;
         }
         else {
-            headers = headers.isReadOnly() ? headers : new Headers(headers, true, null);
+            headers = headers.readOnlyCopy();
             headerLen = headers.serializedLength();
         }
 
@@ -200,6 +214,18 @@ public class NatsMessage implements Message {
         return 0;
     }
 
+    /**
+     * @param dest is the buffer to write to, starting at its position
+     * @return the length of the header
+     */
+    int copyNotEmptyHeaders(ByteBuffer dest) {
+        calculate();
+        if (headerLen > 0) {
+            return headers.serializeToBuffer(dest);
+        }
+        return 0;
+    }
+
     void setSubscription(NatsSubscription sub) {
         subscription = sub;
     }
@@ -216,6 +242,9 @@ public class NatsMessage implements Message {
      */
     @Override
     public String getSID() {
+        if (sid == null && sidValue >= 0) {
+            sid = Long.toString(sidValue);
+        }
         return sid;
     }
 
@@ -280,9 +309,53 @@ public class NatsMessage implements Message {
      */
     @Override
     public byte[] getData() {
+        if (data == null) {
+            ReadBufferPool.Chunk chunk = dataChunk;
+            if (chunk == null) {
+                throw new IllegalStateException(MESSAGE_DATA_RELEASED);
+            }
+            byte[] copy = new byte[dataLen];
+            System.arraycopy(chunk.bytes, dataOffset, copy, 0, dataLen);
+            data = copy;
+        }
         return data;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer getDataBuffer() {
+        byte[] d = data;
+        if (d != null) {
+            return ByteBuffer.wrap(d).asReadOnlyBuffer();
+        }
+        ReadBufferPool.Chunk chunk = dataChunk;
+        if (chunk == null) {
+            throw new IllegalStateException(MESSAGE_DATA_RELEASED);
+        }
+        return ByteBuffer.wrap(chunk.bytes, dataOffset, dataLen).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release() {
+        ReadBufferPool.Chunk chunk = DATA_CHUNK.getAndSet(this, null);
+        if (chunk != null) {
+            chunk.release();
+        }
+    }
+
+    // The message takes over a reference to the chunk. Called by the reader before the message is delivered.
+    void setDataChunk(ReadBufferPool.Chunk chunk, int offset, int length) {
+        data = null;
+        dataChunk = chunk;
+        dataOffset = offset;
+        dataLen = length;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -401,7 +474,7 @@ public class NatsMessage implements Message {
                 "\n  replyTo='" + replyToString() + '\'' +
                 "\n  data=" + dataToString() +
                 "\n  headers=" + headersToString() +
-                "\n  sid='" + sid + '\'' +
+                "\n  sid='" + getSID() + '\'' +
                 "\n  protocolBytes=" + protocolBytesToString() +
                 "\n  sizeInBytes=" + sizeInBytes +
                 "\n  headerLen=" + headerLen +
@@ -416,10 +489,13 @@ public class NatsMessage implements Message {
     }
 
     private String dataToString() {
-        if (data.length == 0) {
+        if (dataLen == 0) {
             return "<no data>";
         }
-        String s = new String(data, UTF_8);
+        if (data == null && dataChunk == null) {
+            return "<released>";
+        }
+        String s = new String(getData(), UTF_8);
         int at = s.indexOf("io.nats.jetstream.api");
         if (at == -1) {
             return s.length() > 27 ? s.substring(0, 27) + "..." : s;
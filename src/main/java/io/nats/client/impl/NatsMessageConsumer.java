@@ -24,9 +24,16 @@ class NatsMessageConsumer extends NatsMessageConsumerBase implements PullManager
     protected final Dispatcher userDispatcher;
     protected final MessageHandler userMessageHandler;
 
-    protected final int thresholdMessages;
+    protected final AdaptivePullSizer sizer;
+    protected final int prefetch;
+    protected int batchSize;
+    protected int windowMessages;
+    protected int thresholdMessages;
+    protected final long windowBytes;
+    protected final long pullBytes;
     protected final long thresholdBytes;
     protected final boolean isTrackingBytes;
+    protected int pullsSent;
 
     protected int pendingReceivedMessages;
     protected long pendingReceivedBytes;
@@ -49,16 +56,35 @@ class NatsMessageConsumer extends NatsMessageConsumerBase implements PullManager
         this.userDispatcher = userDispatcher;
         this.userMessageHandler = userMessageHandler;
 
-        int bm = consumeOpts.getBatchSize();
+        sizer = consumeOpts.isAdaptive()
+            ? new AdaptivePullSizer(consumeOpts.getAdaptiveMinBatchSize(), consumeOpts.getAdaptiveMaxBatchSize(), consumeOpts.getBatchSize())
+            : null;
+        prefetch = consumeOpts.getPrefetch();
+        setBatchSize(sizer == null ? consumeOpts.getBatchSize() : sizer.getWindow());
+
+        // the bytes all the outstanding pulls can ask for
         long bb = consumeOpts.getBatchBytes();
-        int rePullMessages = Math.max(1, bm * consumeOpts.getThresholdPercent() / 100);
-        long rePullBytes = bb == 0 ? 0 : Math.max(1, bb * consumeOpts.getThresholdPercent() / 100);
-        thresholdMessages = bm - rePullMessages;
-        thresholdBytes = bb == 0 ? Integer.MIN_VALUE : bb - rePullBytes;
+        long pb = consumeOpts.getPrefetchBytes();
+        windowBytes = pb > 0 ? (bb == 0 ? pb : Math.min(pb, bb * prefetch)) : bb * prefetch;
+        // without batch bytes, each pull gets its share of the prefetch bytes
+        pullBytes = bb > 0 ? bb : Math.max(1, windowBytes / prefetch);
+        long rePullBytes = windowBytes == 0 ? 0 : Math.max(1, windowBytes * consumeOpts.getThresholdPercent() / 100);
+        thresholdBytes = windowBytes == 0 ? Integer.MIN_VALUE : windowBytes - rePullBytes;
         isTrackingBytes = rePullBytes > 0;
         doSub(true);
     }
 
+    private void setBatchSize(int bm) {
+        batchSize = bm;
+        windowMessages = (int)Math.min(Integer.MAX_VALUE, (long)bm * prefetch);
+        thresholdMessages = windowMessages - Math.max(1, (int)((long)windowMessages * consumeOpts.getThresholdPercent() / 100));
+    }
+
+    @Override
+    public int getCurrentBatchSize() {
+        return batchSize;
+    }
+
     protected void fullResetPending() {
         pendingReceivedMessages = 0;
         pendingReceivedBytes = 0;
@@ -91,6 +117,9 @@ class NatsMessageConsumer extends NatsMessageConsumerBase implements PullManager
 
     protected void updateProcessed(Message msg) {
         pendingProcessedMessages = Math.max(0, pendingProcessedMessages - 1);
+        if (sizer != null) {
+            sizer.messageProcessed(NatsSystemClock.nanoTime(), pendingProcessedMessages > pendingReceivedMessages);
+        }
         if (pendingProcessedMessages < thresholdMessages) {
             processedHasCrossedThreshold = true;
         }
@@ -103,6 +132,9 @@ class NatsMessageConsumer extends NatsMessageConsumerBase implements PullManager
 
     @Override
     public void messageReceived(Message msg) {
+        if (sizer != null) {
+            sizer.messageReceived(NatsSystemClock.nanoTime());
+        }
         pendingReceivedMessages = Math.max(0, pendingReceivedMessages - 1);
         if (pendingReceivedMessages == 0) {
             noReceivedArePending = true;
@@ -156,6 +188,7 @@ class NatsMessageConsumer extends NatsMessageConsumerBase implements PullManager
             stopped.set(false);
             finished.set(false);
             super.initSub(subscriptionMaker.subscribe(mh, userDispatcher, pmm, null), !first);
+            sub.coalesceAcks(consumeOpts.getAckCoalesceWindow());
             fullResetPending();
             rePull();
         }
@@ -183,18 +216,44 @@ class NatsMessageConsumer extends NatsMessageConsumerBase implements PullManager
     }
 
     protected void rePull() {
-        int rePullMessages = Math.max(1, consumeOpts.getBatchSize() - pendingProcessedMessages);
-        long rePullBytes = consumeOpts.getBatchBytes() == 0 ? 0 : consumeOpts.getBatchBytes() - pendingProcessedBytes;
-        PinnablePullRequestOptions pro = new PinnablePullRequestOptions(pmm.currentPinId,
-            PullRequestOptions.builder(rePullMessages)
-                .maxBytes(rePullBytes)
-                .expiresIn(consumeOpts.getExpiresInMillis())
-                .idleHeartbeat(consumeOpts.getIdleHeartbeat())
-                .group(consumeOpts.getGroup())
-                .priority(consumeOpts.getPriority())
-                .minPending(consumeOpts.getMinPending())
-                .minAckPending(consumeOpts.getMinAckPending()));
-        aboutToPull(rePullMessages, rePullBytes);
-        sub._pull(pro, consumeOpts.raiseStatusWarnings(), this);
+        if (sizer != null) {
+            // messages received but not yet processed
+            setBatchSize(sizer.nextWindow(pendingProcessedMessages - pendingReceivedMessages));
+            sizer.pullSent(NatsSystemClock.nanoTime());
+        }
+
+        // fill the window with pulls of up to the batch size,
+        // which is one pull unless prefetching
+        int remainingMessages = Math.max(1, windowMessages - pendingProcessedMessages);
+        long remainingBytes = windowBytes - pendingProcessedBytes;
+        do {
+            int rePullMessages = Math.min(batchSize, remainingMessages);
+            long rePullBytes = windowBytes == 0 ? 0 : Math.min(pullBytes, remainingBytes);
+            PinnablePullRequestOptions pro = new PinnablePullRequestOptions(pmm.currentPinId,
+                PullRequestOptions.builder(rePullMessages)
+                    .maxBytes(rePullBytes)
+                    .expiresIn(staggeredExpiresIn())
+                    .idleHeartbeat(consumeOpts.getIdleHeartbeat())
+                    .group(consumeOpts.getGroup())
+                    .priority(consumeOpts.getPriority())
+                    .minPending(consumeOpts.getMinPending())
+                    .minAckPending(consumeOpts.getMinAckPending()));
+            aboutToPull(rePullMessages, rePullBytes);
+            sub._pull(pro, consumeOpts.raiseStatusWarnings(), this);
+            remainingMessages -= rePullMessages;
+            remainingBytes -= rePullBytes;
+        }
+        while (remainingMessages > 0 && (windowBytes == 0 || remainingBytes > 0));
+    }
+
+    // Later pulls expire a little later, up to half again the expires in, so when prefetching
+    // the pulls do not all expire together and leave the consumer waiting for new ones.
+    // Only ever longer, the idle heartbeat is set from the expires in.
+    protected long staggeredExpiresIn() {
+        long expiresIn = consumeOpts.getExpiresInMillis();
+        if (prefetch == 1) {
+            return expiresIn;
+        }
+        return expiresIn + (pullsSent++ % prefetch) * expiresIn / (2L * prefetch);
     }
 }
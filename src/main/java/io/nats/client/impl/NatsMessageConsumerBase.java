@@ -101,6 +101,22 @@ abstract class NatsMessageConsumerBase implements MessageConsumer, PullManagerOb
         return cachedConsumerInfo;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPendingAckCount() {
+        return sub == null ? 0 : sub.getPendingAckCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCoalescedAckCount() {
+        return sub == null ? 0 : sub.getCoalescedAckCount();
+    }
+
     /**
      * {@inheritDoc}
      */
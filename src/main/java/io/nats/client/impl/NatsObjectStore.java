@@ -20,11 +20,16 @@ import io.nats.client.support.Digester;
 import io.nats.client.support.Validator;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.nats.client.support.NatsConstants.GREATER_THAN;
 import static io.nats.client.support.NatsJetStreamClientError.*;
@@ -36,6 +41,7 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
     private final String bucketName;
     private final String rawChunkPrefix;
     private final String rawMetaPrefix;
+    private final int maxChunksInFlight;
 
     NatsObjectStore(String bucketName, NatsConnection connection, ObjectStoreOptions oso, NatsJetStreamManagement jsm) throws IOException {
         super(connection, oso, jsm);
@@ -44,6 +50,7 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
         streamName = toStreamName(bucketName);
         rawChunkPrefix = toChunkPrefix(bucketName);
         rawMetaPrefix = toMetaPrefix(bucketName);
+        maxChunksInFlight = oso == null ? 1 : oso.getMaxChunksInFlight();
     }
 
     String rawChunkSubject(String nuid) {
@@ -100,6 +107,14 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
             chunkSize = DEFAULT_CHUNK_SIZE;
         }
 
+        // when pipelined, chunks are published async, up to max chunks in flight waiting for their ack
+        AsyncPublisher publisher = maxChunksInFlight == 1 ? null
+            : js.asyncPublisher(AsyncPublisherOptions.builder()
+                .maxOutstandingAcks(maxChunksInFlight)
+                .blockTimeout(jsm.getTimeout())
+                .build());
+        AtomicReference<Throwable> chunkFailure = new AtomicReference<>();
+
         try {
             Digester digester = new Digester();
             long totalSize = 0; // track total bytes read to make sure
@@ -116,7 +131,23 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
                 digester.update(payload);
 
                 // publish the payload
-                js.publish(chunkSubject, payload);
+                if (publisher == null) {
+                    js.publish(chunkSubject, payload);
+                }
+                else {
+                    throwChunkFailure(chunkFailure.get()); // stop reading as soon as any chunk fails
+                    CompletableFuture<PublishAck> f = publisher.publishAsync(chunkSubject, payload);
+                    if (f != null) { // null when the JetStream options are publish no ack
+                        f.whenComplete((ack, t) -> {
+                            if (t != null) {
+                                chunkFailure.compareAndSet(null, t);
+                            }
+                        });
+                    }
+                    if (payload == buffer) {
+                        buffer = new byte[chunkSize]; // the payload is in flight, it can't be reused
+                    }
+                }
 
                 // track total chunks and bytes
                 chunks++;
@@ -125,6 +156,19 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
                 red = inputStream.read(buffer);
             }
 
+            if (publisher != null) {
+                try {
+                    if (!publisher.waitForOutstandingAcks(jsm.getTimeout())) {
+                        throw new IOException("Timed out waiting for chunk acks.");
+                    }
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+                throwChunkFailure(chunkFailure.get());
+            }
+
             newInfo = publishMeta(ObjectInfo.builder(bucketName, meta)
                 .size(totalSize)
                 .chunks(chunks)
@@ -133,7 +177,16 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
                 .digest(digester.getDigestEntry())
                 .build());
         }
-        catch (IOException | JetStreamApiException | NoSuchAlgorithmException e) {
+        catch (IOException | JetStreamApiException | NoSuchAlgorithmException | RuntimeException e) {
+            if (publisher != null) {
+                // chunks still in flight would be stored after the purge, let them finish first
+                try {
+                    publisher.waitForOutstandingAcks(jsm.getTimeout());
+                }
+                catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
             try {
                 jsm.purgeStream(streamName, PurgeOptions.subject(rawChunkSubject(nuid)));
             }
@@ -178,21 +231,35 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
         return put(ObjectMeta.objectName(file.getName()), Files.newInputStream(file.toPath()));
     }
 
+    private static void throwChunkFailure(Throwable t) throws IOException, JetStreamApiException {
+        if (t == null) {
+            return;
+        }
+        // async publish failures arrive wrapped, see NatsJetStream.publishAsyncInternal
+        while ((t instanceof CompletionException || t.getClass() == RuntimeException.class) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        if (t instanceof IOException) {
+            throw (IOException) t;
+        }
+        if (t instanceof JetStreamApiException) {
+            throw (JetStreamApiException) t;
+        }
+        throw new IOException(t);
+    }
+
+    private interface ChunkWriter {
+        void write(byte[] data) throws IOException;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public ObjectInfo get(String objectName, OutputStream out) throws IOException, JetStreamApiException, InterruptedException, NoSuchAlgorithmException {
-        ObjectInfo oi = getInfo(objectName, false);
-        if (oi == null) {
-            throw OsObjectNotFound.instance();
-        }
-
+        ObjectInfo oi = getInfoToRead(objectName);
         if (oi.isLink()) {
             ObjectLink link = oi.getLink();
-            if (link == null || link.isBucketLink()) {
-                throw OsGetLinkToBucket.instance();
-            }
 
             // is the link in the same bucket
             if (link.getBucket().equals(bucketName)) {
@@ -204,6 +271,53 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
             return js.conn.objectStore(link.getBucket(), oso).get(link.getObjectName(), out);
         }
 
+        readChunks(oi, out::write);
+
+        out.flush(); // moved after validation, no need if invalid
+
+        return oi;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ObjectInfo get(String objectName, WritableByteChannel channel) throws IOException, JetStreamApiException, InterruptedException, NoSuchAlgorithmException {
+        ObjectInfo oi = getInfoToRead(objectName);
+        if (oi.isLink()) {
+            ObjectLink link = oi.getLink();
+            if (link.getBucket().equals(bucketName)) {
+                return get(link.getObjectName(), channel);
+            }
+            return js.conn.objectStore(link.getBucket(), oso).get(link.getObjectName(), channel);
+        }
+
+        readChunks(oi, data -> {
+            ByteBuffer bb = ByteBuffer.wrap(data);
+            while (bb.hasRemaining()) {
+                channel.write(bb);
+            }
+        });
+
+        return oi;
+    }
+
+    private ObjectInfo getInfoToRead(String objectName) throws IOException, JetStreamApiException {
+        ObjectInfo oi = getInfo(objectName, false);
+        if (oi == null) {
+            throw OsObjectNotFound.instance();
+        }
+
+        if (oi.isLink()) {
+            ObjectLink link = oi.getLink();
+            if (link == null || link.isBucketLink()) {
+                throw OsGetLinkToBucket.instance();
+            }
+        }
+        return oi;
+    }
+
+    private void readChunks(ObjectInfo oi, ChunkWriter writer) throws IOException, JetStreamApiException, InterruptedException, NoSuchAlgorithmException {
         Digester digester = new Digester();
         long totalBytes = 0;
         long totalChunks = 0;
@@ -221,10 +335,10 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
             totalChunks = 1;
             digester.update(data);
             if (totalBytes > 0) {
-                out.write(data);
+                writer.write(data);
             }
         }
-        else {
+        else if (maxChunksInFlight == 1) {
             JetStreamSubscription sub = js.subscribe(rawChunkSubject(oi.getNuid()),
                 PushSubscribeOptions.builder().stream(streamName).ordered(true).build());
 
@@ -243,7 +357,7 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
                 digester.update(data);
 
                 // write the bytes to the output file
-                out.write(data);
+                writer.write(data);
 
                 // read until the subject is complete
                 if (pending == 0) {
@@ -257,15 +371,46 @@ public class NatsObjectStore extends NatsFeatureBase implements ObjectStore {
             }
             catch (RuntimeException ignore) {}
         }
+        else {
+            // an ordered pull consumer keeps up to max chunks in flight
+            // pulling more as the ones already received are written
+            OrderedConsumerContext occ = js.getStreamContext(streamName)
+                .createOrderedConsumer(new OrderedConsumerConfiguration().filterSubject(rawChunkSubject(oi.getNuid())));
+            IterableConsumer consumer = occ.iterate(ConsumeOptions.builder().batchSize(maxChunksInFlight).build());
+            try {
+                Message m = consumer.nextMessage(jsm.getTimeout());
+                while (m != null) {
+                    long pending = m.metaData().pendingCount();
+                    if (expectedChunks != pending + (++totalChunks)) {
+                        throw OsGetChunksMismatch.instance();
+                    }
+
+                    byte[] data = m.getData();
+                    totalBytes += data.length;
+                    digester.update(data);
+                    writer.write(data);
+
+                    if (pending == 0) {
+                        break;
+                    }
+                    m = consumer.nextMessage(jsm.getTimeout());
+                }
+            }
+            catch (JetStreamStatusCheckedException e) {
+                throw new IOException(e);
+            }
+            finally {
+                try {
+                    consumer.close();
+                }
+                catch (Exception ignore) {}
+            }
+        }
 
         if (totalChunks != oi.getChunks()) { throw OsGetChunksMismatch.instance(); }
         if (totalBytes != oi.getSize()) { throw OsGetSizeMismatch.instance(); }
         String digest = oi.getDigest();
         if (digest == null || !digester.matches(digest)) { throw OsGetDigestMismatch.instance(); }
-
-        out.flush(); // moved after validation, no need if invalid
-
-        return oi;
     }
 
     /**
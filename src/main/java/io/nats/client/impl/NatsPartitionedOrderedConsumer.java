@@ -0,0 +1,179 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.*;
+import org.jspecify.annotations.NonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of Partitioned Ordered Consumer
+ */
+class NatsPartitionedOrderedConsumer implements PartitionedOrderedConsumer {
+    private final NatsConnection conn;
+    private final Partition[] partitions;
+
+    NatsPartitionedOrderedConsumer(NatsStreamContext streamContext, PartitionedConsumeOptions options, MessageHandler userHandler) throws IOException, JetStreamApiException {
+        conn = streamContext.js.conn;
+        partitions = new Partition[options.getPartitions()];
+        try {
+            for (int x = 0; x < partitions.length; x++) {
+                partitions[x] = new Partition(x, options.getPartitionFilterSubject(x));
+                partitions[x].start(streamContext, options, userHandler);
+            }
+        }
+        catch (IOException | JetStreamApiException | RuntimeException e) {
+            closePartitions();
+            throw e;
+        }
+    }
+
+    class Partition implements MessageHandler {
+        final int partition;
+        final String filterSubject;
+        Dispatcher dispatcher;
+        OrderedConsumerContext context;
+        MessageConsumer consumer;
+        MessageHandler userHandler;
+
+        // only the partition's dispatcher thread writes these
+        volatile long delivered;
+        volatile long lastStreamSequence;
+        volatile long pending = -1;
+
+        Partition(int partition, String filterSubject) {
+            this.partition = partition;
+            this.filterSubject = filterSubject;
+        }
+
+        void start(NatsStreamContext streamContext, PartitionedConsumeOptions options, MessageHandler userHandler) throws IOException, JetStreamApiException {
+            this.userHandler = userHandler;
+            context = streamContext.createOrderedConsumer(options.getPartitionConfiguration(partition));
+            dispatcher = conn.createDispatcher();
+            consumer = context.consume(options.getConsumeOptions(), dispatcher, this);
+        }
+
+        @Override
+        public void onMessage(Message msg) throws InterruptedException {
+            try {
+                userHandler.onMessage(msg);
+            }
+            finally {
+                delivered++;
+                if (msg.isJetStream()) {
+                    NatsJetStreamMetaData meta = msg.metaData();
+                    lastStreamSequence = meta.streamSequence();
+                    pending = meta.pendingCount();
+                }
+            }
+        }
+
+        PartitionProgress progress() {
+            return new PartitionProgress(partition, filterSubject,
+                context == null ? null : context.getConsumerName(),
+                delivered, lastStreamSequence, pending);
+        }
+
+        void close() {
+            if (consumer != null) {
+                try {
+                    consumer.close();
+                }
+                catch (Exception ignore) {}
+            }
+            if (dispatcher != null) {
+                conn.closeDispatcher(dispatcher);
+            }
+        }
+    }
+
+    private void closePartitions() {
+        for (Partition p : partitions) {
+            if (p != null) {
+                p.close();
+            }
+        }
+    }
+
+    @Override
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    @Override
+    @NonNull
+    public List<PartitionProgress> getProgress() {
+        List<PartitionProgress> list = new ArrayList<>(partitions.length);
+        for (Partition p : partitions) {
+            list.add(p.progress());
+        }
+        return list;
+    }
+
+    @Override
+    public long getDelivered() {
+        long total = 0;
+        for (Partition p : partitions) {
+            total += p.delivered;
+        }
+        return total;
+    }
+
+    @Override
+    public long getPending() {
+        long total = 0;
+        for (Partition p : partitions) {
+            long pending = p.pending;
+            if (pending > 0) {
+                total += pending;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public void stop() {
+        for (Partition p : partitions) {
+            p.consumer.stop();
+        }
+    }
+
+    @Override
+    public boolean isStopped() {
+        for (Partition p : partitions) {
+            if (!p.consumer.isStopped()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isFinished() {
+        for (Partition p : partitions) {
+            if (!p.consumer.isFinished()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws Exception {
+        closePartitions();
+    }
+}
@@ -14,61 +14,69 @@
 package io.nats.client.impl;
 
 import io.nats.client.StatisticsCollector;
+import io.nats.client.support.LatencyHistogram;
 
 import java.text.NumberFormat;
-import java.util.LongSummaryStatistics;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * The default statistics collector. Counters are striped, so threads updating them at the same time
+ * don't contend for one cache line. They are only summed when read.
+ */
 public class NatsStatistics implements StatisticsCollector {
-    private final ReentrantLock readStatsLock;
-    private final ReentrantLock writeStatsLock;
-
-    private final LongSummaryStatistics readStats;
-    private final LongSummaryStatistics writeStats;
-
-    private final AtomicLong flushCounter;
-    private final AtomicLong outstandingRequests;
-    private final AtomicLong requestsSent;
-    private final AtomicLong repliesReceived;
-    private final AtomicLong duplicateRepliesReceived;
-    private final AtomicLong orphanRepliesReceived;
-    private final AtomicLong reconnects;
-    private final AtomicLong inMsgs;
-    private final AtomicLong outMsgs;
-    private final AtomicLong inBytes;
-    private final AtomicLong outBytes;
-    private final AtomicLong pingCount;
-    private final AtomicLong okCount;
-    private final AtomicLong errCount;
-    private final AtomicLong exceptionCount;
-    private final AtomicLong droppedCount;
+    private final SizeStats readStats;
+    private final SizeStats writeStats;
+
+    private final LongAdder flushCounter;
+    private final LongAdder outstandingRequests;
+    private final LongAdder requestsSent;
+    private final LongAdder repliesReceived;
+    private final LongAdder duplicateRepliesReceived;
+    private final LongAdder orphanRepliesReceived;
+    private final LongAdder reconnects;
+    private final LongAdder inMsgs;
+    private final LongAdder outMsgs;
+    private final LongAdder inBytes;
+    private final LongAdder outBytes;
+    private final LongAdder pingCount;
+    private final LongAdder okCount;
+    private final LongAdder errCount;
+    private final LongAdder exceptionCount;
+    private final LongAdder droppedCount;
+
+    private final LatencyHistogram requestLatency;
+    private final LatencyHistogram flushLatency;
+    private final LatencyHistogram deliveryLatency;
+    private final LatencyHistogram publishAckLatency;
 
     private boolean trackAdvanced;
 
     public NatsStatistics() {
-        this.readStatsLock = new ReentrantLock();
-        this.writeStatsLock = new ReentrantLock();
-
-        this.readStats = new LongSummaryStatistics();
-        this.writeStats = new LongSummaryStatistics();
-
-        this.flushCounter = new AtomicLong();
-        this.outstandingRequests = new AtomicLong();
-        this.requestsSent = new AtomicLong();
-        this.repliesReceived = new AtomicLong();
-        this.duplicateRepliesReceived = new AtomicLong();
-        this.orphanRepliesReceived = new AtomicLong();
-        this.reconnects = new AtomicLong();
-        this.inMsgs = new AtomicLong();
-        this.outMsgs = new AtomicLong();
-        this.inBytes = new AtomicLong();
-        this.outBytes = new AtomicLong();
-        this.pingCount = new AtomicLong();
-        this.okCount = new AtomicLong();
-        this.errCount = new AtomicLong();
-        this.exceptionCount = new AtomicLong();
-        this.droppedCount = new AtomicLong();
+        this.readStats = new SizeStats();
+        this.writeStats = new SizeStats();
+
+        this.flushCounter = new LongAdder();
+        this.outstandingRequests = new LongAdder();
+        this.requestsSent = new LongAdder();
+        this.repliesReceived = new LongAdder();
+        this.duplicateRepliesReceived = new LongAdder();
+        this.orphanRepliesReceived = new LongAdder();
+        this.reconnects = new LongAdder();
+        this.inMsgs = new LongAdder();
+        this.outMsgs = new LongAdder();
+        this.inBytes = new LongAdder();
+        this.outBytes = new LongAdder();
+        this.pingCount = new LongAdder();
+        this.okCount = new LongAdder();
+        this.errCount = new LongAdder();
+        this.exceptionCount = new LongAdder();
+        this.droppedCount = new LongAdder();
+
+        this.requestLatency = new LatencyHistogram();
+        this.flushLatency = new LatencyHistogram();
+        this.deliveryLatency = new LatencyHistogram();
+        this.publishAckLatency = new LatencyHistogram();
     }
 
     @Override
@@ -78,99 +86,99 @@ public class NatsStatistics implements StatisticsCollector {
 
     @Override
     public void incrementPingCount() {
-        this.pingCount.incrementAndGet();
+        this.pingCount.increment();
     }
 
     @Override
     public void incrementDroppedCount() {
-        this.droppedCount.incrementAndGet();
+        this.droppedCount.increment();
     }
 
     @Override
     public void incrementOkCount() {
-        this.okCount.incrementAndGet();
+        this.okCount.increment();
     }
 
     @Override
     public void incrementErrCount() {
-        this.errCount.incrementAndGet();
+        this.errCount.increment();
     }
 
     @Override
     public void incrementExceptionCount() {
-        this.exceptionCount.incrementAndGet();
+        this.exceptionCount.increment();
     }
 
     @Override
     public void incrementRequestsSent() {
-        this.requestsSent.incrementAndGet();
+        this.requestsSent.increment();
     }
 
     @Override
     public void incrementRepliesReceived() {
-        this.repliesReceived.incrementAndGet();
+        this.repliesReceived.increment();
     }
 
     @Override
     public void incrementDuplicateRepliesReceived() {
-        this.duplicateRepliesReceived.incrementAndGet();
+        this.duplicateRepliesReceived.increment();
     }
 
     @Override
     public void incrementOrphanRepliesReceived() {
-        this.orphanRepliesReceived.incrementAndGet();
+        this.orphanRepliesReceived.increment();
     }
 
     @Override
     public void incrementReconnects() {
-        this.reconnects.incrementAndGet();
+        this.reconnects.increment();
     }
 
     @Override
     public void incrementIn(long bytes) {
-        this.inMsgs.incrementAndGet();
-        this.inBytes.addAndGet(bytes);
+        this.inMsgs.increment();
+        this.inBytes.add(bytes);
     }
 
     @Override
     public void incrementOut(long bytes) {
-        this.outMsgs.incrementAndGet();
-        this.outBytes.addAndGet(bytes);
+        this.outMsgs.increment();
+        this.outBytes.add(bytes);
     }
 
     @Override
     public void incrementInMsgs() {
-        this.inMsgs.incrementAndGet();
+        this.inMsgs.increment();
     }
 
     @Override
     public void incrementOutMsgs() {
-        this.outMsgs.incrementAndGet();
+        this.outMsgs.increment();
     }
 
     @Override
     public void incrementInBytes(long bytes) {
-        this.inBytes.addAndGet(bytes);
+        this.inBytes.add(bytes);
     }
 
     @Override
     public void incrementOutBytes(long bytes) {
-        this.outBytes.addAndGet(bytes);
+        this.outBytes.add(bytes);
     }
 
     @Override
     public void incrementFlushCounter() {
-        this.flushCounter.incrementAndGet();
+        this.flushCounter.increment();
     }
 
     @Override
     public void incrementOutstandingRequests() {
-        this.outstandingRequests.incrementAndGet();
+        this.outstandingRequests.increment();
     }
 
     @Override
     public void decrementOutstandingRequests() {
-        this.outstandingRequests.decrementAndGet();
+        this.outstandingRequests.decrement();
     }
 
     @Override
@@ -179,12 +187,7 @@ public class NatsStatistics implements StatisticsCollector {
             return;
         }
 
-        readStatsLock.lock();
-        try {
-            readStats.accept(bytes);
-        } finally {
-            readStatsLock.unlock();
-        }
+        readStats.accept(bytes);
     }
 
     @Override
@@ -193,89 +196,124 @@ public class NatsStatistics implements StatisticsCollector {
             return;
         }
 
-        writeStatsLock.lock();
-        try {
-            writeStats.accept(bytes);
-        } finally {
-            writeStatsLock.unlock();
-        }
+        writeStats.accept(bytes);
+    }
+
+    @Override
+    public void registerRequestLatency(long nanos) {
+        requestLatency.record(nanos);
+    }
+
+    @Override
+    public void registerFlushLatency(long nanos) {
+        flushLatency.record(nanos);
+    }
+
+    @Override
+    public void registerDeliveryLatency(long nanos) {
+        deliveryLatency.record(nanos);
+    }
+
+    @Override
+    public void registerPublishAckLatency(long nanos) {
+        publishAckLatency.record(nanos);
+    }
+
+    @Override
+    public LatencyHistogram getRequestLatency() {
+        return requestLatency;
+    }
+
+    @Override
+    public LatencyHistogram getFlushLatency() {
+        return flushLatency;
+    }
+
+    @Override
+    public LatencyHistogram getDeliveryLatency() {
+        return deliveryLatency;
+    }
+
+    @Override
+    public LatencyHistogram getPublishAckLatency() {
+        return publishAckLatency;
     }
 
     @Override
     public long getPings() {
-        return this.pingCount.get();
+        return this.pingCount.sum();
     }
 
     @Override
     public long getDroppedCount() {
-        return this.droppedCount.get();
+        return this.droppedCount.sum();
     }
 
     @Override
     public long getOKs() {
-        return this.okCount.get();
+        return this.okCount.sum();
     }
 
     @Override
     public long getErrs() {
-        return this.errCount.get();
+        return this.errCount.sum();
     }
 
     @Override
     public long getExceptions() {
-        return this.exceptionCount.get();
+        return this.exceptionCount.sum();
     }
 
     @Override
     public long getRequestsSent() {
-        return this.requestsSent.get();
+        return this.requestsSent.sum();
     }
 
     @Override
     public long getReconnects() {
-        return this.reconnects.get();
+        return this.reconnects.sum();
     }
 
     @Override
     public long getInMsgs() {
-        return this.inMsgs.get();
+        return this.inMsgs.sum();
     }
 
     @Override
     public long getOutMsgs() {
-        return this.outMsgs.get();
+        return this.outMsgs.sum();
     }
 
     @Override
     public long getInBytes() {
-        return this.inBytes.get();
+        return this.inBytes.sum();
     }
 
     @Override
     public long getOutBytes() {
-        return this.outBytes.get();
+        return this.outBytes.sum();
     }
 
     @Override
     public long getFlushCounter() {
-        return flushCounter.get();
+        return flushCounter.sum();
     }
 
     @Override
     public long getOutstandingRequests() {
-        return outstandingRequests.get();
+        return outstandingRequests.sum();
     }
 
     @Override
-    public long getRepliesReceived() { return repliesReceived.get(); }
+    public long getRepliesReceived() { return repliesReceived.sum(); }
 
     @Override
     public long getDuplicateRepliesReceived() {
-        return duplicateRepliesReceived.get();
+        return duplicateRepliesReceived.sum();
     }
 
     @Override
-    public long getOrphanRepliesReceived() { return orphanRepliesReceived.get(); }
+    public long getOrphanRepliesReceived() { return orphanRepliesReceived.sum(); }
 
     void appendNumberStat(StringBuilder builder, String name, long value) {
         builder.append(name);
@@ -289,57 +327,98 @@ public class NatsStatistics implements StatisticsCollector {
         builder.append("\n");
     }
 
+    void appendLatencyStat(StringBuilder builder, String name, LatencyHistogram histogram) {
+        LatencyHistogram h = histogram.snapshot();
+        NumberFormat nf = NumberFormat.getNumberInstance();
+        builder.append(name);
+        builder.append(nf.format(h.getCount()));
+        if (h.getCount() > 0) {
+            builder.append(" (us) p50 ").append(nf.format(h.getPercentile(50) / 1000.0))
+                .append(" p99 ").append(nf.format(h.getPercentile(99) / 1000.0))
+                .append(" max ").append(nf.format(h.getMax() / 1000.0));
+        }
+        builder.append("\n");
+    }
+
     public String toString() {
         StringBuilder builder = new StringBuilder();
 
         builder.append("### Connection ###\n");
-        appendNumberStat(builder, "Reconnects:                      ", this.reconnects.get());
-        appendNumberStat(builder, "Requests Sent:                   ", this.requestsSent.get());
-        appendNumberStat(builder, "Replies Received:                ", this.repliesReceived.get());
+        appendNumberStat(builder, "Reconnects:                      ", this.reconnects.sum());
+        appendNumberStat(builder, "Requests Sent:                   ", this.requestsSent.sum());
+        appendNumberStat(builder, "Replies Received:                ", this.repliesReceived.sum());
         if (this.trackAdvanced) {
-            appendNumberStat(builder, "Duplicate Replies Received:      ", this.duplicateRepliesReceived.get());
-            appendNumberStat(builder, "Orphan Replies Received:         ", this.orphanRepliesReceived.get());
+            appendNumberStat(builder, "Duplicate Replies Received:      ", this.duplicateRepliesReceived.sum());
+            appendNumberStat(builder, "Orphan Replies Received:         ", this.orphanRepliesReceived.sum());
         }
-        appendNumberStat(builder, "Pings Sent:                      ", this.pingCount.get());
-        appendNumberStat(builder, "+OKs Received:                   ", this.okCount.get());
-        appendNumberStat(builder, "-Errs Received:                  ", this.errCount.get());
-        appendNumberStat(builder, "Handled Exceptions:              ", this.exceptionCount.get());
-        appendNumberStat(builder, "Successful Flush Calls:          ", this.flushCounter.get());
-        appendNumberStat(builder, "Outstanding Request Futures:     ", this.outstandingRequests.get());
-        appendNumberStat(builder, "Dropped Messages:                ", this.droppedCount.get());
+        appendNumberStat(builder, "Pings Sent:                      ", this.pingCount.sum());
+        appendNumberStat(builder, "+OKs Received:                   ", this.okCount.sum());
+        appendNumberStat(builder, "-Errs Received:                  ", this.errCount.sum());
+        appendNumberStat(builder, "Handled Exceptions:              ", this.exceptionCount.sum());
+        appendNumberStat(builder, "Successful Flush Calls:          ", this.flushCounter.sum());
+        appendNumberStat(builder, "Outstanding Request Futures:     ", this.outstandingRequests.sum());
+        appendNumberStat(builder, "Dropped Messages:                ", this.droppedCount.sum());
         builder.append("\n");
         builder.append("### Reader ###\n");
-        appendNumberStat(builder, "Messages in:                     ", this.inMsgs.get());
-        appendNumberStat(builder, "Bytes in:                        ", this.inBytes.get());
+        appendNumberStat(builder, "Messages in:                     ", this.inMsgs.sum());
+        appendNumberStat(builder, "Bytes in:                        ", this.inBytes.sum());
         builder.append("\n");
         if (this.trackAdvanced) {
-            readStatsLock.lock();
-            try {
-                appendNumberStat(builder, "Socket Reads:                    ", readStats.getCount());
-                appendNumberStat(builder, "Average Bytes Per Read:          ", readStats.getAverage());
-                appendNumberStat(builder, "Min Bytes Per Read:              ", readStats.getMin());
-                appendNumberStat(builder, "Max Bytes Per Read:              ", readStats.getMax());
-            } finally {
-                readStatsLock.unlock();
-            }
+            appendNumberStat(builder, "Socket Reads:                    ", readStats.getCount());
+            appendNumberStat(builder, "Average Bytes Per Read:          ", readStats.getAverage());
+            appendNumberStat(builder, "Min Bytes Per Read:              ", readStats.getMin());
+            appendNumberStat(builder, "Max Bytes Per Read:              ", readStats.getMax());
         }
         builder.append("\n");
         builder.append("### Writer ###\n");
-        appendNumberStat(builder, "Messages out:                    ", this.outMsgs.get());
-        appendNumberStat(builder, "Bytes out:                       ", this.outBytes.get());
+        appendNumberStat(builder, "Messages out:                    ", this.outMsgs.sum());
+        appendNumberStat(builder, "Bytes out:                       ", this.outBytes.sum());
         builder.append("\n");
         if (this.trackAdvanced) {
-            writeStatsLock.lock();
-            try {
-                appendNumberStat(builder, "Socket Writes:                   ", writeStats.getCount());
-                appendNumberStat(builder, "Average Bytes Per Write:         ", writeStats.getAverage());
-                appendNumberStat(builder, "Min Bytes Per Write:             ", writeStats.getMin());
-                appendNumberStat(builder, "Max Bytes Per Write:             ", writeStats.getMax());
-            } finally {
-                writeStatsLock.unlock();
-            }
+            appendNumberStat(builder, "Socket Writes:                   ", writeStats.getCount());
+            appendNumberStat(builder, "Average Bytes Per Write:         ", writeStats.getAverage());
+            appendNumberStat(builder, "Min Bytes Per Write:             ", writeStats.getMin());
+            appendNumberStat(builder, "Max Bytes Per Write:             ", writeStats.getMax());
+            builder.append("\n");
+            builder.append("### Latency ###\n");
+            appendLatencyStat(builder, "Request Round Trips:             ", requestLatency);
+            appendLatencyStat(builder, "Flushes:                         ", flushLatency);
+            appendLatencyStat(builder, "Deliveries:                      ", deliveryLatency);
+            appendLatencyStat(builder, "Publish Acks:                    ", publishAckLatency);
         }
 
         return builder.toString();
     }
+
+    // what LongSummaryStatistics reports, without needing a lock to update
+    static class SizeStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        void accept(long value) {
+            count.increment();
+            sum.add(value);
+            min.accumulate(value);
+            max.accumulate(value);
+        }
+
+        long getCount() {
+            return count.sum();
+        }
+
+        double getAverage() {
+            long c = count.sum();
+            return c == 0 ? 0 : (double) sum.sum() / c;
+        }
+
+        long getMin() {
+            return min.get();
+        }
+
+        long getMax() {
+            return max.get();
+        }
+    }
 }
@@ -109,6 +109,15 @@ class NatsStreamContext implements StreamContext {
         return new NatsOrderedConsumerContext(this, config);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public PartitionedOrderedConsumer consumePartitioned(@NonNull PartitionedConsumeOptions options, @NonNull MessageHandler handler) throws IOException, JetStreamApiException {
+        return new NatsPartitionedOrderedConsumer(this, options, handler);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -16,6 +16,7 @@ package io.nats.client.impl;
 import io.nats.client.Dispatcher;
 import io.nats.client.Message;
 import io.nats.client.MessageHandler;
+import io.nats.client.NatsSystemClock;
 import io.nats.client.Subscription;
 
 import java.time.Duration;
@@ -162,6 +163,11 @@ class NatsSubscription extends NatsConsumer implements Subscription {
 
         if (msg != null) {
             this.incrementDeliveredCount();
+            if (msg.receivedNanoTime != 0) {
+                long latency = NatsSystemClock.nanoTime() - msg.receivedNanoTime;
+                this.recordDeliveryLatency(latency);
+                connection.getStatisticsCollector().registerDeliveryLatency(latency);
+            }
         }
 
         if (this.reachedUnsubLimit()) {
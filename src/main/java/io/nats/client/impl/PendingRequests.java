@@ -0,0 +1,475 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.support.NatsRequestCompletableFuture;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.nats.client.support.NatsConstants.NANOS_PER_MILLI;
+
+/**
+ * The connection's outstanding requests, keyed by a numeric token. The token is the last token
+ * of the reply subject, or the sid of the reply subscription for the old request style.
+ * <p>Entries live in several independently locked stripes, so requesting threads and the reply dispatcher
+ * are not all serialized on one lock, and keys and values are kept in plain arrays instead of entry objects.</p>
+ * <p>Timeouts are tracked in a hashed timer wheel. Every request goes in the slot for its deadline
+ * and a cleaning pass only visits the slots whose time has passed, so the work is proportional to what
+ * expires, not to what is outstanding. A reply does not touch the wheel, the slot entry is just dropped
+ * when it comes due and the request is no longer outstanding.</p>
+ */
+final class PendingRequests {
+    private static final int STRIPE_BITS = 5;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    private static final int WHEEL_SLOTS = 512;
+    private static final int WHEEL_MASK = WHEEL_SLOTS - 1;
+    private static final int TICKS_PER_CLEANUP_INTERVAL = 64;
+    private static final long MIN_TICK_NANOS = NANOS_PER_MILLI;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_TOKEN_DIGITS = 18; // always fits a long
+
+    private final AtomicLong lastToken;
+    private final TokenMap awaiting;
+    private final TokenMap respondedTo;
+    private final Slot[] wheel;
+    private final long tickNanos;
+    private final ReentrantLock expireLock;
+    private volatile long processedTick;
+
+    /**
+     * Construct the requests
+     * @param cleanupInterval how often {@link #expire(long)} is expected to be called, used to size the wheel ticks
+     * @param trackRespondedTo whether to remember requests that were responded to until they would have timed out,
+     *                         so a late reply can be told apart from one nobody asked for
+     * @param nowNanos the current time
+     */
+    PendingRequests(Duration cleanupInterval, boolean trackRespondedTo, long nowNanos) {
+        long interval = cleanupInterval == null ? 0 : cleanupInterval.toNanos();
+        tickNanos = Math.max(MIN_TICK_NANOS, interval / TICKS_PER_CLEANUP_INTERVAL);
+        lastToken = new AtomicLong();
+        awaiting = new TokenMap();
+        respondedTo = trackRespondedTo ? new TokenMap() : null;
+        wheel = new Slot[WHEEL_SLOTS];
+        for (int x = 0; x < WHEEL_SLOTS; x++) {
+            wheel[x] = new Slot();
+        }
+        expireLock = new ReentrantLock();
+        processedTick = Math.floorDiv(nowNanos, tickNanos) - 1;
+    }
+
+    /**
+     * Parse a token from the end of a reply subject, the way {@link #nextToken()} creates them.
+     * @param subject the reply subject
+     * @param start where the token starts
+     * @return the token or -1 if the rest of the subject is not a token
+     */
+    static long parseToken(CharSequence subject, int start) {
+        int len = subject == null ? 0 : subject.length();
+        if (start < 0 || len <= start || len - start > MAX_TOKEN_DIGITS) {
+            return -1;
+        }
+        long value = 0;
+        for (int x = start; x < len; x++) {
+            char c = subject.charAt(x);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Get a new token, never less than 1.
+     * @return the token
+     */
+    long nextToken() {
+        return lastToken.incrementAndGet();
+    }
+
+    void put(long token, NatsRequestCompletableFuture future) {
+        awaiting.put(token, future);
+        long deadline = future.getTimeOutAfterNanoTime();
+        long deadlineTick = Math.floorDiv(deadline, tickNanos);
+        long tick;
+        do {
+            // an expire can pass the tick while this is adding, then the slot would not be visited for a whole turn
+            tick = Math.max(deadlineTick, processedTick + 1);
+        } while (!wheel[(int) (tick & WHEEL_MASK)].add(token, deadline, tick, this));
+    }
+
+    /**
+     * Remove the request because its reply arrived.
+     * @param token the token
+     * @return the request's future or null if it is not outstanding
+     */
+    NatsRequestCompletableFuture remove(long token) {
+        NatsRequestCompletableFuture f = awaiting.remove(token);
+        if (f != null && respondedTo != null) {
+            respondedTo.put(token, f);
+        }
+        return f;
+    }
+
+    /**
+     * Whether the token belongs to a request that was responded to and would not have timed out yet.
+     * Always false if not tracking responded to requests.
+     * @param token the token
+     * @return true if it was responded to
+     */
+    boolean wasRespondedTo(long token) {
+        return respondedTo != null && respondedTo.get(token) != null;
+    }
+
+    /**
+     * Remove the requests whose deadline has passed. They are not completed, that is up to the caller.
+     * @param nowNanos the current time
+     * @return the futures of the removed requests, possibly already completed if the application cancelled them
+     */
+    List<NatsRequestCompletableFuture> expire(long nowNanos) {
+        expireLock.lock();
+        try {
+            // only ticks that have completely passed, everything in their slots is due unless it's for a later turn
+            long target = Math.floorDiv(nowNanos, tickNanos) - 1;
+            long from = processedTick + 1;
+            if (target < from) {
+                return Collections.emptyList();
+            }
+            processedTick = target;
+
+            List<NatsRequestCompletableFuture> expired = null;
+            long count = Math.min(target - from + 1, WHEEL_SLOTS);
+            for (long tick = from; tick < from + count; tick++) {
+                expired = wheel[(int) (tick & WHEEL_MASK)].expire(nowNanos, this, expired);
+            }
+            return expired == null ? Collections.<NatsRequestCompletableFuture>emptyList() : expired;
+        }
+        finally {
+            expireLock.unlock();
+        }
+    }
+
+    /**
+     * Remove everything, for instance when closing.
+     * @return the futures of the requests that were outstanding
+     */
+    List<NatsRequestCompletableFuture> removeAll() {
+        expireLock.lock();
+        try {
+            List<NatsRequestCompletableFuture> removed = new ArrayList<>();
+            awaiting.drainTo(removed);
+            if (respondedTo != null) {
+                respondedTo.drainTo(null);
+            }
+            for (Slot slot : wheel) {
+                slot.clear();
+            }
+            return removed;
+        }
+        finally {
+            expireLock.unlock();
+        }
+    }
+
+    /**
+     * The number of outstanding requests
+     * @return the number
+     */
+    int size() {
+        return awaiting.size();
+    }
+
+    // the slot was due, is the request still outstanding
+    private NatsRequestCompletableFuture due(long token) {
+        if (respondedTo != null) {
+            respondedTo.remove(token);
+        }
+        return awaiting.remove(token);
+    }
+
+    private static long mix(long token) {
+        return token * 0x9E3779B97F4A7C15L; // tokens are sequential, spread them out
+    }
+
+    // one slot of the wheel, the tokens due in this slot's ticks, for this and any later turn of the wheel
+    private static final class Slot {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long[] tokens = new long[4];
+        private long[] deadlines = new long[4];
+        private int size;
+
+        // false if the tick was already processed, expire moves processedTick before it takes the slot lock,
+        // so checking under the lock means the entry is either seen by that pass or not added
+        boolean add(long token, long deadline, long tick, PendingRequests requests) {
+            lock.lock();
+            try {
+                if (tick <= requests.processedTick) {
+                    return false;
+                }
+                if (size == tokens.length) {
+                    int capacity = size * 2;
+                    long[] t = new long[capacity];
+                    long[] d = new long[capacity];
+                    System.arraycopy(tokens, 0, t, 0, size);
+                    System.arraycopy(deadlines, 0, d, 0, size);
+                    tokens = t;
+                    deadlines = d;
+                }
+                tokens[size] = token;
+                deadlines[size] = deadline;
+                size++;
+                return true;
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        List<NatsRequestCompletableFuture> expire(long nowNanos, PendingRequests requests, List<NatsRequestCompletableFuture> expired) {
+            lock.lock();
+            try {
+                int kept = 0;
+                for (int x = 0; x < size; x++) {
+                    if (deadlines[x] - nowNanos < 0) {
+                        NatsRequestCompletableFuture f = requests.due(tokens[x]);
+                        if (f != null) {
+                            if (expired == null) {
+                                expired = new ArrayList<>();
+                            }
+                            expired.add(f);
+                        }
+                    }
+                    else {
+                        tokens[kept] = tokens[x];
+                        deadlines[kept] = deadlines[x];
+                        kept++;
+                    }
+                }
+                size = kept;
+                if (kept == 0 && tokens.length > MIN_CAPACITY) {
+                    // don't hold on to the memory from a burst
+                    tokens = new long[4];
+                    deadlines = new long[4];
+                }
+                return expired;
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                size = 0;
+                tokens = new long[4];
+                deadlines = new long[4];
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // token to future, the stripe is picked with the high bits of the mixed token, the index with the low bits
+    private static final class TokenMap {
+        private final Stripe[] stripes;
+
+        TokenMap() {
+            stripes = new Stripe[STRIPES];
+            for (int x = 0; x < STRIPES; x++) {
+                stripes[x] = new Stripe();
+            }
+        }
+
+        private Stripe stripe(long mixed) {
+            return stripes[(int) (mixed >>> (64 - STRIPE_BITS))];
+        }
+
+        NatsRequestCompletableFuture get(long token) {
+            if (token < 1) {
+                return null;
+            }
+            long mixed = mix(token);
+            Stripe s = stripe(mixed);
+            s.lock.lock();
+            try {
+                int index = s.indexOf(token, mixed);
+                return index < 0 ? null : s.values[index];
+            }
+            finally {
+                s.lock.unlock();
+            }
+        }
+
+        void put(long token, NatsRequestCompletableFuture future) {
+            long mixed = mix(token);
+            Stripe s = stripe(mixed);
+            s.lock.lock();
+            try {
+                s.put(token, mixed, future);
+            }
+            finally {
+                s.lock.unlock();
+            }
+        }
+
+        NatsRequestCompletableFuture remove(long token) {
+            if (token < 1) {
+                return null;
+            }
+            long mixed = mix(token);
+            Stripe s = stripe(mixed);
+            s.lock.lock();
+            try {
+                return s.remove(token, mixed);
+            }
+            finally {
+                s.lock.unlock();
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (Stripe s : stripes) {
+                s.lock.lock();
+                try {
+                    size += s.size;
+                }
+                finally {
+                    s.lock.unlock();
+                }
+            }
+            return size;
+        }
+
+        void drainTo(List<NatsRequestCompletableFuture> into) {
+            for (Stripe s : stripes) {
+                s.lock.lock();
+                try {
+                    if (into != null) {
+                        for (int x = 0; x < s.keys.length; x++) {
+                            if (s.keys[x] != 0) {
+                                into.add(s.values[x]);
+                            }
+                        }
+                    }
+                    s.keys = new long[MIN_CAPACITY];
+                    s.values = new NatsRequestCompletableFuture[MIN_CAPACITY];
+                    s.size = 0;
+                }
+                finally {
+                    s.lock.unlock();
+                }
+            }
+        }
+    }
+
+    // open addressing with linear probing, 0 marks an empty slot since tokens are never 0,
+    // removal shifts back the entries that follow instead of leaving markers
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long[] keys = new long[MIN_CAPACITY];
+        private NatsRequestCompletableFuture[] values = new NatsRequestCompletableFuture[MIN_CAPACITY];
+        private int size;
+
+        private static int home(long mixed, int mask) {
+            return (int) (mixed ^ (mixed >>> 32)) & mask;
+        }
+
+        int indexOf(long token, long mixed) {
+            int mask = keys.length - 1;
+            int index = home(mixed, mask);
+            while (true) {
+                long k = keys[index];
+                if (k == token) {
+                    return index;
+                }
+                if (k == 0) {
+                    return -1;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        void put(long token, long mixed, NatsRequestCompletableFuture future) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int index = home(mixed, mask);
+            while (keys[index] != 0 && keys[index] != token) {
+                index = (index + 1) & mask;
+            }
+            if (keys[index] == 0) {
+                keys[index] = token;
+                size++;
+            }
+            values[index] = future;
+        }
+
+        NatsRequestCompletableFuture remove(long token, long mixed) {
+            int index = indexOf(token, mixed);
+            if (index < 0) {
+                return null;
+            }
+            NatsRequestCompletableFuture removed = values[index];
+            int mask = keys.length - 1;
+            int hole = index;
+            int next = (hole + 1) & mask;
+            while (keys[next] != 0) {
+                // move the entry into the hole unless its home is cyclically after the hole
+                int h = home(mix(keys[next]), mask);
+                if (((next - h) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[hole] = 0;
+            values[hole] = null;
+            size--;
+
+            if (keys.length > MIN_CAPACITY && size * 8 < keys.length) {
+                resize(keys.length / 2);
+            }
+            return removed;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            NatsRequestCompletableFuture[] oldValues = values;
+            keys = new long[capacity];
+            values = new NatsRequestCompletableFuture[capacity];
+            int mask = capacity - 1;
+            for (int x = 0; x < oldKeys.length; x++) {
+                long k = oldKeys[x];
+                if (k != 0) {
+                    int index = home(mix(k), mask);
+                    while (keys[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    keys[index] = k;
+                    values[index] = oldValues[x];
+                }
+            }
+        }
+    }
+}
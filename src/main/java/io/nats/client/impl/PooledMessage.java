@@ -0,0 +1,251 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.support.ByteArrayBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.nats.client.support.NatsConstants.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An outgoing message that is reused instead of being created for every publish.
+ * Get one from a {@link MessagePool}, set it up and give it to {@link io.nats.client.Connection#publish(io.nats.client.Message)}.
+ * Once the connection has written it, the message goes back to its pool.
+ * <p>The message keeps its own protocol line, header and data buffers. The data and headers are copied
+ * into them when they are set, so the caller's arrays and Headers can be reused right away.
+ * Once the message is published it belongs to the connection. Don't touch it again, get another one from the pool.</p>
+ * <p>A message that never gets written, for instance because it was discarded or the connection closed,
+ * is not returned to the pool and is garbage collected like any other message.</p>
+ */
+public class PooledMessage extends NatsMessage {
+    private static final String ALREADY_PUBLISHED = "Pooled message was already published.";
+
+    private final MessagePool pool;
+    private final AtomicBoolean published;
+    private final byte[] digits;
+
+    // the subject and reply bytes are only encoded again when a different String is set
+    private String encodedSubject;
+    private byte[] subjectBytes;
+    private String encodedReplyTo;
+    private byte[] replyToBytes;
+    private byte[] headerBytes;
+    private boolean dirty;
+
+    PooledMessage(MessagePool pool, int initialDataSize) {
+        this.pool = pool;
+        published = new AtomicBoolean();
+        digits = new byte[10];
+        data = new byte[initialDataSize];
+        dataLen = 0;
+        headerBytes = EMPTY_BODY;
+        protocolBab = new ByteArrayBuilder(64, UTF_8);
+        dirty = true;
+    }
+
+    /**
+     * Set the subject
+     * @param subject the subject
+     * @return this message
+     */
+    public PooledMessage subject(String subject) {
+        checkNotPublished();
+        this.subject = subject;
+        dirty = true;
+        return this;
+    }
+
+    /**
+     * Set the reply to, null for none
+     * @param replyTo the reply to
+     * @return this message
+     */
+    public PooledMessage replyTo(String replyTo) {
+        checkNotPublished();
+        this.replyTo = replyTo;
+        dirty = true;
+        return this;
+    }
+
+    /**
+     * Set the headers, null or empty for none. The headers are serialized now,
+     * later changes to the Headers object are not part of the message.
+     * @param headers the headers
+     * @return this message
+     */
+    public PooledMessage headers(Headers headers) {
+        checkNotPublished();
+        if (headers == null || headers.isEmpty()) {
+            this.headers = null;
+            headerLen = 0;
+        }
+        else {
+            this.headers = headers;
+            headerLen = headers.serializedLength();
+            if (headerBytes.length < headerLen) {
+                headerBytes = new byte[headerLen];
+            }
+            headers.serializeToArray(0, headerBytes);
+        }
+        dirty = true;
+        return this;
+    }
+
+    /**
+     * Set the data by copying it into the message, null for none
+     * @param src the data
+     * @return this message
+     */
+    public PooledMessage data(byte[] src) {
+        return src == null ? data(EMPTY_BODY, 0, 0) : data(src, 0, src.length);
+    }
+
+    /**
+     * Set the data by copying part of an array into the message
+     * @param src the array holding the data
+     * @param offset where the data starts
+     * @param length the length of the data
+     * @return this message
+     */
+    public PooledMessage data(byte[] src, int offset, int length) {
+        checkNotPublished();
+        if (data.length < length) {
+            data = new byte[length];
+        }
+        System.arraycopy(src, offset, data, 0, length);
+        dataLen = length;
+        dirty = true;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The bytes are a copy, unless the message's buffer is exactly the size of the data.</p>
+     */
+    @Override
+    public byte[] getData() {
+        return dataLen == data.length ? data : Arrays.copyOf(data, dataLen);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The buffer is a view of the message's data, no copy is made.</p>
+     */
+    @Override
+    public ByteBuffer getDataBuffer() {
+        return ByteBuffer.wrap(data, 0, dataLen).slice().asReadOnlyBuffer();
+    }
+
+    @Override
+    protected void calculate() {
+        if (!dirty) {
+            return;
+        }
+
+        if (subject != encodedSubject) {
+            subjectBytes = subject.getBytes(UTF_8);
+            encodedSubject = subject;
+        }
+        if (replyTo != encodedReplyTo) {
+            replyToBytes = replyTo == null ? null : replyTo.getBytes(UTF_8);
+            encodedReplyTo = replyTo;
+        }
+
+        ByteArrayBuilder bab = protocolBab.clear();
+        if (headerLen > 0) {
+            bab.append(HPUB_SP_BYTES, 0, HPUB_SP_BYTES_LEN);
+        }
+        else {
+            bab.append(PUB_SP_BYTES, 0, PUB_SP_BYTES_LEN);
+        }
+        bab.append(subjectBytes).append(SP);
+        if (replyToBytes != null && replyToBytes.length > 0) {
+            bab.append(replyToBytes).append(SP);
+        }
+        if (headerLen > 0) {
+            appendNumber(bab, headerLen);
+            bab.append(SP);
+        }
+        appendNumber(bab, headerLen + dataLen);
+
+        controlLineLength = bab.length() + 2; // One CRLF. This is just how controlLineLength is defined.
+        sizeInBytes = controlLineLength + headerLen + dataLen + 2; // The 2nd CRLFs
+        dirty = false;
+    }
+
+    // same as bab.append(int) without making a String
+    private void appendNumber(ByteArrayBuilder bab, int n) {
+        int start = digits.length;
+        do {
+            digits[--start] = (byte) ('0' + n % 10);
+            n /= 10;
+        } while (n > 0);
+        bab.append(digits, start, digits.length - start);
+    }
+
+    @Override
+    int copyNotEmptyHeaders(int destPosition, byte[] dest) {
+        if (headerLen > 0) {
+            System.arraycopy(headerBytes, 0, dest, destPosition, headerLen);
+        }
+        return headerLen;
+    }
+
+    @Override
+    int copyNotEmptyHeaders(ByteBuffer dest) {
+        if (headerLen > 0) {
+            dest.put(headerBytes, 0, headerLen);
+        }
+        return headerLen;
+    }
+
+    private void checkNotPublished() {
+        if (published.get()) {
+            throw new IllegalStateException(ALREADY_PUBLISHED);
+        }
+    }
+
+    // called by the connection when the message is given to it
+    void markPublished() {
+        if (!published.compareAndSet(false, true)) {
+            throw new IllegalStateException(ALREADY_PUBLISHED);
+        }
+    }
+
+    // called by the connection if the publish did not make it to the queue
+    void unmarkPublished() {
+        published.set(false);
+    }
+
+    boolean isPublished() {
+        return published.get();
+    }
+
+    // called by the writer once the message bytes have been written
+    void recycle() {
+        next = null;
+        subject = null;
+        replyTo = null;
+        headers = null;
+        headerLen = 0;
+        dataLen = 0;
+        dirty = true;
+        published.set(false);
+        pool.recycle(this);
+    }
+}
@@ -0,0 +1,91 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read buffers for zero copy incoming messages. The reader holds a reference to the chunk
+ * it is reading into and each message whose payload is in the chunk holds one more.
+ * The chunk goes back to the pool when the last reference is released. A chunk that is never
+ * fully released is not lost, it is garbage collected like any other array.
+ */
+class ReadBufferPool {
+    static final int DEFAULT_MAX_POOLED = 16;
+
+    static final class Chunk {
+        final byte[] bytes;
+        private final ReadBufferPool pool;
+        private final AtomicInteger references;
+
+        private Chunk(ReadBufferPool pool, int size) {
+            this.pool = pool;
+            bytes = new byte[size];
+            references = new AtomicInteger();
+        }
+
+        void retain() {
+            references.incrementAndGet();
+        }
+
+        void release() {
+            int left = references.decrementAndGet();
+            if (left == 0) {
+                pool.recycle(this);
+            }
+            else if (left < 0) {
+                throw new IllegalStateException("Read buffer released too many times.");
+            }
+        }
+
+        int references() {
+            return references.get();
+        }
+    }
+
+    private final int chunkSize;
+    private final ArrayBlockingQueue<Chunk> pooled;
+
+    ReadBufferPool(int chunkSize) {
+        this(chunkSize, DEFAULT_MAX_POOLED);
+    }
+
+    ReadBufferPool(int chunkSize, int maxPooled) {
+        this.chunkSize = chunkSize;
+        pooled = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    int getChunkSize() {
+        return chunkSize;
+    }
+
+    int pooledCount() {
+        return pooled.size();
+    }
+
+    // the chunk comes back with one reference, for the caller
+    Chunk acquire() {
+        Chunk chunk = pooled.poll();
+        if (chunk == null) {
+            chunk = new Chunk(this, chunkSize);
+        }
+        chunk.references.set(1);
+        return chunk;
+    }
+
+    private void recycle(Chunk chunk) {
+        pooled.offer(chunk); // if the pool is full, the chunk is just dropped
+    }
+}
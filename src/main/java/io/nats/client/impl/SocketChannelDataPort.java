@@ -0,0 +1,129 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import io.nats.client.support.NatsUri;
+import org.jspecify.annotations.NonNull;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * A data port built on a blocking {@link SocketChannel}. Plain (non-TLS) connections
+ * read through a reusable direct buffer and accept gathering writes, which lets the
+ * connection writer hand message payloads to the kernel without first copying them
+ * into its send buffer.
+ * <p>Select it with {@link Options.Builder#dataPortType(String)} or the
+ * {@link Options#PROP_DATA_PORT_TYPE} property, using this class's canonical name.</p>
+ * <p>A channel cannot be used with a proxy, with websockets or with fast fallback. In those cases,
+ * and once the connection is upgraded to TLS, this port behaves exactly like the {@link SocketDataPort}.
+ * The socket write timeout is not supported.</p>
+ * This class is not thread-safe.  Caller must ensure thread safety.
+ */
+@SuppressWarnings("ClassEscapesDefinedScope") // NatsConnection
+public class SocketChannelDataPort extends SocketDataPort {
+
+    protected SocketChannel channel;
+    protected ByteBuffer readBuffer;
+    protected boolean channelReads;
+
+    @Override
+    public void afterConstruct(@NonNull Options options) {
+        super.afterConstruct(options);
+        readBuffer = ByteBuffer.allocateDirect(options.getBufferSize());
+    }
+
+    @Override
+    public void connect(@NonNull NatsConnection conn, @NonNull NatsUri nuri, long timeoutNanos) throws IOException {
+        Options options = conn.getOptions();
+        if (options.getProxy() != null || options.isEnableFastFallback() || isWebsocketScheme(nuri.getScheme())) {
+            channel = null;
+            channelReads = false;
+            super.connect(conn, nuri, timeoutNanos);
+            return;
+        }
+
+        connection = conn;
+        host = nuri.getHost();
+        port = nuri.getPort();
+
+        try {
+            channel = SocketChannel.open();
+            socket = channel.socket();
+            applyDefaultSocketOptions(socket);
+            socket.connect(new InetSocketAddress(host, port), (int) (timeoutNanos / 1_000_000));
+            applySocketOptions(options);
+
+            // a blocking channel ignores SO_TIMEOUT, the socket streams do not
+            channelReads = options.getSocketReadTimeoutMillis() <= 0;
+            in = socket.getInputStream();
+            out = socket.getOutputStream();
+        }
+        catch (Exception e) {
+            if (channel != null) {
+                try { channel.close(); } catch (Exception ignore) {}
+            }
+            channel = null;
+            socket = null;
+            if (e instanceof IOException) {
+                throw e;
+            }
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void upgradeToSecure() throws IOException {
+        super.upgradeToSecure();
+        channelReads = false; // the ssl socket has to do the reading
+    }
+
+    @Override
+    public int read(byte[] dst, int off, int len) throws IOException {
+        if (!channelReads) {
+            return super.read(dst, off, len);
+        }
+        readBuffer.clear();
+        if (len < readBuffer.capacity()) {
+            readBuffer.limit(len);
+        }
+        int read = channel.read(readBuffer);
+        if (read > 0) {
+            readBuffer.flip();
+            readBuffer.get(dst, off, read);
+        }
+        return read;
+    }
+
+    @Override
+    public boolean isGatheringWriteSupported() {
+        return channel != null && !isSecure;
+    }
+
+    @Override
+    public void write(ByteBuffer[] srcs, int count) throws IOException {
+        int offset = 0;
+        while (offset < count) {
+            // blocking mode writes everything it is given,
+            // but a single call is limited in how many buffers it will take
+            channel.write(srcs, offset, count - offset);
+            while (offset < count && !srcs[offset].hasRemaining()) {
+                offset++;
+            }
+        }
+    }
+}
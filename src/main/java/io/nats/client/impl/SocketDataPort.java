@@ -78,21 +78,7 @@ public class SocketDataPort implements DataPort {
                 socket.connect(new InetSocketAddress(host, port), (int) timeout);
             }
 
-            if (options.getSocketReadTimeoutMillis() > 0) {
-                socket.setSoTimeout(options.getSocketReadTimeoutMillis());
-            }
-
-            if (options.getSocketSoLinger() > 0) {
-                socket.setSoLinger(true, options.getSocketSoLinger());
-            }
-
-            if (options.getReceiveBufferSize() > 0) {
-                socket.setReceiveBufferSize(options.getReceiveBufferSize());
-            }
-
-            if (options.getSendBufferSize() > 0) {
-                socket.setSendBufferSize(options.getSendBufferSize());
-            }
+            applySocketOptions(options);
 
             if (isWebsocketScheme(nuri.getScheme())) {
                 if (SECURE_WEBSOCKET_PROTOCOL.equalsIgnoreCase(nuri.getScheme())) {
@@ -120,6 +106,24 @@ public class SocketDataPort implements DataPort {
         }
     }
 
+    protected void applySocketOptions(Options options) throws SocketException {
+        if (options.getSocketReadTimeoutMillis() > 0) {
+            socket.setSoTimeout(options.getSocketReadTimeoutMillis());
+        }
+
+        if (options.getSocketSoLinger() > 0) {
+            socket.setSoLinger(true, options.getSocketSoLinger());
+        }
+
+        if (options.getReceiveBufferSize() > 0) {
+            socket.setReceiveBufferSize(options.getReceiveBufferSize());
+        }
+
+        if (options.getSendBufferSize() > 0) {
+            socket.setSendBufferSize(options.getSendBufferSize());
+        }
+    }
+
     /**
      * Upgrade the port to SSL. If it is already secured, this is a no-op.
      * If the data port type doesn't support SSL it should throw an exception.
@@ -255,9 +259,13 @@ public class SocketDataPort implements DataPort {
         } else {
             socket = new Socket();
         }
+        applyDefaultSocketOptions(socket);
+        return socket;
+    }
+
+    protected static void applyDefaultSocketOptions(Socket socket) throws SocketException {
         socket.setTcpNoDelay(true);
         socket.setReceiveBufferSize(2 * 1024 * 1024);
         socket.setSendBufferSize(2 * 1024 * 1024);
-        return socket;
     }
 }
@@ -0,0 +1,241 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The connection's subscriptions, keyed by sid. Lookups happen for every inbound message,
+ * changes only on subscribe and unsubscribe, so reads are lock-free against a numeric key
+ * and writes are serialized and may replace the whole table.
+ * <p>The connection only hands out numeric sids, anything else is kept in a regular map.</p>
+ */
+final class SubscriptionsBySid {
+    private static final int MIN_CAPACITY = 16;
+
+    private static final class Entry {
+        final long sid;
+        final NatsSubscription sub;
+
+        Entry(long sid, NatsSubscription sub) {
+            this.sid = sid;
+            this.sub = sub;
+        }
+    }
+
+    // marks a removed entry so probing continues past it, never matches since sids are not negative
+    private static final Entry REMOVED = new Entry(-1, null);
+
+    // open addressing with linear probing, kept at most half full (counting removed entries)
+    private static final class Table {
+        final AtomicReferenceArray<Entry> slots;
+        final int mask;
+        int used;
+
+        Table(int capacity) {
+            slots = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+        }
+    }
+
+    private final ReentrantLock writeLock;
+    private final Map<String, NatsSubscription> nonNumeric;
+    private volatile Table table;
+    private volatile int numericSize;
+
+    SubscriptionsBySid() {
+        writeLock = new ReentrantLock();
+        nonNumeric = new ConcurrentHashMap<>();
+        table = new Table(MIN_CAPACITY);
+    }
+
+    /**
+     * Parse a sid the way the connection creates them.
+     * @param sid the sid
+     * @return the numeric value or -1 if the sid is not a number that fits a long
+     */
+    static long parseSid(CharSequence sid) {
+        int len = sid == null ? 0 : sid.length();
+        if (len == 0 || len > 18) {
+            return -1;
+        }
+        long value = 0;
+        for (int x = 0; x < len; x++) {
+            char c = sid.charAt(x);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int indexFor(long sid, int mask) {
+        long h = sid * 0x9E3779B97F4A7C15L; // sids are sequential, spread them out
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    NatsSubscription get(long sid) {
+        Table t = table;
+        int index = indexFor(sid, t.mask);
+        while (true) {
+            Entry e = t.slots.get(index);
+            if (e == null) {
+                return null;
+            }
+            if (e.sid == sid) {
+                return e.sub;
+            }
+            index = (index + 1) & t.mask;
+        }
+    }
+
+    NatsSubscription get(String sid) {
+        long numeric = parseSid(sid);
+        return numeric < 0 ? nonNumeric.get(sid) : get(numeric);
+    }
+
+    void put(String sid, NatsSubscription sub) {
+        long numeric = parseSid(sid);
+        if (numeric < 0) {
+            nonNumeric.put(sid, sub);
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            Table t = table;
+            int index = indexFor(numeric, t.mask);
+            int available = -1;
+            while (true) {
+                Entry e = t.slots.get(index);
+                if (e == null) {
+                    break;
+                }
+                if (e.sid == numeric) {
+                    t.slots.set(index, new Entry(numeric, sub));
+                    return;
+                }
+                if (e == REMOVED && available == -1) {
+                    available = index;
+                }
+                index = (index + 1) & t.mask;
+            }
+
+            if (available != -1) {
+                t.slots.set(available, new Entry(numeric, sub));
+            }
+            else if ((t.used + 1) * 2 > t.mask + 1) {
+                rehash(numericSize + 1);
+                insertNew(table, new Entry(numeric, sub));
+            }
+            else {
+                t.used++;
+                t.slots.set(index, new Entry(numeric, sub));
+            }
+            numericSize++;
+        }
+        finally {
+            writeLock.unlock();
+        }
+    }
+
+    NatsSubscription remove(String sid) {
+        long numeric = parseSid(sid);
+        if (numeric < 0) {
+            return nonNumeric.remove(sid);
+        }
+
+        writeLock.lock();
+        try {
+            Table t = table;
+            int index = indexFor(numeric, t.mask);
+            while (true) {
+                Entry e = t.slots.get(index);
+                if (e == null) {
+                    return null;
+                }
+                if (e.sid == numeric) {
+                    t.slots.set(index, REMOVED);
+                    numericSize--;
+                    return e.sub;
+                }
+                index = (index + 1) & t.mask;
+            }
+        }
+        finally {
+            writeLock.unlock();
+        }
+    }
+
+    int size() {
+        return numericSize + nonNumeric.size();
+    }
+
+    Collection<NatsSubscription> values() {
+        Table t = table;
+        ArrayList<NatsSubscription> list = new ArrayList<>(size());
+        for (int x = 0; x < t.slots.length(); x++) {
+            Entry e = t.slots.get(x);
+            if (e != null && e != REMOVED) {
+                list.add(e.sub);
+            }
+        }
+        list.addAll(nonNumeric.values());
+        return list;
+    }
+
+    void clear() {
+        writeLock.lock();
+        try {
+            table = new Table(MIN_CAPACITY);
+            numericSize = 0;
+            nonNumeric.clear();
+        }
+        finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Must hold the write lock. Readers keep using the old table until the new one is published.
+    private void rehash(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 4) {
+            capacity <<= 1;
+        }
+        Table old = table;
+        Table t = new Table(capacity);
+        for (int x = 0; x < old.slots.length(); x++) {
+            Entry e = old.slots.get(x);
+            if (e != null && e != REMOVED) {
+                insertNew(t, e);
+            }
+        }
+        table = t;
+    }
+
+    private static void insertNew(Table t, Entry entry) {
+        int index = indexFor(entry.sid, t.mask);
+        while (t.slots.get(index) != null) {
+            index = (index + 1) & t.mask;
+        }
+        t.used++;
+        t.slots.set(index, entry);
+    }
+}
@@ -1,4 +1,4 @@
-// Copyright 2015-2018 The NATS Authors
+// Copyright 2015-2025 The NATS Authors
 // Licensed under the Apache License, Version 2.0 (the "License");
 // you may not use this file except in compliance with the License.
 // You may obtain a copy of the License at:
@@ -17,23 +17,73 @@ import io.nats.client.NatsSystemClock;
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static io.nats.client.Options.MINIMUM_WRITE_QUEUE_PUSH_TIMEOUT;
 import static io.nats.client.impl.MarkerMessage.POISON_PILL;
-import static io.nats.client.support.NatsConstants.OUTPUT_QUEUE_BUSY;
 import static io.nats.client.support.NatsConstants.OUTPUT_QUEUE_IS_FULL;
 
+/**
+ * The outgoing queue is a multi-producer / single-consumer queue. Publishing threads
+ * never take a lock: they claim a queue index with a single atomic increment and store the
+ * message in the slot for that index. Slots live in fixed size chunks that are linked
+ * together as the queue grows, so there is no node allocated per message.
+ * <p>The consumer side (accumulate, filter and clear) is serialized by a lock that in
+ * practice is only ever taken by the writer thread, so it is uncontended.</p>
+ */
 class WriterMessageQueue extends MessageQueueBase {
     protected static final long MIN_PUSH_TIMEOUT_NANOS = MINIMUM_WRITE_QUEUE_PUSH_TIMEOUT.toNanos();
 
+    static final int CHUNK_SIZE = 1024;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final long MAX_FULL_BACKOFF_NANOS = 1_000_000;
+
+    static final class Chunk {
+        final long base; // the queue index of the first slot in the chunk
+        final AtomicReferenceArray<NatsMessage> slots;
+        volatile Chunk next;
+
+        Chunk(long base) {
+            this.base = base;
+            slots = new AtomicReferenceArray<>(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Thrown by pushBatch when the queue waits for room and stays full past the push timeout.
+     * The messages before the unqueued one were queued and will be sent.
+     */
+    static final class BatchQueueFullException extends IllegalStateException {
+        private static final long serialVersionUID = 1L;
+
+        final int queued;
+        final transient NatsMessage unqueued;
+
+        BatchQueueFullException(String message, int queued, NatsMessage unqueued) {
+            super(message);
+            this.queued = queued;
+            this.unqueued = unqueued;
+        }
+    }
+
+    private static final AtomicReferenceFieldUpdater<Chunk, Chunk> NEXT_CHUNK =
+        AtomicReferenceFieldUpdater.newUpdater(Chunk.class, Chunk.class, "next");
+
     protected final int maxMessagesInOutgoingQueue;
     protected final boolean discardWhenFull;
-    protected final Lock editLock;
     protected final long pushTimeoutNanos;
 
+    private final AtomicLong producerIndex;
+    private volatile Chunk producerChunk; // only a hint, producers find their chunk from here
+    private volatile Chunk consumerChunk;
+    private volatile long consumerIndex;
+    private final ReentrantLock consumerLock;
+    private volatile Thread waitingConsumer;
+
     WriterMessageQueue(Duration pushTimeout) {
         this(-1, false, pushTimeout);
     }
@@ -43,7 +93,10 @@ class WriterMessageQueue extends MessageQueueBase {
         this.maxMessagesInOutgoingQueue = queueCapacity;
         this.discardWhenFull = discardWhenFull;
         this.pushTimeoutNanos = Math.max(MIN_PUSH_TIMEOUT_NANOS, pushTimeout.toNanos());
-        this.editLock = new ReentrantLock();
+        producerIndex = new AtomicLong();
+        producerChunk = new Chunk(0);
+        consumerChunk = producerChunk;
+        consumerLock = new ReentrantLock();
     }
 
     boolean push(NatsMessage msg) {
@@ -51,44 +104,77 @@ class WriterMessageQueue extends MessageQueueBase {
     }
 
     boolean push(NatsMessage msg, boolean internal) {
-        try {
-            long startNanos = NatsSystemClock.nanoTime();
-            if (editLock.tryLock(pushTimeoutNanos, TimeUnit.NANOSECONDS)) {
-                try {
-                    // offer with no timeout returns true if the queue was not full
-                    if (!internal && discardWhenFull) {
-                        if (queue.offer(msg)) {
-                            sizeInBytes.getAndAdd(msg.getSizeInBytes());
-                            length.incrementAndGet();
-                            return true;
-                        }
-                        return false;
-                    }
+        if (!internal && discardWhenFull) {
+            if (tryReserve(1) == 0) {
+                return false;
+            }
+        }
+        else {
+            try {
+                if (reserve(1, pushTimeoutNanos) == 0) {
+                    throw new IllegalStateException(OUTPUT_QUEUE_IS_FULL + queueSize());
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
 
-                    // offer with timeout
-                    long timeoutNanosLeft = Math.max(
-                        MIN_PUSH_TIMEOUT_NANOS,
-                        pushTimeoutNanos - (NatsSystemClock.nanoTime() - startNanos)
-                    );
-                    if (queue.offer(msg, timeoutNanosLeft, TimeUnit.NANOSECONDS)) {
-                        sizeInBytes.getAndAdd(msg.getSizeInBytes());
-                        length.incrementAndGet();
-                        return true;
+        // count the bytes before the message is visible so the consumer never takes more than was added
+        sizeInBytes.getAndAdd(msg.getSizeInBytes());
+        offer(msg);
+        return true;
+    }
+
+    /**
+     * Push a chain of messages, linked by their next field, in order.
+     * Room is reserved for as many of the messages as possible at once and they are
+     * stored at consecutive queue indexes, so the chain is not interleaved with other publishers
+     * unless the queue can't take all of it at once.
+     * @param head the first message of the chain
+     * @param count the number of messages in the chain
+     * @return null if all the messages were queued, otherwise the first message that was not.
+     * It is still linked to the rest, which were not queued either. That only happens when the queue
+     * discards when full or the thread is interrupted.
+     * @throws BatchQueueFullException if the queue waits for room and stays full past the push timeout,
+     * which carries the number of messages that were queued and the first one that was not
+     */
+    NatsMessage pushBatch(NatsMessage head, int count) {
+        NatsMessage msg = head;
+        int queued = 0;
+        while (queued < count) {
+            int reserved;
+            if (discardWhenFull) {
+                reserved = (int) tryReserve(count - queued);
+                if (reserved == 0) {
+                    return msg;
+                }
+            }
+            else {
+                try {
+                    reserved = (int) reserve(count - queued, pushTimeoutNanos);
+                    if (reserved == 0) {
+                        throw new BatchQueueFullException(OUTPUT_QUEUE_IS_FULL + queueSize(), queued, msg);
                     }
-                    throw new IllegalStateException(OUTPUT_QUEUE_IS_FULL + queue.size());
                 }
-                finally {
-                    editLock.unlock();
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return msg;
                 }
             }
-            else {
-                throw new IllegalStateException(OUTPUT_QUEUE_BUSY + queue.size());
+
+            long bytes = 0;
+            NatsMessage cursor = msg;
+            for (int x = 0; x < reserved; x++) {
+                bytes += cursor.getSizeInBytes();
+                cursor = cursor.next;
             }
+            sizeInBytes.getAndAdd(bytes);
+            msg = offer(msg, reserved);
+            queued += reserved;
         }
-        catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
-        }
+        return null;
     }
 
     /**
@@ -98,7 +184,17 @@ class WriterMessageQueue extends MessageQueueBase {
      */
     @SuppressWarnings("SameParameterValue")
     void queueMarkerMessage(MarkerMessage msg) {
-        queue.offer(msg);
+        offer(msg);
+    }
+
+    @Override
+    void offerPoisonPill() {
+        offer(POISON_PILL);
+    }
+
+    @Override
+    long queueSize() {
+        return producerIndex.get() - consumerIndex;
     }
 
     // Waits up to the timeout to try to accumulate multiple messages
@@ -109,8 +205,6 @@ class WriterMessageQueue extends MessageQueueBase {
     // A timeout of 0 will wait forever (or until the queue is stopped/drained)
     //
     // Only works in writer mode, because we want to maintain order.
-    // accumulate reads off the concurrent queue one at a time, so if multiple
-    // readers are present, you could get out of order message delivery.
     NatsMessage accumulate(long maxBytesToAccumulate, long maxMessagesToAccumulate, Duration timeout)
         throws InterruptedException {
 
@@ -118,103 +212,328 @@ class WriterMessageQueue extends MessageQueueBase {
             return null;
         }
 
-        // _poll returns null if no messages or was a POISON_PILL
-        // MarkerMessage is a termination, is not counted, but is returned
-        NatsMessage headMessage = _poll(timeout);
-        if (headMessage == null || headMessage instanceof MarkerMessage) {
-            return headMessage;
+        if (!awaitNotEmpty(timeout)) {
+            return null;
         }
 
         if (maxBytesToAccumulate < 1) {
             maxBytesToAccumulate = Long.MAX_VALUE; // this just makes it easier to loop
         }
 
-        // these will be used to call count() after the loop ends
-        long accumulatedMessages = 1;
-        long accumulatedSize = headMessage.getSizeInBytes();
+        consumerLock.lock();
+        try {
+            // the queue can only have been emptied by a clear or filter
+            NatsMessage headMessage = peek();
+            if (headMessage == null) {
+                return null;
+            }
+            take();
 
-        // We need a cursor for the chain of messages
-        // and we return the head message
-        NatsMessage cursor = headMessage;
+            // POISON_PILL is returned as null
+            // MarkerMessage is a termination, is not counted, but is returned
+            if (headMessage instanceof MarkerMessage) {
+                return headMessage == POISON_PILL ? null : headMessage;
+            }
 
-        // If the message wants to flushImmediatelyAfterPublish, don't accumulate more
-        // If the accumulatedMessages is >= maxMessagesToAccumulate, don't accumulate more
-        while (!cursor.flushImmediatelyAfterPublish && accumulatedMessages < maxMessagesToAccumulate) {
-            // We are allowed to try more messages. Peek first to see what we are dealing with
-            NatsMessage peeked = queue.peek();
+            // these will be used to call count() after the loop ends
+            long accumulatedMessages = 1;
+            long accumulatedSize = headMessage.getSizeInBytes();
 
-            if (peeked == null) {
-                break; // no messages in the queue so we are done.
-            }
+            // We need a cursor for the chain of messages
+            // and we return the head message
+            NatsMessage cursor = headMessage;
 
-            if (peeked instanceof MarkerMessage) {
-                // - Get the message out of the queue b/c we only peeked
-                // - POISON_PILL does not get added to the cursor.next chain
-                //   but all other MarkerMessages do.
-                // - We are done.
-                queue.poll();
-                if (peeked != POISON_PILL) {
-                    cursor.next = peeked;
+            // If the message wants to flushImmediatelyAfterPublish, don't accumulate more
+            // If the accumulatedMessages is >= maxMessagesToAccumulate, don't accumulate more
+            while (!cursor.flushImmediatelyAfterPublish && accumulatedMessages < maxMessagesToAccumulate) {
+                // We are allowed to try more messages. Peek first to see what we are dealing with
+                NatsMessage peeked = peek();
+
+                if (peeked == null) {
+                    break; // no messages in the queue so we are done.
                 }
-                break;
-            }
 
-            // How big is the message we just peeked at? Will it put us over maxBytesToAccumulate?
-            long size = peeked.getSizeInBytes();
-            if (accumulatedSize + size > maxBytesToAccumulate) {
-                break; // Too many bytes, so we are done.
-            }
+                if (peeked instanceof MarkerMessage) {
+                    // - Get the message out of the queue b/c we only peeked
+                    // - POISON_PILL does not get added to the cursor.next chain
+                    //   but all other MarkerMessages do.
+                    // - We are done.
+                    take();
+                    if (peeked != POISON_PILL) {
+                        cursor.next = peeked;
+                    }
+                    break;
+                }
 
-            // We can add the peeked message to the chain...
-            // - Get the message out of the queue b/c we only peeked
-            // - Track the message and the bytes for later counting and the while loop
-            // - Add the message to the chain
-            queue.poll();
-            accumulatedMessages++;
-            accumulatedSize += size;
-            cursor.next = peeked;
+                // How big is the message we just peeked at? Will it put us over maxBytesToAccumulate?
+                long size = peeked.getSizeInBytes();
+                if (accumulatedSize + size > maxBytesToAccumulate) {
+                    break; // Too many bytes, so we are done.
+                }
 
-            // Move the cursor. It's okay if the while terminates at it's
-            // next check, we don't need the cursor outside the loop
-            cursor = peeked;
-        }
+                // We can add the peeked message to the chain...
+                // - Get the message out of the queue b/c we only peeked
+                // - Track the message and the bytes for later counting and the while loop
+                // - Add the message to the chain
+                take();
+                accumulatedMessages++;
+                accumulatedSize += size;
+                cursor.next = peeked;
+
+                // Move the cursor. It's okay if the while terminates at it's
+                // next check, we don't need the cursor outside the loop
+                cursor = peeked;
+            }
 
-        length.addAndGet(-accumulatedMessages);
-        sizeInBytes.addAndGet(-accumulatedSize);
-        return headMessage;
+            length.addAndGet(-accumulatedMessages);
+            sizeInBytes.addAndGet(-accumulatedSize);
+            return headMessage;
+        }
+        finally {
+            consumerLock.unlock();
+        }
     }
 
     void filter() {
         if (this.isRunning()) {
             throw new IllegalStateException("Filter is only supported when the queue is paused");
         }
-        editLock.lock();
+        consumerLock.lock();
         try {
-            ArrayList<NatsMessage> temp = new ArrayList<>();
-            queue.drainTo(temp);
-            for (NatsMessage cursor : temp) {
+            // Publishers are not blocked, so the kept messages are packed against the
+            // end of what is currently in the queue instead of being re-offered.
+            // That way they stay in front of anything pushed while filtering.
+            long start = consumerIndex;
+            long end = producerIndex.get();
+            ArrayList<NatsMessage> keep = new ArrayList<>();
+            Chunk chunk = consumerChunk;
+            for (long index = start; index < end; index++) {
+                chunk = chunkFor(chunk, index);
+                NatsMessage cursor = awaitSlot(chunk, index);
                 if (cursor.isFilterOnStop()) {
                     sizeInBytes.addAndGet(-cursor.getSizeInBytes());
                     length.decrementAndGet();
                 }
                 else {
-                    queue.offer(cursor);
+                    keep.add(cursor);
                 }
             }
+
+            long newStart = end - keep.size();
+            chunk = consumerChunk;
+            for (long index = start; index < end; index++) {
+                chunk = chunkFor(chunk, index);
+                NatsMessage msg = index < newStart ? null : keep.get((int) (index - newStart));
+                chunk.slots.set((int) (index & CHUNK_MASK), msg);
+            }
+            // when everything was filtered, newStart has not been claimed and its chunk may not exist yet
+            consumerChunk = newStart < end ? chunkFor(consumerChunk, newStart) : chunk;
+            consumerIndex = newStart;
         }
         finally {
-            editLock.unlock();
+            consumerLock.unlock();
         }
     }
 
     void clear() {
-        editLock.lock();
+        consumerLock.lock();
         try {
-            this.queue.clear();
-            length.set(0);
-            sizeInBytes.set(0);
-        } finally {
-            editLock.unlock();
+            long end = producerIndex.get();
+            while (consumerIndex < end) {
+                NatsMessage msg = peek();
+                take();
+                if (!(msg instanceof MarkerMessage)) {
+                    length.decrementAndGet();
+                    sizeInBytes.addAndGet(-msg.getSizeInBytes());
+                }
+            }
+        }
+        finally {
+            consumerLock.unlock();
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // producer side
+    // ----------------------------------------------------------------------------------------------------
+    private void offer(NatsMessage msg) {
+        long index = producerIndex.getAndIncrement();
+        producerChunkFor(index).slots.lazySet((int) (index & CHUNK_MASK), msg);
+        wakeConsumer();
+    }
+
+    // offers count messages of a chain under consecutive indexes, returns the rest of the chain
+    private NatsMessage offer(NatsMessage msg, int count) {
+        long index = producerIndex.getAndAdd(count);
+        Chunk chunk = producerChunkFor(index);
+        for (int x = 0; x < count; x++, index++) {
+            if (index - chunk.base >= CHUNK_SIZE) {
+                chunk = producerChunkFor(index);
+            }
+            // accumulate links what it takes, the chain must not come along with it
+            NatsMessage following = msg.next;
+            msg.next = null;
+            chunk.slots.lazySet((int) (index & CHUNK_MASK), msg);
+            msg = following;
+        }
+        wakeConsumer();
+        return msg;
+    }
+
+    private void wakeConsumer() {
+        // Reading the waiter after the index increment pairs with the consumer setting
+        // the waiter before it checks the index, so a wakeup can't be missed.
+        Thread waiter = waitingConsumer;
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    private Chunk producerChunkFor(long index) {
+        Chunk chunk = producerChunk;
+        if (chunk.base > index) {
+            // another producer moved the hint past this index
+            // the consumer can never be past a slot that has not been written yet
+            chunk = consumerChunk;
+        }
+        while (index - chunk.base >= CHUNK_SIZE) {
+            Chunk next = chunk.next;
+            if (next == null) {
+                Chunk candidate = new Chunk(chunk.base + CHUNK_SIZE);
+                next = NEXT_CHUNK.compareAndSet(chunk, null, candidate) ? candidate : chunk.next;
+            }
+            chunk = next;
+        }
+        if (chunk.base > producerChunk.base) {
+            producerChunk = chunk;
+        }
+        return chunk;
+    }
+
+    // reserve room for up to wanted counted messages without waiting, returns how many
+    private long tryReserve(long wanted) {
+        long current;
+        long reserved;
+        do {
+            current = length.get();
+            if (current >= queueCapacity) {
+                return 0;
+            }
+            reserved = Math.min(wanted, queueCapacity - current);
+        } while (!length.compareAndSet(current, current + reserved));
+        return reserved;
+    }
+
+    // reserve room for up to wanted counted messages, waiting up to the timeout
+    // for the writer to make room for at least one. Returns how many, 0 if it timed out
+    private long reserve(long wanted, long timeoutNanos) throws InterruptedException {
+        long reserved = tryReserve(wanted);
+        if (reserved > 0) {
+            return reserved;
+        }
+        long deadline = NatsSystemClock.nanoTime() + timeoutNanos;
+        long backoff = 1_000;
+        while (true) {
+            long left = deadline - NatsSystemClock.nanoTime();
+            if (left <= 0) {
+                return 0;
+            }
+            LockSupport.parkNanos(this, Math.min(left, backoff));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            reserved = tryReserve(wanted);
+            if (reserved > 0) {
+                return reserved;
+            }
+            backoff = Math.min(backoff * 2, MAX_FULL_BACKOFF_NANOS);
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // consumer side
+    // ----------------------------------------------------------------------------------------------------
+    private boolean isEmpty() {
+        return consumerIndex >= producerIndex.get();
+    }
+
+    // Wait for something to be in the queue.
+    // A null timeout or a draining queue does not wait.
+    // A timeout < 1 waits while the queue is running. Pausing or draining offers
+    // the POISON_PILL, so that wait always ends.
+    private boolean awaitNotEmpty(Duration timeout) throws InterruptedException {
+        if (!isEmpty()) {
+            return true;
+        }
+        if (timeout == null || isDraining()) {
+            return false;
+        }
+
+        long nanos = timeout.toNanos();
+        long deadline = nanos < 1 ? Long.MAX_VALUE : NatsSystemClock.nanoTime() + nanos;
+        while (true) {
+            long left = deadline == Long.MAX_VALUE ? Long.MAX_VALUE : deadline - NatsSystemClock.nanoTime();
+            if (left <= 0 || (nanos < 1 && !isRunning())) {
+                return false;
+            }
+            waitingConsumer = Thread.currentThread();
+            try {
+                if (isEmpty()) {
+                    LockSupport.parkNanos(this, left);
+                }
+            }
+            finally {
+                waitingConsumer = null;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (!isEmpty()) {
+                return true;
+            }
+        }
+    }
+
+    // the message at the consumer index, null if the queue is empty. Must hold the consumer lock
+    private NatsMessage peek() {
+        long index = consumerIndex;
+        if (index >= producerIndex.get()) {
+            return null;
+        }
+        Chunk chunk = chunkFor(consumerChunk, index);
+        consumerChunk = chunk;
+        return awaitSlot(chunk, index);
+    }
+
+    // remove the message that was just peeked. Must hold the consumer lock
+    private void take() {
+        long index = consumerIndex;
+        consumerChunk.slots.lazySet((int) (index & CHUNK_MASK), null);
+        consumerIndex = index + 1;
+    }
+
+    // Find the chunk for an index that a producer has already claimed. The producer
+    // that claimed it links the chunk if needed, so it is only a matter of waiting.
+    private static Chunk chunkFor(Chunk chunk, long index) {
+        while (index - chunk.base >= CHUNK_SIZE) {
+            Chunk next = chunk.next;
+            while (next == null) {
+                Thread.yield();
+                next = chunk.next;
+            }
+            chunk = next;
+        }
+        return chunk;
+    }
+
+    // the index was claimed but the producer may not have stored the message yet
+    private static NatsMessage awaitSlot(Chunk chunk, long index) {
+        int slot = (int) (index & CHUNK_MASK);
+        NatsMessage msg = chunk.slots.get(slot);
+        while (msg == null) {
+            Thread.yield();
+            msg = chunk.slots.get(slot);
         }
+        return msg;
     }
 }
@@ -17,11 +17,14 @@ package io.nats.client.support;
  * Constants covering server api schema fields
  */
 public interface ApiConstants {
+    /** ack_coalesce_window */       String ACK_COALESCE_WINDOW           = "ack_coalesce_window";
     /** ack_floor */                 String ACK_FLOOR                     = "ack_floor";
     /** ack_policy */                String ACK_POLICY                    = "ack_policy";
     /** ack_wait */                  String ACK_WAIT                      = "ack_wait";
     /** action */                    String ACTION                        = "action";
     /** active */                    String ACTIVE                        = "active";
+    /** adaptive_max_batch */        String ADAPTIVE_MAX_BATCH            = "adaptive_max_batch";
+    /** adaptive_min_batch */        String ADAPTIVE_MIN_BATCH            = "adaptive_min_batch";
     /** allow_atomic */              String ALLOW_ATOMIC                  = "allow_atomic";
     /** allow_direct */              String ALLOW_DIRECT                  = "allow_direct";
     /** allow_msg_schedules */       String ALLOW_MSG_SCHEDULES           = "allow_msg_schedules";
@@ -33,6 +36,7 @@ public interface ApiConstants {
     /** api_url */                   String API_URL                       = "api_url";
     /** auth_required */             String AUTH_REQUIRED                 = "auth_required";
     /** average_processing_time */   String AVERAGE_PROCESSING_TIME       = "average_processing_time";
+    /** average_queue_time */        String AVERAGE_QUEUE_TIME            = "average_queue_time";
     /** backoff */                   String BACKOFF                       = "backoff";
     /** batch */                     String BATCH                         = "batch";
     /** bucket */                    String BUCKET                        = "bucket";
@@ -151,10 +155,15 @@ public interface ApiConstants {
     /** num_ack_pending */           String NUM_ACK_PENDING               = "num_ack_pending";
     /** num_deleted */               String NUM_DELETED                   = "num_deleted";
     /** num_errors */                String NUM_ERRORS                    = "num_errors";
+    /** num_errors_1m */             String NUM_ERRORS_1M                 = "num_errors_1m";
+    /** num_errors_5m */             String NUM_ERRORS_5M                 = "num_errors_5m";
     /** num_pending */               String NUM_PENDING                   = "num_pending";
     /** num_redelivered */           String NUM_REDELIVERED               = "num_redelivered";
     /** num_replicas */              String NUM_REPLICAS                  = "num_replicas";
     /** num_requests */              String NUM_REQUESTS                  = "num_requests";
+    /** num_requests_1m */           String NUM_REQUESTS_1M               = "num_requests_1m";
+    /** num_requests_5m */           String NUM_REQUESTS_5M               = "num_requests_5m";
+    /** num_shed */                  String NUM_SHED                      = "num_shed";
     /** num_subjects */              String NUM_SUBJECTS                  = "num_subjects";
     /** num_waiting */               String NUM_WAITING                   = "num_waiting";
     /** offline */                   String OFFLINE                       = "offline";
@@ -170,15 +179,22 @@ public interface ApiConstants {
     /** pinned_ts */                 String PINNED_TS                     = "pinned_ts";
     /** placement */                 String PLACEMENT                     = "placement";
     /** port */                      String PORT                          = "port";
+    /** prefetch */                  String PREFETCH                      = "prefetch";
+    /** prefetch_bytes */            String PREFETCH_BYTES                = "prefetch_bytes";
     /** priority */                  String PRIORITY                      = "priority";
     /** priority_groups */           String PRIORITY_GROUPS               = "priority_groups";
     /** priority_policy */           String PRIORITY_POLICY               = "priority_policy";
     /** priority_timeout */          String PRIORITY_TIMEOUT              = "priority_timeout";
     /** processing_time */           String PROCESSING_TIME               = "processing_time";
+    /** processing_time_max */       String PROCESSING_TIME_MAX           = "processing_time_max";
+    /** processing_time_p50 */       String PROCESSING_TIME_P50           = "processing_time_p50";
+    /** processing_time_p90 */       String PROCESSING_TIME_P90           = "processing_time_p90";
+    /** processing_time_p99 */       String PROCESSING_TIME_P99           = "processing_time_p99";
     /** proto */                     String PROTO                         = "proto";
     /** purged */                    String PURGED                        = "purged";
     /** push_bound */                String PUSH_BOUND                    = "push_bound";
     /** queue_group */               String QUEUE_GROUP                   = "queue_group";
+    /** queue_time */                String QUEUE_TIME                    = "queue_time";
     /** raft_group */                String RAFT_GROUP                    = "raft_group";
     /** raise_status_warnings */     String RAISE_STATUS_WARNINGS         = "raise_status_warnings";
     /** rate_limit_bps */            String RATE_LIMIT_BPS                = "rate_limit_bps";
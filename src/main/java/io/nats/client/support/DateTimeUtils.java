@@ -93,9 +93,30 @@ public abstract class DateTimeUtils {
      * @return a Zoned Date time.
      */
     public static ZonedDateTime parseDateTimeNanos(String timestampNanos, ZoneId zoneId) {
-        long ts = Long.parseLong(timestampNanos);
-        long seconds = ts / NANO_FACTOR;
-        long nanos = ts % NANO_FACTOR;
+        return fromEpochNanos(Long.parseLong(timestampNanos), zoneId);
+    }
+
+    /**
+     * Converts a timestamp in nanoseconds since the epoch to the system
+     * default time-zone date time
+     *
+     * @param timestampNanos the timestamp
+     * @return a local Zoned Date time.
+     */
+    public static ZonedDateTime fromEpochNanos(long timestampNanos) {
+        return fromEpochNanos(timestampNanos, ZoneId.systemDefault());
+    }
+
+    /**
+     * Converts a timestamp in nanoseconds since the epoch to a Zoned date time
+     *
+     * @param timestampNanos the timestamp
+     * @param zoneId ZoneId
+     * @return a Zoned Date time.
+     */
+    public static ZonedDateTime fromEpochNanos(long timestampNanos, ZoneId zoneId) {
+        long seconds = timestampNanos / NANO_FACTOR;
+        long nanos = timestampNanos % NANO_FACTOR;
         Instant utcInstant = Instant.ofEpochSecond(seconds, nanos);
         OffsetDateTime utcOffsetDT = OffsetDateTime.ofInstant(utcInstant, ZoneOffset.UTC);
         return utcOffsetDT.atZoneSameInstant(zoneId);
@@ -15,6 +15,8 @@ package io.nats.client.support;
 
 import io.nats.client.impl.Headers;
 
+import java.util.Arrays;
+
 import static io.nats.client.support.NatsConstants.*;
 
 public class IncomingHeadersProcessor {
@@ -71,6 +73,10 @@ public class IncomingHeadersProcessor {
 
     private void initHeader(byte[] serialized, int len, Token tCrlf) {
         // REGULAR HEADER
+        // only the positions of the keys and values are found here,
+        // the headers decode them when they are asked for
+        int[] lines = null;
+        int lineCount = 0;
         Token peek = new Token(serialized, len, tCrlf, null);
         while (peek.isType(TokenType.TEXT)) {
             Token tKey = new Token(serialized, len, tCrlf, TokenType.KEY);
@@ -85,13 +91,23 @@ public class IncomingHeadersProcessor {
                 tVal.mustBe(TokenType.CRLF);
                 tCrlf = tVal;
             }
-            if (headers == null) {
-                headers = new Headers();
+            if (lines == null) {
+                lines = new int[16];
+            }
+            else if (lineCount * 4 == lines.length) {
+                lines = Arrays.copyOf(lines, lines.length * 2);
             }
-            headers.add(tKey.getValueCheckKnownKeys(), tVal.getValue());
+            int x = lineCount++ * 4;
+            lines[x] = tKey.getStart();
+            lines[x + 1] = tKey.getStart() + tKey.getValueLength();
+            lines[x + 2] = tVal.getStart();
+            lines[x + 3] = tVal.getStart() + tVal.getValueLength();
             peek = new Token(serialized, len, tCrlf, null);
         }
         peek.mustBe(TokenType.CRLF);
+        if (lineCount > 0) {
+            headers = new Headers(serialized, lines, lineCount);
+        }
     }
 
     private Token initStatus(byte[] serialized, int len, Token tSpace) {
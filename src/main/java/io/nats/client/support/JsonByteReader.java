@@ -0,0 +1,608 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.nats.client.support.JsonParser.INVALID_VALUE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads JSON directly from UTF-8 bytes, without first decoding them to characters.
+ * <p>It can build a {@link JsonValue} the way {@link JsonParser} does, or it can be pulled one field at a time,
+ * so an object can bind the fields it wants and skip the rest without building a tree:</p>
+ * <pre>
+ * JsonByteReader r = new JsonByteReader(bytes);
+ * if (r.beginObject()) {
+ *     while (r.nextField()) {
+ *         if (r.fieldIs("seq")) {
+ *             seq = r.readLong(-1);
+ *         }
+ *         else {
+ *             r.skipValue();
+ *         }
+ *     }
+ * }
+ * </pre>
+ * <p>After {@link #nextField()} returns true, exactly one read or skip call must consume the field's value.
+ * Skipped values are only checked for balanced brackets and terminated strings.</p>
+ */
+public class JsonByteReader {
+    private static final int MAX_FAST_DIGITS = 18; // always fits in a long
+
+    private final byte @NonNull [] json;
+    private final int len;
+    private final boolean keepNulls;
+    private int idx;
+    private StringBuilder workBuffer;
+
+    // the current field name, as a span of the bytes
+    private int keyStart;
+    private int keyEnd;
+    private boolean keyEscaped;
+
+    // in an object, whether a value was just read, so a ',' or '}' comes next
+    private boolean afterValue;
+
+    // the span and value of the last primitive scanned
+    private int primStart;
+    private int primEnd;
+    private long primLong;
+
+    /**
+     * Create a reader over the bytes
+     * @param json the JSON
+     * @param options options for parsing
+     */
+    public JsonByteReader(byte @Nullable [] json, JsonParser.@Nullable Option... options) {
+        this(json, 0, options);
+    }
+
+    /**
+     * Create a reader over the bytes
+     * @param json the JSON
+     * @param startIndex the index in the bytes to start at
+     * @param options options for parsing
+     */
+    public JsonByteReader(byte @Nullable [] json, int startIndex, JsonParser.@Nullable Option... options) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException("Invalid start index.");
+        }
+        keepNulls = options != null && options.length > 0; // KEEP_NULLS is currently the only option
+        this.json = json == null ? new byte[0] : json;
+        len = this.json.length;
+        idx = startIndex;
+    }
+
+    /**
+     * Parse all the JSON into a JsonValue, the same as {@link JsonParser#parse()}
+     * @return the value, {@link JsonValue#NULL} if there is no JSON
+     * @throws JsonParseException if there is a problem parsing the json
+     */
+    @NonNull
+    public JsonValue parse() throws JsonParseException {
+        return peekToken() == 0 ? JsonValue.NULL : readValue();
+    }
+
+    /**
+     * Start reading an object. If the value is anything other than an object, it is read and discarded.
+     * @return true if the value is an object, and its fields can be read with {@link #nextField()}
+     * @throws JsonParseException if there is a problem parsing the json
+     */
+    public boolean beginObject() throws JsonParseException {
+        int c = peekToken();
+        if (c == '{') {
+            idx++;
+            afterValue = false;
+            return true;
+        }
+        if (c != 0) {
+            readValue();
+        }
+        afterValue = true;
+        return false;
+    }
+
+    /**
+     * Advance to the next field of the current object
+     * @return true if there is a field, false if the end of the object was reached
+     * @throws JsonParseException if there is a problem parsing the json
+     */
+    public boolean nextField() throws JsonParseException {
+        int c = nextToken();
+        if (afterValue) {
+            if (c == '}') {
+                return false;
+            }
+            if (c != ',') {
+                throw new JsonParseException(c == 0 ? "Text must end with '}'" : "Expected a ',' or '}'.");
+            }
+            if (peekToken() == '}') {
+                idx++; // dangling comma
+                return false;
+            }
+            c = nextToken();
+        }
+        if (c == '}') {
+            afterValue = true;
+            return false;
+        }
+        if (c == 0) {
+            throw new JsonParseException("Text must end with '}'");
+        }
+        if (c != '"') {
+            throw new JsonParseException("Expected a key.");
+        }
+
+        keyStart = idx;
+        keyEscaped = false;
+        while (true) {
+            if (idx >= len) {
+                throw new JsonParseException("Unterminated string.");
+            }
+            byte b = json[idx];
+            if (b == '"') {
+                break;
+            }
+            if (b == '\\') {
+                keyEscaped = true;
+                idx++;
+            }
+            idx++;
+        }
+        keyEnd = idx++;
+
+        if (nextToken() != ':') {
+            throw new JsonParseException("Expected a ':' after a key.");
+        }
+        afterValue = true;
+        return true;
+    }
+
+    /**
+     * Whether the current field's name is the key. Does not allocate unless the name has escapes.
+     * @param key the key
+     * @return true if it is
+     */
+    public boolean fieldIs(@NonNull String key) {
+        int klen = key.length();
+        if (keyEscaped) {
+            return key.equals(fieldName());
+        }
+        if (keyEnd - keyStart != klen) {
+            return false;
+        }
+        for (int x = 0; x < klen; x++) {
+            if (json[keyStart + x] != key.charAt(x)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The name of the current field
+     * @return the name
+     */
+    @NonNull
+    public String fieldName() {
+        if (!keyEscaped) {
+            return new String(json, keyStart, keyEnd - keyStart, UTF_8);
+        }
+        int save = idx;
+        try {
+            idx = keyStart;
+            return readStringBody();
+        }
+        catch (JsonParseException e) {
+            return new String(json, keyStart, keyEnd - keyStart, UTF_8); // was already scanned, can't happen
+        }
+        finally {
+            idx = save;
+        }
+    }
+
+    /**
+     * Read a value as a string
+     * @return the string, or null if the value is not a string
+     * @throws JsonParseException if there is a problem parsing the json
+     */
+    @Nullable
+    public String readString() throws JsonParseException {
+        if (peekToken() == '"') {
+            idx++;
+            return readStringBody();
+        }
+        skipValue();
+        return null;
+    }
+
+    /**
+     * Read a value as a long
+     * @param dflt the value to return if the value is not an integer that fits in a long
+     * @return the value
+     * @throws JsonParseException if there is a problem parsing the json
+     */
+    public long readLong(long dflt) throws JsonParseException {
+        if (isPrimitiveNext()) {
+            boolean scanned = scanPrimitive();
+            if (scanned && primitiveIsSimpleInteger()) {
+                return primLong;
+            }
+            return JsonValueUtils.getLong(primitiveValue(scanned), dflt);
+        }
+        skipValue();
+        return dflt;
+    }
+
+    /**
+     * Read a value as an int
+     * @param dflt the value to return if the value is not an integer that fits in an int
+     * @return the value
+     * @throws JsonParseException if there is a problem parsing the json
+     */
+    public int readInt(int dflt) throws JsonParseException {
+        long l = readLong(Long.MIN_VALUE);
+        return l < Integer.MIN_VALUE || l > Integer.MAX_VALUE ? dflt : (int) l;
+    }
+
+    /**
+     * Read a value as a boolean
+     * @return true if the value is true, false if it is anything else
+     * @throws JsonParseException if there is a problem parsing the json
+     */
+    public boolean readBoolean() throws JsonParseException {
+        if (isPrimitiveNext()) {
+            return primitiveValue(scanPrimitive()) == JsonValue.TRUE;
+        }
+        skipValue();
+        return false;
+    }
+
+    /**
+     * Read a value, building a JsonValue for it, and for an object or array, everything in it
+     * @return the value
+     * @throws JsonParseException if there is a problem parsing the json
+     */
+    @NonNull
+    public JsonValue readValue() throws JsonParseException {
+        int c = peekToken();
+        if (c == 0) {
+            throw new JsonParseException("Unexpected end of data.");
+        }
+        if (c == '"') {
+            idx++;
+            return new JsonValue(readStringBody());
+        }
+        if (c == '{') {
+            idx++;
+            return new JsonValue(readObjectBody());
+        }
+        if (c == '[') {
+            idx++;
+            return new JsonValue(readArrayBody());
+        }
+        return primitiveValue(scanPrimitive());
+    }
+
+    /**
+     * Skip a value, and for an object or array, everything in it
+     * @throws JsonParseException if the value is not terminated
+     */
+    public void skipValue() throws JsonParseException {
+        int c = peekToken();
+        if (c == 0) {
+            throw new JsonParseException("Unexpected end of data.");
+        }
+        if (c == '"') {
+            idx++;
+            skipStringBody();
+        }
+        else if (c == '{' || c == '[') {
+            idx++;
+            int depth = 1;
+            while (depth > 0) {
+                if (idx >= len) {
+                    throw new JsonParseException("Unexpected end of data.");
+                }
+                byte b = json[idx++];
+                if (b == '"') {
+                    skipStringBody();
+                }
+                else if (b == '{' || b == '[') {
+                    depth++;
+                }
+                else if (b == '}' || b == ']') {
+                    depth--;
+                }
+            }
+        }
+        else if (!scanPrimitive()) {
+            throw new JsonParseException(INVALID_VALUE);
+        }
+    }
+
+    private Map<String, JsonValue> readObjectBody() throws JsonParseException {
+        Map<String, JsonValue> map = new HashMap<>(8);
+        boolean first = true;
+        while (true) {
+            int c = nextToken();
+            String key;
+            switch (c) {
+                case 0:
+                    throw new JsonParseException("Text must end with '}'");
+                case '}':
+                    return map;
+                case '{':
+                case '[':
+                    if (first) {
+                        throw new JsonParseException("Cannot directly nest another Object or Array.");
+                    }
+                    // fall through
+                default:
+                    key = readStringBody();
+            }
+            first = false;
+
+            if (nextToken() != ':') {
+                throw new JsonParseException("Expected a ':' after a key.");
+            }
+
+            JsonValue value = readValue();
+            if (value != JsonValue.NULL || keepNulls) {
+                map.put(key, value);
+            }
+
+            switch (nextToken()) {
+                case ',':
+                    if (peekToken() == '}') {
+                        idx++; // dangling comma
+                        return map;
+                    }
+                    break;
+                case '}':
+                    return map;
+                default:
+                    throw new JsonParseException("Expected a ',' or '}'.");
+            }
+        }
+    }
+
+    private List<JsonValue> readArrayBody() throws JsonParseException {
+        List<JsonValue> list = new ArrayList<>(8);
+        int p = peekToken();
+        while (p != ']') {
+            if (p == ',') {
+                idx++;
+            }
+            else {
+                list.add(readValue());
+            }
+            p = peekToken();
+        }
+        idx++;
+        return list;
+    }
+
+    // assumes the opening quote was already read
+    private String readStringBody() throws JsonParseException {
+        int start = idx;
+        while (idx < len) {
+            byte b = json[idx];
+            if (b == '"') {
+                return new String(json, start, idx++ - start, UTF_8);
+            }
+            if (b == '\\' || b == '\n' || b == '\r' || b == 0) {
+                return readEscapedStringBody(start);
+            }
+            idx++;
+        }
+        throw new JsonParseException("Unterminated string.");
+    }
+
+    private String readEscapedStringBody(int start) throws JsonParseException {
+        if (workBuffer == null) {
+            workBuffer = new StringBuilder(64);
+        }
+        workBuffer.setLength(0);
+        int runStart = start;
+        while (true) {
+            if (idx >= len) {
+                throw new JsonParseException("Unterminated string.");
+            }
+            byte b = json[idx];
+            switch (b) {
+                case 0:
+                case '\n':
+                case '\r':
+                    throw new JsonParseException("Unterminated string.");
+                case '"':
+                    appendRun(runStart, idx++);
+                    return workBuffer.toString();
+                case '\\':
+                    appendRun(runStart, idx++);
+                    int c = idx < len ? json[idx++] : 0;
+                    switch (c) {
+                        case 'b': workBuffer.append('\b'); break;
+                        case 't': workBuffer.append('\t'); break;
+                        case 'n': workBuffer.append('\n'); break;
+                        case 'f': workBuffer.append('\f'); break;
+                        case 'r': workBuffer.append('\r'); break;
+                        case 'u': workBuffer.append(parseU()); break;
+                        case '"':
+                        case '\'':
+                        case '\\':
+                        case '/':
+                            workBuffer.append((char) c);
+                            break;
+                        default:
+                            throw new JsonParseException("Illegal escape.");
+                    }
+                    runStart = idx;
+                    break;
+                default:
+                    idx++;
+            }
+        }
+    }
+
+    private void appendRun(int start, int end) {
+        if (end > start) {
+            workBuffer.append(new String(json, start, end - start, UTF_8));
+        }
+    }
+
+    private char[] parseU() throws JsonParseException {
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            int c = idx < len ? json[idx++] : 0;
+            int digit;
+            if (c >= '0' && c <= '9') digit = c - '0';
+            else if (c >= 'A' && c <= 'F') digit = c - 'A' + 10;
+            else if (c >= 'a' && c <= 'f') digit = c - 'a' + 10;
+            else throw new JsonParseException("Illegal escape.");
+            code = (code << 4) | digit;
+        }
+        return Character.toChars(code);
+    }
+
+    // assumes the opening quote was already read
+    private void skipStringBody() throws JsonParseException {
+        while (idx < len) {
+            byte b = json[idx++];
+            if (b == '"') {
+                return;
+            }
+            if (b == '\\') {
+                idx++;
+            }
+        }
+        throw new JsonParseException("Unterminated string.");
+    }
+
+    private boolean isPrimitiveNext() throws JsonParseException {
+        int c = peekToken();
+        if (c == 0) {
+            throw new JsonParseException("Unexpected end of data.");
+        }
+        return c != '"' && c != '{' && c != '[';
+    }
+
+    // marks the span of the primitive at the current position, returns false if there isn't one
+    private boolean scanPrimitive() {
+        primStart = idx;
+        while (idx < len) {
+            byte b = json[idx];
+            if (b <= ' ' || JsonParser.IS_DELIMITER[b]) { // bytes of multibyte characters are negative
+                break;
+            }
+            idx++;
+        }
+        primEnd = idx;
+        return primEnd > primStart;
+    }
+
+    // an optional minus and up to 18 digits without a leading zero, the common case, parsed without a String
+    private boolean primitiveIsSimpleInteger() {
+        if (primEnd == primStart) {
+            return false;
+        }
+        int x = primStart;
+        boolean negative = json[x] == '-';
+        if (negative) {
+            x++;
+        }
+        int digits = primEnd - x;
+        if (digits == 0 || digits > MAX_FAST_DIGITS || (json[x] == '0' && (digits > 1 || negative))) {
+            return false;
+        }
+        long value = 0;
+        for (; x < primEnd; x++) {
+            int d = json[x] - '0';
+            if (d < 0 || d > 9) {
+                return false;
+            }
+            value = value * 10 + d;
+        }
+        primLong = negative ? -value : value;
+        return true;
+    }
+
+    private JsonValue primitiveValue() throws JsonParseException {
+        int plen = primEnd - primStart;
+        if (plen == 4) {
+            if (matches("true")) {
+                return JsonValue.TRUE;
+            }
+            if (matches("null")) {
+                return JsonValue.NULL;
+            }
+        }
+        else if (plen == 5 && matches("false")) {
+            return JsonValue.FALSE;
+        }
+        if (primitiveIsSimpleInteger()) {
+            return primLong >= Integer.MIN_VALUE && primLong <= Integer.MAX_VALUE
+                ? new JsonValue((int) primLong)
+                : new JsonValue(primLong);
+        }
+        return JsonParser.asNumber(new String(json, primStart, plen, UTF_8));
+    }
+
+    private JsonValue primitiveValue(boolean scanned) throws JsonParseException {
+        if (!scanned) {
+            throw new JsonParseException(INVALID_VALUE);
+        }
+        return primitiveValue();
+    }
+
+    private boolean matches(String s) {
+        for (int x = 0; x < s.length(); x++) {
+            if (json[primStart + x] != s.charAt(x)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int nextToken() {
+        int c = peekToken();
+        if (c != 0) {
+            idx++;
+        }
+        return c;
+    }
+
+    private int peekToken() {
+        while (idx < len) {
+            byte b = json[idx];
+            switch (b) {
+                case ' ':
+                case '\r':
+                case '\n':
+                case '\t':
+                    idx++;
+                    continue;
+            }
+            return b & 0xFF;
+        }
+        return 0;
+    }
+}
@@ -18,9 +18,6 @@ import org.jspecify.annotations.Nullable;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.nio.charset.CharacterCodingException;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -42,7 +39,7 @@ public class JsonParser {
     }
 
     public static final String INVALID_VALUE = "Invalid value.";
-    private static final boolean[] IS_DELIMITER = new boolean[128];
+    static final boolean[] IS_DELIMITER = new boolean[128];
 
     static {
         for (char c : ",:]}/\\\"[{;=#".toCharArray()) {
@@ -158,7 +155,7 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(byte[] json) throws JsonParseException {
-        return new JsonParser(bytesToChars(json), 0).parse();
+        return new JsonByteReader(json).parse();
     }
 
     /**
@@ -170,7 +167,7 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(byte[] json, int startIndex) throws JsonParseException {
-        return new JsonParser(bytesToChars(json), startIndex).parse();
+        return new JsonByteReader(json, startIndex).parse();
     }
 
     /**
@@ -182,7 +179,7 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(byte[] json, @Nullable Option... options) throws JsonParseException {
-        return new JsonParser(bytesToChars(json), 0, options).parse();
+        return new JsonByteReader(json, options).parse();
     }
 
     /**
@@ -195,7 +192,7 @@ public class JsonParser {
      */
     @NonNull
     public static JsonValue parse(byte[] json, int startIndex, @Nullable Option... options) throws JsonParseException {
-        return new JsonParser(bytesToChars(json), startIndex, options).parse();
+        return new JsonByteReader(json, startIndex, options).parse();
     }
 
     /**
@@ -636,7 +633,7 @@ public class JsonParser {
         return Character.toChars(code);
     }
 
-    private JsonValue asNumber(String val) throws JsonParseException {
+    static JsonValue asNumber(String val) throws JsonParseException {
         char initial = val.charAt(0);
         if ((initial >= '0' && initial <= '9') || initial == '-') {
 
@@ -706,13 +703,4 @@ public class JsonParser {
     private boolean isNotDelimiter(char c) {
         return c < 128 && !IS_DELIMITER[c];
     }
-
-    private static char[] bytesToChars(byte[] json) throws JsonParseException {
-        try {
-            return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(json)).array();
-        }
-        catch (CharacterCodingException e) {
-            throw new JsonParseException(e);
-        }
-    }
 }
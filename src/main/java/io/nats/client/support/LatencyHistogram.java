@@ -0,0 +1,200 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed size, lock free histogram of latencies in nanoseconds.
+ * <p>Values are counted in log-linear buckets: every power of two is split into 16 sub buckets,
+ * so a reported percentile is never more than 1/16th (about 6%) above the actual value.
+ * Values below 32 nanoseconds are exact. Recording is a few atomic increments and never allocates.</p>
+ * <p>Reads are not a consistent snapshot, a value recorded while the histogram is being read
+ * may or may not be reflected in all the results of the read.</p>
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKETS - 1;
+    private static final int EXACT = SUB_BUCKETS * 2;
+    private static final int BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final LongAdder total;
+    private final LongAccumulator min;
+    private final LongAccumulator max;
+
+    /**
+     * Construct an empty histogram
+     */
+    public LatencyHistogram() {
+        buckets = new AtomicLongArray(BUCKETS);
+        count = new LongAdder();
+        total = new LongAdder();
+        min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        max = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Record a latency. Negative values are recorded as 0.
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(nanos));
+        count.increment();
+        total.add(nanos);
+        min.accumulate(nanos);
+        max.accumulate(nanos);
+    }
+
+    /**
+     * Get the number of recorded latencies
+     * @return the count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get the smallest recorded latency
+     * @return the latency in nanoseconds or 0 if nothing has been recorded
+     */
+    public long getMin() {
+        long m = min.get();
+        return m == Long.MAX_VALUE ? 0 : m;
+    }
+
+    /**
+     * Get the largest recorded latency
+     * @return the latency in nanoseconds or 0 if nothing has been recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get the average recorded latency
+     * @return the latency in nanoseconds or 0 if nothing has been recorded
+     */
+    public long getMean() {
+        long c = count.sum();
+        return c == 0 ? 0 : total.sum() / c;
+    }
+
+    /**
+     * Get the latency at or below which the given percentage of the recorded latencies fall,
+     * for instance 99.9 for the 99.9th percentile.
+     * @param percentile the percentile, 0 to 100 inclusive
+     * @return the latency in nanoseconds or 0 if nothing has been recorded
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+
+        long[] snapshot = new long[BUCKETS];
+        long c = 0;
+        for (int x = 0; x < BUCKETS; x++) {
+            snapshot[x] = buckets.get(x);
+            c += snapshot[x];
+        }
+        if (c == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long)Math.ceil(c * percentile / 100));
+        long seen = 0;
+        for (int x = 0; x < BUCKETS; x++) {
+            seen += snapshot[x];
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(x), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Get a copy of the histogram as it is now, which will not change as more latencies are recorded.
+     * Copying does not block recording. The count of the copy is the sum of its buckets,
+     * so its count and percentiles agree with each other.
+     * @return the copy
+     */
+    public LatencyHistogram snapshot() {
+        LatencyHistogram copy = new LatencyHistogram();
+        long c = 0;
+        for (int x = 0; x < BUCKETS; x++) {
+            long b = buckets.get(x);
+            if (b != 0) {
+                copy.buckets.set(x, b);
+                c += b;
+            }
+        }
+        copy.count.add(c);
+        copy.total.add(total.sum());
+        copy.min.accumulate(min.get());
+        copy.max.accumulate(max.get());
+        return copy;
+    }
+
+    /**
+     * Clear all recorded latencies
+     */
+    public void reset() {
+        for (int x = 0; x < BUCKETS; x++) {
+            buckets.set(x, 0);
+        }
+        count.reset();
+        total.reset();
+        min.reset();
+        max.reset();
+    }
+
+    static int bucketIndex(long nanos) {
+        if (nanos < EXACT) {
+            return (int)nanos;
+        }
+        int exp = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int)(nanos >>> (exp - SUB_BUCKET_BITS)) & SUB_BUCKET_MASK;
+        return ((exp - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + sub;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_BITS) - 1;
+        long lower = (long)(SUB_BUCKETS + (index & SUB_BUCKET_MASK)) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+            "count=" + getCount() +
+            ", min=" + getMin() +
+            ", mean=" + getMean() +
+            ", p50=" + getPercentile(50) +
+            ", p90=" + getPercentile(90) +
+            ", p99=" + getPercentile(99) +
+            ", p999=" + getPercentile(99.9) +
+            ", max=" + getMax() +
+            '}';
+    }
+}
@@ -89,6 +89,7 @@ public interface NatsConstants {
     String INVALID_HEADER_COMPOSITION = "Invalid header composition";
     String INVALID_HEADER_STATUS_CODE = "Invalid header status code";
     String SERIALIZED_HEADER_CANNOT_BE_NULL_OR_EMPTY = "Serialized header cannot be null or empty.";
+    String MESSAGE_DATA_RELEASED = "Message data has been released.";
 
     // The trailing space is intentional as in "Output queue is full 5000"
     String OUTPUT_QUEUE_IS_FULL = "Output queue is full ";
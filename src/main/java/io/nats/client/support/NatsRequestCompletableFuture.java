@@ -28,6 +28,7 @@ public class NatsRequestCompletableFuture extends CompletableFuture<Message> {
     private static final long DEFAULT_TIMEOUT_NANOS = Options.DEFAULT_REQUEST_CLEANUP_INTERVAL.toNanos(); // currently 5 seconds
 
     private final CancelAction cancelAction;
+    private final long startNanoTime;
     private final long timeOutAfterNanoTime;
     private boolean wasCancelledClosing;
     private boolean wasCancelledTimedOut;
@@ -35,7 +36,8 @@ public class NatsRequestCompletableFuture extends CompletableFuture<Message> {
 
     public NatsRequestCompletableFuture(@NonNull CancelAction cancelAction, @Nullable Duration timeout, boolean useTimeoutException) {
         this.cancelAction = cancelAction;
-        timeOutAfterNanoTime = NatsSystemClock.nanoTime() + HYDRATION_TIME + (timeout == null ? DEFAULT_TIMEOUT_NANOS : timeout.toNanos());
+        startNanoTime = NatsSystemClock.nanoTime();
+        timeOutAfterNanoTime = startNanoTime + HYDRATION_TIME + (timeout == null ? DEFAULT_TIMEOUT_NANOS : timeout.toNanos());
         this.useTimeoutException = useTimeoutException;
     }
 
@@ -52,6 +54,14 @@ public class NatsRequestCompletableFuture extends CompletableFuture<Message> {
                 : new CancellationException(CANCEL_MESSAGE));
     }
 
+    public long getStartNanoTime() {
+        return startNanoTime;
+    }
+
+    public long getTimeOutAfterNanoTime() {
+        return timeOutAfterNanoTime;
+    }
+
     @NonNull
     public CancelAction getCancelAction() {
         return cancelAction;
@@ -106,6 +106,14 @@ public class Token {
         return hasValue;
     }
 
+    int getStart() {
+        return start;
+    }
+
+    int getValueLength() {
+        return valueLength;
+    }
+
     @NonNull
     public String getValue() {
         return hasValue ? valueAsString() : EMPTY;
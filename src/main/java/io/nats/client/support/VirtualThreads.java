@@ -0,0 +1,101 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads when running on Java 21 or later.
+ * The library is built for Java 8, so everything is looked up reflectively, once.
+ */
+public abstract class VirtualThreads {
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        Method newThreadPerTask = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            name = builderClass.getMethod("name", String.class, long.class);
+            factory = builderClass.getMethod("factory");
+            newThreadPerTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            // make sure they really work, for instance virtual threads could be a preview feature
+            factory.invoke(name.invoke(ofVirtual.invoke(null), "probe", 0L));
+        }
+        catch (Throwable t) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = name;
+        BUILDER_FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTask;
+    }
+
+    private VirtualThreads() {}  /* ensures cannot be constructed */
+
+    /**
+     * Whether virtual threads are available in this JVM
+     * @return true if available
+     */
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Get a factory that makes virtual threads named with the prefix followed by a colon and a counter,
+     * the same way as the library's platform threads are named.
+     * @param namePrefix the name prefix
+     * @return the factory or null if virtual threads are not available
+     */
+    public static ThreadFactory factory(String namePrefix) {
+        if (OF_VIRTUAL == null) {
+            return null;
+        }
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix + ":", 1L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get an executor that starts a new virtual thread for each task.
+     * @param namePrefix the thread name prefix, see {@link #factory(String)}
+     * @return the executor or null if virtual threads are not available
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory factory = factory(namePrefix);
+        if (factory == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -5,11 +5,16 @@ import io.nats.client.Dispatcher;
 import io.nats.client.Message;
 import io.nats.client.NatsSystemClock;
 import io.nats.client.support.DateTimeUtils;
+import io.nats.client.support.LatencyHistogram;
+import io.nats.client.support.VirtualThreads;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Internal class to support service implementation
@@ -27,10 +32,38 @@ class EndpointContext {
     private final Dispatcher dispatcher;
 
     private ZonedDateTime started;
-    private String lastError;
+    private volatile String lastError;
     private final AtomicLong numRequests;
     private final AtomicLong numErrors;
     private final AtomicLong processingTime;
+    private final AtomicLong numShed;
+    private final AtomicLong queueTime;
+    private final LatencyHistogram processingLatency;
+    private final WindowedCounter requestsWindow;
+    private final WindowedCounter errorsWindow;
+
+    // only used with an EndpointExecution
+    private final ExecutorService executor;
+    private final boolean ownExecutor;
+    private final int maxConcurrency;
+    private final int maxQueued;
+    private final long maxQueueTimeNanos;
+    private final ConcurrentLinkedQueue<Queued> queue;
+    private final AtomicInteger queued;
+    private final AtomicInteger active;
+    private final ReentrantLock idleLock;
+    private final Condition idle;
+    private volatile boolean stopping;
+
+    private static class Queued {
+        final Message msg;
+        final long queuedAt;
+
+        Queued(Message msg, long queuedAt) {
+            this.msg = msg;
+            this.queuedAt = queuedAt;
+        }
+    }
 
     EndpointContext(Connection conn, Dispatcher internalDispatcher, boolean internalEndpoint, ServiceEndpoint se) {
         this.conn = conn;
@@ -52,7 +85,63 @@ class EndpointContext {
         numRequests = new AtomicLong();
         numErrors = new AtomicLong();
         processingTime = new AtomicLong();
+        numShed = new AtomicLong();
+        queueTime = new AtomicLong();
+        processingLatency = new LatencyHistogram();
+        requestsWindow = new WindowedCounter();
+        errorsWindow = new WindowedCounter();
         started = DateTimeUtils.gmtNow();
+
+        EndpointExecution execution = se.getExecution();
+        if (execution == null) {
+            executor = null;
+            ownExecutor = false;
+            maxConcurrency = 0;
+            maxQueued = -1;
+            maxQueueTimeNanos = 0;
+            queue = null;
+            queued = null;
+            active = null;
+            idleLock = null;
+            idle = null;
+        }
+        else {
+            maxQueued = execution.getMaxQueued();
+            maxQueueTimeNanos = execution.getMaxQueueTime() == null ? 0 : execution.getMaxQueueTime().toNanos();
+            queue = new ConcurrentLinkedQueue<>();
+            queued = new AtomicInteger();
+            active = new AtomicInteger();
+            idleLock = new ReentrantLock();
+            idle = idleLock.newCondition();
+
+            String threadPrefix = "service-" + se.getName();
+            ExecutorService es = execution.getExecutor();
+            ownExecutor = es == null;
+            if (es == null && execution.isVirtualThreads()) {
+                es = VirtualThreads.newThreadPerTaskExecutor(threadPrefix);
+            }
+            if (es == null) {
+                // the workers, or the fallback when virtual threads are not available.
+                // never hand the pool more than it has threads, or requests wait in the pool where they can't be shed
+                int workers = execution.getWorkers();
+                if (workers < 1) {
+                    workers = execution.getMaxConcurrency() == Integer.MAX_VALUE
+                        ? Runtime.getRuntime().availableProcessors()
+                        : execution.getMaxConcurrency();
+                }
+                maxConcurrency = Math.min(execution.getMaxConcurrency(), workers);
+                AtomicInteger threadNumber = new AtomicInteger();
+                es = Executors.newFixedThreadPool(workers, r -> new Thread(r, threadPrefix + ":" + threadNumber.incrementAndGet()));
+            }
+            else {
+                maxConcurrency = execution.getMaxConcurrency();
+            }
+            executor = es;
+        }
+    }
+
+    int getMaxConcurrency() {
+        return maxConcurrency;
     }
 
     // this method does not need a lock because it is only
@@ -72,17 +161,112 @@ class EndpointContext {
     }
 
     public void onMessage(Message msg) throws InterruptedException {
+        if (executor == null) {
+            process(msg);
+            return;
+        }
+
+        // queue depth shedding happens right away, on the dispatcher thread
+        if (maxQueued > 0 && queued.get() >= maxQueued) {
+            shed(msg);
+            return;
+        }
+        queued.incrementAndGet();
+        queue.add(new Queued(msg, NatsSystemClock.nanoTime()));
+        schedule();
+    }
+
+    // Start queued requests while there is room. Called whenever a request is queued or finishes,
+    // so whoever changes the queue or the active count last sees the other's change.
+    private void schedule() {
+        while (!queue.isEmpty()) {
+            int a = active.get();
+            if (a >= maxConcurrency) {
+                return;
+            }
+            if (!active.compareAndSet(a, a + 1)) {
+                continue;
+            }
+            Queued q = queue.poll();
+            if (q == null) {
+                active.decrementAndGet();
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                executor.execute(() -> run(q));
+            }
+            catch (RejectedExecutionException e) {
+                active.decrementAndGet();
+                shed(q.msg);
+            }
+        }
+    }
+
+    private void run(Queued q) {
+        try {
+            long waited = NatsSystemClock.nanoTime() - q.queuedAt;
+            if (maxQueueTimeNanos > 0 && waited > maxQueueTimeNanos) {
+                shed(q.msg);
+            }
+            else {
+                if (recordStats) {
+                    queueTime.addAndGet(waited);
+                }
+                process(q.msg);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            active.decrementAndGet();
+            schedule();
+            if (stopping) {
+                signalIfIdle();
+            }
+        }
+    }
+
+    private boolean isIdle() {
+        return active.get() == 0 && queue.isEmpty();
+    }
+
+    private void signalIfIdle() {
+        idleLock.lock();
+        try {
+            if (isIdle()) {
+                idle.signalAll();
+            }
+        }
+        finally {
+            idleLock.unlock();
+        }
+    }
+
+    private void shed(Message msg) {
+        if (recordStats) {
+            numShed.incrementAndGet();
+        }
+        try {
+            new ServiceMessage(msg).respondStandardError(conn, EndpointExecution.SHED_ERROR_TEXT, EndpointExecution.SHED_ERROR_CODE);
+        } catch (RuntimeException ignore) {}
+    }
+
+    private void process(Message msg) throws InterruptedException {
         long start = NatsSystemClock.nanoTime();
         ServiceMessage smsg = new ServiceMessage(msg);
         try {
             if (recordStats) {
                 numRequests.incrementAndGet();
+                requestsWindow.record(start);
             }
             handler.onMessage(smsg);
         }
         catch (Throwable t) {
             if (recordStats) {
                 numErrors.incrementAndGet();
+                errorsWindow.record(start);
                 lastError = t.toString();
             }
             try {
@@ -91,12 +275,15 @@ class EndpointContext {
         }
         finally {
             if (recordStats) {
-                processingTime.addAndGet(NatsSystemClock.nanoTime() - start);
+                long elapsed = NatsSystemClock.nanoTime() - start;
+                processingTime.addAndGet(elapsed);
+                processingLatency.record(elapsed);
             }
         }
     }
 
     EndpointStats getEndpointStats() {
+        long now = NatsSystemClock.nanoTime();
         return new EndpointStats(
             se.getEndpoint().getName(),
             se.getSubject(),
@@ -104,6 +291,13 @@ class EndpointContext {
             numRequests.get(),
             numErrors.get(),
             processingTime.get(),
+            numShed.get(),
+            queueTime.get(),
+            processingLatency.snapshot(),
+            requestsWindow.count(now, 60),
+            requestsWindow.count(now, 300),
+            errorsWindow.count(now, 60),
+            errorsWindow.count(now, 300),
             lastError,
             se.getStatsDataSupplier() == null ? null : se.getStatsDataSupplier().get(),
             started);
@@ -113,6 +307,11 @@ class EndpointContext {
         numRequests.set(0);
         numErrors.set(0);
         processingTime.set(0);
+        numShed.set(0);
+        queueTime.set(0);
+        processingLatency.reset();
+        requestsWindow.reset();
+        errorsWindow.reset();
         lastError = null;
         started = DateTimeUtils.gmtNow();
     }
@@ -124,4 +323,42 @@ class EndpointContext {
     CompletableFuture<Boolean> drain(Duration timeout) throws InterruptedException {
         return dispatcher.drain(timeout);
     }
+
+    /**
+     * Stop running requests with the endpoint execution, if there is one.
+     * Call after the dispatcher has stopped handing over requests.
+     * Requests that are still queued after waiting are shed.
+     * @param waitFor how long to wait for queued and running requests to finish, null to not wait
+     */
+    void stopExecution(Duration waitFor) {
+        if (executor == null) {
+            return;
+        }
+        stopping = true;
+        if (waitFor != null) {
+            long nanos = waitFor.toNanos();
+            idleLock.lock();
+            try {
+                while (!isIdle() && nanos > 0) {
+                    nanos = idle.awaitNanos(nanos);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finally {
+                idleLock.unlock();
+            }
+        }
+
+        // the requesters are still waiting for an answer
+        Queued q;
+        while ((q = queue.poll()) != null) {
+            queued.decrementAndGet();
+            shed(q.msg);
+        }
+        if (ownExecutor) {
+            executor.shutdown();
+        }
+    }
 }
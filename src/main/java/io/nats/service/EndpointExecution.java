@@ -0,0 +1,224 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * EndpointExecution lets a {@link ServiceEndpoint} run its requests concurrently instead of one at a time
+ * on its dispatcher thread, and shed load it can't keep up with.
+ * <ul>
+ * <li>Requests run on a pool of worker threads, on virtual threads (Java 21 or later) or on an executor you supply.</li>
+ * <li>At most max concurrency requests run at once, the rest wait in the order they arrived.</li>
+ * <li>A request that arrives when max queued requests are already waiting is shed right away.</li>
+ * <li>A request that waited longer than the max queue time is shed instead of run, the requester has probably given up.</li>
+ * <li>Requests still waiting when the service stops are shed.</li>
+ * </ul>
+ * <p>Requests only wait if max concurrency is limited. With virtual threads or a supplied executor it is not limited
+ * unless set, so every request is handed over right away and none are shed.</p>
+ * <p>A shed request is answered with a standard error, see {@link ServiceMessage#respondStandardError},
+ * with code {@value #SHED_ERROR_CODE} and text {@value #SHED_ERROR_TEXT}. Shed requests are counted
+ * in {@link EndpointStats#getNumShed()} and not in the number of requests.</p>
+ * <p>To create an EndpointExecution, use the builder via the static method <code>builder()</code>
+ * or <code>new EndpointExecution.Builder()</code>.</p>
+ */
+public class EndpointExecution {
+    /**
+     * The error code used to answer a shed request
+     */
+    public static final int SHED_ERROR_CODE = 503;
+
+    /**
+     * The error text used to answer a shed request
+     */
+    public static final String SHED_ERROR_TEXT = "Service Unavailable";
+
+    private final int workers;
+    private final boolean virtualThreads;
+    private final ExecutorService executor;
+    private final int maxConcurrency;
+    private final int maxQueued;
+    private final Duration maxQueueTime;
+
+    private EndpointExecution(Builder b) {
+        this.virtualThreads = b.virtualThreads;
+        this.executor = b.executor;
+        this.workers = b.executor == null && !b.virtualThreads
+            ? (b.workers < 1 ? Runtime.getRuntime().availableProcessors() : b.workers)
+            : -1;
+        if (b.maxConcurrency > 0) {
+            this.maxConcurrency = b.maxConcurrency;
+        }
+        else {
+            this.maxConcurrency = workers > 0 ? workers : Integer.MAX_VALUE;
+        }
+        this.maxQueued = b.maxQueued < 1 ? -1 : b.maxQueued;
+        this.maxQueueTime = b.maxQueueTime == null || b.maxQueueTime.isZero() || b.maxQueueTime.isNegative() ? null : b.maxQueueTime;
+    }
+
+    /**
+     * The number of worker threads made for the endpoint
+     * @return the number of workers or -1 if requests run on virtual threads or a supplied executor
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Whether requests run on virtual threads
+     * @return true if they do
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * The supplied executor
+     * @return the executor or null if not supplied
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * The most requests that run at once
+     * @return the max concurrency, {@link Integer#MAX_VALUE} if not limited
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * The most requests that wait to run before new ones are shed
+     * @return the max queued or -1 if not limited
+     */
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    /**
+     * The longest a request waits to run before it is shed
+     * @return the max queue time or null if not limited
+     */
+    public Duration getMaxQueueTime() {
+        return maxQueueTime;
+    }
+
+    /**
+     * Get an instance of an EndpointExecution Builder.
+     * @return the instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Build an EndpointExecution using a fluent builder.
+     */
+    public static class Builder {
+        private int workers;
+        private boolean virtualThreads;
+        private ExecutorService executor;
+        private int maxConcurrency;
+        private int maxQueued;
+        private Duration maxQueueTime;
+
+        /**
+         * Construct an instance of the builder
+         */
+        public Builder() {}
+
+        /**
+         * Run requests on a pool of this many worker threads, made and shut down by the service.
+         * This is the default, with one worker per available processor.
+         * Replaces any earlier virtual threads or executor setting.
+         * @param workers the number of workers
+         * @return the EndpointExecution.Builder
+         */
+        public Builder workers(int workers) {
+            this.workers = workers;
+            this.virtualThreads = false;
+            this.executor = null;
+            return this;
+        }
+
+        /**
+         * Run each request on its own virtual thread. If virtual threads are not available
+         * in the running JVM, a pool of max concurrency worker threads is used, or one per
+         * available processor if max concurrency is not set, and no more requests than that run at once.
+         * Replaces any earlier workers or executor setting.
+         * @return the EndpointExecution.Builder
+         */
+        public Builder virtualThreads() {
+            this.virtualThreads = true;
+            this.executor = null;
+            return this;
+        }
+
+        /**
+         * Run requests on this executor. The service does not shut it down.
+         * Set max concurrency to no more than the executor can run at once, otherwise requests wait
+         * inside the executor, where they are not shed.
+         * Replaces any earlier workers or virtual threads setting.
+         * @param executor the executor
+         * @return the EndpointExecution.Builder
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            this.virtualThreads = false;
+            return this;
+        }
+
+        /**
+         * Set the most requests that run at once. Defaults to the number of workers,
+         * not limited with virtual threads or a supplied executor, which means nothing is shed.
+         * Never more than the number of workers when the service makes the worker pool.
+         * @param maxConcurrency the max concurrency, less than 1 for the default
+         * @return the EndpointExecution.Builder
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the most requests that wait to run. Requests that arrive when this many are waiting are shed.
+         * @param maxQueued the max queued, less than 1 for not limited
+         * @return the EndpointExecution.Builder
+         */
+        public Builder maxQueued(int maxQueued) {
+            this.maxQueued = maxQueued;
+            return this;
+        }
+
+        /**
+         * Set the longest a request waits to run. Requests that waited longer are shed when their turn comes.
+         * @param maxQueueTime the max queue time, null or not positive for not limited
+         * @return the EndpointExecution.Builder
+         */
+        public Builder maxQueueTime(Duration maxQueueTime) {
+            this.maxQueueTime = maxQueueTime;
+            return this;
+        }
+
+        /**
+         * Build the EndpointExecution instance.
+         * @return the EndpointExecution instance
+         */
+        public EndpointExecution build() {
+            return new EndpointExecution(this);
+        }
+    }
+}
@@ -17,6 +17,7 @@ import io.nats.client.support.JsonSerializable;
 import io.nats.client.support.JsonUtils;
 import io.nats.client.support.JsonValue;
 import io.nats.client.support.JsonValueUtils;
+import io.nats.client.support.LatencyHistogram;
 import org.jspecify.annotations.NonNull;
 
 import java.time.ZonedDateTime;
@@ -62,6 +63,12 @@ import static io.nats.client.support.JsonValueUtils.*;
  *     "num_requests": 5,
  *     "processing_time": 1931600,
  *     "average_processing_time": 386320,
+ *     "processing_time_p50": 380927,
+ *     "processing_time_p90": 442367,
+ *     "processing_time_p99": 458751,
+ *     "processing_time_max": 458900,
+ *     "num_requests_1m": 5,
+ *     "num_requests_5m": 5,
  *     "data": {
  *          "idata": 2,
  *          "sdata": "s-996409223"
@@ -78,6 +85,17 @@ public class EndpointStats implements JsonSerializable {
     private final long numErrors;
     private final long processingTime;
     private final long averageProcessingTime;
+    private final long numShed;
+    private final long queueTime;
+    private final long averageQueueTime;
+    private final long processingTimeP50;
+    private final long processingTimeP90;
+    private final long processingTimeP99;
+    private final long processingTimeMax;
+    private final long numRequests1m;
+    private final long numRequests5m;
+    private final long numErrors1m;
+    private final long numErrors5m;
     private final String lastError;
     private final JsonValue data;
     private final ZonedDateTime started;
@@ -87,6 +105,16 @@ public class EndpointStats implements JsonSerializable {
     }
 
     EndpointStats(String name, String subject, String queueGroup, long numRequests, long numErrors, long processingTime, String lastError, JsonValue data, ZonedDateTime started) {
+        this(name, subject, queueGroup, numRequests, numErrors, processingTime, 0, 0, lastError, data, started);
+    }
+
+    EndpointStats(String name, String subject, String queueGroup, long numRequests, long numErrors, long processingTime, long numShed, long queueTime, String lastError, JsonValue data, ZonedDateTime started) {
+        this(name, subject, queueGroup, numRequests, numErrors, processingTime, numShed, queueTime, null, 0, 0, 0, 0, lastError, data, started);
+    }
+
+    EndpointStats(String name, String subject, String queueGroup, long numRequests, long numErrors, long processingTime, long numShed, long queueTime,
+                  LatencyHistogram processingLatency, long numRequests1m, long numRequests5m, long numErrors1m, long numErrors5m,
+                  String lastError, JsonValue data, ZonedDateTime started) {
         this.name = name;
         this.subject = subject;
         this.queueGroup = queueGroup;
@@ -94,6 +122,25 @@ public class EndpointStats implements JsonSerializable {
         this.numErrors = numErrors;
         this.processingTime = processingTime;
         this.averageProcessingTime = numRequests < 1 ? 0 : processingTime / numRequests;
+        this.numShed = numShed;
+        this.queueTime = queueTime;
+        this.averageQueueTime = numRequests < 1 ? 0 : queueTime / numRequests;
+        if (processingLatency == null) {
+            processingTimeP50 = 0;
+            processingTimeP90 = 0;
+            processingTimeP99 = 0;
+            processingTimeMax = 0;
+        }
+        else {
+            processingTimeP50 = processingLatency.getPercentile(50);
+            processingTimeP90 = processingLatency.getPercentile(90);
+            processingTimeP99 = processingLatency.getPercentile(99);
+            processingTimeMax = processingLatency.getMax();
+        }
+        this.numRequests1m = numRequests1m;
+        this.numRequests5m = numRequests5m;
+        this.numErrors1m = numErrors1m;
+        this.numErrors5m = numErrors5m;
         this.lastError = lastError;
         this.data = data;
         this.started = started;
@@ -107,6 +154,17 @@ public class EndpointStats implements JsonSerializable {
         numErrors = readLong(vEndpointStats, NUM_ERRORS, 0);
         processingTime = readLong(vEndpointStats, PROCESSING_TIME, 0);
         averageProcessingTime = readLong(vEndpointStats, AVERAGE_PROCESSING_TIME, 0);
+        numShed = readLong(vEndpointStats, NUM_SHED, 0);
+        queueTime = readLong(vEndpointStats, QUEUE_TIME, 0);
+        averageQueueTime = readLong(vEndpointStats, AVERAGE_QUEUE_TIME, 0);
+        processingTimeP50 = readLong(vEndpointStats, PROCESSING_TIME_P50, 0);
+        processingTimeP90 = readLong(vEndpointStats, PROCESSING_TIME_P90, 0);
+        processingTimeP99 = readLong(vEndpointStats, PROCESSING_TIME_P99, 0);
+        processingTimeMax = readLong(vEndpointStats, PROCESSING_TIME_MAX, 0);
+        numRequests1m = readLong(vEndpointStats, NUM_REQUESTS_1M, 0);
+        numRequests5m = readLong(vEndpointStats, NUM_REQUESTS_5M, 0);
+        numErrors1m = readLong(vEndpointStats, NUM_ERRORS_1M, 0);
+        numErrors5m = readLong(vEndpointStats, NUM_ERRORS_5M, 0);
         lastError = readString(vEndpointStats, LAST_ERROR);
         data = readValue(vEndpointStats, DATA);
         started = readDate(vEndpointStats, STARTED);
@@ -123,6 +181,17 @@ public class EndpointStats implements JsonSerializable {
         JsonUtils.addFieldWhenGtZero(sb, NUM_ERRORS, numErrors);
         JsonUtils.addFieldWhenGtZero(sb, PROCESSING_TIME, processingTime);
         JsonUtils.addFieldWhenGtZero(sb, AVERAGE_PROCESSING_TIME, averageProcessingTime);
+        JsonUtils.addFieldWhenGtZero(sb, NUM_SHED, numShed);
+        JsonUtils.addFieldWhenGtZero(sb, QUEUE_TIME, queueTime);
+        JsonUtils.addFieldWhenGtZero(sb, AVERAGE_QUEUE_TIME, averageQueueTime);
+        JsonUtils.addFieldWhenGtZero(sb, PROCESSING_TIME_P50, processingTimeP50);
+        JsonUtils.addFieldWhenGtZero(sb, PROCESSING_TIME_P90, processingTimeP90);
+        JsonUtils.addFieldWhenGtZero(sb, PROCESSING_TIME_P99, processingTimeP99);
+        JsonUtils.addFieldWhenGtZero(sb, PROCESSING_TIME_MAX, processingTimeMax);
+        JsonUtils.addFieldWhenGtZero(sb, NUM_REQUESTS_1M, numRequests1m);
+        JsonUtils.addFieldWhenGtZero(sb, NUM_REQUESTS_5M, numRequests5m);
+        JsonUtils.addFieldWhenGtZero(sb, NUM_ERRORS_1M, numErrors1m);
+        JsonUtils.addFieldWhenGtZero(sb, NUM_ERRORS_5M, numErrors5m);
         JsonUtils.addField(sb, LAST_ERROR, lastError);
         JsonUtils.addField(sb, DATA, data);
         JsonUtils.addField(sb, STARTED, started);
@@ -185,6 +254,128 @@ public class EndpointStats implements JsonSerializable {
         return averageProcessingTime;
     }
 
+    /**
+     * The number of requests shed because the endpoint could not keep up, see {@link EndpointExecution}.
+     * Shed requests are not counted in the number of requests.
+     * @return the number of shed requests
+     */
+    public long getNumShed() {
+        return numShed;
+    }
+
+    /**
+     * Total time requests waited to run, only recorded with an {@link EndpointExecution}
+     * @return the total queue time
+     */
+    public long getQueueTime() {
+        return queueTime;
+    }
+
+    /**
+     * Average queue time is the total queue time divided by the num requests
+     * @return the average queue time
+     */
+    public long getAverageQueueTime() {
+        return averageQueueTime;
+    }
+
+    /**
+     * The processing time that half the requests took at most.
+     * Percentiles are never more than about 6% above the actual value.
+     * @return the median processing time
+     */
+    public long getProcessingTimeP50() {
+        return processingTimeP50;
+    }
+
+    /**
+     * The processing time that 90% of the requests took at most
+     * @return the 90th percentile processing time
+     */
+    public long getProcessingTimeP90() {
+        return processingTimeP90;
+    }
+
+    /**
+     * The processing time that 99% of the requests took at most
+     * @return the 99th percentile processing time
+     */
+    public long getProcessingTimeP99() {
+        return processingTimeP99;
+    }
+
+    /**
+     * The longest processing time of any request
+     * @return the maximum processing time
+     */
+    public long getProcessingTimeMax() {
+        return processingTimeMax;
+    }
+
+    /**
+     * The number of requests received in the last minute
+     * @return the number of requests
+     */
+    public long getNumRequests1m() {
+        return numRequests1m;
+    }
+
+    /**
+     * The number of requests received in the last 5 minutes
+     * @return the number of requests
+     */
+    public long getNumRequests5m() {
+        return numRequests5m;
+    }
+
+    /**
+     * The number of errors raised in the last minute
+     * @return the number of errors
+     */
+    public long getNumErrors1m() {
+        return numErrors1m;
+    }
+
+    /**
+     * The number of errors raised in the last 5 minutes
+     * @return the number of errors
+     */
+    public long getNumErrors5m() {
+        return numErrors5m;
+    }
+
+    /**
+     * The requests per second over the last minute
+     * @return the rate
+     */
+    public double getRequestRate1m() {
+        return numRequests1m / 60.0;
+    }
+
+    /**
+     * The requests per second over the last 5 minutes
+     * @return the rate
+     */
+    public double getRequestRate5m() {
+        return numRequests5m / 300.0;
+    }
+
+    /**
+     * The errors per second over the last minute
+     * @return the rate
+     */
+    public double getErrorRate1m() {
+        return numErrors1m / 60.0;
+    }
+
+    /**
+     * The errors per second over the last 5 minutes
+     * @return the rate
+     */
+    public double getErrorRate5m() {
+        return numErrors5m / 300.0;
+    }
+
     /**
      * If set, the last error triggered by the endpoint
      * @return the last error or null
@@ -234,6 +425,17 @@ public class EndpointStats implements JsonSerializable {
         if (numErrors != that.numErrors) return false;
         if (processingTime != that.processingTime) return false;
         if (averageProcessingTime != that.averageProcessingTime) return false;
+        if (numShed != that.numShed) return false;
+        if (queueTime != that.queueTime) return false;
+        if (averageQueueTime != that.averageQueueTime) return false;
+        if (processingTimeP50 != that.processingTimeP50) return false;
+        if (processingTimeP90 != that.processingTimeP90) return false;
+        if (processingTimeP99 != that.processingTimeP99) return false;
+        if (processingTimeMax != that.processingTimeMax) return false;
+        if (numRequests1m != that.numRequests1m) return false;
+        if (numRequests5m != that.numRequests5m) return false;
+        if (numErrors1m != that.numErrors1m) return false;
+        if (numErrors5m != that.numErrors5m) return false;
         if (!Objects.equals(name, that.name)) return false;
         if (!Objects.equals(subject, that.subject)) return false;
         if (!Objects.equals(queueGroup, that.queueGroup)) return false;
@@ -251,6 +453,17 @@ public class EndpointStats implements JsonSerializable {
         result = 31 * result + Long.hashCode(numErrors);
         result = 31 * result + Long.hashCode(processingTime);
         result = 31 * result + Long.hashCode(averageProcessingTime);
+        result = 31 * result + Long.hashCode(numShed);
+        result = 31 * result + Long.hashCode(queueTime);
+        result = 31 * result + Long.hashCode(averageQueueTime);
+        result = 31 * result + Long.hashCode(processingTimeP50);
+        result = 31 * result + Long.hashCode(processingTimeP90);
+        result = 31 * result + Long.hashCode(processingTimeP99);
+        result = 31 * result + Long.hashCode(processingTimeMax);
+        result = 31 * result + Long.hashCode(numRequests1m);
+        result = 31 * result + Long.hashCode(numRequests5m);
+        result = 31 * result + Long.hashCode(numErrors1m);
+        result = 31 * result + Long.hashCode(numErrors5m);
         result = 31 * result + (lastError != null ? lastError.hashCode() : 0);
         result = 31 * result + (data != null ? data.hashCode() : 0);
         result = 31 * result + (started != null ? started.hashCode() : 0);
@@ -303,6 +303,11 @@ public class Service {
                     }
                 }
 
+                // requests handed to an endpoint execution can still be queued or running
+                for (EndpointContext c : serviceContexts.values()) {
+                    c.stopExecution(drain ? drainTimeout : null);
+                }
+
                 // close internal dispatchers
                 for (Dispatcher d : dInternals) {
                     conn.closeDispatcher(d);
@@ -28,6 +28,7 @@ import static io.nats.client.support.NatsConstants.DOT;
  * <li>It allows the endpoint to be grouped.</li>
  * <li>It is where you can define the handler that will respond to incoming requests</li>
  * <li>It allows you to define its dispatcher if desired giving granularity to threads running subscribers</li>
+ * <li>It allows requests to run concurrently and to shed load, see {@link EndpointExecution}</li>
  * <li>It gives you a hook to provide custom data for the {@link EndpointStats}</li>
  * </ul>
  * <p>To create a ServiceEndpoint, use the ServiceEndpoint builder, which can be instantiated
@@ -40,6 +41,7 @@ public class ServiceEndpoint {
     private final ServiceMessageHandler handler;
     private final Dispatcher dispatcher;
     private final Supplier<JsonValue> statsDataSupplier;
+    private final EndpointExecution execution;
 
     private ServiceEndpoint(Builder b, Endpoint endpoint) {
         this.group = b.group;
@@ -47,6 +49,7 @@ public class ServiceEndpoint {
         this.handler = b.handler;
         this.dispatcher = b.dispatcher;
         this.statsDataSupplier = b.statsDataSupplier;
+        this.execution = b.execution;
     }
 
     // internal use constructor
@@ -56,6 +59,7 @@ public class ServiceEndpoint {
         this.handler = handler;
         this.dispatcher = dispatcher;
         this.statsDataSupplier = null;
+        this.execution = null;
     }
 
     /**
@@ -118,6 +122,10 @@ public class ServiceEndpoint {
         return statsDataSupplier;
     }
 
+    protected EndpointExecution getExecution() {
+        return execution;
+    }
+
     /**
      * Get an instance of a ServiceEndpoint Builder.
      * @return the instance
@@ -134,6 +142,7 @@ public class ServiceEndpoint {
         private ServiceMessageHandler handler;
         private Dispatcher dispatcher;
         private Supplier<JsonValue> statsDataSupplier;
+        private EndpointExecution execution;
         private Endpoint.Builder endpointBuilder = Endpoint.builder();
 
         /**
@@ -232,6 +241,17 @@ public class ServiceEndpoint {
             return this;
         }
 
+        /**
+         * Set the {@link EndpointExecution} for this ServiceEndpoint. Without it, requests
+         * run one at a time on the dispatcher thread.
+         * @param execution the execution settings
+         * @return the ServiceEndpoint.Builder
+         */
+        public Builder execution(EndpointExecution execution) {
+            this.execution = execution;
+            return this;
+        }
+
         /**
          * Build the ServiceEndpoint instance.
          * @return the ServiceEndpoint instance
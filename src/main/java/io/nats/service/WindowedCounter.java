@@ -0,0 +1,91 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Internal class to support service implementation.
+ * Counts events in one second slots so the number of events in the last minutes can be read
+ * without keeping each event. Recording is an atomic increment except once per second,
+ * when the first event of the second clears the slot being reused.
+ */
+class WindowedCounter {
+    static final int MAX_WINDOW_SECONDS = 300;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final AtomicLongArray counts;
+    private final AtomicLongArray slotSeconds;
+    private final ReentrantLock rollLock;
+
+    WindowedCounter() {
+        counts = new AtomicLongArray(MAX_WINDOW_SECONDS);
+        slotSeconds = new AtomicLongArray(MAX_WINDOW_SECONDS);
+        rollLock = new ReentrantLock();
+        reset();
+    }
+
+    void record(long nowNanos) {
+        long second = nowNanos / NANOS_PER_SECOND;
+        int slot = (int)Math.floorMod(second, (long)MAX_WINDOW_SECONDS);
+        if (slotSeconds.get(slot) != second) {
+            rollLock.lock();
+            try {
+                // clear the count before claiming the slot so no
+                // increment for the new second is lost
+                if (slotSeconds.get(slot) != second) {
+                    counts.set(slot, 0);
+                    slotSeconds.set(slot, second);
+                }
+            }
+            finally {
+                rollLock.unlock();
+            }
+        }
+        counts.incrementAndGet(slot);
+    }
+
+    /**
+     * The number of events in the window, which includes the current, partial, second
+     * @param nowNanos the current time
+     * @param windowSeconds the window size, 1 to {@link #MAX_WINDOW_SECONDS}
+     * @return the number of events
+     */
+    long count(long nowNanos, int windowSeconds) {
+        long second = nowNanos / NANOS_PER_SECOND;
+        long oldest = second - windowSeconds;
+        long total = 0;
+        for (int x = 0; x < MAX_WINDOW_SECONDS; x++) {
+            long s = slotSeconds.get(x);
+            if (s > oldest && s <= second) {
+                total += counts.get(x);
+            }
+        }
+        return total;
+    }
+
+    void reset() {
+        rollLock.lock();
+        try {
+            for (int x = 0; x < MAX_WINDOW_SECONDS; x++) {
+                slotSeconds.set(x, Long.MIN_VALUE);
+                counts.set(x, 0);
+            }
+        }
+        finally {
+            rollLock.unlock();
+        }
+    }
+}
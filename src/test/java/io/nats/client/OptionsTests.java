@@ -17,6 +17,7 @@ import io.nats.client.ConnectionListener.Events;
 import io.nats.client.impl.*;
 import io.nats.client.support.HttpRequest;
 import io.nats.client.support.NatsUri;
+import io.nats.client.support.VirtualThreads;
 import io.nats.client.support.ssl.SslTestingHelper;
 import io.nats.client.utils.CloseOnUpgradeAttempt;
 import io.nats.client.utils.CoverageServerPool;
@@ -1346,6 +1347,40 @@ public class OptionsTests {
         assertTrue(options.isEnableFastFallback());
     }
 
+    @Test
+    public void testUseVirtualThreads() throws Exception {
+        assertFalse(new Options.Builder().build().isUseVirtualThreads());
+
+        Properties props = new Properties();
+        props.setProperty(Options.PROP_USE_VIRTUAL_THREADS, "true");
+        assertTrue(new Options.Builder(props).build().isUseVirtualThreads());
+
+        Options options = new Options.Builder().useVirtualThreads().connectionName("vt").build();
+        assertTrue(options.isUseVirtualThreads());
+        assertTrue(new Options.Builder(options).build().isUseVirtualThreads());
+
+        // virtual threads when the JVM has them, otherwise the usual platform threads
+        options.incrementExecutorUse();
+        try {
+            assertEquals(VirtualThreads.isAvailable(), options.getExecutor().submit(() -> isVirtual(Thread.currentThread())).get());
+            assertEquals(VirtualThreads.isAvailable(), options.getCallbackExecutor().submit(() -> isVirtual(Thread.currentThread())).get());
+            assertEquals(VirtualThreads.isAvailable(), options.getConnectExecutor().submit(() -> isVirtual(Thread.currentThread())).get());
+            assertTrue(options.getExecutor().submit(() -> Thread.currentThread().getName()).get().startsWith("vt:"));
+        }
+        finally {
+            options.shutdownExecutors();
+        }
+    }
+
+    private static boolean isVirtual(Thread t) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(t);
+        }
+        catch (Exception e) {
+            return false;
+        }
+    }
+
 /* These next three require that no default is set anywhere, if another test
     requires SSLContext.setDefault() and runs before these, they will fail. Commenting
     out for now, this can be run manually.
@@ -20,6 +20,10 @@ import org.junit.jupiter.api.Test;
 
 import java.net.SocketException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -270,6 +274,46 @@ public class PublishTests {
         catch (IllegalArgumentException ignore) {}
     }
 
+    @Test
+    public void testPublishBatch() throws Exception {
+        runInServer(nc -> {
+            String subject = subject();
+            int count = 5000;
+            List<String> received = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch latch = new CountDownLatch(count);
+            Dispatcher d = nc.createDispatcher(m -> {
+                received.add(new String(m.getData()));
+                latch.countDown();
+            });
+            d.subscribe(subject);
+            nc.flush(Duration.ofSeconds(1));
+
+            List<Message> batch = new ArrayList<>();
+            for (int x = 0; x < count; x++) {
+                Headers h = x % 2 == 0 ? null : new Headers().put("x", "" + x);
+                batch.add(NatsMessage.builder().subject(subject).headers(h).data("" + x).build());
+            }
+            nc.publishBatch(batch);
+            nc.publishBatch(Collections.emptyList());
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            for (int x = 0; x < count; x++) {
+                assertEquals("" + x, received.get(x));
+            }
+
+            // nothing is sent if any message is not valid
+            List<Message> invalid = new ArrayList<>();
+            invalid.add(NatsMessage.builder().subject(subject).data("ok").build());
+            invalid.add(NatsMessage.builder().subject("not ok").data("not ok").build());
+            assertThrows(IllegalArgumentException.class, () -> nc.publishBatch(invalid));
+            nc.flush(Duration.ofSeconds(1));
+            assertEquals(count, received.size());
+
+            nc.close();
+            assertThrows(IllegalStateException.class, () -> nc.publishBatch(batch));
+        });
+    }
+
     @Test
     public void testUtf8Subjects() throws Exception {
         String subject = dataAsLines("utf8-test-strings.txt").get(0);
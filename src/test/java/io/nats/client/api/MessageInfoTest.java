@@ -118,6 +118,9 @@ public class MessageInfoTest {
         assertNotNull(jsonMessageInfo.getTime());
         assertEquals("json-stream", jsonMessageInfo.getStream());
         assertTrue(jsonMessageInfo.isMessage());
+        assertNotNull(jsonMessageInfo.getJv());
+        assertNotNull(jsonMessageInfo.getJv().map.get("message"));
+        assertNull(testInfo.getJv());
 
         // Test 6: Deprecated constructor for COVERAGE
         @SuppressWarnings("deprecation")
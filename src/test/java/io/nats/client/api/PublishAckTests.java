@@ -14,6 +14,8 @@
 package io.nats.client.api;
 
 import io.nats.client.JetStreamApiException;
+import io.nats.client.support.JsonValue;
+import io.nats.client.support.JsonValueUtils;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -43,6 +45,12 @@ public class PublishAckTests {
             assertEquals("-73", ack.getVal());
             assertEquals("batch-id", ack.getBatchId());
             assertEquals(66, ack.getBatchSize());
+            JsonValue jv = ack.getJv();
+            assertNotNull(jv);
+            assertEquals("test-stream", JsonValueUtils.readString(jv, "stream"));
+            assertEquals(42, JsonValueUtils.readLong(jv, "seq", -1));
+            assertSame(jv, ack.getJv());
+            assertEquals("\"PublishAck\":" + json, ack.toString());
         }
         catch (Exception e) {
             fail("Unexpected Exception: " + e.getMessage());
@@ -0,0 +1,150 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Message;
+import io.nats.client.Options;
+import io.nats.client.PullSubscribeOptions;
+import io.nats.client.PushSubscribeOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.nats.client.impl.AckType.AckAck;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AckCoalescerTests {
+
+    // stands in for the connection, records what would have been published
+    static class TestConnection extends NatsConnection {
+        final List<Message> published = new ArrayList<>();
+
+        TestConnection() {
+            super(Options.builder().build());
+        }
+
+        @Override
+        public synchronized void publishBatch(List<Message> messages) {
+            published.addAll(messages);
+        }
+
+        synchronized int publishedCount() {
+            return published.size();
+        }
+    }
+
+    private static NatsJetStreamMessage jsMessage(long streamSeq) {
+        return (NatsJetStreamMessage) new IncomingMessageFactory("1", "subj",
+            "$JS.ACK.stream.consumer.1." + streamSeq + "." + streamSeq + ".1605139610113260000.0", 0, false).getMessage();
+    }
+
+    @Test
+    public void testCumulative() {
+        TestConnection conn = new TestConnection();
+        AckCoalescer ac = new AckCoalescer(conn, true, 60000);
+        assertTrue(ac.isCumulative());
+
+        ac.ack(jsMessage(2));
+        ac.ack(jsMessage(5));
+        ac.ack(jsMessage(3));
+        assertEquals(3, ac.getPendingAcks());
+        assertEquals(0, conn.publishedCount());
+
+        ac.flush();
+        assertEquals(0, ac.getPendingAcks());
+        assertEquals(2, ac.getCoalescedAcks());
+        assertEquals(1, conn.publishedCount());
+        assertEquals(jsMessage(5).getReplyTo(), conn.published.get(0).getSubject());
+        assertArrayEquals(AckAck.bytes, conn.published.get(0).getData());
+
+        ac.flush(); // nothing pending, nothing sent
+        assertEquals(1, conn.publishedCount());
+    }
+
+    @Test
+    public void testExplicit() {
+        TestConnection conn = new TestConnection();
+        AckCoalescer ac = new AckCoalescer(conn, false, 60000);
+        assertFalse(ac.isCumulative());
+
+        ac.ack(jsMessage(1));
+        ac.ack(jsMessage(2));
+        ac.ack(jsMessage(3));
+        assertEquals(3, ac.getPendingAcks());
+        ac.flush();
+        assertEquals(3, conn.publishedCount());
+        assertEquals(0, ac.getCoalescedAcks());
+        for (int x = 0; x < 3; x++) {
+            assertEquals(jsMessage(x + 1).getReplyTo(), conn.published.get(x).getSubject());
+        }
+    }
+
+    @Test
+    public void testFlushWhenFull() {
+        TestConnection conn = new TestConnection();
+        AckCoalescer ac = new AckCoalescer(conn, false, 60000);
+        for (int x = 1; x <= AckCoalescer.MAX_PENDING_ACKS; x++) {
+            ac.ack(jsMessage(x));
+        }
+        assertEquals(AckCoalescer.MAX_PENDING_ACKS, conn.publishedCount());
+        assertEquals(0, ac.getPendingAcks());
+    }
+
+    @Test
+    public void testFlushWhenWindowEnds() throws Exception {
+        TestConnection conn = new TestConnection();
+        AckCoalescer ac = new AckCoalescer(conn, true, 10);
+        ac.ack(jsMessage(1));
+        ac.ack(jsMessage(2));
+        long end = System.currentTimeMillis() + 5000;
+        while (conn.publishedCount() == 0 && System.currentTimeMillis() < end) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, conn.publishedCount());
+        assertEquals(1, ac.getCoalescedAcks());
+    }
+
+    @Test
+    public void testFailedSendLeavesMessagesNotAcked() {
+        for (boolean cumulative : new boolean[]{true, false}) {
+            TestConnection conn = new TestConnection() {
+                @Override
+                public synchronized void publishBatch(List<Message> messages) {
+                    throw new IllegalStateException("Connection is Closed");
+                }
+            };
+            AckCoalescer ac = new AckCoalescer(conn, cumulative, 60000);
+            NatsJetStreamMessage m1 = jsMessage(1);
+            NatsJetStreamMessage m2 = jsMessage(2);
+            m1.lastAck = AckAck;
+            ac.ack(m1);
+            m2.lastAck = AckAck;
+            ac.ack(m2);
+
+            assertThrows(IllegalStateException.class, ac::flush);
+            assertEquals(0, ac.getPendingAcks());
+            assertNull(m1.lastAck());
+            assertNull(m2.lastAck());
+        }
+    }
+
+    @Test
+    public void testSubscribeOptions() {
+        assertEquals(0, PushSubscribeOptions.builder().build().getAckCoalesceWindow());
+        assertEquals(20, PushSubscribeOptions.builder().coalesceAcks(20).build().getAckCoalesceWindow());
+        assertEquals(20, PullSubscribeOptions.builder().coalesceAcks(20).build().getAckCoalesceWindow());
+        assertEquals(0, PullSubscribeOptions.builder().coalesceAcks(0).build().getAckCoalesceWindow());
+    }
+}
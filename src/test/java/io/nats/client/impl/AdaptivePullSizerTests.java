@@ -0,0 +1,115 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptivePullSizerTests {
+
+    private static final long MS = 1_000_000;
+
+    // one pull whose first message arrives after rtt, then count messages handled serviceTime apart
+    private static long cycle(AdaptivePullSizer s, long now, long rtt, long serviceTime, int count) {
+        s.pullSent(now);
+        now += rtt;
+        for (int x = 0; x < count; x++) {
+            s.messageReceived(now);
+            s.messageProcessed(now, x < count - 1);
+            now += serviceTime;
+        }
+        return now;
+    }
+
+    @Test
+    public void testInitialWindowIsClamped() {
+        assertEquals(10, new AdaptivePullSizer(10, 100, 1).getWindow());
+        assertEquals(100, new AdaptivePullSizer(10, 100, 1_000_000).getWindow());
+        assertEquals(50, new AdaptivePullSizer(10, 100, 50).getWindow());
+    }
+
+    @Test
+    public void testWindowFollowsRoundTripOverServiceTime() {
+        AdaptivePullSizer s = new AdaptivePullSizer(1, 10_000, 100);
+        long now = cycle(s, 0, 10 * MS, MS, 20);
+        assertEquals(10 * MS, s.getRttNanos(), 0);
+        assertEquals(MS, s.getServiceNanos(), 0);
+
+        // two round trips worth of messages at 1ms each
+        assertEquals(20, s.nextWindow(5));
+
+        // a handler 10 times faster needs a window 10 times bigger
+        for (int x = 0; x < 50; x++) {
+            now = cycle(s, now, 10 * MS, MS / 10, 20);
+        }
+        int window = s.nextWindow(5);
+        assertTrue(window > 150 && window <= 200, "window " + window);
+
+        // never more than the ceiling or less than the floor
+        AdaptivePullSizer capped = new AdaptivePullSizer(30, 50, 40);
+        cycle(capped, 0, 100 * MS, MS, 5);
+        assertEquals(50, capped.nextWindow(5));
+        capped = new AdaptivePullSizer(30, 50, 40);
+        cycle(capped, 0, MS / 10, MS, 5);
+        assertEquals(30, capped.nextWindow(5));
+    }
+
+    @Test
+    public void testLateFirstMessageOnlyNudgesRoundTrip() {
+        AdaptivePullSizer s = new AdaptivePullSizer(1, 10_000, 100);
+        cycle(s, 0, 10 * MS, MS, 2);
+        // the stream was idle, so the first message of this pull came a long time later
+        cycle(s, 100 * MS, 1000 * MS, MS, 2);
+        assertTrue(s.getRttNanos() < 100 * MS, "rtt " + s.getRttNanos());
+        // a faster round trip is taken right away
+        cycle(s, 2000 * MS, 5 * MS, MS, 2);
+        assertEquals(5 * MS, s.getRttNanos(), 0);
+    }
+
+    @Test
+    public void testWaitingIsNotServiceTime() {
+        AdaptivePullSizer s = new AdaptivePullSizer(1, 10_000, 100);
+        s.messageProcessed(0, false);       // buffer empty after this one
+        s.messageProcessed(500 * MS, true); // so this gap is waiting, not handling
+        assertEquals(-1, s.getServiceNanos(), 0);
+        s.messageProcessed(501 * MS, false);
+        assertEquals(MS, s.getServiceNanos(), 0);
+    }
+
+    @Test
+    public void testStarvedGrows() {
+        AdaptivePullSizer s = new AdaptivePullSizer(1, 100, 10);
+
+        // nothing delivered since the last pull, the stream is just idle, so no change
+        s.pullSent(0);
+        assertEquals(10, s.nextWindow(0));
+
+        // delivered and used up before it was time to pull again
+        s.messageReceived(MS);
+        assertEquals(16, s.nextWindow(0));
+        s.pullSent(2 * MS);
+        s.messageReceived(3 * MS);
+        assertEquals(25, s.nextWindow(0));
+
+        // still messages buffered, no estimates yet, so it stays
+        s.pullSent(4 * MS);
+        s.messageReceived(5 * MS);
+        assertEquals(25, s.nextWindow(3));
+
+        AdaptivePullSizer top = new AdaptivePullSizer(1, 100, 90);
+        top.messageReceived(0);
+        assertEquals(100, top.nextWindow(0));
+    }
+}
@@ -857,6 +857,156 @@ public class HeadersTests {
         validateDirtyAndLength(h2);
     }
 
+    @Test
+    public void testIncomingHeadersDecodeLazily() {
+        String raw = "NATS/1.0\r\nk1:v1\r\nk2: v2 \r\nk1:v3\r\nk3 :\r\n\r\n";
+        Headers h = new IncomingHeadersProcessor(raw.getBytes()).getHeaders();
+        assertNotNull(h);
+        assertFalse(h.isEmpty());
+        assertTrue(h.containsKey("k1"));
+        assertTrue(h.containsKey("k3"));
+        assertFalse(h.containsKey("K1"));
+        assertFalse(h.containsKey("k"));
+        assertFalse(h.containsKey(null));
+        assertEquals("v1", h.getFirst("k1"));
+        assertEquals("v3", h.getLast("k1"));
+        assertEquals("v2", h.getFirst("k2"));
+        assertEquals(EMPTY, h.getFirst("k3"));
+        assertEquals(Arrays.asList("v1", "v3"), h.get("k1"));
+        assertNull(h.get("k4"));
+        assertNull(h.getFirst("k4"));
+        assertNull(h.getLast("k4"));
+        assertThrows(UnsupportedOperationException.class, () -> h.get("k1").add("x"));
+
+        // decoded when everything is needed
+        Headers expected = new Headers().add("k1", "v1", "v3").add("k2", "v2").add("k3", EMPTY);
+        assertEquals(3, h.size());
+        assertEquals(expected, h);
+        assertEquals(expected.serializedLength(), h.serializedLength());
+        assertEquals("v3", h.getLast("k1"));
+
+        // and when changed
+        Headers h2 = new IncomingHeadersProcessor(raw.getBytes()).getHeaders();
+        assertNotNull(h2);
+        h2.add("k1", "v4");
+        assertEquals(Arrays.asList("v1", "v3", "v4"), h2.get("k1"));
+        assertEquals(3, h2.size());
+
+        assertThrows(IllegalArgumentException.class, () -> new IncomingHeadersProcessor("NATS/1.0\r\nk 1:v1\r\n\r\n".getBytes()));
+        assertThrows(IllegalArgumentException.class, () -> new IncomingHeadersProcessor("NATS/1.0\r\n :v1\r\n\r\n".getBytes()));
+        assertThrows(IllegalArgumentException.class, () -> new IncomingHeadersProcessor("NATS/1.0\r\nk1:v\u00e91\r\n\r\n".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testIncomingHeadersConcurrentReads() throws Exception {
+        String raw = "NATS/1.0\r\nk1:v1\r\nk2:v2\r\nk1:v3\r\n\r\n";
+        for (int round = 0; round < 200; round++) {
+            Headers h = new IncomingHeadersProcessor(raw.getBytes()).getHeaders();
+            assertNotNull(h);
+            List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                boolean decodes = t % 2 == 0;
+                threads[t] = new Thread(() -> {
+                    try {
+                        for (int x = 0; x < 50; x++) {
+                            if (decodes) {
+                                assertEquals(2, h.size());
+                            }
+                            assertTrue(h.containsKey("k2"));
+                            assertEquals("v1", h.getFirst("k1"));
+                            assertEquals("v3", h.getLast("k1"));
+                            assertEquals(Arrays.asList("v1", "v3"), h.get("k1"));
+                        }
+                    }
+                    catch (Throwable e) {
+                        errors.add(e);
+                    }
+                });
+            }
+            for (Thread t : threads) {
+                t.start();
+            }
+            for (Thread t : threads) {
+                t.join();
+            }
+            assertTrue(errors.isEmpty(), errors.toString());
+        }
+    }
+
+    @Test
+    public void testConcurrentPublishSharesHeaders() throws Exception {
+        String raw = "NATS/1.0\r\nk1:v1\r\nk2:v2\r\nk1:v3\r\n\r\n";
+        for (int round = 0; round < 200; round++) {
+            // one that was built and one that came in and is decoded by the first publish
+            Headers built = new Headers().add(KEY1, VAL1).add(KEY2, VAL2, VAL3);
+            Headers incoming = new IncomingHeadersProcessor(raw.getBytes()).getHeaders();
+            assertNotNull(incoming);
+            byte[] builtExpected = new Headers(built).getSerialized();
+            byte[] incomingExpected = new Headers(new IncomingHeadersProcessor(raw.getBytes()).getHeaders()).getSerialized();
+
+            List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(() -> {
+                    try {
+                        for (int x = 0; x < 20; x++) {
+                            NatsMessage m = new NatsMessage("subject", null, built, null);
+                            assertEquals(builtExpected.length, m.getPayloadSize());
+                            assertTrue(m.getHeaders().isReadOnly());
+                            assertArrayEquals(builtExpected, m.getHeaders().getSerialized());
+
+                            m = new NatsMessage("subject", null, incoming, null);
+                            assertEquals(incomingExpected.length, m.getPayloadSize());
+                            assertArrayEquals(incomingExpected, m.getHeaders().getSerialized());
+                        }
+                    }
+                    catch (Throwable e) {
+                        errors.add(e);
+                    }
+                });
+            }
+            for (Thread t : threads) {
+                t.start();
+            }
+            for (Thread t : threads) {
+                t.join();
+            }
+            assertTrue(errors.isEmpty(), errors.toString());
+            assertTrue(built.isDirty()); // the copy is serialized, not the original
+        }
+    }
+
+    @Test
+    public void testReadOnlyCopyIsReused() {
+        Headers h = new Headers().add(KEY1, VAL1).add(KEY2, VAL2);
+        Headers copy = h.readOnlyCopy();
+        assertTrue(copy.isReadOnly());
+        assertFalse(copy.isDirty());
+        assertSame(copy, h.readOnlyCopy());
+        assertSame(copy, copy.readOnlyCopy());
+        assertEquals(h, copy);
+
+        byte[] dest = new byte[copy.serializedLength() + 2];
+        assertEquals(copy.serializedLength(), copy.serializeToArray(2, dest));
+        assertArrayEquals(h.getSerialized(), Arrays.copyOfRange(dest, 2, dest.length));
+
+        // to string must not change the shared serialized bytes
+        byte[] before = copy.getSerialized().clone();
+        assertFalse(copy.toString().isEmpty());
+        assertArrayEquals(before, copy.getSerialized());
+
+        h.add(KEY1, VAL3);
+        Headers copy2 = h.readOnlyCopy();
+        assertNotSame(copy, copy2);
+        assertEquals(1, copy.get(KEY1).size());
+        assertEquals(2, copy2.get(KEY1).size());
+
+        h.remove(KEY2);
+        assertNotSame(copy2, h.readOnlyCopy());
+        assertTrue(copy2.containsKey(KEY2));
+    }
+
     @Test
     public void testToken() {
         byte[] serialized1 = "notspaceorcrlf".getBytes(StandardCharsets.US_ASCII);
@@ -25,6 +25,8 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -1356,6 +1358,70 @@ public class JetStreamManagementTests extends JetStreamTestBase {
         assertNotNull(mi.toString());
     }
 
+    @Test
+    public void testMessageBatchGetRequestObject() {
+        MessageBatchGetRequest mbgr = MessageBatchGetRequest.batch("sub.>", 10);
+        assertEquals(10, mbgr.getBatch());
+        assertEquals(-1, mbgr.getMinSequence());
+        assertEquals("sub.>", mbgr.getNextBySubject());
+        assertTrue(mbgr.getMultiLastFor().isEmpty());
+        assertEquals("{\"batch\":10,\"next_by_subj\":\"sub.>\"}", mbgr.toJson());
+
+        mbgr = MessageBatchGetRequest.batch("sub", 5, 42);
+        assertEquals(42, mbgr.getMinSequence());
+        assertEquals("{\"batch\":5,\"seq\":42,\"next_by_subj\":\"sub\"}", mbgr.toJson());
+
+        mbgr = MessageBatchGetRequest.multiLastForSubjects(Arrays.asList("a", "b"));
+        assertEquals(-1, mbgr.getBatch());
+        assertNull(mbgr.getNextBySubject());
+        assertEquals(Arrays.asList("a", "b"), mbgr.getMultiLastFor());
+        assertEquals("{\"multi_last\":[\"a\",\"b\"]}", mbgr.toJson());
+
+        mbgr = MessageBatchGetRequest.multiLastForSubjects(Collections.singletonList("a"), 7);
+        assertEquals(7, mbgr.getUpToSequence());
+        assertEquals("{\"multi_last\":[\"a\"],\"up_to_seq\":7}", mbgr.toJson());
+
+        assertThrows(IllegalArgumentException.class, () -> MessageBatchGetRequest.batch(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> MessageBatchGetRequest.batch("sub", 0));
+        assertThrows(IllegalArgumentException.class, () -> MessageBatchGetRequest.multiLastForSubjects(null));
+        assertThrows(IllegalArgumentException.class, () -> MessageBatchGetRequest.multiLastForSubjects(Collections.emptyList()));
+    }
+
+    @Test
+    public void testMessageBatchGet() throws Exception {
+        jsServer.run(nc -> {
+            if (nc.getServerInfo().isNewerVersionThan("2.10.99")) {
+                JetStreamManagement jsm = nc.jetStreamManagement();
+                JetStream js = nc.jetStream();
+
+                TestingStreamContainer tsc = new TestingStreamContainer(nc, 3);
+                jsm.updateStream(StreamConfiguration.builder(tsc.si.getConfiguration()).allowDirect(true).build());
+                for (int q = 1; q <= 6; q++) {
+                    js.publish(buildTestGetMessage(tsc, q % 3, q));
+                }
+
+                List<MessageInfo> list = jsm.fetchMessageBatch(tsc.stream, MessageBatchGetRequest.batch(tsc.subject(1), 10));
+                assertEquals(2, list.size());
+                assertEquals(1, list.get(0).getSeq());
+                assertEquals(4, list.get(1).getSeq());
+
+                list = jsm.fetchMessageBatch(tsc.stream, MessageBatchGetRequest.multiLastForSubjects(Arrays.asList(tsc.subject(0), tsc.subject(2))));
+                assertEquals(2, list.size());
+                for (MessageInfo mi : list) {
+                    assertTrue(mi.getSeq() == 5 || mi.getSeq() == 6);
+                }
+
+                List<MessageInfo> handled = new ArrayList<>();
+                assertTrue(jsm.requestMessageBatch(tsc.stream, MessageBatchGetRequest.batch(tsc.subject(2), 10), handled::add));
+                assertEquals(3, handled.size());
+                assertTrue(handled.get(2).isEobStatus());
+
+                // no results is an empty list
+                assertTrue(jsm.fetchMessageBatch(tsc.stream, MessageBatchGetRequest.batch("not-a-subject", 10)).isEmpty());
+            }
+        });
+    }
+
     private void validateMessageGetRequestObject(
         long seq, String lastBySubject, String nextBySubject, ZonedDateTime zdt, MessageGetRequest mgr) {
         assertEquals(seq, mgr.getSequence());
@@ -185,6 +185,37 @@ public class JetStreamPubTests extends JetStreamTestBase {
         });
     }
 
+    @Test
+    public void testAsyncPublisher() throws Exception {
+        jsServer.run(nc -> {
+            TestingStreamContainer tsc = new TestingStreamContainer(nc);
+            JetStream js = nc.jetStream();
+
+            AsyncPublisher publisher = js.asyncPublisher(AsyncPublisherOptions.builder()
+                .maxOutstandingAcks(10)
+                .backpressure(AsyncPublisherOptions.Backpressure.Defer)
+                .build());
+
+            List<CompletableFuture<PublishAck>> futures = new ArrayList<>();
+            for (int x = 1; x <= 100; x++) {
+                futures.add(publisher.publishAsync(tsc.subject(), dataBytes(x)));
+                assertTrue(publisher.getOutstandingAcks() <= 10);
+            }
+            assertTrue(publisher.waitForOutstandingAcks(Duration.ofSeconds(10)));
+
+            for (int x = 1; x <= 100; x++) {
+                PublishAck pa = futures.get(x - 1).get();
+                assertEquals(tsc.stream, pa.getStream());
+                assertEquals(x, pa.getSeqno()); // deferred messages are sent in order
+            }
+            assertEquals(0, publisher.getOutstandingAcks());
+            assertEquals(0, publisher.getDeferredCount());
+            assertEquals(100, publisher.getAckLatency(tsc.stream).getCount());
+
+            assertFutureIOException(publisher.publishAsync(subject(999), null));
+        });
+    }
+
     @Test
     public void testMultithreadedPublishAsync() throws Exception {
         final ExecutorService executorService = Executors.newFixedThreadPool(3);
@@ -16,6 +16,7 @@ package io.nats.client.impl;
 import io.nats.client.*;
 import io.nats.client.api.AckPolicy;
 import io.nats.client.api.ConsumerConfiguration;
+import io.nats.client.api.ConsumerInfo;
 import io.nats.client.api.PriorityPolicy;
 import io.nats.client.support.JsonUtils;
 import io.nats.client.support.Status;
@@ -129,6 +130,38 @@ public class JetStreamPullTests extends JetStreamTestBase {
         });
     }
 
+    @Test
+    public void testCoalescedAcks() throws Exception {
+        jsServer.run(nc -> {
+            JetStream js = nc.jetStream();
+            TestingStreamContainer tsc = new TestingStreamContainer(nc);
+
+            // ack policy all, so one cumulative ack covers the whole batch
+            PullSubscribeOptions options = PullSubscribeOptions.builder()
+                .durable(tsc.consumerName())
+                .configuration(ConsumerConfiguration.builder().ackPolicy(AckPolicy.All).build())
+                .coalesceAcks(60000)
+                .build();
+            JetStreamSubscription sub = js.subscribe(tsc.subject(), options);
+            nc.flush(Duration.ofSeconds(1));
+
+            jsPublish(js, tsc.subject(), "A", 10);
+            List<Message> messages = sub.fetch(10, Duration.ofSeconds(3));
+            validateRead(10, messages.size());
+            messages.forEach(Message::ack);
+            assertEquals(10, sub.getPendingAckCount());
+
+            // unsubscribing sends what is being held
+            sub.unsubscribe();
+            assertEquals(0, sub.getPendingAckCount());
+            assertEquals(9, sub.getCoalescedAckCount());
+            nc.flush(Duration.ofSeconds(1));
+            ConsumerInfo ci = nc.jetStreamManagement().getConsumerInfo(tsc.stream, tsc.consumerName());
+            assertEquals(10, ci.getAckFloor().getStreamSequence());
+            assertEquals(0, ci.getNumAckPending());
+        });
+    }
+
     @Test
     public void testIterate() throws Exception {
         jsServer.run(nc -> {
@@ -1151,6 +1184,22 @@ public class JetStreamPullTests extends JetStreamTestBase {
             pubThread.join();
 
             assertTrue(count.incrementAndGet() > 500);
+
+            // keeping several batches requested
+            JetStreamSubscription sub2 = js.subscribe(tsc.subject(), so);
+            JetStreamReader prefetching = sub2.reader(50, 25, 4);
+            AtomicInteger count2 = new AtomicInteger();
+            readerThread = getReaderThread(count2, stopCount, prefetching);
+
+            publisher = new Publisher(js, tsc.subject(), 25);
+            pubThread = new Thread(publisher);
+            pubThread.start();
+
+            readerThread.join();
+            publisher.stop();
+            pubThread.join();
+
+            assertTrue(count2.get() >= 500);
         });
     }
 
@@ -318,6 +318,7 @@ public class JetStreamPushTests extends JetStreamTestBase {
         assertThrows(IllegalStateException.class, () -> sub.iterate(1, 1000));
         assertThrows(IllegalStateException.class, () -> sub.iterate(1, Duration.ofSeconds(1)));
         assertThrows(IllegalStateException.class, () -> sub.reader(1, 2));
+        assertThrows(IllegalStateException.class, () -> sub.reader(1, 2, 3));
     }
 
     @Test
@@ -472,6 +472,195 @@ public class KeyValueTests extends JetStreamTestBase {
         return keys;
     }
 
+    @Test
+    public void testMultiGet() throws Exception {
+        jsServer.run(nc -> {
+            KeyValueManagement kvm = nc.keyValueManagement();
+
+            String bucket = bucket();
+            kvm.create(KeyValueConfiguration.builder()
+                .name(bucket)
+                .storageType(StorageType.Memory)
+                .build());
+
+            KeyValue kv = nc.keyValue(bucket);
+            for (int x = 1; x <= 5; x++) {
+                kv.put("k" + x, x);
+            }
+            kv.put("k2", 22);
+            kv.delete("k3");
+            kv.purge("k4");
+
+            // works the same whether the server does the batch get or the client falls back to single gets
+            Map<String, KeyValueEntry> map = kv.get(Arrays.asList("k1", "k2", "k3", "k4", "k5", "missing"));
+            assertEquals(3, map.size());
+            assertEquals(1, map.get("k1").getValueAsLong());
+            assertEquals(22, map.get("k2").getValueAsLong());
+            assertEquals(5, map.get("k5").getValueAsLong());
+            assertFalse(map.containsKey("k3"));
+            assertFalse(map.containsKey("k4"));
+            assertFalse(map.containsKey("missing"));
+
+            List<String> handled = new ArrayList<>();
+            kv.get(Arrays.asList("k5", "k1"), kve -> handled.add(kve.getKey()));
+            assertEquals(2, handled.size());
+            assertTrue(handled.contains("k1"));
+            assertTrue(handled.contains("k5"));
+
+            assertTrue(kv.get(Collections.singletonList("missing")).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> kv.get(Collections.singletonList("wild.*")));
+        });
+    }
+
+    @Test
+    public void testCachedKeyValue() throws Exception {
+        jsServer.run(nc -> {
+            KeyValueManagement kvm = nc.keyValueManagement();
+
+            String bucket = bucket();
+            kvm.create(KeyValueConfiguration.builder()
+                .name(bucket)
+                .storageType(StorageType.Memory)
+                .build());
+
+            KeyValue kv = nc.keyValue(bucket);
+            for (int x = 1; x <= 5; x++) {
+                kv.put("k" + x, x);
+            }
+
+            CachedKeyValue ckv = nc.cachedKeyValue(bucket);
+            assertTrue(waitUntil(ckv::isCacheReady));
+            assertEquals(5, ckv.getCacheSize());
+            assertEquals(1, ckv.get("k1").getValueAsLong());
+            assertNull(ckv.get("missing")); // every key is cached, so a missing key is known not to exist
+            assertEquals(2, ckv.getCacheHits());
+            assertEquals(0, ckv.getCacheMisses());
+
+            // a write through the cache is visible right away
+            ckv.put("k1", 11);
+            assertEquals(11, ckv.get("k1").getValueAsLong());
+
+            // writes from elsewhere arrive through the watcher
+            kv.put("k2", 22);
+            kv.delete("k3");
+            assertTrue(waitUntil(() -> {
+                KeyValueEntry kve = ckv.get("k2");
+                return kve != null && kve.getValueAsLong() == 22;
+            }));
+            assertTrue(waitUntil(() -> ckv.get("k3") == null));
+            assertTrue(ckv.getCacheUpdateLag().getCount() > 0);
+
+            Map<String, KeyValueEntry> map = ckv.get(Arrays.asList("k1", "k2", "k3", "k4"));
+            assertEquals(3, map.size());
+            assertEquals(11, map.get("k1").getValueAsLong());
+
+            // bounded, evicted keys are read from the server
+            CachedKeyValue small = nc.cachedKeyValue(bucket, CachedKeyValueOptions.builder()
+                .maxEntries(2)
+                .eviction(CachedKeyValueOptions.Eviction.Lfu)
+                .build());
+            assertTrue(waitUntil(small::isCacheReady));
+            assertTrue(small.getCacheSize() <= 2);
+            assertTrue(small.getCacheEvictions() > 0);
+            for (int x = 4; x <= 5; x++) {
+                assertEquals(x, small.get("k" + x).getValueAsLong());
+            }
+            assertEquals(11, small.get("k1").getValueAsLong());
+            assertNull(small.get("missing"));
+            assertTrue(small.getCacheMisses() > 0);
+
+            small.close();
+            ckv.close();
+            assertFalse(ckv.isCacheReady());
+            assertEquals(0, ckv.getCacheSize());
+            assertEquals(11, ckv.get("k1").getValueAsLong());
+        });
+    }
+
+    @Test
+    public void testCachedKeyValueExpiringEntries() throws Exception {
+        jsServer.run(TestBase::atLeast2_12, nc -> {
+            KeyValueManagement kvm = nc.keyValueManagement();
+
+            // with limit markers, a TTL'd key that expires is removed from the cache by the watcher
+            String bucket = bucket();
+            kvm.create(KeyValueConfiguration.builder()
+                .name(bucket)
+                .storageType(StorageType.Memory)
+                .limitMarker(1000)
+                .build());
+            KeyValue kv = nc.keyValue(bucket);
+            kv.put("history", 1);
+
+            CachedKeyValue ckv = nc.cachedKeyValue(bucket);
+            assertTrue(waitUntil(ckv::isCacheReady));
+            assertEquals(0, ckv.getCacheUpdateLag().getCount()); // the replay is not lag
+
+            kv.create("ttl", dataBytes(), MessageTtl.seconds(1));
+            assertTrue(waitUntil(() -> ckv.get("ttl") != null));
+            long hits = ckv.getCacheHits();
+            assertNotNull(ckv.get("ttl"));
+            assertEquals(hits + 1, ckv.getCacheHits());
+            assertEquals("1s", ckv.get("ttl").getMessageTtl());
+
+            assertTrue(waitUntil(() -> ckv.get("ttl") == null));
+            assertNull(kv.get("ttl"));
+            ckv.close();
+
+            // without limit markers, entries of a bucket with a max age are always read from the server
+            String aging = bucket();
+            kvm.create(KeyValueConfiguration.builder()
+                .name(aging)
+                .storageType(StorageType.Memory)
+                .ttl(Duration.ofSeconds(1))
+                .build());
+            nc.keyValue(aging).put("key", 1);
+            CachedKeyValue aged = nc.cachedKeyValue(aging);
+            assertTrue(waitUntil(aged::isCacheReady));
+            assertEquals(1, aged.get("key").getValueAsLong());
+            assertEquals(0, aged.getCacheHits());
+            assertTrue(aged.getCacheMisses() > 0);
+            assertTrue(waitUntil(() -> aged.get("key") == null));
+            aged.close();
+        });
+    }
+
+    private static boolean waitUntil(CheckedCondition condition) throws Exception {
+        long end = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < end) {
+            if (condition.check()) {
+                return true;
+            }
+            sleep(10);
+        }
+        return false;
+    }
+
+    interface CheckedCondition {
+        boolean check() throws Exception;
+    }
+
+    @Test
+    public void testCachedKeyValueOptions() {
+        CachedKeyValueOptions ckvo = CachedKeyValueOptions.DEFAULT_INSTANCE;
+        assertEquals(CachedKeyValueOptions.DEFAULT_MAX_ENTRIES, ckvo.getMaxEntries());
+        assertEquals(CachedKeyValueOptions.Eviction.Lru, ckvo.getEviction());
+        assertNull(ckvo.getKeyValueOptions());
+
+        KeyValueOptions kvo = KeyValueOptions.builder().build();
+        ckvo = CachedKeyValueOptions.builder()
+            .maxEntries(0)
+            .eviction(CachedKeyValueOptions.Eviction.Lfu)
+            .keyValueOptions(kvo)
+            .build();
+        assertEquals(-1, ckvo.getMaxEntries());
+        assertEquals(CachedKeyValueOptions.Eviction.Lfu, ckvo.getEviction());
+        assertSame(kvo, ckvo.getKeyValueOptions());
+
+        ckvo = CachedKeyValueOptions.builder().eviction(null).build();
+        assertEquals(CachedKeyValueOptions.Eviction.Lru, ckvo.getEviction());
+    }
+
     @Test
     public void testMaxHistoryPerKey() throws Exception {
         jsServer.run(nc -> {
@@ -153,6 +153,42 @@ public class MessageQueueTests {
         validateAccumulate(100, q.accumulate(-1, 101, Duration.ofMillis(500)));
     }
 
+    @Test
+    public void testMultipleWritersKeepOrderPerWriter() throws InterruptedException {
+        int writers = 8;
+        int perWriter = WriterMessageQueue.CHUNK_SIZE * 3 + 7; // each writer alone crosses chunks
+        WriterMessageQueue q = newWriterMessageQueue(100);
+        Thread[] threads = new Thread[writers];
+        for (int i = 0; i < writers; i++) {
+            final String subject = "writer" + i;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < perWriter; j++) {
+                    assertTrue(q.push(new NatsMessage(subject, null, ("" + j).getBytes())));
+                }
+            });
+            threads[i].start();
+        }
+
+        int[] expected = new int[writers];
+        int received = 0;
+        while (received < writers * perWriter) {
+            NatsMessage cursor = q.accumulate(-1, 50, Duration.ofMillis(500));
+            assertNotNull(cursor);
+            while (cursor != null) {
+                int writer = Integer.parseInt(cursor.getSubject().substring(6));
+                assertEquals(expected[writer]++, Integer.parseInt(new String(cursor.getData())));
+                received++;
+                cursor = cursor.next;
+            }
+        }
+        for (int i = 0; i < writers; i++) {
+            threads[i].join();
+        }
+        assertEquals(0, q.length());
+        assertEquals(0, q.sizeInBytes());
+        assertEquals(0, q.queueSize());
+    }
+
     @Test
     public void testMultipleReaders() throws InterruptedException {
         ConsumerMessageQueue q = new ConsumerMessageQueue();
@@ -337,6 +373,34 @@ public class MessageQueueTests {
         _testFiltered(2);
     }
 
+    @Test
+    public void testFilterAcrossChunks() throws InterruptedException {
+        int count = WriterMessageQueue.CHUNK_SIZE * 2 + 10;
+        WriterMessageQueue q = newWriterMessageQueue();
+        for (int i = 0; i < count; i++) {
+            q.push(getTestFilteredMessage("" + i, i % 3 == 0));
+        }
+
+        q.pause();
+        q.filter();
+        q.resume();
+
+        int expectedLength = count - (count + 2) / 3;
+        assertEquals(expectedLength, q.length());
+        assertEquals(expectedLength + 1, q.queueSize()); // plus the poison
+
+        NatsMessage cursor = q.accumulate(-1, count, Duration.ofMillis(500));
+        for (int i = 0; i < count; i++) {
+            if (i % 3 != 0) {
+                assertNotNull(cursor);
+                assertEquals("customFilter" + i, cursor.getSubject());
+                cursor = cursor.next;
+            }
+        }
+        assertNull(cursor);
+        assertEquals(0, q.length());
+    }
+
     private static NatsMessage getTestFilteredMessage(String id, final boolean filterOnStop) {
         if (filterOnStop) {
             return new ProtocolMessage(("customFilter" + id).getBytes(), true);
@@ -415,6 +479,27 @@ public class MessageQueueTests {
         }
     }
 
+    @Test
+    public void testPushWaitsForRoomWhenQueueIsFull() throws InterruptedException {
+        WriterMessageQueue q = newWriterMessageQueue(2);
+        assertTrue(q.push(getTestMessage()));
+        assertTrue(q.push(getTestMessage()));
+
+        Thread t = new Thread(() -> {
+            sleep(100);
+            try {
+                validateAccumulate(1, q.accumulate(-1, 1, null));
+            }
+            catch (InterruptedException ignore) {}
+        });
+        t.start();
+
+        // the push timeout is 500ms, so this waits for the accumulate
+        assertTrue(q.push(getTestMessage()));
+        t.join();
+        assertEquals(2, q.length());
+    }
+
     @Test
     public void testDiscardMessageWhenQueueFull() throws InterruptedException {
         WriterMessageQueue q = new WriterMessageQueue(2, true, Duration.ofMillis(500));
@@ -441,6 +526,93 @@ public class MessageQueueTests {
         validateAccumulate(0, q.accumulate(-1, 10, null));
     }
 
+    private static NatsMessage chain(NatsMessage... msgs) {
+        for (int i = 1; i < msgs.length; i++) {
+            msgs[i - 1].next = msgs[i];
+        }
+        return msgs[0];
+    }
+
+    @Test
+    public void testPushBatch() throws InterruptedException {
+        int count = WriterMessageQueue.CHUNK_SIZE + 10; // crosses a chunk
+        WriterMessageQueue q = newWriterMessageQueue();
+        assertTrue(q.push(getTestMessage()));
+        NatsMessage[] msgs = new NatsMessage[count];
+        long bytes = TEST_MESSAGE_BYTES;
+        for (int i = 0; i < count; i++) {
+            msgs[i] = new NatsMessage("batch" + i, null, null);
+            bytes += msgs[i].getSizeInBytes();
+        }
+        assertNull(q.pushBatch(chain(msgs), count));
+        assertEquals(count + 1, q.length());
+        assertEquals(bytes, q.sizeInBytes());
+
+        // the batch is not taken all at once just because it was linked
+        NatsMessage cursor = q.accumulate(-1, 3, null);
+        validateAccumulate(3, cursor);
+        assertEquals("batch1", cursor.next.next.getSubject());
+
+        cursor = q.accumulate(-1, count, null);
+        for (int i = 2; i < count; i++) {
+            assertEquals("batch" + i, cursor.getSubject());
+            cursor = cursor.next;
+        }
+        assertNull(cursor);
+        assertEquals(0, q.length());
+        assertEquals(0, q.sizeInBytes());
+    }
+
+    @Test
+    public void testPushBatchWhenQueueIsFull() throws InterruptedException {
+        // discarding, the messages that don't fit are given back
+        WriterMessageQueue q = new WriterMessageQueue(3, true, Duration.ofMillis(500));
+        assertTrue(q.push(getTestMessage()));
+        NatsMessage msg1 = getTestMessage();
+        NatsMessage msg2 = getTestMessage();
+        NatsMessage msg3 = getTestMessage();
+        NatsMessage msg4 = getTestMessage();
+        assertSame(msg3, q.pushBatch(chain(msg1, msg2, msg3, msg4), 4));
+        assertSame(msg4, msg3.next);
+        assertEquals(3, q.length());
+        assertEquals(TEST_MESSAGE_BYTES * 3, q.sizeInBytes());
+
+        // waiting, the batch goes in as room is made
+        WriterMessageQueue wq = newWriterMessageQueue(2);
+        Thread t = new Thread(() -> {
+            try {
+                int taken = 0;
+                while (taken < 5) {
+                    taken += count(wq.accumulate(-1, 1, Duration.ofMillis(500)));
+                }
+            }
+            catch (InterruptedException ignore) {}
+        });
+        t.start();
+        assertNull(wq.pushBatch(chain(getTestMessage(), getTestMessage(), getTestMessage(), getTestMessage(), getTestMessage()), 5));
+        t.join();
+        assertEquals(0, wq.length());
+
+        // nobody makes room
+        WriterMessageQueue fq = newWriterMessageQueue(2);
+        NatsMessage third = getTestMessage();
+        WriterMessageQueue.BatchQueueFullException e = assertThrows(WriterMessageQueue.BatchQueueFullException.class,
+            () -> fq.pushBatch(chain(getTestMessage(), getTestMessage(), third), 3));
+        assertEquals(OUTPUT_QUEUE_IS_FULL + "2", e.getMessage());
+        assertEquals(2, fq.length());
+        assertEquals(2, e.queued);
+        assertSame(third, e.unqueued);
+    }
+
+    private static int count(NatsMessage cursor) {
+        int count = 0;
+        while (cursor != null) {
+            count++;
+            cursor = cursor.next;
+        }
+        return count;
+    }
+
     @Test
     public void testClear() throws InterruptedException {
         WriterMessageQueue q = newWriterMessageQueue();
@@ -0,0 +1,217 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.AsyncPublisherOptions;
+import io.nats.client.AsyncPublisherOptions.Backpressure;
+import io.nats.client.PublishOptions;
+import io.nats.client.api.PublishAck;
+import io.nats.client.support.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static io.nats.client.utils.TestBase.getDataMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NatsAsyncPublisherTests {
+
+    // stands in for the connection, the test decides when acks arrive
+    static class TestSender implements NatsAsyncPublisher.Sender {
+        final List<String> subjects = new ArrayList<>();
+        final List<CompletableFuture<PublishAck>> futures = new ArrayList<>();
+
+        @Override
+        public synchronized CompletableFuture<PublishAck> send(String subject, Headers headers, byte[] data, PublishOptions options) {
+            CompletableFuture<PublishAck> f = new CompletableFuture<>();
+            subjects.add(subject);
+            futures.add(f);
+            return f;
+        }
+
+        synchronized int sent() {
+            return futures.size();
+        }
+
+        void ack(int index) throws Exception {
+            CompletableFuture<PublishAck> f;
+            synchronized (this) {
+                f = futures.get(index);
+            }
+            f.complete(new PublishAck(getDataMessage("{\"stream\":\"strm\",\"seq\":" + (index + 1) + "}")));
+        }
+    }
+
+    private static NatsAsyncPublisher publisher(TestSender sender, AsyncPublisherOptions apo) {
+        // run deferred sends right away so the test does not need to wait
+        return new NatsAsyncPublisher(apo, sender, Runnable::run, Duration.ofMillis(100));
+    }
+
+    @Test
+    public void testOptions() {
+        AsyncPublisherOptions apo = AsyncPublisherOptions.DEFAULT_INSTANCE;
+        assertEquals(AsyncPublisherOptions.DEFAULT_MAX_OUTSTANDING_ACKS, apo.getMaxOutstandingAcks());
+        assertEquals(-1, apo.getMaxOutstandingBytes());
+        assertEquals(Backpressure.Block, apo.getBackpressure());
+        assertNull(apo.getBlockTimeout());
+
+        apo = AsyncPublisherOptions.builder()
+            .maxOutstandingAcks(0)
+            .maxOutstandingBytes(1000)
+            .backpressure(Backpressure.Defer)
+            .blockTimeout(500)
+            .build();
+        assertEquals(-1, apo.getMaxOutstandingAcks());
+        assertEquals(1000, apo.getMaxOutstandingBytes());
+        assertEquals(Backpressure.Defer, apo.getBackpressure());
+        assertEquals(Duration.ofMillis(500), apo.getBlockTimeout());
+
+        apo = AsyncPublisherOptions.builder().backpressure(null).blockTimeout(null).build();
+        assertEquals(Backpressure.Block, apo.getBackpressure());
+        assertNull(apo.getBlockTimeout());
+    }
+
+    @Test
+    public void testFailFast() throws Exception {
+        TestSender sender = new TestSender();
+        NatsAsyncPublisher p = publisher(sender, AsyncPublisherOptions.builder()
+            .maxOutstandingAcks(2).backpressure(Backpressure.FailFast).build());
+
+        CompletableFuture<PublishAck> f0 = p.publishAsync("s0", new byte[10]);
+        p.publishAsync("s1", new byte[10]);
+        assertEquals(2, p.getOutstandingAcks());
+        assertEquals(20, p.getOutstandingBytes());
+        assertThrows(IllegalStateException.class, () -> p.publishAsync("s2", new byte[10]));
+        assertEquals(2, sender.sent());
+
+        sender.ack(0);
+        assertEquals(1, f0.get().getSeqno());
+        assertEquals(1, p.getOutstandingAcks());
+        assertEquals(10, p.getOutstandingBytes());
+        p.publishAsync("s2", new byte[10]);
+        assertEquals(3, sender.sent());
+
+        LatencyHistogram h = p.getAckLatency("strm");
+        assertNotNull(h);
+        assertEquals(1, h.getCount());
+        assertEquals(1, p.getAckLatencies().size());
+        assertNull(p.getAckLatency("other"));
+    }
+
+    @Test
+    public void testMaxBytes() throws Exception {
+        TestSender sender = new TestSender();
+        NatsAsyncPublisher p = publisher(sender, AsyncPublisherOptions.builder()
+            .maxOutstandingBytes(100).backpressure(Backpressure.FailFast).build());
+
+        // a single message over the limit goes when nothing is outstanding
+        p.publishAsync("big", new byte[150]);
+        assertThrows(IllegalStateException.class, () -> p.publishAsync("small", new byte[1]));
+        sender.ack(0);
+
+        p.publishAsync("s1", new byte[60]);
+        assertThrows(IllegalStateException.class, () -> p.publishAsync("s2", new byte[60]));
+        p.publishAsync("s3", new byte[40]);
+        assertEquals(100, p.getOutstandingBytes());
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        TestSender sender = new TestSender();
+        NatsAsyncPublisher p = publisher(sender, AsyncPublisherOptions.builder()
+            .maxOutstandingAcks(1).blockTimeout(5000).build());
+
+        p.publishAsync("s0", null);
+        CountDownLatch blocked = new CountDownLatch(1);
+        Thread t = new Thread(() -> {
+            blocked.countDown();
+            p.publishAsync("s1", null);
+        });
+        t.start();
+        assertTrue(blocked.await(1, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(1, sender.sent());
+
+        sender.ack(0);
+        t.join(5000);
+        assertFalse(t.isAlive());
+        assertEquals(2, sender.sent());
+
+        // the timeout
+        NatsAsyncPublisher p2 = new NatsAsyncPublisher(AsyncPublisherOptions.builder().maxOutstandingAcks(1).build(),
+            new TestSender(), Runnable::run, Duration.ofMillis(50));
+        p2.publishAsync("s0", null);
+        assertThrows(IllegalStateException.class, () -> p2.publishAsync("s1", null));
+    }
+
+    @Test
+    public void testDefer() throws Exception {
+        TestSender sender = new TestSender();
+        NatsAsyncPublisher p = publisher(sender, AsyncPublisherOptions.builder()
+            .maxOutstandingAcks(2).backpressure(Backpressure.Defer).build());
+
+        List<CompletableFuture<PublishAck>> futures = new ArrayList<>();
+        for (int x = 0; x < 5; x++) {
+            futures.add(p.publishAsync("s" + x, new byte[1]));
+        }
+        assertEquals(2, sender.sent());
+        assertEquals(3, p.getDeferredCount());
+        assertFalse(futures.get(2).isDone());
+        assertFalse(p.waitForOutstandingAcks(Duration.ofMillis(10)));
+
+        futures.get(3).cancel(false); // cancelled before it is sent, so never sent
+
+        sender.ack(0);
+        assertEquals(3, sender.sent());
+        sender.ack(1);
+        assertEquals(4, sender.sent());
+        assertEquals(0, p.getDeferredCount());
+        sender.ack(2);
+        sender.ack(3);
+        assertTrue(p.waitForOutstandingAcks(Duration.ofMillis(10)));
+
+        assertEquals(3, futures.get(2).get().getSeqno());
+        assertEquals(4, futures.get(4).get().getSeqno());
+        assertEquals("s0,s1,s2,s4", String.join(",", sender.subjects));
+        assertEquals(0, p.getOutstandingAcks());
+        assertEquals(0, p.getOutstandingBytes());
+        assertEquals(4, p.getAckLatency("strm").getCount());
+    }
+
+    @Test
+    public void testFailedAckReleasesRoom() throws Exception {
+        TestSender sender = new TestSender();
+        NatsAsyncPublisher p = publisher(sender, AsyncPublisherOptions.builder()
+            .maxOutstandingAcks(1).backpressure(Backpressure.FailFast).build());
+
+        CompletableFuture<PublishAck> f = p.publishAsync("s0", null);
+        sender.futures.get(0).completeExceptionally(new IOException("timeout"));
+        assertThrows(ExecutionException.class, f::get);
+        assertEquals(0, p.getOutstandingAcks());
+        assertNull(p.getAckLatency("strm"));
+
+        NatsAsyncPublisher noAck = publisher(new TestSender() {
+            @Override
+            public synchronized CompletableFuture<PublishAck> send(String subject, Headers headers, byte[] data, PublishOptions options) {
+                return null;
+            }
+        }, AsyncPublisherOptions.DEFAULT_INSTANCE);
+        assertNull(noAck.publishAsync("s0", null));
+        assertEquals(0, noAck.getOutstandingAcks());
+    }
+}
@@ -0,0 +1,107 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NatsInlineDispatcherTests {
+
+    private static NatsMessage message(NatsSubscription sub) {
+        NatsMessage msg = new NatsMessage("subject", null, new byte[1]);
+        msg.setSubscription(sub);
+        return msg;
+    }
+
+    @Test
+    public void testDeliversOnCallingThread() {
+        MockNatsConnection nc = new MockNatsConnection(Options.builder().build());
+        AtomicReference<Thread> handlerThread = new AtomicReference<>();
+        NatsInlineDispatcher d = (NatsInlineDispatcher) nc.createInlineDispatcher(m -> handlerThread.set(Thread.currentThread()));
+        NatsSubscription sub = new NatsSubscription("1", "subject", null, nc, d);
+
+        d.deliverInline(message(sub));
+        assertSame(Thread.currentThread(), handlerThread.get());
+        assertEquals(1, d.getDeliveredCount());
+        assertEquals(1, sub.getDeliveredCount());
+        assertEquals(0, d.getSlowCount());
+        assertEquals(0, d.getPendingMessageCount());
+
+        // nothing is delivered once stopped
+        nc.closeDispatcher(d);
+        handlerThread.set(null);
+        d.deliverInline(message(sub));
+        assertNull(handlerThread.get());
+        assertEquals(1, d.getDeliveredCount());
+    }
+
+    @Test
+    public void testWatchdogReportsRunningHandler() throws Exception {
+        CountDownLatch reported = new CountDownLatch(1);
+        AtomicInteger reports = new AtomicInteger();
+        AtomicReference<Subscription> reportedSub = new AtomicReference<>();
+        ErrorListener el = new ErrorListener() {
+            @Override
+            public void inlineDispatchSlow(Connection conn, Subscription sub, Duration elapsed) {
+                reports.incrementAndGet();
+                reportedSub.set(sub);
+                reported.countDown();
+            }
+        };
+        MockNatsConnection nc = new MockNatsConnection(Options.builder()
+            .errorListener(el).inlineDispatchThreshold(Duration.ofMillis(20)).build());
+
+        // the handler stays stuck until the watchdog reports it
+        AtomicReference<Boolean> reportedWhileRunning = new AtomicReference<>();
+        NatsInlineDispatcher d = (NatsInlineDispatcher) nc.createInlineDispatcher(m -> reportedWhileRunning.set(reported.await(5, TimeUnit.SECONDS)));
+        NatsSubscription sub = new NatsSubscription("1", "subject", null, nc, d);
+
+        d.deliverInline(message(sub));
+        assertTrue(reportedWhileRunning.get());
+        assertEquals(1, d.getSlowCount()); // the reader thread noticed too, but does not report it again
+        Thread.sleep(100);
+        assertEquals(1, reports.get());
+        assertSame(sub, reportedSub.get());
+
+        nc.closeDispatcher(d);
+    }
+
+    @Test
+    public void testThresholdOff() {
+        MockNatsConnection nc = new MockNatsConnection(Options.builder().inlineDispatchThreshold(null).build());
+        NatsInlineDispatcher d = (NatsInlineDispatcher) nc.createInlineDispatcher(m -> Thread.sleep(20));
+        NatsSubscription sub = new NatsSubscription("1", "subject", null, nc, d);
+        d.deliverInline(message(sub));
+        assertEquals(1, d.getDeliveredCount());
+        assertEquals(0, d.getSlowCount());
+        assertFalse(d.isDrained());
+        nc.closeDispatcher(d);
+    }
+
+    @Test
+    public void testOptions() {
+        assertEquals(Options.DEFAULT_INLINE_DISPATCH_THRESHOLD, Options.builder().build().getInlineDispatchThreshold());
+        Options o = Options.builder().inlineDispatchThreshold(Duration.ofMillis(5)).build();
+        assertEquals(Duration.ofMillis(5), o.getInlineDispatchThreshold());
+        assertEquals(Duration.ofMillis(5), new Options.Builder(o).build().getInlineDispatchThreshold());
+    }
+}
@@ -48,6 +48,7 @@ public class NatsJetStreamMetaDataTests extends JetStreamTestBase {
         assertEquals(1, meta.deliveredCount());
         assertEquals(2, meta.streamSequence());
         assertEquals(3, meta.consumerSequence());
+        assertEquals(1605139610113260000L, meta.timestampNanos());
 
         ZonedDateTime localTs = meta.timestamp();
         assertEquals(2020, localTs.getYear());
@@ -103,5 +104,17 @@ public class NatsJetStreamMetaDataTests extends JetStreamTestBase {
 
         assertThrows(IllegalArgumentException.class,
             () -> new NatsJetStreamMetaData(getTestMessage("$JS.ACK.test-stream.test-consumer.1.2.3.1605139610113260000.invalid")));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new NatsJetStreamMetaData(getTestMessage("$JS.ACK.test-stream.test-consumer.1..3.1605139610113260000")));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new NatsJetStreamMetaData(getTestMessage("$JS.ACK.test-stream.test-consumer.1.-2.3.1605139610113260000")));
+
+        // too big for a long
+        assertThrows(IllegalArgumentException.class,
+            () -> new NatsJetStreamMetaData(getTestMessage("$JS.ACK.test-stream.test-consumer.1.2.3.9999999999999999999")));
+        assertThrows(IllegalArgumentException.class,
+            () -> new NatsJetStreamMetaData(getTestMessage("$JS.ACK.test-stream.test-consumer.1.2.3.10000000000000000000")));
     }
 }
@@ -142,6 +142,84 @@ public class NatsStatisticsTests {
         }
     }
 
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        NatsStatistics stats = new NatsStatistics();
+        stats.setAdvancedTracking(true);
+        int threads = 8;
+        int perThread = 10_000;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int x = 0; x < perThread; x++) {
+                    stats.incrementIn(10);
+                    stats.incrementOut(20);
+                    stats.incrementOutstandingRequests();
+                    stats.decrementOutstandingRequests();
+                    stats.registerRead(x % 100 + 1);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread w : workers) {
+            w.join();
+        }
+
+        long total = (long) threads * perThread;
+        assertEquals(total, stats.getInMsgs());
+        assertEquals(total * 10, stats.getInBytes());
+        assertEquals(total, stats.getOutMsgs());
+        assertEquals(total * 20, stats.getOutBytes());
+        assertEquals(0, stats.getOutstandingRequests());
+
+        String str = stats.toString();
+        assertTrue(str.contains("Min Bytes Per Read:              1\n"), str);
+        assertTrue(str.contains("Max Bytes Per Read:              100\n"), str);
+    }
+
+    @Test
+    public void testLatencyHistograms() throws Exception {
+        try (NatsTestServer ts = new NatsTestServer(false)) {
+            Options options = new Options.Builder().server(ts.getURI()).turnOnAdvancedStats().build();
+            try (Connection nc = Nats.connect(options)) {
+                StatisticsCollector stats = ((NatsConnection) nc).getStatisticsCollector();
+
+                Dispatcher d = nc.createDispatcher((msg) -> nc.publish(msg.getReplyTo(), new byte[16]));
+                d.subscribe("subject");
+                Subscription sub = nc.subscribe("sync");
+
+                nc.flush(Duration.ofMillis(500));
+                Message msg = nc.request("subject", new byte[8]).get(500, TimeUnit.MILLISECONDS);
+                assertNotNull(msg);
+                nc.publish("sync", null);
+                assertNotNull(sub.nextMessage(500));
+
+                assertEquals(1, stats.getFlushLatency().getCount());
+                assertEquals(1, stats.getRequestLatency().getCount());
+                assertTrue(stats.getRequestLatency().getMax() > 0);
+                // the request on the dispatcher, the reply on the inbox dispatcher, the sync message
+                assertEquals(3, stats.getDeliveryLatency().getCount());
+                assertEquals(1, d.getDeliveryLatency().getCount());
+                assertEquals(1, sub.getDeliveryLatency().getCount());
+                assertEquals(0, stats.getPublishAckLatency().getCount());
+                assertTrue(stats.toString().contains("### Latency ###"));
+            }
+        }
+
+        // nothing is recorded without advanced stats
+        try (NatsTestServer ts = new NatsTestServer(false);
+             Connection nc = Nats.connect(new Options.Builder().server(ts.getURI()).build())) {
+            Subscription sub = nc.subscribe("sync");
+            nc.publish("sync", null);
+            nc.flush(Duration.ofMillis(500));
+            assertNotNull(sub.nextMessage(500));
+            assertNull(sub.getDeliveryLatency());
+            assertEquals(0, nc.getStatistics().getFlushLatency().getCount());
+            assertEquals(0, nc.getStatistics().getDeliveryLatency().getCount());
+            assertFalse(nc.getStatistics().toString().contains("### Latency ###"));
+        }
+    }
+
     @Test
     public void testReadWriteAdvancedStatsDisabled() throws Exception {
         try (NatsTestServer ts = new NatsTestServer(false)) {
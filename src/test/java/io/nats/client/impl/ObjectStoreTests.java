@@ -18,6 +18,7 @@ import io.nats.client.utils.TestBase;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.NoSuchAlgorithmException;
@@ -303,6 +304,68 @@ public class ObjectStoreTests extends JetStreamTestBase {
 
         oso = ObjectStoreOptions.builder().jsRequestTimeout(Duration.ofSeconds(10)).build();
         assertEquals(Duration.ofSeconds(10), oso.getJetStreamOptions().getRequestTimeout());
+
+        assertEquals(1, ObjectStoreOptions.builder().build().getMaxChunksInFlight());
+        assertEquals(1, ObjectStoreOptions.builder().maxChunksInFlight(0).build().getMaxChunksInFlight());
+        oso = ObjectStoreOptions.builder().maxChunksInFlight(16).build();
+        assertEquals(16, oso.getMaxChunksInFlight());
+        assertEquals(16, ObjectStoreOptions.builder(oso).build().getMaxChunksInFlight());
+    }
+
+    @Test
+    public void testPipelinedPutAndGet() throws Exception {
+        jsServer.run(nc -> {
+            String bucket = bucket();
+            nc.objectStoreManagement().create(ObjectStoreConfiguration.builder(bucket).storageType(StorageType.Memory).build());
+            ObjectStore os = nc.objectStore(bucket, ObjectStoreOptions.builder().maxChunksInFlight(8).build());
+
+            byte[] input = new byte[100_000 + 17];
+            new Random().nextBytes(input);
+
+            ObjectInfo oi = os.put(ObjectMeta.builder("pipelined")
+                .chunkSize(1000)
+                .build(), new ByteArrayInputStream(input));
+            assertEquals(input.length, oi.getSize());
+            assertEquals(101, oi.getChunks());
+
+            // pipelined get into a channel
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            os.get("pipelined", Channels.newChannel(baos));
+            assertArrayEquals(input, baos.toByteArray());
+
+            // pipelined get into a stream
+            baos = new ByteArrayOutputStream();
+            os.get("pipelined", baos);
+            assertArrayEquals(input, baos.toByteArray());
+
+            // what was put pipelined can be read by a store that isn't
+            baos = new ByteArrayOutputStream();
+            nc.objectStore(bucket).get("pipelined", Channels.newChannel(baos));
+            assertArrayEquals(input, baos.toByteArray());
+        });
+    }
+
+    @Test
+    public void testPipelinedPutFailureLeavesNoChunks() throws Exception {
+        jsServer.run(nc -> {
+            String bucket = bucket();
+            nc.objectStoreManagement().create(ObjectStoreConfiguration.builder(bucket)
+                .storageType(StorageType.Memory)
+                .maxBucketSize(50_000)
+                .build());
+            ObjectStore os = nc.objectStore(bucket, ObjectStoreOptions.builder().maxChunksInFlight(8).build());
+
+            // the bucket fills up part way, so a chunk fails while others are in flight
+            byte[] input = new byte[100_000];
+            new Random().nextBytes(input);
+            assertThrows(Exception.class, () -> os.put(ObjectMeta.builder("too-big")
+                .chunkSize(1000)
+                .build(), new ByteArrayInputStream(input)));
+
+            // the chunks that were in flight are purged too
+            assertEquals(0, os.getStatus().getBackingStreamInfo().getStreamState().getMsgCount());
+            assertNull(os.getInfo("too-big"));
+        });
     }
 
     private void assertOso(ObjectStoreOptions oso) {
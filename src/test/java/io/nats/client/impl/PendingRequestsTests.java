@@ -0,0 +1,163 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.NatsSystemClock;
+import io.nats.client.support.NatsRequestCompletableFuture;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.nats.client.support.NatsRequestCompletableFuture.CancelAction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PendingRequestsTests {
+
+    private static NatsRequestCompletableFuture future(long timeoutMillis) {
+        return new NatsRequestCompletableFuture(CancelAction.CANCEL, Duration.ofMillis(timeoutMillis), false);
+    }
+
+    @Test
+    public void testParseToken() {
+        assertEquals(1, PendingRequests.parseToken("_INBOX.abc.1", 11));
+        assertEquals(123456789012345678L, PendingRequests.parseToken("x.123456789012345678", 2));
+        assertEquals(-1, PendingRequests.parseToken("x.1234567890123456789", 2));
+        assertEquals(-1, PendingRequests.parseToken("x.12a", 2));
+        assertEquals(-1, PendingRequests.parseToken("x.", 2));
+        assertEquals(-1, PendingRequests.parseToken("x", 2));
+        assertEquals(-1, PendingRequests.parseToken(null, 0));
+        assertEquals(-1, PendingRequests.parseToken("1", -1));
+    }
+
+    @Test
+    public void testPutRemove() {
+        PendingRequests pr = new PendingRequests(Duration.ofSeconds(5), false, NatsSystemClock.nanoTime());
+        int count = 10_000; // enough to grow every stripe several times
+        NatsRequestCompletableFuture[] futures = new NatsRequestCompletableFuture[count + 1];
+        for (int x = 1; x <= count; x++) {
+            long token = pr.nextToken();
+            assertEquals(x, token);
+            futures[x] = future(5000);
+            pr.put(token, futures[x]);
+        }
+        assertEquals(count, pr.size());
+
+        // remove the evens, the odds must still be found past where the evens were
+        for (int x = 2; x <= count; x += 2) {
+            assertSame(futures[x], pr.remove(x));
+        }
+        assertEquals(count / 2, pr.size());
+        for (int x = 1; x <= count; x++) {
+            assertSame(x % 2 == 0 ? null : futures[x], pr.remove(x));
+        }
+        assertEquals(0, pr.size());
+        assertNull(pr.remove(0));
+        assertNull(pr.remove(-1));
+        assertFalse(pr.wasRespondedTo(1)); // not tracking
+    }
+
+    @Test
+    public void testExpire() {
+        long start = NatsSystemClock.nanoTime();
+        PendingRequests pr = new PendingRequests(Duration.ofMillis(640), true, start); // 10ms ticks
+
+        NatsRequestCompletableFuture shortOne = future(100);
+        NatsRequestCompletableFuture responded = future(100);
+        NatsRequestCompletableFuture cancelled = future(100);
+        NatsRequestCompletableFuture longOne = future(60_000); // many turns of the wheel
+        pr.put(1, shortOne);
+        pr.put(2, responded);
+        pr.put(3, cancelled);
+        pr.put(4, longOne);
+        cancelled.cancel(true);
+
+        assertSame(responded, pr.remove(2));
+        assertTrue(pr.wasRespondedTo(2));
+        assertNull(pr.remove(2));
+
+        assertTrue(pr.expire(start).isEmpty());
+        assertTrue(pr.expire(shortOne.getTimeOutAfterNanoTime() - 50_000_000).isEmpty());
+        assertEquals(3, pr.size());
+
+        List<NatsRequestCompletableFuture> expired = pr.expire(shortOne.getTimeOutAfterNanoTime() + 50_000_000);
+        assertEquals(2, expired.size());
+        assertTrue(expired.contains(shortOne));
+        assertTrue(expired.contains(cancelled));
+        assertEquals(1, pr.size());
+        assertFalse(pr.wasRespondedTo(2)); // forgotten once it would have timed out
+
+        // a pass long after everything, the whole wheel is visited once
+        expired = pr.expire(longOne.getTimeOutAfterNanoTime() - 1_000_000_000);
+        assertTrue(expired.isEmpty());
+        expired = pr.expire(longOne.getTimeOutAfterNanoTime() + 50_000_000);
+        assertEquals(1, expired.size());
+        assertSame(longOne, expired.get(0));
+        assertEquals(0, pr.size());
+    }
+
+    @Test
+    public void testDeadlineAlreadyPassed() {
+        long start = NatsSystemClock.nanoTime();
+        PendingRequests pr = new PendingRequests(Duration.ofMillis(640), false, start);
+        pr.expire(start + 1_000_000_000);
+
+        // the deadline's slot was already processed, it goes in the next one
+        NatsRequestCompletableFuture f = future(0);
+        pr.put(pr.nextToken(), f);
+        assertEquals(1, pr.expire(start + 1_030_000_000).size());
+    }
+
+    @Test
+    public void testExpirePassesSlotDuringPut() {
+        long start = NatsSystemClock.nanoTime();
+        long tick = 10_000_000;
+        PendingRequests pr = new PendingRequests(Duration.ofMillis(640), false, start); // 10ms ticks
+
+        // an expire pass runs every time put looks at the deadline, so it moves past the slot put picked
+        AtomicLong now = new AtomicLong(start);
+        NatsRequestCompletableFuture f = new NatsRequestCompletableFuture(CancelAction.CANCEL, Duration.ZERO, false) {
+            @Override
+            public long getTimeOutAfterNanoTime() {
+                pr.expire(now.addAndGet(tick));
+                return start;
+            }
+        };
+        pr.put(pr.nextToken(), f);
+
+        // due on the next pass, not a turn of the wheel later
+        List<NatsRequestCompletableFuture> expired = pr.expire(now.get() + 2 * tick);
+        assertEquals(1, expired.size());
+        assertSame(f, expired.get(0));
+    }
+
+    @Test
+    public void testRemoveAll() {
+        PendingRequests pr = new PendingRequests(Duration.ofSeconds(5), true, NatsSystemClock.nanoTime());
+        for (int x = 0; x < 100; x++) {
+            pr.put(pr.nextToken(), future(5000));
+        }
+        pr.remove(1);
+        assertTrue(pr.wasRespondedTo(1));
+        assertEquals(99, pr.removeAll().size());
+        assertEquals(0, pr.size());
+        assertFalse(pr.wasRespondedTo(1));
+        assertTrue(pr.expire(NatsSystemClock.nanoTime() + 60_000_000_000L).isEmpty());
+
+        // still usable
+        pr.put(pr.nextToken(), future(5000));
+        assertEquals(1, pr.size());
+    }
+}
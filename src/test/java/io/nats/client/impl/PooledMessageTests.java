@@ -0,0 +1,179 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import io.nats.client.impl.SocketChannelDataPortTests.CapturingDataPort;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledMessageTests {
+
+    private static final Headers HEADERS = new Headers().put("key", "value").add("key", "other");
+
+    private static byte[] data(int len, int seed) {
+        byte[] data = new byte[len];
+        for (int d = 0; d < len; d++) {
+            data[d] = (byte) ('a' + (seed + d) % 26);
+        }
+        return data;
+    }
+
+    private static final String[] SUBJECTS = {"small", "large", "medium", "headers", "large.headers", "empty"};
+    private static final String[] REPLIES = {null, "reply", null, null, "reply", null};
+    private static final Headers[] HEADER_SETS = {null, null, null, HEADERS, HEADERS, new Headers()};
+    private static final int[] LENGTHS = {10, NatsConnectionWriter.GATHER_PAYLOAD_THRESHOLD + 1, NatsConnectionWriter.GATHER_PAYLOAD_THRESHOLD - 1, 3, NatsConnectionWriter.GATHER_PAYLOAD_THRESHOLD * 3, 0};
+
+    private static NatsMessage publishableChain() {
+        NatsMessage first = null;
+        NatsMessage last = null;
+        for (int x = 0; x < SUBJECTS.length; x++) {
+            NatsMessage m = new NatsPublishableMessage(SUBJECTS[x], REPLIES[x], HEADER_SETS[x], data(LENGTHS[x], x), false);
+            if (first == null) {
+                first = m;
+            }
+            else {
+                last.next = m;
+            }
+            last = m;
+        }
+        return first;
+    }
+
+    private static NatsMessage pooledChain(MessagePool pool) {
+        NatsMessage first = null;
+        NatsMessage last = null;
+        byte[] src = new byte[NatsConnectionWriter.GATHER_PAYLOAD_THRESHOLD * 4];
+        for (int x = 0; x < SUBJECTS.length; x++) {
+            // copy from the middle of a bigger array, the message's own buffer is bigger than the data too
+            System.arraycopy(data(LENGTHS[x], x), 0, src, 7, LENGTHS[x]);
+            PooledMessage m = pool.acquire()
+                .subject(SUBJECTS[x])
+                .replyTo(REPLIES[x])
+                .headers(HEADER_SETS[x])
+                .data(src, 7, LENGTHS[x]);
+            m.markPublished();
+            if (first == null) {
+                first = m;
+            }
+            else {
+                last.next = m;
+            }
+            last = m;
+        }
+        return first;
+    }
+
+    private static byte[] write(NatsMessage chain, boolean gathering) throws Exception {
+        Options options = Options.builder().bufferSize(1024).build();
+        NatsConnectionWriter writer = new NatsConnectionWriter(new MockNatsConnection(options));
+        CapturingDataPort dataPort = new CapturingDataPort();
+        if (gathering) {
+            writer.sendMessageBatchGathering(chain, dataPort, new NatsStatistics());
+        }
+        else {
+            writer.sendMessageBatch(chain, dataPort, new NatsStatistics());
+        }
+        return dataPort.captured.toByteArray();
+    }
+
+    @Test
+    public void testWrittenLikeAnyMessageAndRecycled() throws Exception {
+        byte[] expected = write(publishableChain(), false);
+        for (boolean gathering : new boolean[]{false, true}) {
+            MessagePool pool = new MessagePool(100, 16);
+            NatsMessage chain = pooledChain(pool);
+            assertEquals(0, pool.pooledCount());
+            assertArrayEquals(expected, write(chain, gathering));
+            assertEquals(SUBJECTS.length, pool.pooledCount());
+
+            // recycled messages are reset and can be set up again
+            PooledMessage pm = pool.acquire();
+            assertFalse(pm.isPublished());
+            assertNull(pm.next);
+            assertNull(pm.getSubject());
+            assertEquals(0, pm.getData().length);
+
+            // the same messages again, now with buffers that have already grown
+            assertArrayEquals(expected, write(pooledChain(pool), gathering));
+        }
+    }
+
+    @Test
+    public void testReencodedOnlyWhenChanged() {
+        MessagePool pool = new MessagePool();
+        PooledMessage pm = pool.acquire().subject("subject").data(new byte[5]);
+        assertEquals("PUB subject 5", new String(pm.getProtocolBytes()));
+        long size = pm.getSizeInBytes();
+        assertEquals(size, pm.getSizeInBytes());
+
+        pm.replyTo("reply").data(new byte[12345]);
+        assertEquals("PUB subject reply 12345", new String(pm.getProtocolBytes()));
+        pm.replyTo(null).headers(HEADERS).data(null);
+        int hlen = HEADERS.serializedLength();
+        assertEquals("HPUB subject " + hlen + " " + hlen, new String(pm.getProtocolBytes()));
+        assertTrue(pm.hasHeaders());
+
+        ByteBuffer bb = pm.data(new byte[]{1, 2, 3}).getDataBuffer();
+        assertTrue(bb.isReadOnly());
+        assertEquals(3, bb.remaining());
+        assertEquals(3, bb.get(2));
+        assertArrayEquals(new byte[]{1, 2, 3}, pm.getData());
+    }
+
+    @Test
+    public void testCannotChangeOrPublishTwiceUntilRecycled() throws Exception {
+        MessagePool pool = new MessagePool(1, 0);
+        PooledMessage pm = pool.acquire().subject("subject").data(new byte[1]);
+        pm.markPublished();
+        assertThrows(IllegalStateException.class, pm::markPublished);
+        assertThrows(IllegalStateException.class, () -> pm.subject("other"));
+        assertThrows(IllegalStateException.class, () -> pm.replyTo("other"));
+        assertThrows(IllegalStateException.class, () -> pm.headers(HEADERS));
+        assertThrows(IllegalStateException.class, () -> pm.data(new byte[1]));
+
+        PooledMessage other = pool.acquire().subject("other");
+        assertNotSame(pm, other);
+        other.markPublished();
+        pm.next = other;
+        write(pm, false);
+
+        // the pool only keeps one
+        assertEquals(1, pool.pooledCount());
+        PooledMessage again = pool.acquire();
+        assertTrue(again == pm || again == other);
+        again.subject("subject").markPublished();
+
+        assertThrows(IllegalArgumentException.class, () -> new MessagePool(0, 0));
+    }
+
+    @Test
+    public void testPublishThroughConnection() {
+        MessagePool pool = new MessagePool();
+        MockNatsConnection nc = new MockNatsConnection(Options.builder().build());
+        PooledMessage pm = pool.acquire().subject("subject").data(new byte[1]);
+        nc.publish(pm);
+        assertTrue(pm.isPublished());
+        assertThrows(IllegalStateException.class, () -> nc.publish(pm));
+
+        // not queued, so the caller still owns it
+        PooledMessage bad = pool.acquire().data(new byte[1]);
+        assertThrows(IllegalArgumentException.class, () -> nc.publish(bad));
+        assertFalse(bad.isPublished());
+        bad.subject("subject");
+    }
+}
@@ -26,6 +26,7 @@ import java.io.*;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -36,6 +37,8 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import static io.nats.client.BaseConsumeOptions.*;
 import static io.nats.client.support.NatsConstants.GREATER_THAN;
+import static io.nats.client.support.NatsJetStreamConstants.DEFAULT_API_PREFIX;
+import static io.nats.client.support.NatsJetStreamConstants.JSAPI_CONSUMER_MSG_NEXT;
 import static org.junit.jupiter.api.Assertions.*;
 
 @Isolated
@@ -328,6 +331,55 @@ public class SimplificationTests extends JetStreamTestBase {
             : variant() + "-" + maxBytes + "bytes-" + maxMessages + "msgs";
     }
 
+    @Test
+    public void testConsumePrefetchBytesWithoutBatchBytes() throws Exception {
+        jsServer.run(TestBase::atLeast2_9_1, nc -> {
+            JetStreamManagement jsm = nc.jetStreamManagement();
+            JetStream js = nc.jetStream();
+
+            TestingStreamContainer tsc = new TestingStreamContainer(jsm);
+            jsm.addOrUpdateConsumer(tsc.stream, ConsumerConfiguration.builder()
+                .durable(tsc.consumerName())
+                .filterSubject(tsc.subject())
+                .build());
+
+            // watch the pull requests the consumer makes
+            List<JsonValue> pulls = Collections.synchronizedList(new ArrayList<>());
+            Dispatcher watcher = nc.createDispatcher(m -> pulls.add(JsonParser.parseUnchecked(m.getData())));
+            watcher.subscribe(DEFAULT_API_PREFIX + String.format(JSAPI_CONSUMER_MSG_NEXT, tsc.stream, tsc.consumerName()));
+            nc.flush(Duration.ofSeconds(1));
+
+            int count = 100;
+            jsPublish(js, tsc.subject(), count);
+
+            CountDownLatch latch = new CountDownLatch(count);
+            ConsumeOptions co = ConsumeOptions.builder().batchSize(10).prefetch(4).prefetchBytes(40_000).build();
+            ConsumerContext cc = nc.getConsumerContext(tsc.stream, tsc.consumerName());
+            try (MessageConsumer mc = cc.consume(co, m -> {
+                m.ack();
+                latch.countDown();
+            })) {
+                awaitAndAssert(latch);
+            }
+            nc.flush(Duration.ofSeconds(1));
+
+            // the first pulls fill the window, each asking for its share of the bytes,
+            // after that a pull is made as the threshold is crossed, not for every message
+            synchronized (pulls) {
+                assertTrue(pulls.size() >= 4);
+                assertTrue(pulls.size() < count / 2, "pulls: " + pulls.size());
+                for (int x = 0; x < 4; x++) {
+                    assertEquals(10, JsonValueUtils.readInteger(pulls.get(x), "batch", 0));
+                    assertEquals(10_000, JsonValueUtils.readLong(pulls.get(x), "max_bytes", 0));
+                }
+                for (JsonValue pull : pulls) {
+                    long maxBytes = JsonValueUtils.readLong(pull, "max_bytes", 0);
+                    assertTrue(maxBytes > 0 && maxBytes <= 10_000);
+                }
+            }
+        });
+    }
+
     @Test
     public void testFetchNoWaitPlusExpires() throws Exception {
         jsServer.run(TestBase::atLeast2_9_1, nc -> {
@@ -420,6 +472,11 @@ public class SimplificationTests extends JetStreamTestBase {
                 _testIterableBasic(js, stopCount, consumer, tsc.subject());
             }
 
+            // several pulls outstanding
+            try (IterableConsumer consumer = consumerContext.iterate(ConsumeOptions.builder().batchSize(50).prefetch(4).build())) {
+                _testIterableBasic(js, stopCount, consumer, tsc.subject());
+            }
+
             // coverage
             IterableConsumer consumer = consumerContext.iterate(ConsumeOptions.DEFAULT_CONSUME_OPTIONS);
             validateConsumerName(consumerContext, consumer, tsc.consumerName());
@@ -900,6 +957,41 @@ public class SimplificationTests extends JetStreamTestBase {
         assertEquals("g", co.getGroup());
         assertEquals(1, co.getMinPending());
         assertEquals(2, co.getMinAckPending());
+
+        co = ConsumeOptions.builder().coalesceAcks(25).build();
+        assertEquals(25, co.getAckCoalesceWindow());
+        assertEquals(25, roundTripSerialize(co).getAckCoalesceWindow());
+        assertEquals(0, ConsumeOptions.builder().coalesceAcks(-1).build().getAckCoalesceWindow());
+
+        co = ConsumeOptions.builder().adaptive(10, 200).build();
+        assertTrue(co.isAdaptive());
+        assertEquals(10, co.getAdaptiveMinBatchSize());
+        assertEquals(200, co.getAdaptiveMaxBatchSize());
+        co = roundTripSerialize(co);
+        assertTrue(co.isAdaptive());
+        assertEquals(10, co.getAdaptiveMinBatchSize());
+        assertEquals(200, co.getAdaptiveMaxBatchSize());
+
+        co = ConsumeOptions.builder().adaptive(0, 5).build();
+        assertEquals(1, co.getAdaptiveMinBatchSize());
+        co = ConsumeOptions.builder().adaptive(10, 200).adaptive(10, 0).build();
+        assertFalse(co.isAdaptive());
+        assertEquals(-1, co.getAdaptiveMinBatchSize());
+        assertEquals(-1, co.getAdaptiveMaxBatchSize());
+        assertFalse(roundTripSerialize(co).isAdaptive());
+        assertThrows(IllegalArgumentException.class, () -> ConsumeOptions.builder().adaptive(10, 5));
+
+        co = ConsumeOptions.builder().prefetch(3).prefetchBytes(10_000).build();
+        assertEquals(3, co.getPrefetch());
+        assertEquals(10_000, co.getPrefetchBytes());
+        co = roundTripSerialize(co);
+        assertEquals(3, co.getPrefetch());
+        assertEquals(10_000, co.getPrefetchBytes());
+
+        co = ConsumeOptions.builder().prefetch(3).prefetchBytes(10_000).prefetch(0).prefetchBytes(0).build();
+        assertEquals(ConsumeOptions.DEFAULT_PREFETCH, co.getPrefetch());
+        assertEquals(-1, co.getPrefetchBytes());
+        assertEquals(ConsumeOptions.DEFAULT_PREFETCH, roundTripSerialize(co).getPrefetch());
     }
 
     private void check_default_values(ConsumeOptions co) {
@@ -908,6 +1000,9 @@ public class SimplificationTests extends JetStreamTestBase {
         assertEquals(DEFAULT_THRESHOLD_PERCENT, co.getThresholdPercent());
         assertEquals(0, co.getBatchBytes());
         assertEquals(DEFAULT_EXPIRES_IN_MILLIS * MAX_IDLE_HEARTBEAT_PERCENT / 100, co.getIdleHeartbeat());
+        assertEquals(0, co.getAckCoalesceWindow());
+        assertEquals(ConsumeOptions.DEFAULT_PREFETCH, co.getPrefetch());
+        assertEquals(-1, co.getPrefetchBytes());
     }
 
     private void check_values(ConsumeOptions co, int batchSize, int batchBytes, int thresholdPercent) {
@@ -1299,6 +1394,105 @@ public class SimplificationTests extends JetStreamTestBase {
         });
     }
 
+    @Test
+    public void testPartitionedConsumeOptions() {
+        OrderedConsumerConfiguration base = new OrderedConsumerConfiguration()
+            .deliverPolicy(DeliverPolicy.ByStartSequence)
+            .startSequence(42)
+            .replayPolicy(ReplayPolicy.Original)
+            .headersOnly(true)
+            .consumerNamePrefix("pfx")
+            .filterSubject("ignored");
+
+        PartitionedConsumeOptions pco = PartitionedConsumeOptions.builder()
+            .partitions(3)
+            .filterSubject("orders.*.*", 1)
+            .orderedConsumerConfiguration(base)
+            .build();
+        assertEquals(3, pco.getPartitions());
+        assertEquals(1, pco.getPartitionToken());
+        assertEquals("orders.*.*", pco.getFilterSubject());
+        assertSame(ConsumeOptions.DEFAULT_CONSUME_OPTIONS, pco.getConsumeOptions());
+        assertEquals("orders.0.*", pco.getPartitionFilterSubject(0));
+        assertEquals("orders.2.*", pco.getPartitionFilterSubject(2));
+        assertThrows(IllegalArgumentException.class, () -> pco.getPartitionFilterSubject(3));
+        assertThrows(IllegalArgumentException.class, () -> pco.getPartitionFilterSubject(-1));
+
+        OrderedConsumerConfiguration occ = pco.getPartitionConfiguration(1);
+        assertEquals("orders.1.*", occ.getFilterSubject());
+        assertEquals(DeliverPolicy.ByStartSequence, occ.getDeliverPolicy());
+        assertEquals(42, occ.getStartSequence());
+        assertEquals(ReplayPolicy.Original, occ.getReplayPolicy());
+        assertTrue(occ.isHeadersOnly());
+        assertEquals("pfx-1", occ.getConsumerNamePrefix());
+        assertEquals("ignored", base.getFilterSubject());
+
+        occ = PartitionedConsumeOptions.builder().partitions(2).filterSubject("*.x", 0).build().getPartitionConfiguration(1);
+        assertEquals("1.x", occ.getFilterSubject());
+        assertNull(occ.getConsumerNamePrefix());
+
+        assertThrows(IllegalArgumentException.class, () -> PartitionedConsumeOptions.builder().filterSubject("a.*", 1).build());
+        assertThrows(IllegalArgumentException.class, () -> PartitionedConsumeOptions.builder().partitions(2).build());
+        assertThrows(IllegalArgumentException.class, () -> PartitionedConsumeOptions.builder().partitions(2).filterSubject("a.b", 1).build());
+        assertThrows(IllegalArgumentException.class, () -> PartitionedConsumeOptions.builder().partitions(2).filterSubject("a.*", 2).build());
+        assertThrows(IllegalArgumentException.class, () -> PartitionedConsumeOptions.builder().partitions(2).filterSubject("a.>", 1).build());
+    }
+
+    @Test
+    public void testPartitionedConsume() throws Exception {
+        jsServer.run(TestBase::atLeast2_10, nc -> {
+            JetStream js = nc.jetStream();
+            JetStreamManagement jsm = nc.jetStreamManagement();
+
+            String subject = subject();
+            TestingStreamContainer tsc = new TestingStreamContainer(jsm, subject + ".*.*");
+            int partitions = 3;
+            for (int x = 0; x < 30; x++) {
+                js.publish(subject + "." + (x % partitions) + ".key" + x, dataBytes(x));
+            }
+
+            CountDownLatch latch = new CountDownLatch(30);
+            long[] lastSeq = new long[partitions];
+            AtomicBoolean outOfOrder = new AtomicBoolean();
+            MessageHandler handler = msg -> {
+                int p = Integer.parseInt(msg.getSubject().split("\\.")[1]);
+                long seq = msg.metaData().streamSequence();
+                if (seq <= lastSeq[p]) {
+                    outOfOrder.set(true);
+                }
+                lastSeq[p] = seq;
+                latch.countDown();
+            };
+
+            PartitionedConsumeOptions pco = PartitionedConsumeOptions.builder()
+                .partitions(partitions)
+                .filterSubject(subject + ".*.*", 1)
+                .build();
+            StreamContext sctx = js.getStreamContext(tsc.stream);
+            try (PartitionedOrderedConsumer poc = sctx.consumePartitioned(pco, handler)) {
+                assertEquals(partitions, poc.getPartitionCount());
+                awaitAndAssert(latch);
+                assertFalse(outOfOrder.get());
+                assertEquals(30, poc.getDelivered());
+                assertEquals(0, poc.getPending());
+
+                List<PartitionedOrderedConsumer.PartitionProgress> progress = poc.getProgress();
+                assertEquals(partitions, progress.size());
+                for (int p = 0; p < partitions; p++) {
+                    PartitionedOrderedConsumer.PartitionProgress pp = progress.get(p);
+                    assertEquals(p, pp.getPartition());
+                    assertEquals(subject + "." + p + ".*", pp.getFilterSubject());
+                    assertNotNull(pp.getConsumerName());
+                    assertEquals(10, pp.getDelivered());
+                    assertEquals(28 + p, pp.getLastStreamSequence());
+                    assertEquals(0, pp.getPending());
+                }
+                poc.stop();
+                assertTrue(poc.isStopped());
+            }
+        });
+    }
+
     @Test
     public void testOrderedMultipleWays() throws Exception {
         jsServer.run(TestBase::atLeast2_9_1, nc -> {
@@ -0,0 +1,196 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.*;
+import io.nats.client.support.ByteArrayBuilder;
+import io.nats.client.support.NatsUri;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.nats.client.utils.TestBase.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SocketChannelDataPortTests {
+
+    static class CapturingDataPort implements DataPort {
+        final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        final List<Integer> capturedAtFlush = new ArrayList<>();
+        int writes;
+        boolean defaultGatheringWrite;
+
+        @Override
+        public void connect(@NonNull String serverURI, @NonNull NatsConnection conn, long timeoutNanos) {}
+
+        @Override
+        public void connect(@NonNull NatsConnection conn, @NonNull NatsUri uri, long timeoutNanos) {}
+
+        @Override
+        public void upgradeToSecure() {}
+
+        @Override
+        public int read(byte[] dst, int off, int len) {
+            return -1;
+        }
+
+        @Override
+        public void write(byte[] src, int toWrite) {
+            writes++;
+            captured.write(src, 0, toWrite);
+        }
+
+        @Override
+        public boolean isGatheringWriteSupported() {
+            return true;
+        }
+
+        @Override
+        public void write(ByteBuffer[] srcs, int count) throws IOException {
+            if (defaultGatheringWrite) {
+                DataPort.super.write(srcs, count);
+                return;
+            }
+            writes++;
+            for (int x = 0; x < count; x++) {
+                while (srcs[x].hasRemaining()) {
+                    captured.write(srcs[x].get());
+                }
+            }
+        }
+
+        @Override
+        public void shutdownInput() {}
+
+        @Override
+        public void close() {}
+
+        @Override
+        public void flush() {
+            capturedAtFlush.add(captured.size());
+        }
+    }
+
+    private static NatsMessage messageChain() {
+        Headers h = new Headers().put("key", "value").add("key", "other");
+        NatsMessage[] msgs = new NatsMessage[] {
+            new NatsPublishableMessage("small", null, null, new byte[10], false),
+            new NatsPublishableMessage("large", "reply", null, new byte[NatsConnectionWriter.GATHER_PAYLOAD_THRESHOLD + 1], false),
+            new ProtocolMessage(new ByteArrayBuilder().append("PING"), false),
+            new NatsPublishableMessage("medium", null, null, new byte[NatsConnectionWriter.GATHER_PAYLOAD_THRESHOLD - 1], false),
+            new NatsPublishableMessage("headers", null, h, new byte[3], false),
+            new NatsPublishableMessage("medium", null, h, new byte[NatsConnectionWriter.GATHER_PAYLOAD_THRESHOLD - 1], false),
+            new NatsPublishableMessage("large.headers", null, h, new byte[NatsConnectionWriter.GATHER_PAYLOAD_THRESHOLD * 3], false),
+            new NatsPublishableMessage("empty", null, null, null, false),
+        };
+        for (int x = 0; x < msgs.length; x++) {
+            byte[] data = msgs[x].getData();
+            for (int d = 0; d < data.length; d++) {
+                data[d] = (byte) ('a' + (x + d) % 26);
+            }
+            if (x > 0) {
+                msgs[x - 1].next = msgs[x];
+            }
+        }
+        return msgs[0];
+    }
+
+    @Test
+    public void testGatheringWriteMatchesBufferedWrite() throws Exception {
+        // the small buffer forces the gathering writer to write in the middle of the batch
+        Options options = Options.builder().bufferSize(1024).build();
+
+        NatsStatistics bufferedStats = new NatsStatistics();
+        CapturingDataPort buffered = new CapturingDataPort();
+        new NatsConnectionWriter(new MockNatsConnection(options)).sendMessageBatch(messageChain(), buffered, bufferedStats);
+
+        NatsStatistics gatheredStats = new NatsStatistics();
+        CapturingDataPort gathered = new CapturingDataPort();
+        new NatsConnectionWriter(new MockNatsConnection(options)).sendMessageBatchGathering(messageChain(), gathered, gatheredStats);
+
+        assertArrayEquals(buffered.captured.toByteArray(), gathered.captured.toByteArray());
+        assertTrue(gathered.writes > 1);
+        assertEquals(bufferedStats.getOutMsgs(), gatheredStats.getOutMsgs());
+        assertEquals(bufferedStats.getOutBytes(), gatheredStats.getOutBytes());
+    }
+
+    @Test
+    public void testGatheringWriteFlushSendsTheMessage() throws Exception {
+        Options options = Options.builder().bufferSize(1024).build();
+        byte[] large = new byte[NatsConnectionWriter.GATHER_PAYLOAD_THRESHOLD + 1];
+        NatsMessage first = new NatsPublishableMessage("small", null, null, new byte[10], false);
+        first.next = new NatsPublishableMessage("large", null, null, large, true);
+        first.next.next = new NatsPublishableMessage("after", null, null, new byte[10], false);
+
+        CapturingDataPort gathered = new CapturingDataPort();
+        new NatsConnectionWriter(new MockNatsConnection(options)).sendMessageBatchGathering(first, gathered, new NatsStatistics());
+
+        // everything up to and including the flushing message was written before the flush
+        long expected = first.getSizeInBytes() + first.next.getSizeInBytes();
+        assertEquals(1, gathered.capturedAtFlush.size());
+        assertEquals(expected, (long) gathered.capturedAtFlush.get(0));
+        assertEquals(expected + first.next.next.getSizeInBytes(), gathered.captured.size());
+    }
+
+    @Test
+    public void testDefaultGatheringWrite() throws Exception {
+        Options options = Options.builder().bufferSize(1024).build();
+
+        CapturingDataPort buffered = new CapturingDataPort();
+        new NatsConnectionWriter(new MockNatsConnection(options)).sendMessageBatch(messageChain(), buffered, new NatsStatistics());
+
+        CapturingDataPort gathered = new CapturingDataPort();
+        gathered.defaultGatheringWrite = true;
+        NatsMessage chain = messageChain();
+        byte[] largePayload = chain.next.getData().clone();
+        new NatsConnectionWriter(new MockNatsConnection(options)).sendMessageBatchGathering(chain, gathered, new NatsStatistics());
+
+        assertArrayEquals(buffered.captured.toByteArray(), gathered.captured.toByteArray());
+        assertArrayEquals(largePayload, chain.next.getData());
+    }
+
+    @Test
+    public void testPubSubThroughChannel() throws Exception {
+        Options.Builder builder = Options.builder().dataPortType(SocketChannelDataPort.class.getCanonicalName());
+        runInServer(builder, nc -> {
+            assertTrue(((NatsConnection) nc).getDataPort().isGatheringWriteSupported());
+
+            Subscription sub = nc.subscribe("channel");
+            nc.flush(Duration.ofSeconds(1));
+
+            byte[] large = new byte[NatsConnectionWriter.GATHER_PAYLOAD_THRESHOLD * 10];
+            for (int x = 0; x < large.length; x++) {
+                large[x] = (byte) ('a' + x % 26);
+            }
+            Headers h = new Headers().put("key", "value");
+            nc.publish("channel", "small".getBytes());
+            nc.publish("channel", h, large);
+
+            Message m = sub.nextMessage(Duration.ofSeconds(1));
+            assertNotNull(m);
+            assertEquals("small", new String(m.getData()));
+
+            m = sub.nextMessage(Duration.ofSeconds(1));
+            assertNotNull(m);
+            assertEquals("value", m.getHeaders().getFirst("key"));
+            assertArrayEquals(large, m.getData());
+        });
+    }
+}
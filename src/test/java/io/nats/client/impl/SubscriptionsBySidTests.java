@@ -0,0 +1,130 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubscriptionsBySidTests {
+
+    private static NatsSubscription sub(MockNatsConnection nc, String sid) {
+        return new NatsSubscription(sid, "subject", null, nc, null);
+    }
+
+    @Test
+    public void testParseSid() {
+        assertEquals(0, SubscriptionsBySid.parseSid("0"));
+        assertEquals(1, SubscriptionsBySid.parseSid("1"));
+        assertEquals(123456789012345678L, SubscriptionsBySid.parseSid("123456789012345678"));
+        assertEquals(-1, SubscriptionsBySid.parseSid("1234567890123456789"));
+        assertEquals(-1, SubscriptionsBySid.parseSid(null));
+        assertEquals(-1, SubscriptionsBySid.parseSid(""));
+        assertEquals(-1, SubscriptionsBySid.parseSid("-1"));
+        assertEquals(-1, SubscriptionsBySid.parseSid("12a"));
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        MockNatsConnection nc = new MockNatsConnection(Options.builder().build());
+        SubscriptionsBySid map = new SubscriptionsBySid();
+        int count = 1000; // enough to rehash several times
+        NatsSubscription[] subs = new NatsSubscription[count + 1];
+        for (int sid = 1; sid <= count; sid++) {
+            subs[sid] = sub(nc, "" + sid);
+            map.put("" + sid, subs[sid]);
+        }
+        assertEquals(count, map.size());
+        for (int sid = 1; sid <= count; sid++) {
+            assertSame(subs[sid], map.get(sid));
+            assertSame(subs[sid], map.get("" + sid));
+        }
+        assertNull(map.get(0));
+        assertNull(map.get(count + 1));
+
+        // remove the evens, the odds must still be found past the removed entries
+        for (int sid = 2; sid <= count; sid += 2) {
+            assertSame(subs[sid], map.remove("" + sid));
+        }
+        assertNull(map.remove("2"));
+        assertEquals(count / 2, map.size());
+        for (int sid = 1; sid <= count; sid++) {
+            if (sid % 2 == 0) {
+                assertNull(map.get(sid));
+            }
+            else {
+                assertSame(subs[sid], map.get(sid));
+            }
+        }
+
+        // replace
+        NatsSubscription replacement = sub(nc, "1");
+        map.put("1", replacement);
+        assertSame(replacement, map.get(1));
+        assertEquals(count / 2, map.size());
+
+        Set<NatsSubscription> values = new HashSet<>(map.values());
+        assertEquals(count / 2, values.size());
+        assertTrue(values.contains(replacement));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(1));
+        assertTrue(map.values().isEmpty());
+    }
+
+    @Test
+    public void testChurnReusesRemovedSlots() {
+        MockNatsConnection nc = new MockNatsConnection(Options.builder().build());
+        SubscriptionsBySid map = new SubscriptionsBySid();
+        NatsSubscription keep = sub(nc, "1");
+        map.put("1", keep);
+        for (int sid = 2; sid < 100_000; sid++) {
+            NatsSubscription s = sub(nc, "" + sid);
+            map.put("" + sid, s);
+            assertSame(s, map.get(sid));
+            assertSame(s, map.remove("" + sid));
+        }
+        assertEquals(1, map.size());
+        assertSame(keep, map.get(1));
+    }
+
+    @Test
+    public void testNonNumericSid() {
+        MockNatsConnection nc = new MockNatsConnection(Options.builder().build());
+        SubscriptionsBySid map = new SubscriptionsBySid();
+        NatsSubscription s = sub(nc, "abc");
+        map.put("abc", s);
+        assertSame(s, map.get("abc"));
+        assertEquals(1, map.size());
+        assertTrue(map.values().contains(s));
+        assertSame(s, map.remove("abc"));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testMessageSidIsMadeFromTheValue() {
+        NatsMessage m = new IncomingMessageFactory(42, "subj", null, 0, false).getMessage();
+        assertEquals(42, m.sidValue);
+        assertEquals("42", m.getSID());
+
+        m = new IncomingMessageFactory("sid", "subj", null, 0, false).getMessage();
+        assertEquals(-1, m.sidValue);
+        assertEquals("sid", m.getSID());
+    }
+}
@@ -0,0 +1,238 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.impl;
+
+import io.nats.client.Options;
+import io.nats.client.support.NatsUri;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.nats.client.support.NatsConstants.MESSAGE_DATA_RELEASED;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZeroCopyIncomingTests {
+
+    // hands the reader one scripted read at a time, then stops it
+    static class ScriptedDataPort implements DataPort {
+        final List<byte[]> reads = new ArrayList<>();
+        final CompletableFuture<Boolean> done = new CompletableFuture<>();
+        NatsConnectionReader reader;
+
+        ScriptedDataPort read(String s) {
+            reads.add(s.getBytes(StandardCharsets.US_ASCII));
+            return this;
+        }
+
+        @Override
+        public void connect(@NonNull String serverURI, @NonNull NatsConnection conn, long timeoutNanos) {}
+
+        @Override
+        public void connect(@NonNull NatsConnection conn, @NonNull NatsUri uri, long timeoutNanos) {}
+
+        @Override
+        public void upgradeToSecure() {}
+
+        @Override
+        public int read(byte[] dst, int off, int len) {
+            if (reads.isEmpty()) {
+                reader.stop(false);
+                done.complete(true);
+                return 0;
+            }
+            byte[] next = reads.remove(0);
+            System.arraycopy(next, 0, dst, off, next.length);
+            return next.length;
+        }
+
+        @Override
+        public void write(byte[] src, int toWrite) {}
+
+        @Override
+        public void shutdownInput() {}
+
+        @Override
+        public void close() {}
+
+        @Override
+        public void flush() {}
+    }
+
+    static class CapturingConnection extends MockNatsConnection {
+        final List<NatsMessage> delivered = new ArrayList<>();
+
+        CapturingConnection(Options options) {
+            super(options);
+        }
+
+        @Override
+        protected void deliverMessage(NatsMessage msg) {
+            delivered.add(msg);
+        }
+    }
+
+    private static List<NatsMessage> readAll(Options options, ScriptedDataPort dataPort) throws Exception {
+        CapturingConnection nc = new CapturingConnection(options);
+        NatsConnectionReader reader = nc.getReader();
+        dataPort.reader = reader;
+        reader.start(CompletableFuture.completedFuture(dataPort));
+        dataPort.done.get(5, TimeUnit.SECONDS);
+        reader.stop(false).get(5, TimeUnit.SECONDS);
+        return nc.delivered;
+    }
+
+    private static ScriptedDataPort script() {
+        return new ScriptedDataPort()
+            .read("MSG one 1 5\r\nhello\r\nMSG two 1 5\r\nwor")         // whole, then split
+            .read("ld\r\nHMSG three 1 17 22\r\nNATS/1.0\r\nk:v\r\n\r\nfive!\r")  // headers and payload whole, CRLF split
+            .read("\nMSG four 1 0\r\n\r\n");                                // empty
+    }
+
+    private static void validate(List<NatsMessage> msgs) {
+        assertEquals(4, msgs.size());
+        assertEquals("hello", new String(msgs.get(0).getData()));
+        assertEquals("world", new String(msgs.get(1).getData()));
+        assertEquals("five!", new String(msgs.get(2).getData()));
+        assertEquals("v", msgs.get(2).getHeaders().getFirst("k"));
+        assertEquals(0, msgs.get(3).getData().length);
+        assertEquals("1", msgs.get(0).getSID());
+    }
+
+    @Test
+    public void testDefaultCopies() throws Exception {
+        List<NatsMessage> msgs = readAll(Options.builder().build(), script());
+        validate(msgs);
+        for (NatsMessage m : msgs) {
+            assertNull(m.dataChunk);
+            m.release(); // no op
+            assertNotNull(m.getData());
+        }
+    }
+
+    @Test
+    public void testZeroCopy() throws Exception {
+        List<NatsMessage> msgs = readAll(Options.builder().zeroCopyIncoming().build(), script());
+
+        NatsMessage one = msgs.get(0);
+        NatsMessage two = msgs.get(1);
+        NatsMessage three = msgs.get(2);
+        NatsMessage four = msgs.get(3);
+
+        // one and three were whole in a single read, two was split, four has no payload
+        assertNotNull(one.dataChunk);
+        assertNull(two.dataChunk);
+        assertNotNull(three.dataChunk);
+        assertNull(four.dataChunk);
+        assertEquals(5, one.getSizeInBytes() - "MSG one 1 5".length() - 4);
+
+        ByteBuffer bb = one.getDataBuffer();
+        assertTrue(bb.isReadOnly());
+        assertEquals(0, bb.position());
+        assertEquals(5, bb.remaining());
+        assertEquals('h', bb.get(0));
+        assertEquals("five!", StandardCharsets.US_ASCII.decode(three.getDataBuffer()).toString());
+
+        // the reader let go of its chunks when it stopped, only the messages hold them
+        ReadBufferPool.Chunk chunkOne = one.dataChunk;
+        ReadBufferPool.Chunk chunkThree = three.dataChunk;
+        assertEquals(chunkOne == chunkThree ? 2 : 1, chunkOne.references());
+
+        validate(msgs); // getData makes the copy
+
+        one.release();
+        three.release();
+        assertEquals(0, chunkOne.references());
+        assertEquals(0, chunkThree.references());
+        one.release(); // no-op once released
+
+        // data was already copied by getData
+        assertEquals("hello", new String(one.getData()));
+        assertEquals("hello", StandardCharsets.US_ASCII.decode(one.getDataBuffer()).toString());
+    }
+
+    @Test
+    public void testReleasedBeforeRead() throws Exception {
+        List<NatsMessage> msgs = readAll(Options.builder().zeroCopyIncoming().build(), script());
+        NatsMessage one = msgs.get(0);
+        one.release();
+        IllegalStateException ise = assertThrows(IllegalStateException.class, one::getData);
+        assertEquals(MESSAGE_DATA_RELEASED, ise.getMessage());
+        assertThrows(IllegalStateException.class, one::getDataBuffer);
+        assertTrue(one.toString().contains("<released>"));
+    }
+
+    @Test
+    public void testConcurrentReleaseReleasesChunkOnce() throws Exception {
+        ReadBufferPool pool = new ReadBufferPool(16, 10);
+        for (int round = 0; round < 500; round++) {
+            ReadBufferPool.Chunk chunk = pool.acquire();
+            chunk.retain(); // another message still uses the chunk
+            NatsMessage msg = new NatsMessage("subject", null, null);
+            msg.setDataChunk(chunk, 0, 4);
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+            Thread[] threads = new Thread[3];
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(() -> {
+                    try {
+                        start.await();
+                        msg.release();
+                    }
+                    catch (Throwable e) {
+                        errors.add(e);
+                    }
+                });
+                threads[t].start();
+            }
+            start.countDown();
+            for (Thread t : threads) {
+                t.join();
+            }
+            assertTrue(errors.isEmpty(), errors.toString());
+            assertEquals(1, chunk.references());
+            chunk.release();
+        }
+    }
+
+    @Test
+    public void testPoolRecycles() {
+        ReadBufferPool pool = new ReadBufferPool(16, 1);
+        ReadBufferPool.Chunk c1 = pool.acquire();
+        ReadBufferPool.Chunk c2 = pool.acquire();
+        assertNotSame(c1, c2);
+        assertEquals(1, c1.references());
+
+        c1.retain();
+        c1.release();
+        assertEquals(0, pool.pooledCount());
+        c1.release();
+        assertEquals(1, pool.pooledCount());
+        c2.release(); // pool is full, c2 is just dropped
+        assertEquals(1, pool.pooledCount());
+
+        assertSame(c1, pool.acquire());
+        assertEquals(1, c1.references());
+        c1.release();
+        assertThrows(IllegalStateException.class, c1::release);
+    }
+}
@@ -28,6 +28,8 @@ public final class DateTimeUtilsTests {
     public void testParseDateTimeNanos() {
        assertEquals(1605139610, DateTimeUtils.parseDateTimeNanos("1605139610113260000").toEpochSecond());
        assertEquals(113261234, DateTimeUtils.parseDateTimeNanos("1605139610113261234").toInstant().getNano());
+       assertEquals(1605139610, DateTimeUtils.fromEpochNanos(1605139610113260000L).toEpochSecond());
+       assertEquals(113261234, DateTimeUtils.fromEpochNanos(1605139610113261234L).toInstant().getNano());
     }
 
     @Test
@@ -0,0 +1,161 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.nats.client.support.JsonParser.Option.KEEP_NULLS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonByteReaderTests {
+
+    private static JsonByteReader reader(String json) {
+        return new JsonByteReader(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testParseMatchesCharParser() throws JsonParseException {
+        String[] jsons = {
+            "",
+            "{}",
+            "[]",
+            "{\"a\":1,\"b\":-2,\"c\":3000000000,\"d\":-0,\"e\":1.5,\"f\":123456789012345678901234567890,\"g\":1e3}",
+            "{\"s\":\"café ✓ 😀\",\"esc\":\"tab\\there \\u00e9 \\\"q\\\" \\\\ \\/\"}",
+            "{\"t\":true,\"f\":false,\"n\":null,\"arr\":[1,\"two\",{\"three\":3},[4]],\"nested\":{\"x\":{\"y\":[]}}}",
+            " \r\n\t{ \"spaced\" : [ 1 , 2 ] , \"dangling\":[1,], } ",
+            "\"just a string\"",
+            "12345",
+        };
+        for (String json : jsons) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            assertEquals(JsonParser.parse(json.toCharArray()), new JsonByteReader(bytes).parse(), json);
+            assertEquals(JsonParser.parse(json.toCharArray(), KEEP_NULLS), new JsonByteReader(bytes, KEEP_NULLS).parse(), json);
+        }
+
+        JsonValue v = JsonParser.parse("INFO {\"foo\":1}".getBytes(), 5);
+        assertEquals(1, v.map.get("foo").i);
+        assertThrows(IllegalArgumentException.class, () -> new JsonByteReader(new byte[0], -1));
+        assertEquals(JsonValue.NULL, new JsonByteReader(null).parse());
+    }
+
+    @Test
+    public void testPullFields() throws JsonParseException {
+        JsonByteReader r = reader("{\"stream\":\"strm\",\"seq\":42,\"skip\":{\"a\":[1,{\"b\":\"}]\"}]},"
+            + "\"big\":12345678901234567890,\"dbl\":1.5,\"dup\":true,\"count\":7,\"nul\":null,"
+            + "\"na\\u006De\":\"escaped key\",\"inner\":{\"x\":1,\"y\":\"z\"},\"last\":\"\\\"quoted\\\"\"}");
+        assertTrue(r.beginObject());
+
+        assertTrue(r.nextField());
+        assertTrue(r.fieldIs("stream"));
+        assertFalse(r.fieldIs("strea"));
+        assertFalse(r.fieldIs("streams"));
+        assertEquals("stream", r.fieldName());
+        assertEquals("strm", r.readString());
+
+        assertTrue(r.nextField());
+        assertTrue(r.fieldIs("seq"));
+        assertEquals(42, r.readLong(-1));
+
+        assertTrue(r.nextField());
+        assertTrue(r.fieldIs("skip"));
+        r.skipValue();
+
+        assertTrue(r.nextField());
+        assertEquals(-1, r.readLong(-1)); // too big for a long
+
+        assertTrue(r.nextField());
+        assertEquals(-1, r.readLong(-1)); // not an integer
+
+        assertTrue(r.nextField());
+        assertTrue(r.readBoolean());
+
+        assertTrue(r.nextField());
+        assertEquals(7, r.readInt(-1));
+
+        assertTrue(r.nextField());
+        assertNull(r.readString());
+
+        assertTrue(r.nextField());
+        assertTrue(r.fieldIs("name"));
+        assertEquals("name", r.fieldName());
+        assertEquals("escaped key", r.readString());
+
+        assertTrue(r.nextField());
+        assertTrue(r.beginObject());
+        assertTrue(r.nextField());
+        assertEquals(1, r.readInt(-1));
+        assertTrue(r.nextField());
+        assertEquals("z", r.readString());
+        assertFalse(r.nextField());
+
+        assertTrue(r.nextField());
+        assertEquals("\"quoted\"", r.readString());
+        assertFalse(r.nextField());
+    }
+
+    @Test
+    public void testPullEdges() throws JsonParseException {
+        // not an object, the value is read and discarded
+        JsonByteReader r = reader("\"string\"");
+        assertFalse(r.beginObject());
+        assertFalse(reader("").beginObject());
+        assertThrows(JsonParseException.class, () -> reader("notjson").beginObject());
+
+        r = reader("{}");
+        assertTrue(r.beginObject());
+        assertFalse(r.nextField());
+
+        r = reader("{\"a\":1,}");
+        assertTrue(r.beginObject());
+        assertTrue(r.nextField());
+        r.skipValue();
+        assertFalse(r.nextField());
+
+        // a wrong type reads as the default
+        r = reader("{\"a\":\"1\",\"b\":[true],\"c\":3000000000,\"d\":null}");
+        assertTrue(r.beginObject());
+        assertTrue(r.nextField());
+        assertEquals(-1, r.readLong(-1));
+        assertTrue(r.nextField());
+        assertFalse(r.readBoolean());
+        assertTrue(r.nextField());
+        assertEquals(-1, r.readInt(-1));
+        assertTrue(r.nextField());
+        assertEquals(-1, r.readLong(-1));
+        assertFalse(r.nextField());
+
+        assertPullThrows("{", "Text must end with '}'");
+        assertPullThrows("{\"a\":1", "Text must end with '}'");
+        assertPullThrows("{\"a\":1]", "Expected a ',' or '}'.");
+        assertPullThrows("{\"a\" 1}", "Expected a ':' after a key.");
+        assertPullThrows("{a:1}", "Expected a key.");
+        assertPullThrows("{\"a", "Unterminated string.");
+        assertPullThrows("{\"a\":", "Unexpected end of data.");
+        assertPullThrows("{\"a\":\"b", "Unterminated string.");
+        assertPullThrows("{\"a\":[1,2", "Unexpected end of data.");
+    }
+
+    private static void assertPullThrows(String json, String message) {
+        JsonParseException e = assertThrows(JsonParseException.class, () -> {
+            JsonByteReader r = reader(json);
+            r.beginObject();
+            while (r.nextField()) {
+                r.skipValue();
+            }
+        });
+        assertTrue(e.getMessage().contains(message), e.getMessage());
+    }
+}
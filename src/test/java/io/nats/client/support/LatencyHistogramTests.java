@@ -0,0 +1,96 @@
+// Copyright 2025 The NATS Authors
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at:
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.nats.client.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTests {
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getMin());
+        assertEquals(0, h.getMax());
+        assertEquals(0, h.getMean());
+        assertEquals(0, h.getPercentile(50));
+        assertEquals(0, h.getPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> h.getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> h.getPercentile(100.1));
+    }
+
+    @Test
+    public void testBuckets() {
+        long last = -1;
+        for (long v = 0; v < 100_000; v++) {
+            int index = LatencyHistogram.bucketIndex(v);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(upper >= v);
+            assertTrue(upper - v <= v / 16, "value " + v + " upper " + upper);
+            assertTrue(index >= last);
+            last = index;
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testRecordAndPercentiles() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int x = 1; x <= 1000; x++) {
+            h.record(x * 1000L);
+        }
+        h.record(-5); // recorded as 0
+        assertEquals(1001, h.getCount());
+        assertEquals(0, h.getMin());
+        assertEquals(1_000_000, h.getMax());
+        assertEquals(500_000, h.getMean(), 1000);
+        assertEquals(0, h.getPercentile(0));
+        assertWithinBucket(500_000, h.getPercentile(50));
+        assertWithinBucket(990_000, h.getPercentile(99));
+        assertEquals(1_000_000, h.getPercentile(100)); // capped by the max
+        assertTrue(h.toString().contains("count=1001"));
+
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getMax());
+        assertEquals(0, h.getPercentile(99));
+    }
+
+    @Test
+    public void testSnapshot() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.snapshot().getCount());
+        assertEquals(0, h.snapshot().getMin());
+
+        for (int x = 1; x <= 100; x++) {
+            h.record(x * 1000L);
+        }
+        LatencyHistogram snap = h.snapshot();
+        h.record(5_000_000);
+        h.reset();
+
+        assertEquals(100, snap.getCount());
+        assertEquals(1000, snap.getMin());
+        assertEquals(100_000, snap.getMax());
+        assertEquals(50_500, snap.getMean());
+        assertWithinBucket(50_000, snap.getPercentile(50));
+        assertEquals(100_000, snap.getPercentile(100));
+    }
+
+    private static void assertWithinBucket(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 16, "expected about " + expected + " got " + actual);
+    }
+}
@@ -19,9 +19,12 @@ import io.nats.client.impl.JetStreamTestBase;
 import io.nats.client.impl.MockNatsConnection;
 import io.nats.client.impl.NatsMessage;
 import io.nats.client.support.DateTimeUtils;
+import io.nats.client.support.JsonParser;
 import io.nats.client.support.JsonSerializable;
+import io.nats.client.support.LatencyHistogram;
 import io.nats.client.support.JsonUtils;
 import io.nats.client.support.JsonValue;
+import io.nats.client.support.VirtualThreads;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.jspecify.annotations.NonNull;
 import org.junit.jupiter.api.Test;
@@ -34,6 +37,8 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -1175,7 +1180,222 @@ public class ServiceTests extends JetStreamTestBase {
         assertTrue(j.contains("\"num_errors\":4"));
         assertTrue(j.contains("\"processing_time\":10"));
         assertTrue(j.contains("\"average_processing_time\":5"));
+        assertFalse(j.contains("num_shed"));
+        assertFalse(j.contains("queue_time"));
         assertEquals(toKey(EndpointStats.class) + j, er.toString());
+
+        er = new EndpointStats("name", "subject", "queue", 2, 4, 10, 3, 30, "lastError", data, zdt);
+        assertEquals(3, er.getNumShed());
+        assertEquals(30, er.getQueueTime());
+        assertEquals(15, er.getAverageQueueTime());
+        j = er.toJson();
+        assertTrue(j.contains("\"num_shed\":3"));
+        assertTrue(j.contains("\"queue_time\":30"));
+        assertTrue(j.contains("\"average_queue_time\":15"));
+        assertEquals(er, new EndpointStats(JsonParser.parseUnchecked(j)));
+        assertFalse(j.contains("processing_time_p50"));
+        assertFalse(j.contains("num_requests_1m"));
+
+        LatencyHistogram h = new LatencyHistogram();
+        for (int x = 1; x <= 100; x++) {
+            h.record(x * 1000);
+        }
+        er = new EndpointStats("name", "subject", "queue", 2, 4, 10, 0, 0, h, 120, 600, 6, 30, "lastError", data, zdt);
+        assertTrue(er.getProcessingTimeP50() >= 50_000 && er.getProcessingTimeP50() < 54_000);
+        assertTrue(er.getProcessingTimeP90() >= 90_000 && er.getProcessingTimeP90() < 96_000);
+        assertTrue(er.getProcessingTimeP99() >= 99_000 && er.getProcessingTimeP99() <= 100_000);
+        assertEquals(100_000, er.getProcessingTimeMax());
+        assertEquals(120, er.getNumRequests1m());
+        assertEquals(600, er.getNumRequests5m());
+        assertEquals(6, er.getNumErrors1m());
+        assertEquals(30, er.getNumErrors5m());
+        assertEquals(2.0, er.getRequestRate1m());
+        assertEquals(2.0, er.getRequestRate5m());
+        assertEquals(0.1, er.getErrorRate1m());
+        assertEquals(0.1, er.getErrorRate5m());
+        j = er.toJson();
+        assertTrue(j.contains("\"processing_time_max\":100000"));
+        assertTrue(j.contains("\"num_requests_1m\":120"));
+        assertTrue(j.contains("\"num_errors_5m\":30"));
+        assertEquals(er, new EndpointStats(JsonParser.parseUnchecked(j)));
+    }
+
+    @Test
+    public void testEndpointExecutionConstruction() {
+        EndpointExecution ee = EndpointExecution.builder().build();
+        assertEquals(Runtime.getRuntime().availableProcessors(), ee.getWorkers());
+        assertEquals(ee.getWorkers(), ee.getMaxConcurrency());
+        assertFalse(ee.isVirtualThreads());
+        assertNull(ee.getExecutor());
+        assertEquals(-1, ee.getMaxQueued());
+        assertNull(ee.getMaxQueueTime());
+
+        ee = EndpointExecution.builder().workers(3).maxConcurrency(2).maxQueued(10).maxQueueTime(Duration.ofMillis(100)).build();
+        assertEquals(3, ee.getWorkers());
+        assertEquals(2, ee.getMaxConcurrency());
+        assertEquals(10, ee.getMaxQueued());
+        assertEquals(Duration.ofMillis(100), ee.getMaxQueueTime());
+
+        ee = EndpointExecution.builder().workers(3).virtualThreads().maxQueued(0).maxQueueTime(Duration.ZERO).build();
+        assertTrue(ee.isVirtualThreads());
+        assertEquals(-1, ee.getWorkers());
+        assertEquals(Integer.MAX_VALUE, ee.getMaxConcurrency());
+        assertEquals(-1, ee.getMaxQueued());
+        assertNull(ee.getMaxQueueTime());
+
+        ExecutorService es = Executors.newSingleThreadExecutor();
+        ee = EndpointExecution.builder().virtualThreads().executor(es).maxConcurrency(4).build();
+        assertSame(es, ee.getExecutor());
+        assertFalse(ee.isVirtualThreads());
+        assertEquals(-1, ee.getWorkers());
+        assertEquals(4, ee.getMaxConcurrency());
+        es.shutdown();
+
+        ServiceEndpoint se = ServiceEndpoint.builder().endpointName(name(0)).handler(m -> {}).execution(ee).build();
+        assertSame(ee, se.getExecution());
+    }
+
+    @Test
+    public void testEndpointExecution() throws Exception {
+        Connection conn = new MockNatsConnection(new Options.Builder().build());
+
+        // 2 run, 2 wait and the rest are shed
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ServiceEndpoint se = ServiceEndpoint.builder()
+            .endpointName(name(0))
+            .handler(m -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException ignore) {}
+                running.decrementAndGet();
+            })
+            .execution(EndpointExecution.builder().workers(2).maxQueued(2).build())
+            .build();
+        EndpointContext ctx = new EndpointContext(conn, null, false, se);
+        for (int x = 0; x < 6; x++) {
+            ctx.onMessage(new NatsMessage(subject(0), "reply", null));
+        }
+        assertEquals(2, ctx.getEndpointStats().getNumShed());
+        release.countDown();
+        assertTrueByTimeout(5000, () -> ctx.getEndpointStats().getNumRequests() == 4);
+        ctx.stopExecution(Duration.ofSeconds(5));
+        assertEquals(2, maxRunning.get());
+        EndpointStats es = ctx.getEndpointStats();
+        assertEquals(0, es.getNumErrors());
+        assertTrue(es.getQueueTime() > 0);
+        assertEquals(4, es.getNumRequests1m());
+        assertEquals(4, es.getNumRequests5m());
+        assertTrue(es.getProcessingTimeP50() > 0);
+        assertTrue(es.getProcessingTimeMax() >= es.getProcessingTimeP99());
+
+        // waited too long
+        se = ServiceEndpoint.builder()
+            .endpointName(name(1))
+            .handler(m -> sleep(100))
+            .execution(EndpointExecution.builder().workers(1).maxQueueTime(Duration.ofMillis(20)).build())
+            .build();
+        EndpointContext ctx2 = new EndpointContext(conn, null, false, se);
+        ctx2.onMessage(new NatsMessage(subject(1), "reply", null));
+        ctx2.onMessage(new NatsMessage(subject(1), "reply", null));
+        ctx2.stopExecution(Duration.ofSeconds(5));
+        assertEquals(1, ctx2.getEndpointStats().getNumRequests());
+        assertEquals(1, ctx2.getEndpointStats().getNumShed());
+
+        ctx2.reset();
+        assertEquals(0, ctx2.getEndpointStats().getNumShed());
+        assertEquals(0, ctx2.getEndpointStats().getQueueTime());
+
+        // stopping without waiting answers what is still queued
+        CountDownLatch release3 = new CountDownLatch(1);
+        se = ServiceEndpoint.builder()
+            .endpointName(name(2))
+            .handler(m -> {
+                try {
+                    release3.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException ignore) {}
+            })
+            .execution(EndpointExecution.builder().workers(1).build())
+            .build();
+        EndpointContext ctx3 = new EndpointContext(conn, null, false, se);
+        for (int x = 0; x < 3; x++) {
+            ctx3.onMessage(new NatsMessage(subject(2), "reply", null));
+        }
+        ctx3.stopExecution(null);
+        assertEquals(2, ctx3.getEndpointStats().getNumShed());
+        release3.countDown();
+        assertTrueByTimeout(5000, () -> ctx3.getEndpointStats().getNumRequests() == 1);
+    }
+
+    @Test
+    public void testEndpointExecutionConcurrency() {
+        Connection conn = new MockNatsConnection(new Options.Builder().build());
+
+        // never more than the pool the service makes
+        ServiceEndpoint se = ServiceEndpoint.builder().endpointName(name(0)).handler(m -> {})
+            .execution(EndpointExecution.builder().workers(2).maxConcurrency(5).build())
+            .build();
+        EndpointContext ctx = new EndpointContext(conn, null, false, se);
+        assertEquals(2, ctx.getMaxConcurrency());
+        ctx.stopExecution(null);
+
+        // the fallback pool when virtual threads are not available
+        se = ServiceEndpoint.builder().endpointName(name(1)).handler(m -> {})
+            .execution(EndpointExecution.builder().virtualThreads().build())
+            .build();
+        ctx = new EndpointContext(conn, null, false, se);
+        if (VirtualThreads.isAvailable()) {
+            assertEquals(Integer.MAX_VALUE, ctx.getMaxConcurrency());
+        }
+        else {
+            assertEquals(Runtime.getRuntime().availableProcessors(), ctx.getMaxConcurrency());
+        }
+        ctx.stopExecution(null);
+
+        // a supplied executor is taken at its word
+        ExecutorService es = Executors.newSingleThreadExecutor();
+        se = ServiceEndpoint.builder().endpointName(name(2)).handler(m -> {})
+            .execution(EndpointExecution.builder().executor(es).build())
+            .build();
+        ctx = new EndpointContext(conn, null, false, se);
+        assertEquals(Integer.MAX_VALUE, ctx.getMaxConcurrency());
+        ctx.stopExecution(null);
+        assertFalse(es.isShutdown());
+        es.shutdown();
+    }
+
+    @Test
+    public void testWindowedCounter() {
+        long second = 1_000_000_000L;
+        long start = 1_000 * second;
+        WindowedCounter wc = new WindowedCounter();
+        assertEquals(0, wc.count(start, 60));
+
+        for (int x = 0; x < 400; x++) {
+            wc.record(start + x * second);
+            wc.record(start + x * second + second / 2);
+        }
+        long now = start + 399 * second;
+        assertEquals(2, wc.count(now, 1));
+        assertEquals(120, wc.count(now, 60));
+        assertEquals(600, wc.count(now, 300));
+
+        // nothing recorded for a while, old slots are not counted
+        now += 100 * second;
+        assertEquals(0, wc.count(now, 60));
+        assertEquals(400, wc.count(now, 300));
+
+        // a slot is reused once the window has passed
+        wc.record(now);
+        assertEquals(1, wc.count(now, 60));
+        assertEquals(401, wc.count(now, 300));
+
+        wc.reset();
+        assertEquals(0, wc.count(now, 300));
     }
 
     @Test